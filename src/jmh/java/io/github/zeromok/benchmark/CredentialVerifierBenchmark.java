@@ -0,0 +1,88 @@
+package io.github.zeromok.benchmark;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.zeromok.security.CredentialVerifier;
+import io.github.zeromok.security.Pbkdf2PasswordHasher;
+import io.github.zeromok.security.PlainTextPasswordHasher;
+
+/// 비밀번호 검증 처리량 (코어 하나 기준, ops/s)
+/// - pbkdf2Hash: 캐시 없이 해시 계산 (반복 횟수에 반비례, 로그인 폭주 시 CPU 를 차지하는 부분)
+/// - verifierCacheHit: 최근 성공한 조합 재로그인 (HMAC 한 번 + 캐시 조회)
+/// - verifierCacheMiss: 틀린 비밀번호 → 검증 풀에서 해시 계산 (풀 전달 비용 포함)
+/// - plainTextCompare: 기존 평문 비교 (상수 시간 비교)
+/// 결과를 코어 수와 곱하면 서버 한 대가 초당 처리할 수 있는 (캐시 미스) 로그인 수의 상한이 된다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(1)
+@Fork(1)
+public class CredentialVerifierBenchmark {
+
+	private static final String USERNAME = "alice";
+	private static final String PASSWORD = "password123";
+
+	@Param({"10000", "100000", "310000"})
+	private int iterations;
+
+	private Pbkdf2PasswordHasher pbkdf2;
+	private PlainTextPasswordHasher plainText;
+	private CredentialVerifier verifier;
+	private String encoded;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		pbkdf2 = new Pbkdf2PasswordHasher(iterations);
+		plainText = new PlainTextPasswordHasher();
+		verifier = new CredentialVerifier(List.of(pbkdf2, plainText), plainText,
+			1, 1024, 1000, Duration.ofHours(1));
+		encoded = pbkdf2.hash(PASSWORD);
+
+		// 캐시에 넣어 둔다
+		verifier.verify(USERNAME, PASSWORD, encoded);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		verifier.destroy();
+	}
+
+	@Benchmark
+	public boolean pbkdf2Hash() {
+		return pbkdf2.matches(PASSWORD, encoded);
+	}
+
+	@Benchmark
+	public boolean verifierCacheHit() {
+		return verifier.verify(USERNAME, PASSWORD, encoded).matched();
+	}
+
+	@Benchmark
+	public boolean verifierCacheMiss() {
+		return verifier.verify(USERNAME, "wrong-password", encoded).matched();
+	}
+
+	@Benchmark
+	public boolean plainTextCompare() {
+		return plainText.matches(PASSWORD, PASSWORD);
+	}
+}
@@ -0,0 +1,151 @@
+package io.github.zeromok.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.encoder.Encoder;
+import ch.qos.logback.core.rolling.RollingFileAppender;
+import ch.qos.logback.core.rolling.SizeAndTimeBasedRollingPolicy;
+import ch.qos.logback.core.util.FileSize;
+
+import io.github.zeromok.logging.MappedFileAppender;
+import io.github.zeromok.logging.binary.BinaryLogEncoder;
+
+/// 파일 Appender 처리량 비교 (같은 패턴, 같은 롤오버 조건: 64MB 또는 하루, gzip)
+/// - rolling: logback RollingFileAppender 기본값 (immediateFlush=true → 이벤트마다 write)
+/// - rolling-buffered: immediateFlush=false (8KB 버퍼가 찰 때마다 write, 종료 전 유실 가능)
+/// - mapped: MappedFileAppender (메모리 매핑 + 1초 주기 fsync, 압축은 백그라운드)
+/// - mapped-binary: MappedFileAppender + BinaryLogEncoder (인코딩도 잠금 안에서 하므로 threads04 는 직렬화된다)
+/// 이벤트는 미리 만들어 두고 doAppend() 만 측정한다 (인코딩 + 쓰기 + 롤오버)
+/// 측정 중 64MB 롤오버가 여러 번 일어나므로 rolling 은 gzip 시간이 그대로 포함된다
+/// ./gradlew jmh -Pjmh.includes=FileAppenderBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileAppenderBenchmark {
+
+	private static final String PATTERN =
+		"[%X{traceId}] %d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p --- [%t] %-40.40logger{39} : %m%n";
+
+	@Param({"rolling", "rolling-buffered", "mapped", "mapped-binary"})
+	private String appenderType;
+
+	private Path directory;
+	private Appender<ILoggingEvent> appender;
+	private ILoggingEvent event;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		LoggerContext context = (LoggerContext)LoggerFactory.getILoggerFactory();
+		directory = Files.createTempDirectory("file-appender-benchmark");
+		appender = switch (appenderType) {
+			case "rolling" -> rolling(context, true);
+			case "rolling-buffered" -> rolling(context, false);
+			case "mapped" -> mapped(context, encoder(context));
+			case "mapped-binary" -> mapped(context, binaryEncoder(context));
+			default -> throw new IllegalArgumentException("알 수 없는 appender: " + appenderType);
+		};
+
+		Logger logger = context.getLogger("io.github.zeromok.controller.UserController");
+		LoggingEvent loggingEvent = new LoggingEvent(Logger.class.getName(), logger,
+			ch.qos.logback.classic.Level.INFO, "로그인 요청. for user: {}", null, new Object[] {"alice"});
+		loggingEvent.setMDCPropertyMap(Map.of("traceId", "a1b2c3d4e5f60718"));
+		event = loggingEvent;
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		appender.stop();
+		try (Stream<Path> files = Files.walk(directory)) {
+			for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+				Files.deleteIfExists(file);
+			}
+		}
+	}
+
+	@Benchmark
+	@Threads(1)
+	public void threads01() {
+		appender.doAppend(event);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void threads04() {
+		appender.doAppend(event);
+	}
+
+	private RollingFileAppender<ILoggingEvent> rolling(LoggerContext context, boolean immediateFlush) {
+		RollingFileAppender<ILoggingEvent> rolling = new RollingFileAppender<>();
+		rolling.setContext(context);
+		rolling.setFile(directory.resolve("app.log").toString());
+		rolling.setEncoder(encoder(context));
+		rolling.setImmediateFlush(immediateFlush);
+
+		SizeAndTimeBasedRollingPolicy<ILoggingEvent> policy = new SizeAndTimeBasedRollingPolicy<>();
+		policy.setContext(context);
+		policy.setParent(rolling);
+		policy.setFileNamePattern(directory.resolve("app-%d{yyyy-MM-dd}.%i.log.gz").toString());
+		policy.setMaxFileSize(FileSize.valueOf("64MB"));
+		policy.start();
+
+		rolling.setRollingPolicy(policy);
+		rolling.start();
+		return rolling;
+	}
+
+	private MappedFileAppender mapped(LoggerContext context, Encoder<ILoggingEvent> encoder) {
+		MappedFileAppender mapped = new MappedFileAppender();
+		mapped.setContext(context);
+		mapped.setDirectory(directory.toString());
+		mapped.setEncoder(encoder);
+		mapped.setMaxFileSize(FileSize.valueOf("64MB"));
+		mapped.start();
+		return mapped;
+	}
+
+	private static BinaryLogEncoder binaryEncoder(LoggerContext context) {
+		BinaryLogEncoder encoder = new BinaryLogEncoder();
+		encoder.setContext(context);
+		encoder.start();
+		return encoder;
+	}
+
+	private static PatternLayoutEncoder encoder(LoggerContext context) {
+		PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+		encoder.setContext(context);
+		encoder.setPattern(PATTERN);
+		encoder.start();
+		return encoder;
+	}
+}
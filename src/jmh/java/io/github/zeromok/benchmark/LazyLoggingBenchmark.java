@@ -0,0 +1,132 @@
+package io.github.zeromok.benchmark;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.AppenderBase;
+import ch.qos.logback.core.OutputStreamAppender;
+
+import io.github.zeromok.domain.User;
+import io.github.zeromok.logging.BatchingAsyncAppender;
+import io.github.zeromok.logging.LazyLogger;
+
+/// 요청 스레드가 로그 한 줄에 쓰는 시간 (UserService 의 log.info("사용자 찾음. 이름: {}", ...) 와 같은 호출)
+/// - disabled: 로거 레벨 WARN → slf4j 는 인자(user.toString())를 평가, lazy 는 레벨 비교만
+/// - sync: 동기 Appender (요청 스레드가 포맷 + 인코딩 + 쓰기)
+/// - async-eager: BatchingAsyncAppender(deferFormatting=false) → 큐에 넣기 전에 요청 스레드가 포맷
+/// - async-deferred: BatchingAsyncAppender(deferFormatting=true) → 포맷은 소비자 스레드에서
+/// async 는 큐가 가득 찬 상태(DROP_DEBUG 로 INFO 도 버림)에서 요청 스레드 비용만 측정한다
+/// ./gradlew jmh -Pjmh.includes=LazyLoggingBenchmark
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LazyLoggingBenchmark {
+
+	private static final String PATTERN =
+		"[%X{traceId}] %d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p --- [%t] %-40.40logger{39} : %m%n";
+
+	@Param({"disabled", "sync", "async-eager", "async-deferred"})
+	private String mode;
+
+	private Logger logger;
+	private LazyLogger lazyLogger;
+	private Appender<ILoggingEvent> appender;
+	private final User user = new User(1L, "alice", "alice@example.com", "{pbkdf2}...");
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		LoggerContext context = (LoggerContext)LoggerFactory.getILoggerFactory();
+		logger = context.getLogger("benchmark.LazyLogging." + mode);
+		logger.setAdditive(false);
+		logger.setLevel(mode.equals("disabled") ? ch.qos.logback.classic.Level.WARN : ch.qos.logback.classic.Level.INFO);
+		lazyLogger = LazyLogger.wrap(logger);
+
+		appender = switch (mode) {
+			case "disabled", "sync" -> sync(context);
+			case "async-eager" -> async(context, false);
+			case "async-deferred" -> async(context, true);
+			default -> throw new IllegalArgumentException("알 수 없는 mode: " + mode);
+		};
+		logger.addAppender(appender);
+
+		MDC.put("traceId", "a1b2c3d4e5f60718");
+		MDC.put("method", "GET");
+		MDC.put("uri", "/mdc/api/users/1");
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		logger.detachAndStopAllAppenders();
+		MDC.clear();
+	}
+
+	@Benchmark
+	public void slf4j() {
+		logger.info("사용자 찾음. 이름: {}, user: {}", user.getUsername(), user.toString());
+	}
+
+	@Benchmark
+	public void lazy() {
+		lazyLogger.info("사용자 찾음. 이름: {}, user: {}", user::getUsername, user::toString);
+	}
+
+	private static OutputStreamAppender<ILoggingEvent> sync(LoggerContext context) {
+		PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+		encoder.setContext(context);
+		encoder.setPattern(PATTERN);
+		encoder.start();
+
+		OutputStreamAppender<ILoggingEvent> sync = new OutputStreamAppender<>();
+		sync.setContext(context);
+		sync.setEncoder(encoder);
+		sync.setOutputStream(OutputStream.nullOutputStream());
+		sync.start();
+		return sync;
+	}
+
+	private static BatchingAsyncAppender async(LoggerContext context, boolean deferFormatting) {
+		// 소비자: 메시지를 포맷만 하고 버린다
+		AppenderBase<ILoggingEvent> formatting = new AppenderBase<>() {
+			@Override
+			protected void append(ILoggingEvent event) {
+				event.getFormattedMessage();
+			}
+		};
+		formatting.setContext(context);
+		formatting.start();
+
+		BatchingAsyncAppender async = new BatchingAsyncAppender();
+		async.setContext(context);
+		async.setName("LAZY-LOGGING-BENCHMARK");
+		async.setQueueSize(1024);
+		async.setOverflowPolicy(BatchingAsyncAppender.OverflowPolicy.DROP_DEBUG);
+		async.setDeferFormatting(deferFormatting);
+		async.addAppender(formatting);
+		async.start();
+		return async;
+	}
+}
@@ -0,0 +1,96 @@
+package io.github.zeromok.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import io.github.zeromok.logging.JsonEventEncoder;
+import io.github.zeromok.logging.binary.BinaryLogEncoder;
+
+/// 이벤트 하나를 byte[] 로 인코딩하는 비용 비교 (MdcPerformanceBenchmark.loggingWithMdc 와 같은 MDC 조건)
+/// - patternLayout: 기존 logback-spring.xml 과 같은 형식 (색상 변환 제외)
+/// - json: JsonEventEncoder
+/// - binary: BinaryLogEncoder (메시지를 포맷팅하지 않으므로 그 비용이 빠진다, 사전 정의는 첫 이벤트에서만)
+/// 실제 로깅처럼 매번 새 이벤트를 만들어 메시지 포맷팅/MDC 조회 비용까지 포함한다
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LogEncoderBenchmark {
+
+	private static final String PATTERN =
+		"[%X{traceId}] %d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p --- [%t] %-40.40logger{39} : %m%n";
+
+	private Logger logger;
+	private PatternLayoutEncoder patternEncoder;
+	private JsonEventEncoder jsonEncoder;
+	private BinaryLogEncoder binaryEncoder;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		LoggerContext context = (LoggerContext)LoggerFactory.getILoggerFactory();
+		logger = context.getLogger("io.github.zeromok.service.UserService");
+
+		patternEncoder = new PatternLayoutEncoder();
+		patternEncoder.setContext(context);
+		patternEncoder.setPattern(PATTERN);
+		patternEncoder.start();
+
+		jsonEncoder = new JsonEventEncoder();
+		jsonEncoder.setContext(context);
+		jsonEncoder.start();
+
+		binaryEncoder = new BinaryLogEncoder();
+		binaryEncoder.setContext(context);
+		binaryEncoder.start();
+		binaryEncoder.headerBytes();
+
+		MDC.put("traceId", "a1b2c3d4e5f60718");
+		MDC.put("method", "POST");
+		MDC.put("uri", "/mdc/api/users/login");
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		MDC.clear();
+	}
+
+	@Benchmark
+	public byte[] patternLayout() {
+		return patternEncoder.encode(newEvent());
+	}
+
+	@Benchmark
+	public byte[] json() {
+		return jsonEncoder.encode(newEvent());
+	}
+
+	@Benchmark
+	public byte[] binary() {
+		return binaryEncoder.encode(newEvent());
+	}
+
+	private LoggingEvent newEvent() {
+		return new LoggingEvent(Logger.FQCN, logger, ch.qos.logback.classic.Level.INFO,
+			"사용자 인증: {}", null, new Object[] {"alice"});
+	}
+}
@@ -0,0 +1,72 @@
+package io.github.zeromok.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+
+import io.github.zeromok.logging.mdc.SmallArrayMdcAdapter;
+
+/// MDCAdapter 구현별 요청 하나의 MDC 비용 (MdcLoggingFilter 와 같은 패턴)
+/// - put 3번(traceId, method, uri) → 로그 이벤트 7개가 getPropertyMap() → clear()
+///   (logback 은 LogbackMDCAdapter 면 이벤트마다 읽기 전용 getPropertyMap() 을 부른다)
+/// - logback: 기존 delegate, small-array: SmallArrayMdcAdapter
+/// 할당량 비교: ./gradlew jmh -Pjmh.includes=MdcAdapterBenchmark -Pjmh.profilers=gc
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MdcAdapterBenchmark {
+
+	private static final int EVENTS_PER_REQUEST = 7;
+
+	@Param({"logback", "small-array"})
+	private String adapterType;
+
+	private LogbackMDCAdapter adapter;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		adapter = switch (adapterType) {
+			case "logback" -> new LogbackMDCAdapter();
+			case "small-array" -> new SmallArrayMdcAdapter();
+			default -> throw new IllegalArgumentException("알 수 없는 adapter: " + adapterType);
+		};
+	}
+
+	@Benchmark
+	public String putGetClear() {
+		adapter.put("traceId", "a1b2c3d4");
+		String result = adapter.get("traceId");
+		adapter.clear();
+		return result;
+	}
+
+	@Benchmark
+	public void filterRequest(Blackhole blackhole) {
+		adapter.put("traceId", "a1b2c3d4");
+		adapter.put("method", "POST");
+		adapter.put("uri", "/mdc/api/users/login");
+		for (int i = 0; i < EVENTS_PER_REQUEST; i++) {
+			Map<String, String> eventMdc = adapter.getPropertyMap();
+			blackhole.consume(eventMdc);
+		}
+		adapter.clear();
+	}
+}
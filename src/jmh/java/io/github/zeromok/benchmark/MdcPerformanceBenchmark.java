@@ -16,6 +16,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 
+import io.github.zeromok.trace.RandomTraceIdGenerator;
+import io.github.zeromok.trace.SnowflakeTraceIdGenerator;
+import io.github.zeromok.trace.TraceIdGenerator;
+import io.github.zeromok.trace.W3cTraceIdGenerator;
+
 @State(Scope.Thread)
 @BenchmarkMode(Mode.AverageTime)
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
@@ -27,11 +32,31 @@ public class MdcPerformanceBenchmark {
 	// Logger 직접 선언 (JMH에서는 @Slf4j 안 됨)
 	private static final Logger log = LoggerFactory.getLogger(MdcPerformanceBenchmark.class);
 
+	// 생성기는 여러 스레드가 공유하는 빈이므로 static으로 둔다
+	private static final TraceIdGenerator randomGenerator = new RandomTraceIdGenerator();
+	private static final TraceIdGenerator snowflakeGenerator = new SnowflakeTraceIdGenerator(0);
+	private static final TraceIdGenerator w3cGenerator = new W3cTraceIdGenerator();
+
 	@Benchmark
 	public String uuidGeneration() {
 		return UUID.randomUUID().toString().substring(0, 8);
 	}
 
+	@Benchmark
+	public String randomTraceId() {
+		return randomGenerator.generate();
+	}
+
+	@Benchmark
+	public String snowflakeTraceId() {
+		return snowflakeGenerator.generate();
+	}
+
+	@Benchmark
+	public String w3cTraceId() {
+		return w3cGenerator.generate();
+	}
+
 	@Benchmark
 	public String mdcPutAndGet() {
 		String traceId = UUID.randomUUID().toString().substring(0, 8);
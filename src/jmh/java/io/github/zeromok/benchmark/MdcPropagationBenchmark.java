@@ -0,0 +1,76 @@
+package io.github.zeromok.benchmark;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.MDC;
+
+import io.github.zeromok.context.MdcContextSnapshot;
+import io.github.zeromok.context.MdcPropagatingExecutorService;
+
+/// 작업 하나당 MDC 캡처/복원 비용 측정
+/// - plainExecutor vs propagatingExecutor: 스레드 전환을 포함한 실제 사용 비용
+/// - captureAndRestore: 스레드 전환 없이 캡처/복원만의 비용
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MdcPropagationBenchmark {
+
+	private static final Callable<String> TASK = () -> MDC.get("traceId");
+
+	private ExecutorService plainExecutor;
+	private ExecutorService propagatingExecutor;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		plainExecutor = Executors.newSingleThreadExecutor();
+		propagatingExecutor = new MdcPropagatingExecutorService(Executors.newSingleThreadExecutor());
+
+		// Filter가 넣는 것과 같은 3개의 키
+		MDC.put("traceId", "a1b2c3d4e5f60718");
+		MDC.put("method", "POST");
+		MDC.put("uri", "/mdc/api/users/login");
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		plainExecutor.shutdownNow();
+		propagatingExecutor.shutdownNow();
+		MDC.clear();
+	}
+
+	@Benchmark
+	public String plainExecutor() throws Exception {
+		return plainExecutor.submit(TASK).get();
+	}
+
+	@Benchmark
+	public String propagatingExecutor() throws Exception {
+		return propagatingExecutor.submit(TASK).get();
+	}
+
+	@Benchmark
+	public String captureAndRestore() {
+		MdcContextSnapshot snapshot = MdcContextSnapshot.capture();
+		try (MdcContextSnapshot.Scope ignored = snapshot.restore()) {
+			return MDC.get("traceId");
+		}
+	}
+}
@@ -0,0 +1,125 @@
+package io.github.zeromok.benchmark;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import ch.qos.logback.classic.Logger;
+
+import io.github.zeromok.cache.UserCache;
+import io.github.zeromok.context.TraceContext;
+import io.github.zeromok.domain.LoginRequest;
+import io.github.zeromok.domain.User;
+import io.github.zeromok.reactive.ReactiveMdc;
+import io.github.zeromok.reactive.ReactiveUserRepository;
+import io.github.zeromok.reactive.ReactiveUserService;
+import io.github.zeromok.repository.InMemoryUserStore;
+import io.github.zeromok.repository.UserRepository;
+import io.github.zeromok.repository.UserStore;
+import io.github.zeromok.security.CredentialVerifier;
+import io.github.zeromok.security.PlainTextPasswordHasher;
+import io.github.zeromok.security.TokenKey;
+import io.github.zeromok.security.TokenSigner;
+import reactor.core.publisher.Flux;
+
+/// mdc-filter(톰캣 스레드 풀 + 블로킹 로그인) vs mdc-reactive(Mono.delay + Reactor Context) 로그인 부하 비교
+/// 로그인 하나 = UserRepository.findByUsername 의 15ms 지연 + 비밀번호 비교 + 토큰 생성
+/// logins 개의 동시 로그인을 모두 처리하는 데 걸린 시간(ms)을 측정한다
+/// - blockingPool: 톰캣 기본 max-threads(200) 고정 풀 → 약 logins / 200 * 15ms
+/// - reactive: 지연 동안 스레드를 점유하지 않음 → CPU 코어 수만큼의 스레드로 약 15ms 근처
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReactiveLoadBenchmark {
+
+	private static final int TOMCAT_MAX_THREADS = 200;
+
+	@Param({"200", "1000", "5000"})
+	private int logins;
+
+	private ExecutorService blockingPool;
+	private UserRepository blockingRepository;
+	private ReactiveUserService reactiveUserService;
+	private CredentialVerifier credentialVerifier;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		// 로그 출력 비용이 아닌 스레드 모델 차이를 보기 위해 DEBUG 로그는 끈다
+		((Logger)LoggerFactory.getLogger("io.github.zeromok")).setLevel(ch.qos.logback.classic.Level.WARN);
+
+		UserStore userStore = new InMemoryUserStore();
+		userStore.saveAll(List.of(new User(1L, "alice", "alice@example.com", "password123")));
+
+		blockingPool = Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+		blockingRepository = new UserRepository(userStore, new UserCache(1000, Duration.ofMinutes(1)));
+		// 해시 비용이 아닌 스레드 모델 차이를 보기 위해 평문 hasher 사용 (첫 로그인 이후 검증 캐시 적중)
+		PlainTextPasswordHasher plainText = new PlainTextPasswordHasher();
+		credentialVerifier = new CredentialVerifier(List.of(plainText), plainText,
+			Runtime.getRuntime().availableProcessors(), 10_000, 1000, Duration.ofMinutes(5));
+		reactiveUserService = new ReactiveUserService(new ReactiveUserRepository(userStore), credentialVerifier,
+			new TokenSigner(TokenKey.random(), Duration.ofHours(1)));
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		blockingPool.shutdownNow();
+		credentialVerifier.destroy();
+	}
+
+	@Benchmark
+	public void blockingPoolWithMdc() throws InterruptedException {
+		CountDownLatch latch = new CountDownLatch(logins);
+		for (int i = 0; i < logins; i++) {
+			String traceId = Integer.toHexString(i);
+			blockingPool.execute(() -> {
+				MDC.put("traceId", traceId);
+				try {
+					blockingRepository.findByUsername("alice")
+						.filter(user -> user.getPassword().equals("password123"))
+						.orElseThrow();
+				} finally {
+					MDC.clear();
+					latch.countDown();
+				}
+			});
+		}
+		latch.await();
+	}
+
+	@Benchmark
+	public long reactiveWithContext() {
+		return Flux.range(0, logins)
+			.flatMap(i -> {
+				LoginRequest request = new LoginRequest();
+				request.setUsername("alice");
+				request.setPassword("password123");
+				TraceContext context = new TraceContext(Integer.toHexString(i), "POST", "/mdc/api/users/login");
+				return reactiveUserService.authenticate(request)
+					.contextWrite(reactorContext -> reactorContext.put(ReactiveMdc.CONTEXT_KEY, context));
+			}, logins)
+			.count()
+			.block(Duration.ofMinutes(1));
+	}
+}
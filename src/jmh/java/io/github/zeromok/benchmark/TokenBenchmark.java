@@ -0,0 +1,67 @@
+package io.github.zeromok.benchmark;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.zeromok.security.TokenKey;
+import io.github.zeromok.security.TokenSigner;
+import io.github.zeromok.security.TokenVerifier;
+
+/// 로그인 토큰 발급/검증 비용 (4 스레드 동시 실행)
+/// - uuidToken: 기존 "TOKEN-{id}-{UUID 8자}" (공유 SecureRandom + 문자열 연결)
+/// - signedTokenIssue: HMAC-SHA256 서명 토큰 (스레드별 Mac, 버퍼 재사용)
+/// - signedTokenVerify: 저장소 조회 없이 서명/만료 확인 (기존 방식은 토큰을 확인할 방법 자체가 없었음)
+/// 단일 스레드에서는 HMAC(SHA-256 압축 4회)과 UUID 생성이 비슷하고,
+/// 스레드가 늘면 UUID 쪽은 SecureRandom 공유 비용이 커진다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class TokenBenchmark {
+
+	private TokenSigner signer;
+	private TokenVerifier verifier;
+	private String token;
+	private long userId;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		TokenKey key = TokenKey.random();
+		signer = new TokenSigner(key, Duration.ofHours(1));
+		verifier = new TokenVerifier(key);
+		token = signer.issue(42L);
+		userId = 42L;
+	}
+
+	@Benchmark
+	public String uuidToken() {
+		return "TOKEN-" + userId + "-" + UUID.randomUUID().toString().substring(0, 8);
+	}
+
+	@Benchmark
+	public String signedTokenIssue() {
+		return signer.issue(userId);
+	}
+
+	@Benchmark
+	public long signedTokenVerify() {
+		return verifier.verify(token).orElse(-1);
+	}
+}
@@ -0,0 +1,133 @@
+package io.github.zeromok.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.util.FileSize;
+
+import io.github.zeromok.logging.index.TraceIndexedAppender;
+import io.github.zeromok.logging.index.TraceLogEntry;
+
+/// traceId 색인 조회 비용 (이벤트 30만 개, 세그먼트 1MB → 약 30개)
+/// - byTraceId: 있는 traceId (요청당 이벤트 10개) 조회
+/// - byTraceIdMiss: 없는 traceId → 세그먼트마다 Bloom 필터에서 끝나야 한다
+/// - byTime: 1초 구간 조회 (표본으로 시작 위치를 찾고 그 구간만 읽음)
+/// - grep: 색인 없이 데이터 파일 전체를 읽어 traceId 를 찾는 기준선
+/// ./gradlew jmh -Pjmh.includes=TraceIndexBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TraceIndexBenchmark {
+
+	private static final int EVENTS = 300_000;
+	private static final int EVENTS_PER_TRACE = 10;
+	private static final long BASE_TIME = 1_700_000_000_000L;
+
+	private Path directory;
+	private TraceIndexedAppender appender;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		LoggerContext context = (LoggerContext)LoggerFactory.getILoggerFactory();
+		directory = Files.createTempDirectory("trace-index-benchmark");
+
+		PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+		encoder.setContext(context);
+		encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p --- [%t] %-40.40logger{39} : %m%n");
+		encoder.start();
+		appender = new TraceIndexedAppender();
+		appender.setContext(context);
+		appender.setName("TRACE-INDEX-BENCHMARK");
+		appender.setEncoder(encoder);
+		appender.setDirectory(directory.toString());
+		appender.setMaxSegmentSize(FileSize.valueOf("1MB"));
+		appender.setMaxSegments(1000);
+		appender.start();
+
+		Logger logger = context.getLogger("io.github.zeromok.controller.UserController");
+		int traces = EVENTS / EVENTS_PER_TRACE;
+		for (int i = 0; i < EVENTS; i++) {
+			// 요청이 겹쳐 진행되듯 같은 traceId 의 이벤트가 여러 세그먼트에 흩어지게 섞는다
+			int trace = (i / 100 * 100 + i * 37 % 100) % traces;
+			LoggingEvent event = new LoggingEvent(Logger.class.getName(), logger,
+				ch.qos.logback.classic.Level.INFO, "사용자 조회. id: {}", null, new Object[] {i});
+			event.setTimeStamp(BASE_TIME + i / 10);
+			event.setMDCPropertyMap(Map.of("traceId", traceId(trace)));
+			appender.doAppend(event);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		appender.stop();
+		try (Stream<Path> files = Files.walk(directory)) {
+			for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+				Files.deleteIfExists(file);
+			}
+		}
+	}
+
+	@Benchmark
+	public List<TraceLogEntry> byTraceId() {
+		return appender.findByTraceId(traceId(ThreadLocalRandom.current().nextInt(EVENTS / EVENTS_PER_TRACE)), 1000);
+	}
+
+	@Benchmark
+	public List<TraceLogEntry> byTraceIdMiss() {
+		return appender.findByTraceId(traceId(EVENTS + ThreadLocalRandom.current().nextInt(EVENTS)), 1000);
+	}
+
+	@Benchmark
+	public List<TraceLogEntry> byTime() {
+		long from = BASE_TIME + ThreadLocalRandom.current().nextInt(EVENTS / 10 - 1000);
+		return appender.findByTime(Instant.ofEpochMilli(from), Instant.ofEpochMilli(from + 999), 100_000);
+	}
+
+	@Benchmark
+	public long grep() throws IOException {
+		String needle = traceId(ThreadLocalRandom.current().nextInt(EVENTS / EVENTS_PER_TRACE));
+		long found = 0;
+		try (Stream<Path> files = Files.list(directory)) {
+			for (Path file : files.filter(path -> path.toString().endsWith(".dat")).toList()) {
+				try (Stream<String> lines = Files.lines(file, StandardCharsets.ISO_8859_1)) {
+					found += lines.filter(line -> line.contains(needle)).count();
+				}
+			}
+		}
+		return found;
+	}
+
+	private static String traceId(int trace) {
+		return String.format("%016x", trace * 0x9E3779B97F4A7C15L);
+	}
+}
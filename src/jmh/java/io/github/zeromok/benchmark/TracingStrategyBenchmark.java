@@ -0,0 +1,277 @@
+package io.github.zeromok.benchmark;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.stereotype.Service;
+import org.springframework.web.bind.annotation.RestController;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.helpers.NOPAppender;
+
+import io.github.zeromok.aspect.MdcLoggingAspect;
+import io.github.zeromok.aspect.ThreadNameLoggingAspect;
+import io.github.zeromok.filter.MdcLoggingFilter;
+import io.github.zeromok.filter.TraceContextFilter;
+import io.github.zeromok.interceptor.MdcLoggingInterceptor;
+import io.github.zeromok.logging.BatchingAsyncAppender;
+import io.github.zeromok.metrics.RouteLatencyRegistry;
+import io.github.zeromok.trace.TraceIdGenerator;
+
+/// 추적 방식(프로파일)별 요청 하나의 로깅 오버헤드를 실제 Filter/Interceptor/Aspect 코드로 비교
+/// 요청 파이프라인:
+/// - thread-name, mdc-aspect: AspectJProxyFactory 로 만든 Controller/Service 프록시 호출 (Spring 과 같은 advice 체인)
+/// - mdc-interceptor: preHandle → Controller → postHandle → afterCompletion
+/// - mdc-filter, mdc-virtual: filter.doFilter(mock 요청, 응답, Controller 를 호출하는 체인)
+/// - Controller/Service 는 실제 UserController/UserService 와 같은 수의 INFO/DEBUG 로그만 남긴다 (DB 지연 없음)
+///   → 측정값 = 방식별 MDC 처리 + 로그 출력 비용
+/// appender:
+/// - noop: 로그 이벤트 생성까지만 (MDC 처리와 이벤트 생성 비용)
+/// - sync: 요청 스레드에서 패턴 인코딩 후 버리는 스트림에 쓰기
+/// - async: BatchingAsyncAppender(기본 설정) → sync 와 같은 인코더 (운영 구성)
+/// 동시성: 같은 요청을 1/4/16/64 스레드로 (메서드 이름의 숫자)
+/// 처리량(ops/us)과 SampleTime 백분위(p99, p99.99)를 함께 보고, 할당량은 gc 프로파일러로 본다:
+/// ./gradlew jmh -Pjmh.includes=TracingStrategyBenchmark -Pjmh.profilers=gc
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TracingStrategyBenchmark {
+
+	private static final String PATTERN =
+		"[%X{traceId}] %d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p --- [%t] %-40.40logger{39} : %m%n";
+
+	@Param({"thread-name", "mdc-aspect", "mdc-interceptor", "mdc-filter", "mdc-virtual"})
+	private String strategy;
+
+	@Param({"noop", "sync", "async"})
+	private String appender;
+
+	private RequestPipeline pipeline;
+	private Logger root;
+	private ch.qos.logback.classic.Level previousLevel;
+	private final List<Appender<ILoggingEvent>> previousAppenders = new ArrayList<>();
+	private Appender<ILoggingEvent> benchmarkAppender;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		installAppender();
+		pipeline = createPipeline();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		root.detachAppender(benchmarkAppender);
+		benchmarkAppender.stop();
+		previousAppenders.forEach(root::addAppender);
+		root.setLevel(previousLevel);
+	}
+
+	@Benchmark
+	@Threads(1)
+	public int threads01() throws Exception {
+		return handle();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public int threads04() throws Exception {
+		return handle();
+	}
+
+	@Benchmark
+	@Threads(16)
+	public int threads16() throws Exception {
+		return handle();
+	}
+
+	@Benchmark
+	@Threads(64)
+	public int threads64() throws Exception {
+		return handle();
+	}
+
+	private int handle() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/mdc/api/users/login");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		pipeline.handle(request, response);
+		return response.getStatus();
+	}
+
+	private RequestPipeline createPipeline() {
+		TraceIdGenerator traceIdGenerator = TraceIdGenerator.of("random", 0);
+		RouteLatencyRegistry routeLatencyRegistry = new RouteLatencyRegistry();
+
+		return switch (strategy) {
+			case "thread-name" -> {
+				BenchController controller = proxied(new ThreadNameLoggingAspect());
+				yield (request, response) -> controller.login("alice");
+			}
+			case "mdc-aspect" -> {
+				BenchController controller = proxied(new MdcLoggingAspect(traceIdGenerator));
+				yield (request, response) -> controller.login("alice");
+			}
+			case "mdc-interceptor" -> {
+				MdcLoggingInterceptor interceptor = new MdcLoggingInterceptor(traceIdGenerator);
+				BenchController controller = new BenchController(new BenchService());
+				yield (request, response) -> {
+					Exception failure = null;
+					try {
+						interceptor.preHandle(request, response, controller);
+						controller.login("alice");
+						interceptor.postHandle(request, response, controller, null);
+					} catch (Exception e) {
+						failure = e;
+						throw e;
+					} finally {
+						interceptor.afterCompletion(request, response, controller, failure);
+					}
+				};
+			}
+			case "mdc-filter" -> {
+				MdcLoggingFilter filter = new MdcLoggingFilter(traceIdGenerator, routeLatencyRegistry);
+				BenchController controller = new BenchController(new BenchService());
+				yield (request, response) ->
+					filter.doFilter(request, response, (req, res) -> controller.login("alice"));
+			}
+			case "mdc-virtual" -> {
+				TraceContextFilter filter = new TraceContextFilter(traceIdGenerator, routeLatencyRegistry);
+				BenchController controller = new BenchController(new BenchService());
+				yield (request, response) ->
+					filter.doFilter(request, response, (req, res) -> controller.login("alice"));
+			}
+			default -> throw new IllegalArgumentException("알 수 없는 방식: " + strategy);
+		};
+	}
+
+	// Spring 이 @Aspect 빈으로 만드는 것과 같은 프록시 (Controller → Service 모두 advice 적용)
+	private static BenchController proxied(Object aspect) {
+		BenchService service = proxy(new BenchService(), aspect);
+		return proxy(new BenchController(service), aspect);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T proxy(T target, Object aspect) {
+		AspectJProxyFactory factory = new AspectJProxyFactory(target);
+		factory.setProxyTargetClass(true);
+		factory.addAspect(aspect);
+		return (T)factory.getProxy();
+	}
+
+	// 루트 로거의 appender 를 비교 대상 하나로 바꾼다 (INFO 이상만)
+	private void installAppender() {
+		LoggerContext context = (LoggerContext)LoggerFactory.getILoggerFactory();
+		root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+		previousLevel = root.getLevel();
+		for (Iterator<Appender<ILoggingEvent>> it = root.iteratorForAppenders(); it.hasNext(); ) {
+			previousAppenders.add(it.next());
+		}
+		previousAppenders.forEach(root::detachAppender);
+		root.setLevel(ch.qos.logback.classic.Level.INFO);
+		context.getLogger("io.github.zeromok").setLevel(ch.qos.logback.classic.Level.INFO);
+
+		benchmarkAppender = switch (appender) {
+			case "noop" -> {
+				NOPAppender<ILoggingEvent> nop = new NOPAppender<>();
+				nop.setContext(context);
+				yield nop;
+			}
+			case "sync" -> encodingAppender(context);
+			case "async" -> {
+				BatchingAsyncAppender async = new BatchingAsyncAppender();
+				async.setContext(context);
+				async.addAppender(encodingAppender(context));
+				yield async;
+			}
+			default -> throw new IllegalArgumentException("알 수 없는 appender: " + appender);
+		};
+		benchmarkAppender.start();
+		root.addAppender(benchmarkAppender);
+	}
+
+	// 콘솔과 같은 패턴으로 인코딩하되 터미널 출력 비용은 빼고 버린다
+	private static OutputStreamAppender<ILoggingEvent> encodingAppender(LoggerContext context) {
+		PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+		encoder.setContext(context);
+		encoder.setPattern(PATTERN);
+		encoder.start();
+
+		OutputStreamAppender<ILoggingEvent> output = new OutputStreamAppender<>();
+		output.setContext(context);
+		output.setEncoder(encoder);
+		output.setOutputStream(OutputStream.nullOutputStream());
+		output.setImmediateFlush(false);
+		output.start();
+		return output;
+	}
+
+	@FunctionalInterface
+	private interface RequestPipeline {
+		void handle(MockHttpServletRequest request, MockHttpServletResponse response) throws Exception;
+	}
+
+	/// UserController.login 과 같은 로그 (요청 1건 = Controller INFO 2 + Service INFO 2, DEBUG 3)
+	@RestController
+	public static class BenchController {
+
+		private static final org.slf4j.Logger log =
+			LoggerFactory.getLogger("io.github.zeromok.controller.UserController");
+
+		private final BenchService service;
+
+		public BenchController(BenchService service) {
+			this.service = service;
+		}
+
+		public String login(String username) {
+			log.info("로그인 요청. for user: {}", username);
+			String token = service.authenticate(username);
+			log.info("로그인 성공. for user: {}", username);
+			return token;
+		}
+	}
+
+	@Service
+	public static class BenchService {
+
+		private static final org.slf4j.Logger log =
+			LoggerFactory.getLogger("io.github.zeromok.service.UserService");
+
+		public String authenticate(String username) {
+			log.info("사용자 인증: {}", username);
+			log.debug("비밀번호 일치");
+			log.debug("사용자를 위한 토큰 생성: {}", 1L);
+			log.debug("토큰 생성 완료");
+			log.info("사용자 인증 완료. user: {}", username);
+			return "token";
+		}
+	}
+}
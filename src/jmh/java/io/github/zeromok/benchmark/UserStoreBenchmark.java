@@ -0,0 +1,97 @@
+package io.github.zeromok.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.zeromok.domain.User;
+import io.github.zeromok.repository.InMemoryUserStore;
+
+/// UserStore 조회 성능 (1K / 100K / 10M 사용자)
+/// - hashMapById: 기존 UserRepository 방식 (HashMap<Long, User>, Long 박싱)
+/// - storeById / storeByUsername: InMemoryUserStore (open addressing + username 인덱스)
+/// 기존 findByUsername 의 stream 전체 탐색은 10M에서 요청당 수십 ms 라 비교 대상에서 제외
+/// 10M 적재를 위해 힙을 늘려서 실행한다 (jvmArgsAppend 가 jmh 기본 -Xmx2G 보다 뒤에 붙는다)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6G", "-Xmx6G"})
+public class UserStoreBenchmark {
+
+	private static final int QUERY_COUNT = 4096;
+
+	@Param({"1000", "100000", "10000000"})
+	private int userCount;
+
+	private InMemoryUserStore store;
+	private Map<Long, User> hashMap;
+	private long[] queryIds;
+	private String[] queryUsernames;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		// 이메일/비밀번호는 공유해서 10M 사용자도 힙에 들어가도록 한다
+		List<User> users = new ArrayList<>(userCount);
+		for (long id = 0; id < userCount; id++) {
+			users.add(new User(id, "user" + id, "user@example.com", "password"));
+		}
+
+		store = new InMemoryUserStore(userCount);
+		store.saveAll(users);
+
+		hashMap = new HashMap<>(userCount * 2);
+		for (User user : users) {
+			hashMap.put(user.getId(), user);
+		}
+
+		SplittableRandom random = new SplittableRandom(42);
+		queryIds = new long[QUERY_COUNT];
+		queryUsernames = new String[QUERY_COUNT];
+		for (int i = 0; i < QUERY_COUNT; i++) {
+			queryIds[i] = random.nextInt(userCount);
+			queryUsernames[i] = "user" + queryIds[i];
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class Cursor {
+		private int next;
+
+		int nextIndex() {
+			return next++ & (QUERY_COUNT - 1);
+		}
+	}
+
+	@Benchmark
+	public User hashMapById(Cursor cursor) {
+		return hashMap.get(queryIds[cursor.nextIndex()]);
+	}
+
+	@Benchmark
+	public User storeById(Cursor cursor) {
+		return store.findById(queryIds[cursor.nextIndex()]).orElse(null);
+	}
+
+	@Benchmark
+	public User storeByUsername(Cursor cursor) {
+		return store.findByUsername(queryUsernames[cursor.nextIndex()]).orElse(null);
+	}
+}
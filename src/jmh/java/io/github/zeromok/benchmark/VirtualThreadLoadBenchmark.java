@@ -0,0 +1,124 @@
+package io.github.zeromok.benchmark;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import ch.qos.logback.classic.Logger;
+
+import io.github.zeromok.cache.UserCache;
+import io.github.zeromok.domain.User;
+import io.github.zeromok.filter.MdcLoggingFilter;
+import io.github.zeromok.filter.TraceContextFilter;
+import io.github.zeromok.metrics.RouteLatencyRegistry;
+import io.github.zeromok.repository.InMemoryUserStore;
+import io.github.zeromok.repository.UserRepository;
+import io.github.zeromok.repository.UserStore;
+import io.github.zeromok.trace.TraceIdGenerator;
+import jakarta.servlet.Filter;
+
+/// mdc-filter(톰캣 스레드 풀 + MdcLoggingFilter) vs mdc-virtual(가상 스레드 + TraceContextFilter) 부하 비교
+/// 요청 하나 = 프로파일의 실제 Filter → 실제 UserRepository.findById (조회 지연 10ms 포함)
+///   (GET /mdc/api/users/{id} 에서 캐시 미스가 난 경우와 같은 경로, Controller/Service 로그는 빠짐)
+/// requests 개의 동시 요청을 모두 처리하는 데 걸린 시간(ms)을 측정한다
+/// - mdc-filter: 톰캣 기본 max-threads(200)와 같은 고정 크기 풀 → 약 requests / 200 * 10ms
+/// - mdc-virtual: 요청마다 가상 스레드 (spring.threads.virtual.enabled) → sleep 동안 캐리어를 반납하므로 약 10ms 근처
+/// 로그 출력 비용이 아닌 스레드 모델 차이를 보기 위해 애플리케이션 로그는 WARN 으로 끈다
+/// ./gradlew jmh -Pjmh.includes=VirtualThreadLoadBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VirtualThreadLoadBenchmark {
+
+	private static final int TOMCAT_MAX_THREADS = 200;
+
+	@Param({"mdc-filter", "mdc-virtual"})
+	private String profile;
+
+	@Param({"200", "1000", "5000"})
+	private int requests;
+
+	private ExecutorService executor;
+	private Filter filter;
+	private UserRepository userRepository;
+	private ch.qos.logback.classic.Level previousLevel;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Logger applicationLogger = (Logger)LoggerFactory.getLogger("io.github.zeromok");
+		previousLevel = applicationLogger.getLevel();
+		applicationLogger.setLevel(ch.qos.logback.classic.Level.WARN);
+
+		UserStore userStore = new InMemoryUserStore();
+		userStore.saveAll(List.of(new User(1L, "alice", "alice@example.com", "password123")));
+		userRepository = new UserRepository(userStore, new UserCache(1000, Duration.ofMinutes(1)));
+
+		TraceIdGenerator traceIdGenerator = TraceIdGenerator.of("random", 0);
+		RouteLatencyRegistry routeLatencyRegistry = new RouteLatencyRegistry();
+		switch (profile) {
+			case "mdc-filter" -> {
+				executor = Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+				filter = new MdcLoggingFilter(traceIdGenerator, routeLatencyRegistry);
+			}
+			case "mdc-virtual" -> {
+				executor = Executors.newVirtualThreadPerTaskExecutor();
+				filter = new TraceContextFilter(traceIdGenerator, routeLatencyRegistry);
+			}
+			default -> throw new IllegalArgumentException("알 수 없는 profile: " + profile);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		executor.shutdownNow();
+		((Logger)LoggerFactory.getLogger("io.github.zeromok")).setLevel(previousLevel);
+	}
+
+	@Benchmark
+	public void concurrentRequests() throws InterruptedException {
+		CountDownLatch latch = new CountDownLatch(requests);
+		for (int i = 0; i < requests; i++) {
+			executor.execute(() -> {
+				try {
+					handle();
+				} finally {
+					latch.countDown();
+				}
+			});
+		}
+		latch.await();
+	}
+
+	private void handle() {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/mdc/api/users/1");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		try {
+			filter.doFilter(request, response, (req, res) -> userRepository.findById(1L));
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,136 @@
+package io.github.zeromok.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import io.github.zeromok.metrics.LatencyHistogram;
+
+/// 열린 모델(open model) 부하 생성기: 응답을 기다리지 않고 정해진 간격마다 요청을 시작한다
+/// - 닫힌 모델(스레드 N개가 응답 후 다음 요청)은 서버가 느려지면 요청도 덜 보내서 지연이 가려진다 (coordinated omission)
+/// - 요청마다 가상 스레드 하나, 지연은 "실제 전송 시각"이 아니라 "보냈어야 할 시각"부터 잰다
+///   → 생성기가 밀려도 그만큼 지연에 포함된다
+/// 요청은 시나리오를 순서대로 돌아가며 보내고, 시나리오별로 LatencyHistogram 에 기록한다
+/// 요청마다 고유한 X-Trace-Id (load-순번)를 붙여서 앱 로그와 대조할 수 있게 한다
+public class OpenModelLoadGenerator {
+
+	private static final String TRACE_ID_HEADER = "X-Trace-Id";
+
+	private final HttpClient client;
+	private final List<Scenario> scenarios;
+	private final double requestsPerSecond;
+
+	public OpenModelLoadGenerator(List<Scenario> scenarios, double requestsPerSecond) {
+		this.scenarios = scenarios;
+		this.requestsPerSecond = requestsPerSecond;
+		this.client = HttpClient.newBuilder()
+			.executor(Executors.newVirtualThreadPerTaskExecutor())
+			.version(HttpClient.Version.HTTP_1_1)  // 톰캣은 h2c 업그레이드를 받지 않으므로 처음부터 HTTP/1.1
+			.connectTimeout(Duration.ofSeconds(5))
+			.build();
+	}
+
+	/// duration 동안 일정한 간격으로 요청을 보내고, 보낸 요청이 모두 끝날 때까지 기다린다
+	public Run run(Duration duration) throws InterruptedException {
+		Set<String> completedTraceIds = ConcurrentHashMap.newKeySet();
+		Map<String, Recorder> recorders = new LinkedHashMap<>();
+		for (Scenario scenario : scenarios) {
+			recorders.put(scenario.name(), new Recorder());
+		}
+
+		long intervalNanos = (long)(1_000_000_000L / requestsPerSecond);
+		long start = System.nanoTime();
+		long end = start + duration.toNanos();
+		AtomicLong sequence = new AtomicLong();
+
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (long intended = start; intended < end; intended += intervalNanos) {
+				long wait = intended - System.nanoTime();
+				if (wait > 0) {
+					LockSupport.parkNanos(wait);
+				}
+				long index = sequence.getAndIncrement();
+				Scenario scenario = scenarios.get((int)(index % scenarios.size()));
+				Recorder recorder = recorders.get(scenario.name());
+				long intendedStart = intended;
+				executor.execute(() -> send(scenario, "load-" + index, intendedStart, recorder, completedTraceIds));
+			}
+			executor.shutdown();
+			executor.awaitTermination(1, TimeUnit.MINUTES);
+		}
+
+		Map<String, ScenarioResult> results = new LinkedHashMap<>();
+		recorders.forEach((name, recorder) -> results.put(name, recorder.result(name)));
+		return new Run(results, Set.copyOf(completedTraceIds));
+	}
+
+	private void send(Scenario scenario, String traceId, long intendedStart, Recorder recorder,
+		Set<String> completedTraceIds) {
+		try {
+			HttpRequest request = scenario.request().get().header(TRACE_ID_HEADER, traceId).build();
+			HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+			if (response.statusCode() >= 400) {
+				recorder.errors.increment();
+			}
+			completedTraceIds.add(traceId);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			recorder.errors.increment();
+		} catch (Exception e) {
+			recorder.errors.increment();
+		} finally {
+			recorder.histogram.record(System.nanoTime() - intendedStart);
+		}
+	}
+
+	/// @param request 보낼 요청 (X-Trace-Id 는 생성기가 붙인다)
+	public record Scenario(String name, Supplier<HttpRequest.Builder> request) {
+	}
+
+	/// @param completedTraceIds 응답(상태 코드 무관)을 받은 요청의 traceId
+	public record Run(Map<String, ScenarioResult> results, Set<String> completedTraceIds) {
+	}
+
+	public record ScenarioResult(
+		String name,
+		long count,
+		long errors,
+		double throughputPerSecond,
+		double p50Millis,
+		double p90Millis,
+		double p99Millis,
+		double p999Millis,
+		double maxMillis
+	) {
+	}
+
+	private static final class Recorder {
+		private final LatencyHistogram histogram = new LatencyHistogram();
+		private final LongAdder errors = new LongAdder();
+
+		ScenarioResult result(String name) {
+			LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+			return new ScenarioResult(name, snapshot.count(), errors.sum(), snapshot.throughputPerSecond(),
+				millis(snapshot.valueAtPercentile(50)), millis(snapshot.valueAtPercentile(90)),
+				millis(snapshot.valueAtPercentile(99)), millis(snapshot.valueAtPercentile(99.9)),
+				millis(snapshot.maxNanos()));
+		}
+
+		private static double millis(long nanos) {
+			return nanos / 1_000_000.0;
+		}
+	}
+}
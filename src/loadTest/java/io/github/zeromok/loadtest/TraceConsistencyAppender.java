@@ -0,0 +1,75 @@
+package io.github.zeromok.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+
+/// 부하 중에 앱 로그를 받아 traceId 별로 어느 계층(controller, service 등 패키지)에서 찍혔는지 모은다
+/// - 부하 생성기는 요청마다 고유한 X-Trace-Id 를 보내므로, 응답 하나의 로그는 모두 그 값을 가져야 한다
+/// - traceId 가 없거나 보내지 않은 값이면 "섞인" 로그 (스레드 재사용 후 MDC 미정리, 전파 누락 등)
+/// 로그 내용은 저장하지 않고 계층 이름만 기록한다
+public class TraceConsistencyAppender extends AppenderBase<ILoggingEvent> {
+
+	private static final String APP_PACKAGE = "io.github.zeromok.";
+
+	private final Map<String, Set<String>> layersByTraceId = new ConcurrentHashMap<>();
+	private final LongAdder missingTraceId = new LongAdder();
+
+	@Override
+	protected void append(ILoggingEvent event) {
+		String layer = layerOf(event.getLoggerName());
+		if (layer == null) {
+			return;
+		}
+		String traceId = event.getMDCPropertyMap().get("traceId");
+		if (traceId == null || traceId.isEmpty()) {
+			missingTraceId.increment();
+			return;
+		}
+		layersByTraceId.computeIfAbsent(traceId, id -> ConcurrentHashMap.newKeySet()).add(layer);
+	}
+
+	/// 보낸 traceId 목록과 받은 로그를 비교해서 위반 사항을 돌려준다 (없으면 빈 목록)
+	/// @param sentTraceIds 부하 생성기가 보낸 traceId (응답을 받은 요청만)
+	/// @param requiredLayers 요청 하나가 모두 거쳐야 하는 계층 (예: controller, service)
+	public List<String> violations(Set<String> sentTraceIds, Set<String> requiredLayers) {
+		List<String> violations = new ArrayList<>();
+		if (missingTraceId.sum() > 0) {
+			violations.add("traceId 없는 앱 로그 " + missingTraceId.sum() + "건");
+		}
+
+		long unknown = layersByTraceId.keySet().stream().filter(id -> !sentTraceIds.contains(id)).count();
+		if (unknown > 0) {
+			violations.add("보내지 않은 traceId 로 찍힌 요청 " + unknown + "건");
+		}
+
+		long incomplete = sentTraceIds.stream()
+			.map(layersByTraceId::get)
+			.filter(layers -> layers == null || !layers.containsAll(requiredLayers))
+			.count();
+		if (incomplete > 0) {
+			violations.add(requiredLayers + " 로그가 같은 traceId 로 남지 않은 요청 " + incomplete + "건");
+		}
+		return violations;
+	}
+
+	public void reset() {
+		layersByTraceId.clear();
+		missingTraceId.reset();
+	}
+
+	// io.github.zeromok.controller.UserController → controller
+	private static String layerOf(String loggerName) {
+		if (!loggerName.startsWith(APP_PACKAGE)) {
+			return null;
+		}
+		int end = loggerName.indexOf('.', APP_PACKAGE.length());
+		return end < 0 ? null : loggerName.substring(APP_PACKAGE.length(), end);
+	}
+}
@@ -0,0 +1,163 @@
+package io.github.zeromok.loadtest;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+
+/// 앱을 임의 포트로 띄우고 열린 모델 부하를 걸어 p99 회귀와 traceId 일관성을 확인한다
+/// ./gradlew loadTest -PloadTest.profile=mdc-virtual -PloadTest.rate=500 -PloadTest.duration=60s
+/// - 결과: build/load-test/{프로파일}.json (시나리오별 p50/p90/p99/p99.9/max, 처리량, 오류 수, traceId 위반)
+/// - 기준: src/loadTest/baseline/{프로파일}.json 의 p99 x (1 + tolerance) 를 넘으면 실패
+///   (기준 파일이 없으면 비교하지 않고, -PloadTest.updateBaseline 이면 이번 결과로 기준을 바꾼다)
+/// - thread-name, mdc-aspect 는 traceId 가 요청마다 일관되지 않으므로 실패하는 것이 정상
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class UserApiLoadTest {
+
+	private static final String BASE_PATH = "/mdc/api/users";
+
+	private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private Environment environment;
+
+	private Logger root;
+	private TraceConsistencyAppender traceAppender;
+
+	@BeforeEach
+	void setUp() {
+		LoggerContext context = (LoggerContext)LoggerFactory.getILoggerFactory();
+		root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+		traceAppender = new TraceConsistencyAppender();
+		traceAppender.setContext(context);
+		traceAppender.start();
+		root.addAppender(traceAppender);
+	}
+
+	@AfterEach
+	void tearDown() {
+		root.detachAppender(traceAppender);
+		traceAppender.stop();
+	}
+
+	@Test
+	@DisplayName("일정한 도착률 부하에서 p99 가 기준 이내, 모든 요청의 로그가 같은 traceId 를 가짐")
+	void testLoad() throws Exception {
+		// G: 워밍업 (JIT, 커넥션, 비밀번호 해시 교체/캐시) 후 수집한 로그는 버린다
+		String profile = String.join(",", environment.getActiveProfiles());
+		double rate = Double.parseDouble(property("rate", "200"));
+		Duration duration = DurationStyle.detectAndParse(property("duration", "30s"));
+		Duration warmup = DurationStyle.detectAndParse(property("warmup", "10s"));
+		double tolerance = Double.parseDouble(property("tolerance", "0.2"));
+
+		OpenModelLoadGenerator generator = new OpenModelLoadGenerator(scenarios(), rate);
+		generator.run(warmup);
+		traceAppender.reset();
+
+		// W
+		OpenModelLoadGenerator.Run run = generator.run(duration);
+
+		// T
+		List<String> traceViolations = traceAppender.violations(run.completedTraceIds(), requiredLayers(profile));
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("profile", profile);
+		result.put("requestsPerSecond", rate);
+		result.put("duration", duration.toString());
+		result.put("scenarios", run.results());
+		result.put("traceViolations", traceViolations);
+		Path resultFile = Path.of(property("resultFile", "build/load-test/" + profile + ".json"));
+		write(resultFile, result);
+
+		Path baselineFile = Path.of(property("baselineFile", "src/loadTest/baseline/" + profile + ".json"));
+		if (Boolean.parseBoolean(property("updateBaseline", "false"))) {
+			write(baselineFile, result);
+		}
+
+		assertThat(run.results().values())
+			.allSatisfy(scenario -> assertThat(scenario.errors()).as(scenario.name() + " 오류 수").isZero());
+		assertThat(traceViolations).as("traceId 일관성").isEmpty();
+		assertThat(p99Regressions(run.results(), baselineFile, tolerance)).as("p99 회귀").isEmpty();
+	}
+
+	// 사용자 조회와 로그인을 번갈아 보낸다 (조회 id 는 1 ~ 3 순환)
+	private List<OpenModelLoadGenerator.Scenario> scenarios() {
+		URI login = URI.create("http://localhost:" + port + BASE_PATH + "/login");
+		String loginBody = """
+			{"username": "alice", "password": "password123"}
+			""";
+		AtomicLong next = new AtomicLong();
+		return List.of(
+			new OpenModelLoadGenerator.Scenario("getUserById", () -> HttpRequest.newBuilder(
+				URI.create("http://localhost:" + port + BASE_PATH + "/" + (next.getAndIncrement() % 3 + 1))).GET()),
+			new OpenModelLoadGenerator.Scenario("login", () -> HttpRequest.newBuilder(login)
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(loginBody)))
+		);
+	}
+
+	// mdc-reactive 는 Controller/Service 대신 reactive 패키지의 Handler/Service 가 로그를 남긴다
+	private static Set<String> requiredLayers(String profile) {
+		return profile.contains("mdc-reactive") ? Set.of("reactive") : Set.of("controller", "service");
+	}
+
+	private List<String> p99Regressions(Map<String, OpenModelLoadGenerator.ScenarioResult> results,
+		Path baselineFile, double tolerance) throws IOException {
+		List<String> regressions = new ArrayList<>();
+		if (!Files.exists(baselineFile)) {
+			return regressions;
+		}
+		JsonNode baseline = objectMapper.readTree(baselineFile.toFile()).path("scenarios");
+		results.forEach((name, current) -> {
+			if (!baseline.has(name)) {
+				return;
+			}
+			double limit = baseline.get(name).get("p99Millis").asDouble() * (1 + tolerance);
+			if (current.p99Millis() > limit) {
+				regressions.add(String.format("%s p99 %.2fms > 기준 %.2fms", name, current.p99Millis(), limit));
+			}
+		});
+		return regressions;
+	}
+
+	private void write(Path file, Object value) throws IOException {
+		if (file.getParent() != null) {
+			Files.createDirectories(file.getParent());
+		}
+		objectMapper.writeValue(file.toFile(), value);
+	}
+
+	private static String property(String name, String defaultValue) {
+		return System.getProperty("loadTest." + name, defaultValue);
+	}
+}
@@ -3,10 +3,17 @@ package io.github.zeromok;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
+import io.github.zeromok.logging.mdc.TraceContextServiceProvider;
+
 @SpringBootApplication
 public class MdcLoggingExampleApplication {
 
 	public static void main(String[] args) {
+		// SLF4J가 초기화되기 전에 TraceContext를 인식하는 MDCAdapter를 사용하도록 지정
+		if (System.getProperty(TraceContextServiceProvider.PROVIDER_PROPERTY) == null) {
+			System.setProperty(TraceContextServiceProvider.PROVIDER_PROPERTY,
+				TraceContextServiceProvider.class.getName());
+		}
 		SpringApplication.run(MdcLoggingExampleApplication.class, args);
 	}
 
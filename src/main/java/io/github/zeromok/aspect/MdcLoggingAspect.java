@@ -1,7 +1,5 @@
 package io.github.zeromok.aspect;
 
-import java.util.UUID;
-
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
@@ -10,6 +8,7 @@ import org.slf4j.MDC;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import io.github.zeromok.trace.TraceIdGenerator;
 import lombok.extern.slf4j.Slf4j;
 
 /// 실패 케이스 2: AOP에서 MDC 관리 시도
@@ -28,6 +27,12 @@ import lombok.extern.slf4j.Slf4j;
 @Profile("mdc-aspect")
 public class MdcLoggingAspect {
 
+	private final TraceIdGenerator traceIdGenerator;
+
+	public MdcLoggingAspect(TraceIdGenerator traceIdGenerator) {
+		this.traceIdGenerator = traceIdGenerator;
+	}
+
 	@Pointcut("within(@org.springframework.web.bind.annotation.RestController *)")
 	public void controllerPointcut() {}
 
@@ -37,7 +42,7 @@ public class MdcLoggingAspect {
 	@Around("controllerPointcut()")
 	public Object controllerLog(ProceedingJoinPoint joinPoint) throws Throwable {
 		// traceId 생성 및 MDC에 저장
-		String traceId = UUID.randomUUID().toString().substring(0, 8);
+		String traceId = traceIdGenerator.generate();
 		MDC.put("traceId", traceId);
 
 		String className = joinPoint.getSignature().getDeclaringType().getSimpleName();
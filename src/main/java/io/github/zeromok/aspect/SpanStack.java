@@ -0,0 +1,119 @@
+package io.github.zeromok.aspect;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/// 요청 하나(= 최상위 span 하나) 동안의 span 스택
+/// - open() 은 현재 스택 top 을 부모로 하는 span 을 만든다
+/// - close() 는 안쪽부터 닫히며 스택이 비면 요청이 끝난 것으로 본다
+/// - 닫힌 span 은 시작 순서대로 모아 두었다가 render() 로 한 줄에 출력한다
+/// 요청마다 RequestContext 에 담기므로 타입만 공개한다 (조작은 SpanTimingAspect 만)
+public final class SpanStack {
+
+	private final ArrayDeque<Span> active = new ArrayDeque<>();
+	private final List<Span> spans = new ArrayList<>();
+	private int nextId = 1;
+
+	Span open(String layer, String name, long startNanos) {
+		Span parent = active.peek();
+		Span span = new Span(nextId++, parent == null ? 0 : parent.id, layer, name, startNanos);
+		active.push(span);
+		spans.add(span);
+		return span;
+	}
+
+	/// 스택에 올리지 않는 자식 span (외부 HTTP 호출처럼 안에서 다른 span 이 열리지 않는 구간)
+	/// 다른 스레드에서 끝나도(WebClient) 스택 순서가 꼬이지 않도록 finish() 로 시간만 기록한다
+	Span openLeaf(String layer, String name, long startNanos) {
+		Span parent = active.peek();
+		Span span = new Span(nextId++, parent == null ? 0 : parent.id, layer, name, startNanos);
+		spans.add(span);
+		return span;
+	}
+
+	void finish(Span span, long endNanos, Throwable error) {
+		span.error = error == null ? null : error.getClass().getSimpleName();
+		span.endNanos = endNanos;
+	}
+
+	/// @return 최상위 span 이 닫혔으면 true
+	boolean close(Span span, long endNanos, Throwable error) {
+		span.endNanos = endNanos;
+		span.error = error == null ? null : error.getClass().getSimpleName();
+		// 정상적인 경우 항상 top 이지만, 예외로 안쪽 span 이 닫히지 않았다면 함께 정리한다
+		while (!active.isEmpty() && active.pop() != span) {
+			// 남은 span 은 endNanos 가 0 인 채로 출력된다
+		}
+		return active.isEmpty();
+	}
+
+	boolean isEmpty() {
+		return active.isEmpty();
+	}
+
+	List<Span> spans() {
+		return spans;
+	}
+
+	/// 예: total: 14.212ms | #1 Controller UserController.getUserById +0.000ms 14.212ms | #2<1 Service ...
+	String render() {
+		Span root = spans.get(0);
+		StringBuilder sb = new StringBuilder(64 + spans.size() * 80);
+		sb.append("total: ");
+		appendMillis(sb, root.endNanos - root.startNanos);
+		for (Span span : spans) {
+			sb.append(" | #").append(span.id);
+			if (span.parentId != 0) {
+				sb.append('<').append(span.parentId);
+			}
+			sb.append(' ').append(span.layer).append(' ').append(span.name).append(" +");
+			appendMillis(sb, span.startNanos - root.startNanos);
+			sb.append(' ');
+			if (span.endNanos == 0) {
+				sb.append("unfinished");
+			} else {
+				appendMillis(sb, span.endNanos - span.startNanos);
+			}
+			if (span.error != null) {
+				sb.append(" error=").append(span.error);
+			}
+		}
+		return sb.toString();
+	}
+
+	private static void appendMillis(StringBuilder sb, long nanos) {
+		long micros = nanos / 1_000;
+		sb.append(micros / 1_000).append('.');
+		long fraction = micros % 1_000;
+		if (fraction < 100) {
+			sb.append('0');
+		}
+		if (fraction < 10) {
+			sb.append('0');
+		}
+		sb.append(fraction).append("ms");
+	}
+
+	static final class Span {
+		final int id;
+		final int parentId;
+		final String layer;
+		final String name;
+		final long startNanos;
+		volatile long endNanos;
+		volatile String error;
+
+		private Span(int id, int parentId, String layer, String name, long startNanos) {
+			this.id = id;
+			this.parentId = parentId;
+			this.layer = layer;
+			this.name = name;
+			this.startNanos = startNanos;
+		}
+
+		String spanId() {
+			return Integer.toString(id);
+		}
+	}
+}
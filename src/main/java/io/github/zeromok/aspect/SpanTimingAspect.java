@@ -0,0 +1,151 @@
+package io.github.zeromok.aspect;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.slf4j.MDC;
+import org.springframework.context.annotation.Profile;
+
+import io.github.zeromok.context.RequestContext;
+import io.github.zeromok.trace.TraceIdGenerator;
+import lombok.extern.slf4j.Slf4j;
+
+/// MdcLoggingAspect 의 올바른 버전: 계층별(Controller → Service → Repository) 실행 시간 측정
+/// MdcLoggingAspect 와의 차이:
+/// 1. MDC.clear() 대신 진입 전 값을 기억했다가 종료 시 그대로 되돌린다
+///    → Service 가 끝나도 Controller 의 traceId/spanId 가 유지된다
+/// 2. traceId 는 이미 있으면(mdc-filter 와 함께 사용) 재사용하고, 없을 때만 최상위 span 에서 만든다
+/// 3. 계층마다 BEGIN/END 로그를 남기지 않고, 최상위 span 이 끝날 때 전체 span 을 한 줄로 출력한다
+///    → 로그 양을 늘리지 않고 UserRepository 의 10~15ms 가 어디서 쓰이는지 볼 수 있다
+/// 다른 스레드로 넘긴 작업(UserBatchService 의 fan-out)은 요청의 span 스택을 이어받지 않는다
+/// - 요청의 Spans 한 줄은 Controller 가 반환될 때 이미 출력되어 나중에 끝나는 항목을 붙일 수 없다
+/// - 대신 항목마다 그 스레드의 최상위 span 부터 자기 Spans 한 줄을 남기고,
+///   MDC 의 traceId("부모.순번") 와 parentTraceId 로 요청 줄과 연결된다
+@Slf4j
+@Aspect
+@Profile("mdc-span")
+public class SpanTimingAspect {
+
+	static final String TRACE_ID = "traceId";
+	static final String SPAN_ID = "spanId";
+
+	// 요청 스레드마다 하나, 최상위 span 이 닫히면 제거
+	// RequestContext 가 있으면(mdc-filter, mdc-interceptor) 그 필드에 두고, 없을 때만 ThreadLocal 을 쓴다
+	private static final ThreadLocal<SpanStack> STACK = new ThreadLocal<>();
+
+	private final TraceIdGenerator traceIdGenerator;
+
+	public SpanTimingAspect(TraceIdGenerator traceIdGenerator) {
+		this.traceIdGenerator = traceIdGenerator;
+	}
+
+	/// 진행 중인 요청이 있으면 현재 span 의 자식으로 구간을 기록한다 (mdc-span 이 아니면 아무것도 하지 않음)
+	/// 외부 HTTP 호출처럼 Aspect 가 감싸지 않는 구간용, 요청의 Spans 한 줄에 함께 출력된다
+	public static LeafSpan startLeaf(String layer, String name) {
+		SpanStack stack = currentStack(RequestContext.current());
+		if (stack == null) {
+			return LeafSpan.NOOP;
+		}
+		SpanStack.Span span = stack.openLeaf(layer, name, System.nanoTime());
+		return error -> stack.finish(span, System.nanoTime(), error);
+	}
+
+	@Pointcut("within(@org.springframework.web.bind.annotation.RestController *)")
+	public void controllerPointcut() {}
+
+	@Pointcut("within(@org.springframework.stereotype.Service *)")
+	public void servicePointcut() {}
+
+	@Pointcut("within(@org.springframework.stereotype.Repository *)")
+	public void repositoryPointcut() {}
+
+	@Around("controllerPointcut()")
+	public Object controllerSpan(ProceedingJoinPoint joinPoint) throws Throwable {
+		return span(joinPoint, "Controller");
+	}
+
+	@Around("servicePointcut()")
+	public Object serviceSpan(ProceedingJoinPoint joinPoint) throws Throwable {
+		return span(joinPoint, "Service");
+	}
+
+	@Around("repositoryPointcut()")
+	public Object repositorySpan(ProceedingJoinPoint joinPoint) throws Throwable {
+		return span(joinPoint, "Repository");
+	}
+
+	private Object span(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+		RequestContext context = RequestContext.current();
+		SpanStack stack = currentStack(context);
+		boolean root = stack == null;
+		String generatedTraceId = null;
+		if (root) {
+			stack = new SpanStack();
+			setStack(context, stack);
+			if (MDC.get(TRACE_ID) == null) {
+				generatedTraceId = traceIdGenerator.generate();
+				MDC.put(TRACE_ID, generatedTraceId);
+			}
+		}
+
+		String name = joinPoint.getSignature().getDeclaringType().getSimpleName()
+			+ "." + joinPoint.getSignature().getName();
+		SpanStack.Span span = stack.open(layer, name, System.nanoTime());
+
+		// 진입 전 spanId 를 기억해 두었다가 종료 시 되돌린다 (clear 하지 않음)
+		String previousSpanId = MDC.get(SPAN_ID);
+		MDC.put(SPAN_ID, span.spanId());
+
+		Throwable error = null;
+		try {
+			return joinPoint.proceed();
+		} catch (Throwable t) {
+			error = t;
+			throw t;
+		} finally {
+			boolean finished = stack.close(span, System.nanoTime(), error);
+			restore(SPAN_ID, previousSpanId);
+
+			if (finished) {
+				setStack(context, null);
+				// 최상위 span 종료: 모든 span 을 한 번에 출력
+				log.info("Spans - {}", stack.render());
+				if (generatedTraceId != null) {
+					MDC.remove(TRACE_ID);
+				}
+			}
+		}
+	}
+
+	private static SpanStack currentStack(RequestContext context) {
+		return context == null ? STACK.get() : context.spanStack();
+	}
+
+	private static void setStack(RequestContext context, SpanStack stack) {
+		if (context != null) {
+			context.setSpanStack(stack);
+		} else if (stack == null) {
+			STACK.remove();
+		} else {
+			STACK.set(stack);
+		}
+	}
+
+	private static void restore(String key, String previous) {
+		if (previous == null) {
+			MDC.remove(key);
+		} else {
+			MDC.put(key, previous);
+		}
+	}
+
+	@FunctionalInterface
+	public interface LeafSpan {
+		LeafSpan NOOP = error -> {
+		};
+
+		/// @param error 실패했으면 원인, 성공이면 null
+		void end(Throwable error);
+	}
+}
@@ -0,0 +1,24 @@
+package io.github.zeromok.cache;
+
+/// 캐시 지표 스냅샷
+/// - coalesced: 캐시 미스였지만 다른 요청의 로드 결과를 기다려 받은 횟수 (single-flight)
+/// - averageLoadMillis: loader(UserRepository) 호출 평균 시간
+public record CacheStats(
+	long hits,
+	long misses,
+	long coalesced,
+	long evictions,
+	long loads,
+	long totalLoadNanos,
+	long size
+) {
+
+	public double hitRate() {
+		long requests = hits + misses;
+		return requests == 0 ? 0.0 : (double)hits / requests;
+	}
+
+	public double averageLoadMillis() {
+		return loads == 0 ? 0.0 : totalLoadNanos / 1_000_000.0 / loads;
+	}
+}
@@ -0,0 +1,309 @@
+package io.github.zeromok.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/// 크기 제한 + TTL 을 가진 read-through 캐시 (lock striping + segmented LRU)
+/// 구성:
+/// - 키 해시로 나눈 N개의 stripe, 각 stripe 는 자체 락을 가진다 → 전체 락 하나보다 경합이 적다
+/// - stripe 안은 SLRU: probation(처음 들어온 항목) + protected(두 번 이상 조회된 항목, 용량의 80%)
+///   → 한 번만 조회되는 키가 몰려와도(scan) probation 에서만 밀려나고, 자주 쓰는 사용자는 protected 에 남는다
+///   → protected 가 넘치면 가장 오래 안 쓴 항목을 probation 으로 내리고, 내보내기는 probation 의 LRU 부터
+/// - 만료된 항목은 조회 시점에 제거한다 (별도 정리 스레드 없음)
+/// single-flight:
+/// - 같은 키의 캐시 미스가 동시에 발생하면 첫 요청만 loader 를 호출하고 나머지는 그 결과를 기다린다
+/// - 로드 결과는 stripe 락 안에서 캐시에 넣은 뒤 in-flight 에서 지운다 (둘 다 없는 순간이 없어 중복 로드가 없다)
+/// - 로딩 중 invalidate() 되면 로드 결과는 반환만 하고 캐시에 넣지 않는다
+/// - 다른 캐시에서 읽은 값을 넣을 때는 putIfNotInvalidated() 로 읽기 전 이후의 무효화 여부를 확인한다
+/// loader 가 null 을 반환하면 캐시하지 않는다 (없는 사용자를 계속 조회하는 경우는 매번 로드)
+public class TtlLruCache<K, V> {
+
+	private static final int STRIPE_COUNT = 16;
+
+	private final Stripe<K, V>[] stripes;
+	private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+	// invalidate()/invalidateAll() 횟수 (키와 무관, 늘어났는지만 본다)
+	private final AtomicLong invalidations = new AtomicLong();
+	private final long ttlNanos;
+	private final LongSupplier ticker;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder coalesced = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+	private final LongAdder loads = new LongAdder();
+	private final LongAdder totalLoadNanos = new LongAdder();
+
+	public TtlLruCache(int maxSize, Duration ttl) {
+		this(maxSize, ttl, System::nanoTime);
+	}
+
+	TtlLruCache(int maxSize, Duration ttl, LongSupplier ticker) {
+		this(maxSize, ttl, ticker, Math.min(STRIPE_COUNT, Integer.highestOneBit(Math.max(maxSize, 1))));
+	}
+
+	// stripeCount 는 2의 거듭제곱
+	@SuppressWarnings("unchecked")
+	TtlLruCache(int maxSize, Duration ttl, LongSupplier ticker, int stripeCount) {
+		if (maxSize < 1) {
+			throw new IllegalArgumentException("maxSize는 1 이상이어야 합니다: " + maxSize);
+		}
+		this.ttlNanos = ttl.toNanos();
+		this.ticker = ticker;
+
+		int perStripe = (maxSize + stripeCount - 1) / stripeCount;
+		this.stripes = new Stripe[stripeCount];
+		for (int i = 0; i < stripeCount; i++) {
+			stripes[i] = new Stripe<>(perStripe, evictions);
+		}
+	}
+
+	/// 캐시에 있으면 반환하고, 없으면 loader 로 읽어 캐시에 넣는다
+	public V get(K key, Function<? super K, ? extends V> loader) {
+		V cached = getIfPresent(key);
+		if (cached != null) {
+			hits.increment();
+			return cached;
+		}
+
+		CompletableFuture<V> future = new CompletableFuture<>();
+		CompletableFuture<V> running = inFlight.putIfAbsent(key, future);
+		if (running != null) {
+			misses.increment();
+			coalesced.increment();
+			return await(running);
+		}
+		// 조회와 putIfAbsent 사이에 다른 로드가 끝났을 수 있다
+		cached = getIfPresent(key);
+		if (cached != null) {
+			inFlight.remove(key, future);
+			future.complete(cached);
+			hits.increment();
+			return cached;
+		}
+		misses.increment();
+
+		long start = ticker.getAsLong();
+		try {
+			V value = loader.apply(key);
+			if (value == null) {
+				inFlight.remove(key, future);
+			} else {
+				// 캐시에 먼저 넣고 in-flight 에서 지운다, invalidate() 로 이미 지워졌다면 넣지 않는다
+				stripeFor(key).putIf(key, value, ticker.getAsLong() + ttlNanos,
+					() -> inFlight.remove(key, future));
+			}
+			future.complete(value);
+			return value;
+		} catch (RuntimeException | Error e) {
+			inFlight.remove(key, future);
+			future.completeExceptionally(e);
+			throw e;
+		} finally {
+			loads.increment();
+			totalLoadNanos.add(ticker.getAsLong() - start);
+		}
+	}
+
+	public V getIfPresent(K key) {
+		return stripeFor(key).get(key, ticker.getAsLong());
+	}
+
+	/// 다른 경로로 이미 읽어온 값을 넣는다 (지표에는 반영하지 않음)
+	public void put(K key, V value) {
+		stripeFor(key).put(key, value, ticker.getAsLong() + ttlNanos);
+	}
+
+	/// 다른 경로로 값을 읽기 전에 받아 두고 putIfNotInvalidated() 에 넘긴다
+	public long invalidationToken() {
+		return invalidations.get();
+	}
+
+	/// token 을 받은 뒤 invalidate() 가 한 번도 없었을 때만 넣는다
+	/// 읽은 값이 그 사이 저장/삭제로 낡았을 수 있으면 put() 대신 쓴다 (다른 키의 무효화에도 넣지 않을 수 있다)
+	public void putIfNotInvalidated(K key, V value, long token) {
+		stripeFor(key).putIf(key, value, ticker.getAsLong() + ttlNanos, () -> invalidations.get() == token);
+	}
+
+	public void invalidate(K key) {
+		// 먼저 늘려야 stripe 에서 지운 뒤에 낡은 값이 다시 들어오지 않는다
+		invalidations.incrementAndGet();
+		inFlight.remove(key);
+		stripeFor(key).remove(key);
+	}
+
+	public void invalidateAll() {
+		invalidations.incrementAndGet();
+		inFlight.clear();
+		for (Stripe<K, V> stripe : stripes) {
+			stripe.clear();
+		}
+	}
+
+	public long size() {
+		long size = 0;
+		for (Stripe<K, V> stripe : stripes) {
+			size += stripe.size();
+		}
+		return size;
+	}
+
+	public CacheStats stats() {
+		return new CacheStats(hits.sum(), misses.sum(), coalesced.sum(), evictions.sum(), loads.sum(),
+			totalLoadNanos.sum(), size());
+	}
+
+	private V await(CompletableFuture<V> running) {
+		try {
+			return running.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private Stripe<K, V> stripeFor(K key) {
+		int hash = key.hashCode();
+		hash ^= (hash >>> 16);
+		return stripes[hash & (stripes.length - 1)];
+	}
+
+	private record Entry<V>(V value, long expiresAt) {
+	}
+
+	/// 락 하나를 공유하는 SLRU (probation + protected)
+	private static final class Stripe<K, V> {
+		private final ReentrantLock lock = new ReentrantLock();
+		private final int maxSize;
+		private final int protectedMaxSize;
+		private final LongAdder evictions;
+		// accessOrder=true: get()/put() 할 때마다 맨 뒤로 이동 → 맨 앞이 LRU
+		private final LinkedHashMap<K, Entry<V>> probation = new LinkedHashMap<>(16, 0.75f, true);
+		private final LinkedHashMap<K, Entry<V>> protectedEntries = new LinkedHashMap<>(16, 0.75f, true);
+
+		Stripe(int maxSize, LongAdder evictions) {
+			this.maxSize = maxSize;
+			this.protectedMaxSize = maxSize * 4 / 5;
+			this.evictions = evictions;
+		}
+
+		V get(K key, long now) {
+			lock.lock();
+			try {
+				Entry<V> entry = protectedEntries.get(key);
+				if (entry != null) {
+					if (entry.expiresAt() - now <= 0) {
+						protectedEntries.remove(key);
+						return null;
+					}
+					return entry.value();
+				}
+				entry = probation.remove(key);
+				if (entry == null || entry.expiresAt() - now <= 0) {
+					return null;
+				}
+				// 두 번째 조회: protected 로 올린다
+				protectedEntries.put(key, entry);
+				demoteOverflow();
+				return entry.value();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		void put(K key, V value, long expiresAt) {
+			lock.lock();
+			try {
+				putLocked(key, new Entry<>(value, expiresAt));
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		/// condition 이 true 를 돌려줄 때만 넣는다 (같은 락 안에서 확인하므로 invalidate() 와 엇갈리지 않는다)
+		void putIf(K key, V value, long expiresAt, BooleanSupplier condition) {
+			lock.lock();
+			try {
+				if (condition.getAsBoolean()) {
+					putLocked(key, new Entry<>(value, expiresAt));
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		void remove(K key) {
+			lock.lock();
+			try {
+				if (probation.remove(key) == null) {
+					protectedEntries.remove(key);
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		void clear() {
+			lock.lock();
+			try {
+				probation.clear();
+				protectedEntries.clear();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		int size() {
+			lock.lock();
+			try {
+				return probation.size() + protectedEntries.size();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		private void putLocked(K key, Entry<V> entry) {
+			// protected 에 있던 키는 그 자리에서 갱신 (이미 자주 쓰이는 항목)
+			if (protectedEntries.containsKey(key)) {
+				protectedEntries.put(key, entry);
+				return;
+			}
+			probation.put(key, entry);
+			while (probation.size() + protectedEntries.size() > maxSize) {
+				removeEldest(probation.isEmpty() ? protectedEntries : probation);
+				evictions.increment();
+			}
+		}
+
+		// protected 가 넘치면 가장 오래 안 쓴 항목을 probation 의 맨 뒤(MRU)로 내린다
+		private void demoteOverflow() {
+			while (protectedEntries.size() > protectedMaxSize) {
+				Map.Entry<K, Entry<V>> eldest = removeEldest(protectedEntries);
+				probation.put(eldest.getKey(), eldest.getValue());
+			}
+		}
+
+		private static <K, V> Map.Entry<K, Entry<V>> removeEldest(LinkedHashMap<K, Entry<V>> entries) {
+			Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+			Map.Entry<K, Entry<V>> eldest = iterator.next();
+			iterator.remove();
+			return eldest;
+		}
+	}
+}
@@ -0,0 +1,93 @@
+package io.github.zeromok.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+import io.github.zeromok.domain.User;
+import lombok.extern.slf4j.Slf4j;
+
+/// UserRepository 조회 앞에 두는 read-through 캐시
+/// - 같은 사용자를 반복 조회해도 UserRepository 지연(10~15ms)은 캐시 미스 때만 발생한다
+/// - id 캐시와 username 캐시를 따로 두고, 한쪽에서 로드하면 다른 쪽에도 채워 넣는다
+///   → 로드 전에 받은 무효화 토큰으로 확인해, 로드 도중 저장/삭제된 사용자는 다른 쪽에 넣지 않는다
+///   → 캐시 적중한 값은 넣지 않는다 (언제 읽은 값인지 알 수 없으므로)
+/// - 로그는 요청 스레드에서 남기므로 현재 traceId 와 함께 출력된다
+@Slf4j
+public class UserCache {
+
+	private final TtlLruCache<Long, User> byId;
+	private final TtlLruCache<String, User> byUsername;
+
+	public UserCache(int maxSize, Duration ttl) {
+		this.byId = new TtlLruCache<>(maxSize, ttl);
+		this.byUsername = new TtlLruCache<>(maxSize, ttl);
+	}
+
+	public Optional<User> findById(Long id, Function<Long, Optional<User>> loader) {
+		long token = byUsername.invalidationToken();
+		boolean[] loaded = {false};
+		User user = byId.get(id, key -> {
+			log.debug("캐시 미스. ID: {}", key);
+			loaded[0] = true;
+			return loader.apply(key).orElse(null);
+		});
+		if (user != null && loaded[0]) {
+			byUsername.putIfNotInvalidated(user.getUsername(), user, token);
+		}
+		return Optional.ofNullable(user);
+	}
+
+	public Optional<User> findByUsername(String username, Function<String, Optional<User>> loader) {
+		long token = byId.invalidationToken();
+		boolean[] loaded = {false};
+		User user = byUsername.get(username, key -> {
+			log.debug("캐시 미스. 이름: {}", key);
+			loaded[0] = true;
+			return loader.apply(key).orElse(null);
+		});
+		if (user != null && loaded[0]) {
+			byId.putIfNotInvalidated(user.getId(), user, token);
+		}
+		return Optional.ofNullable(user);
+	}
+
+	/// 사용자 정보가 바뀌거나 삭제되었을 때 호출한다 (id, username 캐시 모두 제거)
+	public void invalidate(Long id) {
+		User cached = byId.getIfPresent(id);
+		if (cached != null) {
+			byUsername.invalidate(cached.getUsername());
+		}
+		byId.invalidate(id);
+		log.debug("캐시 무효화. ID: {}", id);
+	}
+
+	public void invalidate(User user) {
+		byUsername.invalidate(user.getUsername());
+		invalidate(user.getId());
+	}
+
+	public void invalidateAll() {
+		byId.invalidateAll();
+		byUsername.invalidateAll();
+		log.info("캐시 전체 무효화");
+	}
+
+	public CacheStats byIdStats() {
+		return byId.stats();
+	}
+
+	public CacheStats byUsernameStats() {
+		return byUsername.stats();
+	}
+
+	public void logStats() {
+		CacheStats idStats = byId.stats();
+		CacheStats usernameStats = byUsername.stats();
+		log.info("캐시 지표 - byId: hit {}/{} ({}%), evict {}, avg load {}ms / byUsername: hit {}/{} ({}%), evict {}, avg load {}ms",
+			idStats.hits(), idStats.hits() + idStats.misses(), Math.round(idStats.hitRate() * 100),
+			idStats.evictions(), String.format("%.2f", idStats.averageLoadMillis()),
+			usernameStats.hits(), usernameStats.hits() + usernameStats.misses(), Math.round(usernameStats.hitRate() * 100),
+			usernameStats.evictions(), String.format("%.2f", usernameStats.averageLoadMillis()));
+	}
+}
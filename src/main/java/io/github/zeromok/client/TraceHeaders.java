@@ -0,0 +1,27 @@
+package io.github.zeromok.client;
+
+import org.slf4j.MDC;
+
+import io.github.zeromok.context.TraceContext;
+import io.github.zeromok.context.TraceContextHolder;
+
+/// 나가는 요청에 붙이는 추적 헤더
+/// - X-Trace-Id: 들어온 요청과 같은 값 (MdcLoggingFilter 등이 받는 헤더)
+/// - traceparent: W3C Trace Context (변환 가능한 traceId 일 때만)
+final class TraceHeaders {
+
+	static final String TRACE_ID = "X-Trace-Id";
+
+	private TraceHeaders() {
+	}
+
+	/// 현재 스레드의 traceId (MDC, 없으면 바인딩된 TraceContext)
+	static String currentTraceId() {
+		String traceId = MDC.get(TraceContext.TRACE_ID);
+		if (traceId != null) {
+			return traceId;
+		}
+		TraceContext context = TraceContextHolder.current();
+		return context == null ? null : context.traceId();
+	}
+}
@@ -0,0 +1,78 @@
+package io.github.zeromok.client;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+import io.github.zeromok.aspect.SpanTimingAspect;
+import io.github.zeromok.context.TraceContext;
+import io.github.zeromok.reactive.ReactiveMdc;
+import io.github.zeromok.trace.TraceParent;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/// WebClient 용: TracePropagatingInterceptor 와 같은 헤더를 붙인다
+/// traceId 는 Reactor Context(mdc-reactive 의 TraceIdWebFilter)에서 먼저 찾고,
+/// 없으면 구독하는 스레드의 MDC 에서 찾는다 (서블릿 요청 안에서 block() 하는 경우)
+@Slf4j
+public class TracePropagatingExchangeFilter implements ExchangeFilterFunction {
+
+	@Override
+	public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+		return Mono.deferContextual(contextView -> {
+			TraceContext reactiveContext = contextView.getOrDefault(ReactiveMdc.CONTEXT_KEY, null);
+			String traceId = reactiveContext != null ? reactiveContext.traceId() : TraceHeaders.currentTraceId();
+			ClientRequest traced = traceId == null ? request : withTraceHeaders(request, traceId);
+			// 응답은 Netty 스레드에서 오므로 로그에 쓸 traceId 를 미리 잡아 둔다
+			TraceContext context = reactiveContext != null || traceId == null
+				? reactiveContext
+				: new TraceContext(traceId, null, null);
+
+			String target = request.method() + " " + request.url().getHost() + request.url().getPath();
+			SpanTimingAspect.LeafSpan span = SpanTimingAspect.startLeaf("Client", target);
+			// 응답, 오류, 취소(timeout, 구독 해제) 중 먼저 온 신호에서 한 번만 닫는다
+			AtomicBoolean ended = new AtomicBoolean();
+			long start = System.nanoTime();
+			return next.exchange(traced)
+				.doOnNext(response -> {
+					if (ended.compareAndSet(false, true)) {
+						span.end(null);
+					}
+					ReactiveMdc.run(context, () -> log.debug("외부 호출 완료. {} status: {}, {}ms",
+						target, response.statusCode().value(), (System.nanoTime() - start) / 1_000_000));
+				})
+				.doOnError(e -> {
+					if (ended.compareAndSet(false, true)) {
+						span.end(e);
+					}
+					ReactiveMdc.run(context, () -> log.warn("외부 호출 실패. {} error: {}, {}ms",
+						target, e.getMessage(), (System.nanoTime() - start) / 1_000_000));
+				})
+				.doOnCancel(() -> {
+					if (ended.compareAndSet(false, true)) {
+						span.end(new CancellationException());
+						ReactiveMdc.run(context, () -> log.debug("외부 호출 취소. {} {}ms",
+							target, (System.nanoTime() - start) / 1_000_000));
+					}
+				});
+		});
+	}
+
+	private static ClientRequest withTraceHeaders(ClientRequest request, String traceId) {
+		String traceParent = TraceParent.of(traceId);
+		return ClientRequest.from(request)
+			.headers(headers -> {
+				if (!headers.containsKey(TraceHeaders.TRACE_ID)) {
+					headers.set(TraceHeaders.TRACE_ID, traceId);
+				}
+				if (traceParent != null && !headers.containsKey(TraceParent.HEADER)) {
+					headers.set(TraceParent.HEADER, traceParent);
+				}
+			})
+			.build();
+	}
+}
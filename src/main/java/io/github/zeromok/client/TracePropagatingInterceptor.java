@@ -0,0 +1,49 @@
+package io.github.zeromok.client;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import io.github.zeromok.aspect.SpanTimingAspect;
+import io.github.zeromok.trace.TraceParent;
+import lombok.extern.slf4j.Slf4j;
+
+/// RestClient/RestTemplate 용: 현재 요청의 traceId 를 다음 서비스로 넘긴다
+/// - 호출하는 쪽이 이미 헤더를 넣었으면 덮어쓰지 않는다
+/// - 호출 시간은 DEBUG 로그와 요청의 span(mdc-span)에 기록한다
+@Slf4j
+public class TracePropagatingInterceptor implements ClientHttpRequestInterceptor {
+
+	@Override
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+		throws IOException {
+		String traceId = TraceHeaders.currentTraceId();
+		if (traceId != null) {
+			if (!request.getHeaders().containsKey(TraceHeaders.TRACE_ID)) {
+				request.getHeaders().set(TraceHeaders.TRACE_ID, traceId);
+			}
+			String traceParent = TraceParent.of(traceId);
+			if (traceParent != null && !request.getHeaders().containsKey(TraceParent.HEADER)) {
+				request.getHeaders().set(TraceParent.HEADER, traceParent);
+			}
+		}
+
+		String target = request.getMethod() + " " + request.getURI().getHost() + request.getURI().getPath();
+		SpanTimingAspect.LeafSpan span = SpanTimingAspect.startLeaf("Client", target);
+		long start = System.nanoTime();
+		try {
+			ClientHttpResponse response = execution.execute(request, body);
+			span.end(null);
+			log.debug("외부 호출 완료. {} status: {}, {}ms",
+				target, response.getStatusCode().value(), (System.nanoTime() - start) / 1_000_000);
+			return response;
+		} catch (IOException | RuntimeException e) {
+			span.end(e);
+			log.warn("외부 호출 실패. {} error: {}, {}ms", target, e.getMessage(), (System.nanoTime() - start) / 1_000_000);
+			throw e;
+		}
+	}
+}
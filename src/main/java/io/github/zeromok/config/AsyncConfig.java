@@ -0,0 +1,19 @@
+package io.github.zeromok.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+import io.github.zeromok.context.MdcTaskDecorator;
+
+@EnableAsync
+@Configuration
+public class AsyncConfig {
+
+	// TaskDecorator 빈이 있으면 Spring Boot가 기본 TaskExecutor(@Async)에 자동으로 적용한다
+	@Bean
+	public TaskDecorator mdcTaskDecorator() {
+		return new MdcTaskDecorator();
+	}
+}
@@ -0,0 +1,21 @@
+package io.github.zeromok.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.github.zeromok.cache.UserCache;
+
+@Configuration
+public class CacheConfig {
+
+	@Bean
+	public UserCache userCache(
+		@Value("${mdc.cache.max-size:10000}") int maxSize,
+		@Value("${mdc.cache.ttl:60s}") Duration ttl
+	) {
+		return new UserCache(maxSize, ttl);
+	}
+}
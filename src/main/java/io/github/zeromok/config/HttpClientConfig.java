@@ -0,0 +1,84 @@
+package io.github.zeromok.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestClientCustomizer;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ReactorClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+
+import io.github.zeromok.client.TracePropagatingExchangeFilter;
+import io.github.zeromok.client.TracePropagatingInterceptor;
+import io.netty.channel.ChannelOption;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/// 다른 서비스를 호출하는 RestClient/WebClient 설정
+/// - 주입받은 RestClient.Builder, WebClient.Builder 로 만든 클라이언트에 모두 적용된다
+/// - 두 클라이언트가 Reactor Netty 연결 풀 하나를 공유한다 (webflux 의존성에 이미 포함, 추가 라이브러리 없음)
+///   → 연결 풀은 대상 host:port 마다 따로 만들어지므로 max-connections-per-host 가 호스트별 상한이 된다
+/// - 나가는 요청에 X-Trace-Id, traceparent 를 붙인다
+@Configuration
+public class HttpClientConfig {
+
+	@Bean(destroyMethod = "dispose")
+	public ConnectionProvider outboundConnectionProvider(
+		@Value("${mdc.client.max-connections-per-host:50}") int maxConnectionsPerHost,
+		@Value("${mdc.client.pending-acquire-max:500}") int pendingAcquireMax,
+		@Value("${mdc.client.pending-acquire-timeout:2s}") Duration pendingAcquireTimeout,
+		@Value("${mdc.client.max-idle-time:30s}") Duration maxIdleTime,
+		@Value("${mdc.client.max-life-time:5m}") Duration maxLifeTime
+	) {
+		return ConnectionProvider.builder("outbound")
+			.maxConnections(maxConnectionsPerHost)
+			.pendingAcquireMaxCount(pendingAcquireMax)
+			.pendingAcquireTimeout(pendingAcquireTimeout)
+			.maxIdleTime(maxIdleTime)
+			.maxLifeTime(maxLifeTime)
+			// 상대 서버가 먼저 끊은 유휴 연결을 요청 전에 정리한다
+			.evictInBackground(maxIdleTime)
+			.lifo()
+			.build();
+	}
+
+	@Bean
+	public HttpClient outboundHttpClient(
+		ConnectionProvider outboundConnectionProvider,
+		@Value("${mdc.client.protocol:http11}") String protocol,
+		@Value("${mdc.client.connect-timeout:1s}") Duration connectTimeout,
+		@Value("${mdc.client.response-timeout:5s}") Duration responseTimeout
+	) {
+		return HttpClient.create(outboundConnectionProvider)
+			.protocol(protocols(protocol))
+			.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int)connectTimeout.toMillis())
+			.option(ChannelOption.SO_KEEPALIVE, true)
+			.responseTimeout(responseTimeout);
+	}
+
+	@Bean
+	public RestClientCustomizer tracePropagatingRestClientCustomizer(HttpClient outboundHttpClient) {
+		return builder -> builder
+			.requestFactory(new ReactorClientHttpRequestFactory(outboundHttpClient))
+			.requestInterceptor(new TracePropagatingInterceptor());
+	}
+
+	@Bean
+	public WebClientCustomizer tracePropagatingWebClientCustomizer(HttpClient outboundHttpClient) {
+		return builder -> builder
+			.clientConnector(new ReactorClientHttpConnector(outboundHttpClient))
+			.filter(new TracePropagatingExchangeFilter());
+	}
+
+	// http11: keep-alive 연결 재사용, h2c: 평문 HTTP/2 (연결 하나에 여러 요청, 상대가 지원하지 않으면 HTTP/1.1)
+	private static HttpProtocol[] protocols(String protocol) {
+		return switch (protocol.toLowerCase()) {
+			case "http11" -> new HttpProtocol[] {HttpProtocol.HTTP11};
+			case "h2c" -> new HttpProtocol[] {HttpProtocol.H2C, HttpProtocol.HTTP11};
+			default -> throw new IllegalArgumentException("지원하지 않는 프로토콜: " + protocol);
+		};
+	}
+}
@@ -1,17 +1,35 @@
 package io.github.zeromok.config;
 
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 
+import ch.qos.logback.classic.LoggerContext;
 import io.github.zeromok.aspect.MdcLoggingAspect;
+import io.github.zeromok.aspect.SpanTimingAspect;
 import io.github.zeromok.filter.MdcLoggingFilter;
+import io.github.zeromok.filter.TraceContextFilter;
 import io.github.zeromok.aspect.ThreadNameLoggingAspect;
 import io.github.zeromok.interceptor.MdcLoggingInterceptor;
+import io.github.zeromok.logging.index.TraceIndexedAppender;
+import io.github.zeromok.logging.index.TraceLogIndex;
+import io.github.zeromok.metrics.RouteLatencyRegistry;
+import io.github.zeromok.trace.TraceIdGenerator;
 
 @Configuration
 public class LoggingConfig {
 
+	// 모든 방식(Aspect, Interceptor, Filter)이 같은 traceId 생성 전략을 공유한다
+	@Bean
+	public TraceIdGenerator traceIdGenerator(
+		@Value("${mdc.trace-id.strategy:random}") String strategy,
+		@Value("${mdc.trace-id.node-id:0}") long nodeId
+	) {
+		return TraceIdGenerator.of(strategy, nodeId);
+	}
+
 	@Bean
 	@Profile("thread-name")
 	public ThreadNameLoggingAspect threadNameLoggingAspect() {
@@ -20,19 +38,45 @@ public class LoggingConfig {
 
 	@Bean
 	@Profile("mdc-aspect")
-	public MdcLoggingAspect mdcLoggingAspect() {
-		return new MdcLoggingAspect();
+	public MdcLoggingAspect mdcLoggingAspect(TraceIdGenerator traceIdGenerator) {
+		return new MdcLoggingAspect(traceIdGenerator);
+	}
+
+	// mdc-filter 와 함께 켜서 계층별 실행 시간을 본다 (mdc-filter,mdc-span)
+	@Bean
+	@Profile("mdc-span")
+	public SpanTimingAspect spanTimingAspect(TraceIdGenerator traceIdGenerator) {
+		return new SpanTimingAspect(traceIdGenerator);
 	}
 
 	@Bean
 	@Profile("mdc-interceptor")
-	public MdcLoggingInterceptor mdcLoggingInterceptor() {
-		return new MdcLoggingInterceptor();
+	public MdcLoggingInterceptor mdcLoggingInterceptor(TraceIdGenerator traceIdGenerator) {
+		return new MdcLoggingInterceptor(traceIdGenerator);
 	}
 
 	@Bean
 	@Profile("mdc-filter")
-	public MdcLoggingFilter mdcLoggingFilter() {
-		return new MdcLoggingFilter();
+	public MdcLoggingFilter mdcLoggingFilter(
+		TraceIdGenerator traceIdGenerator,
+		RouteLatencyRegistry routeLatencyRegistry
+	) {
+		return new MdcLoggingFilter(traceIdGenerator, routeLatencyRegistry);
+	}
+
+	@Bean
+	@Profile("mdc-virtual")
+	public TraceContextFilter traceContextFilter(
+		TraceIdGenerator traceIdGenerator,
+		RouteLatencyRegistry routeLatencyRegistry
+	) {
+		return new TraceContextFilter(traceIdGenerator, routeLatencyRegistry);
+	}
+
+	// trace-index 프로파일: logback-spring.xml 의 TraceIndexedAppender 를 /mdc/logs 조회에 사용
+	@Bean
+	@Profile("trace-index")
+	public TraceLogIndex traceLogIndex() {
+		return TraceIndexedAppender.lookup((LoggerContext)LoggerFactory.getILoggerFactory());
 	}
 }
@@ -0,0 +1,29 @@
+package io.github.zeromok.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.github.zeromok.metrics.LatencySummaryLogger;
+import io.github.zeromok.metrics.RouteLatencyRegistry;
+
+@Configuration
+public class MetricsConfig {
+
+	@Bean
+	public RouteLatencyRegistry routeLatencyRegistry() {
+		return new RouteLatencyRegistry();
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "mdc.metrics.summary-log.enabled", havingValue = "true")
+	public LatencySummaryLogger latencySummaryLogger(
+		RouteLatencyRegistry routeLatencyRegistry,
+		@Value("${mdc.metrics.summary-log.interval:60s}") Duration interval
+	) {
+		return new LatencySummaryLogger(routeLatencyRegistry, interval);
+	}
+}
@@ -0,0 +1,62 @@
+package io.github.zeromok.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import io.github.zeromok.metrics.RouteLatencyRegistry;
+import io.github.zeromok.reactive.ReactiveUserRepository;
+import io.github.zeromok.reactive.ReactiveUserService;
+import io.github.zeromok.reactive.TraceIdWebFilter;
+import io.github.zeromok.reactive.UserHandler;
+import io.github.zeromok.repository.UserStore;
+import io.github.zeromok.security.CredentialVerifier;
+import io.github.zeromok.security.TokenSigner;
+import io.github.zeromok.trace.TraceIdGenerator;
+
+/// WebFlux(mdc-reactive) 전용 빈: 서블릿 방식의 UserController 대신 함수형 라우터로 같은 API 를 제공한다
+@Configuration
+@Profile("mdc-reactive")
+public class ReactiveConfig {
+
+	@Bean
+	@Order(Ordered.HIGHEST_PRECEDENCE)
+	public TraceIdWebFilter traceIdWebFilter(
+		TraceIdGenerator traceIdGenerator,
+		RouteLatencyRegistry routeLatencyRegistry
+	) {
+		return new TraceIdWebFilter(traceIdGenerator, routeLatencyRegistry);
+	}
+
+	@Bean
+	public ReactiveUserRepository reactiveUserRepository(UserStore userStore) {
+		return new ReactiveUserRepository(userStore);
+	}
+
+	@Bean
+	public ReactiveUserService reactiveUserService(
+		ReactiveUserRepository reactiveUserRepository,
+		CredentialVerifier credentialVerifier,
+		TokenSigner tokenSigner
+	) {
+		return new ReactiveUserService(reactiveUserRepository, credentialVerifier, tokenSigner);
+	}
+
+	@Bean
+	public UserHandler userHandler(ReactiveUserService reactiveUserService) {
+		return new UserHandler(reactiveUserService);
+	}
+
+	@Bean
+	public RouterFunction<ServerResponse> userRoutes(UserHandler userHandler) {
+		return RouterFunctions.route()
+			.POST("/mdc/api/users/login", userHandler::login)
+			.GET("/mdc/api/users/{id}", userHandler::getUserById)
+			.build();
+	}
+}
@@ -0,0 +1,60 @@
+package io.github.zeromok.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.github.zeromok.security.CredentialVerifier;
+import io.github.zeromok.security.Pbkdf2PasswordHasher;
+import io.github.zeromok.security.PlainTextPasswordHasher;
+import io.github.zeromok.security.TokenKey;
+import io.github.zeromok.security.TokenSigner;
+import io.github.zeromok.security.TokenVerifier;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Configuration
+public class SecurityConfig {
+
+	/// 기본 PBKDF2, 접두사 없는 기존 평문 값은 로그인 성공 시 PBKDF2 로 교체
+	@Bean
+	public CredentialVerifier credentialVerifier(
+		@Value("${mdc.security.pbkdf2.iterations:310000}") int iterations,
+		@Value("${mdc.security.verify.threads:0}") int threads,
+		@Value("${mdc.security.verify.queue-capacity:1024}") int queueCapacity,
+		@Value("${mdc.security.cache.max-size:10000}") int cacheSize,
+		@Value("${mdc.security.cache.ttl:5m}") Duration cacheTtl
+	) {
+		PlainTextPasswordHasher plainText = new PlainTextPasswordHasher();
+		return new CredentialVerifier(
+			List.of(new Pbkdf2PasswordHasher(iterations), plainText),
+			plainText,
+			threads > 0 ? threads : Runtime.getRuntime().availableProcessors(),
+			queueCapacity,
+			cacheSize,
+			cacheTtl);
+	}
+
+	/// 여러 인스턴스가 토큰을 서로 검증하려면 mdc.security.token.secret 에 같은 키(base64, 32바이트 이상)를 설정한다
+	@Bean
+	public TokenKey tokenKey(@Value("${mdc.security.token.secret:}") String secret) {
+		if (secret.isBlank()) {
+			log.warn("mdc.security.token.secret 미설정: 임의의 키를 사용하므로 재시작하면 기존 토큰은 무효가 됩니다.");
+			return TokenKey.random();
+		}
+		return TokenKey.fromBase64(secret);
+	}
+
+	@Bean
+	public TokenSigner tokenSigner(TokenKey tokenKey, @Value("${mdc.security.token.ttl:1h}") Duration ttl) {
+		return new TokenSigner(tokenKey, ttl);
+	}
+
+	@Bean
+	public TokenVerifier tokenVerifier(TokenKey tokenKey) {
+		return new TokenVerifier(tokenKey);
+	}
+}
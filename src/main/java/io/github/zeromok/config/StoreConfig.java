@@ -0,0 +1,33 @@
+package io.github.zeromok.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import io.github.zeromok.repository.FileBackedUserStore;
+import io.github.zeromok.repository.InMemoryUserStore;
+import io.github.zeromok.repository.UserStore;
+
+@Configuration
+public class StoreConfig {
+
+	/// mdc.store.path 가 있으면 파일 기반 저장소 (재시작 후에도 유지), 없으면 메모리 저장소
+	/// FileBackedUserStore 는 Closeable 이므로 종료 시 close() 가 호출되어 스냅샷을 남긴다
+	@Bean
+	public UserStore userStore(
+		@Value("${mdc.store.path:}") String path,
+		@Value("${mdc.store.segment-size:64MB}") DataSize segmentSize,
+		@Value("${mdc.store.sync-writes:true}") boolean syncWrites,
+		@Value("${mdc.store.compaction-interval:5m}") Duration compactionInterval
+	) {
+		if (path.isBlank()) {
+			return new InMemoryUserStore();
+		}
+		return new FileBackedUserStore(Path.of(path), Math.toIntExact(segmentSize.toBytes()), syncWrites,
+			compactionInterval);
+	}
+}
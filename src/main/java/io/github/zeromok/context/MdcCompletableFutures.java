@@ -0,0 +1,21 @@
+package io.github.zeromok.context;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/// CompletableFuture.supplyAsync / runAsync 의 MDC 전파 버전
+/// 호출한 스레드의 MDC를 캡처해 작업 스레드에서 복원한다
+public final class MdcCompletableFutures {
+
+	private MdcCompletableFutures() {
+	}
+
+	public static <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier, Executor executor) {
+		return CompletableFuture.supplyAsync(MdcContextSnapshot.capture().wrap(supplier), executor);
+	}
+
+	public static CompletableFuture<Void> runAsync(Runnable runnable, Executor executor) {
+		return CompletableFuture.runAsync(MdcContextSnapshot.capture().wrap(runnable), executor);
+	}
+}
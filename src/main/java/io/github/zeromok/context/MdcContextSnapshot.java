@@ -0,0 +1,100 @@
+package io.github.zeromok.context;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+import org.slf4j.MDC;
+
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+
+/// 현재 스레드의 MDC를 한 번 캡처해 다른 스레드에서 복원하기 위한 불변 스냅샷
+/// 문제:
+/// - MDC는 ThreadLocal 이므로 Filter가 넣은 traceId는 톰캣 워커 스레드에만 존재한다
+/// - @Async, CompletableFuture, 스레드 풀로 작업이 넘어가면 traceId가 사라진다
+/// 해결:
+/// - 작업을 넘기는 시점에 capture() 로 MDC를 복사 (요청당 맵 복사 1회)
+/// - 작업 스레드에서 restore() 로 적용하고, 끝나면 이전 상태로 되돌린다
+/// - 스냅샷은 불변이므로 여러 작업에 그대로 공유해도 안전하다
+/// - 어댑터가 읽기 전용 맵(getPropertyMap)을 주면 복사 없이 그대로 들고 있다가 복원한다
+///   (SmallArrayMdcAdapter 는 자기 스냅샷을 setContextMap() 으로 받으면 배열만 채우고 공유한다)
+public final class MdcContextSnapshot {
+
+	private static final MdcContextSnapshot EMPTY = new MdcContextSnapshot(Collections.emptyMap());
+
+	private final Map<String, String> context;
+
+	private MdcContextSnapshot(Map<String, String> context) {
+		this.context = context;
+	}
+
+	public static MdcContextSnapshot capture() {
+		Map<String, String> context = currentContext();
+		return context == null || context.isEmpty() ? EMPTY : new MdcContextSnapshot(context);
+	}
+
+	public Map<String, String> getContext() {
+		return context;
+	}
+
+	public boolean isEmpty() {
+		return context.isEmpty();
+	}
+
+	/// 스냅샷을 현재 스레드에 적용하고, close() 시 적용 이전의 MDC로 되돌린다
+	/// 같은 스레드에서 실행되는 경우(CallerRunsPolicy 등)에도 원래 MDC가 보존된다
+	public Scope restore() {
+		Map<String, String> previous = currentContext();
+		apply(context);
+		return () -> apply(previous);
+	}
+
+	public Runnable wrap(Runnable task) {
+		return () -> {
+			try (Scope ignored = restore()) {
+				task.run();
+			}
+		};
+	}
+
+	public <T> Callable<T> wrap(Callable<T> task) {
+		return () -> {
+			try (Scope ignored = restore()) {
+				return task.call();
+			}
+		};
+	}
+
+	public <T> Supplier<T> wrap(Supplier<T> task) {
+		return () -> {
+			try (Scope ignored = restore()) {
+				return task.get();
+			}
+		};
+	}
+
+	// LogbackMDCAdapter 의 getPropertyMap() 은 다음 쓰기 전까지 바뀌지 않는 읽기 전용 맵이라 그대로 보관한다
+	private static Map<String, String> currentContext() {
+		if (MDC.getMDCAdapter() instanceof LogbackMDCAdapter adapter) {
+			return adapter.getPropertyMap();
+		}
+		Map<String, String> copy = MDC.getCopyOfContextMap();
+		return copy == null ? null : Collections.unmodifiableMap(copy);
+	}
+
+	private static void apply(Map<String, String> context) {
+		if (context == null || context.isEmpty()) {
+			MDC.clear();
+		} else {
+			MDC.setContextMap(context);
+		}
+	}
+
+	/// try-with-resources 용 (checked exception 없음)
+	@FunctionalInterface
+	public interface Scope extends AutoCloseable {
+		@Override
+		void close();
+	}
+}
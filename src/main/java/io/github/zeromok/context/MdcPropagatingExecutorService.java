@@ -0,0 +1,97 @@
+package io.github.zeromok.context;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/// 임의의 ExecutorService를 감싸 제출되는 모든 작업에 MDC를 전파한다
+/// Spring 관리 밖의 스레드 풀(Executors.newFixedThreadPool 등)에 사용한다
+/// invokeAll/invokeAny 처럼 여러 작업을 한 번에 제출해도 스냅샷은 한 번만 캡처한다
+public class MdcPropagatingExecutorService implements ExecutorService {
+
+	private final ExecutorService delegate;
+
+	public MdcPropagatingExecutorService(ExecutorService delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public void execute(Runnable command) {
+		delegate.execute(MdcContextSnapshot.capture().wrap(command));
+	}
+
+	@Override
+	public Future<?> submit(Runnable task) {
+		return delegate.submit(MdcContextSnapshot.capture().wrap(task));
+	}
+
+	@Override
+	public <T> Future<T> submit(Runnable task, T result) {
+		return delegate.submit(MdcContextSnapshot.capture().wrap(task), result);
+	}
+
+	@Override
+	public <T> Future<T> submit(Callable<T> task) {
+		return delegate.submit(MdcContextSnapshot.capture().wrap(task));
+	}
+
+	@Override
+	public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks) throws InterruptedException {
+		return delegate.invokeAll(wrapAll(tasks));
+	}
+
+	@Override
+	public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit)
+		throws InterruptedException {
+		return delegate.invokeAll(wrapAll(tasks), timeout, unit);
+	}
+
+	@Override
+	public <T> T invokeAny(Collection<? extends Callable<T>> tasks)
+		throws InterruptedException, ExecutionException {
+		return delegate.invokeAny(wrapAll(tasks));
+	}
+
+	@Override
+	public <T> T invokeAny(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit)
+		throws InterruptedException, ExecutionException, TimeoutException {
+		return delegate.invokeAny(wrapAll(tasks), timeout, unit);
+	}
+
+	private <T> List<Callable<T>> wrapAll(Collection<? extends Callable<T>> tasks) {
+		MdcContextSnapshot snapshot = MdcContextSnapshot.capture();
+		return tasks.stream()
+			.map(snapshot::wrap)
+			.toList();
+	}
+
+	@Override
+	public void shutdown() {
+		delegate.shutdown();
+	}
+
+	@Override
+	public List<Runnable> shutdownNow() {
+		return delegate.shutdownNow();
+	}
+
+	@Override
+	public boolean isShutdown() {
+		return delegate.isShutdown();
+	}
+
+	@Override
+	public boolean isTerminated() {
+		return delegate.isTerminated();
+	}
+
+	@Override
+	public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+		return delegate.awaitTermination(timeout, unit);
+	}
+}
@@ -0,0 +1,13 @@
+package io.github.zeromok.context;
+
+import org.springframework.core.task.TaskDecorator;
+
+/// Spring TaskExecutor(@Async, ThreadPoolTaskExecutor)에 MDC를 전파한다
+/// 작업을 제출한 스레드에서 decorate()가 호출되므로 여기서 캡처하면 된다
+public class MdcTaskDecorator implements TaskDecorator {
+
+	@Override
+	public Runnable decorate(Runnable runnable) {
+		return MdcContextSnapshot.capture().wrap(runnable);
+	}
+}
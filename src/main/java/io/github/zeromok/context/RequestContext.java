@@ -0,0 +1,91 @@
+package io.github.zeromok.context;
+
+import io.github.zeromok.aspect.SpanStack;
+
+/// 요청 하나의 상태를 타입이 있는 필드로 담는 객체 (Filter/Interceptor 가 요청마다 한 번 만든다)
+/// 문제: traceId, method, uri 는 MDC.put() 으로, 시작 시각은 request.setAttribute("startTime", ...) 로 흩어져
+///       문자열 키로 다시 찾고 (Long) 으로 캐스팅해야 했다
+/// - traceId, method, uri: 불변 TraceContext 로 들고 있고 bind() 시 TraceContextHolder 에도 바인딩한다
+///   → TraceContextMdcAdapter 가 MDC 맵 없이 %X{traceId} 로 보여준다
+/// - startNanos: 요청 시작 시각 (System.nanoTime())
+/// - userId: 인증된 뒤 UserService 가 채운다 (로그의 %X{userId})
+/// - spanStack: mdc-span 프로파일에서 SpanTimingAspect 가 쓰는 span 스택
+/// current() 는 ThreadLocal 조회 한 번이다. 다른 스레드로 넘긴 작업에서는 MdcContextSnapshot 으로 전달된 MDC 값을 쓴다
+public final class RequestContext {
+
+	public static final String USER_ID = "userId";
+	public static final long NO_USER = 0;
+
+	private static final ThreadLocal<RequestContext> CURRENT = new ThreadLocal<>();
+
+	private final TraceContext trace;
+	private final long startNanos;
+	private volatile long userId = NO_USER;
+	private SpanStack spanStack;
+
+	public RequestContext(String traceId, String method, String uri, long startNanos) {
+		this.trace = new TraceContext(traceId, method, uri);
+		this.startNanos = startNanos;
+	}
+
+	public static RequestContext current() {
+		return CURRENT.get();
+	}
+
+	/// context 를 현재 스레드에 바인딩하고, close() 시 이전 값으로 되돌린다
+	public static TraceContextHolder.Scope bind(RequestContext context) {
+		RequestContext previous = CURRENT.get();
+		CURRENT.set(context);
+		TraceContextHolder.Scope trace = TraceContextHolder.bind(context.trace);
+		return () -> {
+			trace.close();
+			if (previous == null) {
+				CURRENT.remove();
+			} else {
+				CURRENT.set(previous);
+			}
+		};
+	}
+
+	public TraceContext trace() {
+		return trace;
+	}
+
+	public String traceId() {
+		return trace.traceId();
+	}
+
+	public String method() {
+		return trace.method();
+	}
+
+	public String uri() {
+		return trace.uri();
+	}
+
+	public long startNanos() {
+		return startNanos;
+	}
+
+	public long elapsedNanos() {
+		return System.nanoTime() - startNanos;
+	}
+
+	/// @return 인증된 사용자 id, 아직 없으면 NO_USER
+	public long userId() {
+		return userId;
+	}
+
+	public void setUserId(long userId) {
+		this.userId = userId;
+	}
+
+	// 요청 스레드에서만 읽고 쓴다
+	public SpanStack spanStack() {
+		return spanStack;
+	}
+
+	public void setSpanStack(SpanStack spanStack) {
+		this.spanStack = spanStack;
+	}
+}
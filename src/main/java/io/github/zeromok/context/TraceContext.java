@@ -0,0 +1,20 @@
+package io.github.zeromok.context;
+
+/// 요청 하나의 추적 정보를 담는 불변 객체
+/// MDC처럼 문자열 키로 맵에 흩어 넣지 않고, 요청 시작 시 한 번 만들어 통째로 바인딩한다
+public record TraceContext(String traceId, String method, String uri) {
+
+	public static final String TRACE_ID = "traceId";
+	public static final String REQUEST_METHOD = "method";
+	public static final String REQUEST_URI = "uri";
+
+	/// MDC 키로 필드를 조회한다 (해당 키가 아니면 null)
+	public String get(String key) {
+		return switch (key) {
+			case TRACE_ID -> traceId;
+			case REQUEST_METHOD -> method;
+			case REQUEST_URI -> uri;
+			default -> null;
+		};
+	}
+}
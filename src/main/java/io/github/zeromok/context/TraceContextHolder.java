@@ -0,0 +1,38 @@
+package io.github.zeromok.context;
+
+/// 현재 스레드에 바인딩된 TraceContext
+/// ScopedValue 대신 ThreadLocal을 쓰는 이유:
+/// - Java 21의 ScopedValue는 아직 preview(JEP 446)라 --enable-preview 없이 쓸 수 없다
+/// - 대신 불변 객체 하나만 담고 bind/close 로 범위를 한정해 ScopedValue와 같은 방식으로 사용한다
+/// - 가상 스레드는 요청마다 새로 만들어지고 재사용되지 않으므로 값이 다른 요청으로 새지 않는다
+/// ScopedValue가 정식 기능이 되면 bind() 내부만 ScopedValue.where(...) 로 바꾸면 된다
+public final class TraceContextHolder {
+
+	private static final ThreadLocal<TraceContext> CURRENT = new ThreadLocal<>();
+
+	private TraceContextHolder() {
+	}
+
+	public static TraceContext current() {
+		return CURRENT.get();
+	}
+
+	/// context를 바인딩하고, close() 시 이전 값으로 되돌린다
+	public static Scope bind(TraceContext context) {
+		TraceContext previous = CURRENT.get();
+		CURRENT.set(context);
+		return () -> {
+			if (previous == null) {
+				CURRENT.remove();
+			} else {
+				CURRENT.set(previous);
+			}
+		};
+	}
+
+	@FunctionalInterface
+	public interface Scope extends AutoCloseable {
+		@Override
+		void close();
+	}
+}
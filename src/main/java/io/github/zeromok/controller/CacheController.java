@@ -0,0 +1,47 @@
+package io.github.zeromok.controller;
+
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.github.zeromok.cache.CacheStats;
+import io.github.zeromok.cache.UserCache;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RestController
+@RequestMapping("/mdc/api/cache")
+public class CacheController {
+
+	private final UserCache userCache;
+
+	public CacheController(UserCache userCache) {
+		this.userCache = userCache;
+	}
+
+	@GetMapping("/stats")
+	public ResponseEntity<Map<String, CacheStats>> stats() {
+		userCache.logStats();
+		return ResponseEntity.ok(Map.of(
+			"byId", userCache.byIdStats(),
+			"byUsername", userCache.byUsernameStats()
+		));
+	}
+
+	@DeleteMapping("/users/{id}")
+	public ResponseEntity<Void> invalidate(@PathVariable Long id) {
+		userCache.invalidate(id);
+		return ResponseEntity.noContent().build();
+	}
+
+	@DeleteMapping
+	public ResponseEntity<Void> invalidateAll() {
+		userCache.invalidateAll();
+		return ResponseEntity.noContent().build();
+	}
+}
@@ -0,0 +1,28 @@
+package io.github.zeromok.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.github.zeromok.metrics.RouteLatencyRegistry;
+import io.github.zeromok.metrics.RouteLatencySummary;
+
+@RestController
+@RequestMapping("/mdc/metrics")
+public class MetricsController {
+
+	private final RouteLatencyRegistry routeLatencyRegistry;
+
+	public MetricsController(RouteLatencyRegistry routeLatencyRegistry) {
+		this.routeLatencyRegistry = routeLatencyRegistry;
+	}
+
+	// 라우트별 p50/p90/p99/p999, 처리량
+	@GetMapping("/latency")
+	public ResponseEntity<List<RouteLatencySummary>> latency() {
+		return ResponseEntity.ok(routeLatencyRegistry.summaries());
+	}
+}
@@ -0,0 +1,56 @@
+package io.github.zeromok.controller;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.github.zeromok.logging.index.TraceLogEntry;
+import io.github.zeromok.logging.index.TraceLogIndex;
+
+/// 장애 대응용 로그 조회 (trace-index 프로파일, TraceIndexedAppender 가 쓴 세그먼트에서 찾는다)
+@RestController
+@Profile("trace-index")
+@RequestMapping("/mdc/logs")
+public class TraceLogController {
+
+	private static final int MAX_LIMIT = 10_000;
+
+	private final TraceLogIndex traceLogIndex;
+
+	public TraceLogController(TraceLogIndex traceLogIndex) {
+		this.traceLogIndex = traceLogIndex;
+	}
+
+	// 요청 하나(traceId)의 모든 로그
+	@GetMapping("/traces/{traceId}")
+	public ResponseEntity<List<TraceLogEntry>> byTraceId(
+		@PathVariable String traceId,
+		@RequestParam(defaultValue = "1000") int limit
+	) {
+		return ResponseEntity.ok(traceLogIndex.findByTraceId(traceId, clamp(limit)));
+	}
+
+	// 시간 범위의 로그 (예: ?from=2025-01-01T00:00:00Z&to=2025-01-01T00:00:05Z)
+	@GetMapping
+	public ResponseEntity<List<TraceLogEntry>> byTime(
+		@RequestParam Instant from,
+		@RequestParam Instant to,
+		@RequestParam(defaultValue = "1000") int limit
+	) {
+		if (from.isAfter(to)) {
+			return ResponseEntity.badRequest().build();
+		}
+		return ResponseEntity.ok(traceLogIndex.findByTime(from, to, clamp(limit)));
+	}
+
+	private static int clamp(int limit) {
+		return Math.max(1, Math.min(limit, MAX_LIMIT));
+	}
+}
@@ -1,28 +1,66 @@
 package io.github.zeromok.controller;
 
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.github.zeromok.context.MdcContextSnapshot;
+import io.github.zeromok.domain.BatchItemResult;
+import io.github.zeromok.domain.BatchLoginRequest;
+import io.github.zeromok.domain.BatchUserRequest;
 import io.github.zeromok.domain.LoginRequest;
 import io.github.zeromok.domain.LoginResponse;
 import io.github.zeromok.domain.User;
+import io.github.zeromok.domain.UserResponse;
+import io.github.zeromok.logging.LazyLogger;
+import io.github.zeromok.service.UserBatchService;
+import io.github.zeromok.service.UserExportService;
 import io.github.zeromok.service.UserService;
-import lombok.extern.slf4j.Slf4j;
 
-@Slf4j
 @RestController
+@Profile("!mdc-reactive")  // mdc-reactive 에서는 ReactiveConfig 의 라우터가 같은 API 를 제공
 @RequestMapping("/mdc/api/users")
 public class UserController {
 
+	private static final LazyLogger log = LazyLogger.getLogger(UserController.class);
+
+	private static final long BATCH_TIMEOUT_MILLIS = 30_000;
+	private static final String BEARER_PREFIX = "Bearer ";
+
 	private final UserService userService;
+	private final UserBatchService userBatchService;
+	private final UserExportService userExportService;
+	private final ObjectMapper objectMapper;
 
-	public UserController(UserService userService) {
+	public UserController(
+		UserService userService,
+		UserBatchService userBatchService,
+		UserExportService userExportService,
+		ObjectMapper objectMapper
+	) {
 		this.userService = userService;
+		this.userBatchService = userBatchService;
+		this.userExportService = userExportService;
+		this.objectMapper = objectMapper;
 	}
 
 	@PostMapping("/login")
@@ -41,17 +79,118 @@ public class UserController {
 	}
 
 	@GetMapping("/{id}")
-	public ResponseEntity<User> getUserById(@PathVariable Long id) {
+	public ResponseEntity<UserResponse> getUserById(@PathVariable Long id) {
 		log.info("유저 정보 요청. for id: {}", id);
 
 		try {
 			User user = userService.getUserById(id);
 			log.info("유저 정보 검색 완료. 이름: {}", user.getUsername());
-			return ResponseEntity.ok(user);
+			return ResponseEntity.ok(UserResponse.from(user));
 
 		} catch (Exception e) {
 			log.error("유저를 찾을 수 없습니다. with id: {}", id, e);
 			return ResponseEntity.notFound().build();
 		}
 	}
+
+	// 로그인 토큰(Authorization: Bearer ...)으로 내 정보 조회
+	@GetMapping("/me")
+	public ResponseEntity<UserResponse> me(
+		@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization
+	) {
+		log.info("내 정보 요청");
+
+		if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+			log.warn("인증 헤더 없음");
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+		}
+
+		try {
+			User user = userService.getUserByToken(authorization.substring(BEARER_PREFIX.length()));
+			log.info("내 정보 조회 완료. 이름: {}", user.getUsername());
+			return ResponseEntity.ok(UserResponse.from(user));
+
+		} catch (Exception e) {
+			log.error("내 정보 조회 실패.", e);
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+		}
+	}
+
+	// 전체 사용자를 NDJSON 으로 스트리밍 (사용자 수와 관계없이 힙 사용량 일정)
+	@GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> export() {
+		log.info("사용자 내보내기 요청");
+
+		// 본문은 MVC 비동기 스레드에서 쓰이므로 요청 스레드의 MDC(traceId)를 넘겨준다
+		MdcContextSnapshot snapshot = MdcContextSnapshot.capture();
+		StreamingResponseBody body = out -> {
+			try (MdcContextSnapshot.Scope ignored = snapshot.restore()) {
+				userExportService.export(out);
+			}
+		};
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+	}
+
+	// 여러 id 를 병렬로 조회하고, 끝나는 순서대로 NDJSON 한 줄씩 내려준다
+	@PostMapping(value = "/batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<ResponseBodyEmitter> getUsers(@RequestBody BatchUserRequest request) {
+		List<Long> ids = request.getIds();
+		if (!isValidBatch(ids, userBatchService.getMaxBatchSize())) {
+			return ResponseEntity.badRequest().build();
+		}
+		log.info("유저 일괄 조회 요청. count: {}", ids.size());
+
+		ResponseBodyEmitter emitter = new ResponseBodyEmitter(BATCH_TIMEOUT_MILLIS);
+		stream(emitter, userBatchService.findUsers(ids, sender(emitter)));
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(emitter);
+	}
+
+	@PostMapping(value = "/batch/login", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<ResponseBodyEmitter> loginAll(@RequestBody BatchLoginRequest request) {
+		List<LoginRequest> requests = request.getRequests();
+		// 항목마다 해시를 계산하므로 조회보다 작은 상한을 쓴다
+		if (!isValidBatch(requests, userBatchService.getMaxLoginBatchSize())) {
+			return ResponseEntity.badRequest().build();
+		}
+		log.info("일괄 로그인 요청. count: {}", requests.size());
+
+		ResponseBodyEmitter emitter = new ResponseBodyEmitter(BATCH_TIMEOUT_MILLIS);
+		stream(emitter, userBatchService.authenticateAll(requests, sender(emitter)));
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(emitter);
+	}
+
+	private static boolean isValidBatch(List<?> items, int maxSize) {
+		return items != null && !items.isEmpty() && items.size() <= maxSize;
+	}
+
+	// 여러 작업 스레드가 동시에 호출하므로 한 줄 단위로 직렬화해서 보낸다
+	private <T> Consumer<BatchItemResult<T>> sender(ResponseBodyEmitter emitter) {
+		return result -> {
+			try {
+				String line = objectMapper.writeValueAsString(result) + "\n";
+				synchronized (emitter) {
+					emitter.send(line, MediaType.APPLICATION_NDJSON);
+				}
+			} catch (JsonProcessingException e) {
+				log.error("배치 결과 직렬화 실패. index: {}", result.index(), e);
+			} catch (IOException | IllegalStateException e) {
+				// 클라이언트 연결 종료 등: 남은 결과는 버린다
+				log.warn("배치 결과 전송 실패. index: {}, error: {}", result.index(), e.getMessage());
+			}
+		};
+	}
+
+	private void stream(ResponseBodyEmitter emitter, CompletableFuture<Void> completion) {
+		// 응답이 먼저 끝나면(시간 초과, 연결 종료) 남은 항목을 취소한다, 정상 완료 후에는 아무 일도 하지 않는다
+		emitter.onTimeout(() -> completion.cancel(false));
+		emitter.onError(error -> completion.cancel(false));
+		emitter.onCompletion(() -> completion.cancel(false));
+		completion.whenComplete((ignored, error) -> {
+			if (error == null) {
+				emitter.complete();
+			} else {
+				emitter.completeWithError(error);
+			}
+		});
+	}
 }
@@ -0,0 +1,15 @@
+package io.github.zeromok.domain;
+
+/// 배치 요청의 항목 하나에 대한 결과 (NDJSON 한 줄)
+/// - index: 요청 목록에서의 위치 (완료 순서대로 전송되므로 순서 복원용)
+/// - traceId: 항목별 자식 traceId (부모 traceId + "." + 순번)
+public record BatchItemResult<T>(int index, String traceId, T result, String error) {
+
+	public static <T> BatchItemResult<T> success(int index, String traceId, T result) {
+		return new BatchItemResult<>(index, traceId, result, null);
+	}
+
+	public static <T> BatchItemResult<T> failure(int index, String traceId, String error) {
+		return new BatchItemResult<>(index, traceId, null, error);
+	}
+}
@@ -0,0 +1,15 @@
+package io.github.zeromok.domain;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@NoArgsConstructor
+@Getter @Setter
+@ToString
+public class BatchUserRequest {
+	private List<Long> ids;
+}
@@ -0,0 +1,10 @@
+package io.github.zeromok.domain;
+
+/// API 로 내려주는 사용자 정보 (비밀번호 해시는 포함하지 않는다)
+/// 필드는 내보내기(UserExportService) 한 줄과 같다
+public record UserResponse(Long id, String username, String email) {
+
+	public static UserResponse from(User user) {
+		return new UserResponse(user.getId(), user.getUsername(), user.getEmail());
+	}
+}
@@ -1,29 +1,42 @@
 package io.github.zeromok.filter;
 
 import java.io.IOException;
-import java.util.UUID;
-
 import org.slf4j.MDC;
 import org.springframework.context.annotation.Profile;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
 
+import io.github.zeromok.context.RequestContext;
+import io.github.zeromok.context.TraceContext;
+import io.github.zeromok.context.TraceContextHolder;
+import io.github.zeromok.logging.mdc.TraceContextMdcAdapter;
+import io.github.zeromok.logging.sampling.TraceSampling;
+import io.github.zeromok.metrics.RouteLatencyRegistry;
+import io.github.zeromok.trace.TraceIdGenerator;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 
+/// 요청마다 RequestContext 를 만들어 바인딩하는 Filter (기본 프로파일 mdc-filter)
+/// traceId, method, uri, 시작 시각을 MDC 문자열 키 대신 RequestContext 필드로 들고,
+/// 로그의 %X{traceId} 는 TraceContextMdcAdapter 가 바인딩된 컨텍스트에서 바로 읽는다 (요청마다 MDC 맵을 만들지 않음)
 @Slf4j
 @Profile("mdc-filter")
 @Order(Ordered.HIGHEST_PRECEDENCE)
 public class MdcLoggingFilter extends OncePerRequestFilter {
 
-	private static final String TRACE_ID = "traceId";
-	private static final String REQUEST_METHOD = "method";
-	private static final String REQUEST_URI = "uri";
+	private final TraceIdGenerator traceIdGenerator;
+	private final RouteLatencyRegistry routeLatencyRegistry;
+
+	public MdcLoggingFilter(TraceIdGenerator traceIdGenerator, RouteLatencyRegistry routeLatencyRegistry) {
+		this.traceIdGenerator = traceIdGenerator;
+		this.routeLatencyRegistry = routeLatencyRegistry;
+	}
 
 	@Override
 	protected void doFilterInternal(
@@ -35,34 +48,62 @@ public class MdcLoggingFilter extends OncePerRequestFilter {
 		// 1. traceId 생성 (기존 헤더가 있으면 재사용)
 		String traceId = request.getHeader("X-Trace-Id");
 		if (traceId == null || traceId.isEmpty()) {
-			traceId = UUID.randomUUID().toString().substring(0, 8);
+			traceId = traceIdGenerator.generate();
 		}
 
-		// 2. MDC에 컨텍스트 정보 저장
-		MDC.put(TRACE_ID, traceId);
-		MDC.put(REQUEST_METHOD, request.getMethod());
-		MDC.put(REQUEST_URI, request.getRequestURI());
-
-		// 3. 요청 시작 로그
-		log.info("Request started - {} {}", request.getMethod(), request.getRequestURI());
-
-		long startTime = System.currentTimeMillis();
+		// 2. 요청 컨텍스트를 한 번 만들어 바인딩 (MDC.put 대신)
+		RequestContext context = new RequestContext(traceId, request.getMethod(), request.getRequestURI(),
+			System.nanoTime());
+		TraceContextHolder.Scope scope = RequestContext.bind(context);
+		if (!(MDC.getMDCAdapter() instanceof TraceContextMdcAdapter)) {
+			// slf4j.provider 설정 없이 실행된 경우: 일반 MDC로 대체
+			MDC.put(TraceContext.TRACE_ID, traceId);
+			MDC.put(TraceContext.REQUEST_METHOD, context.method());
+			MDC.put(TraceContext.REQUEST_URI, context.uri());
+		}
 
 		try {
-			// 4. 다음 필터 체인 실행
-			// 이후 실행되는 모든 코드(Controller, Service, Repository)는
-			// 같은 스레드에서 실행되므로 동일한 MDC를 공유한다
-			filterChain.doFilter(request, response);
+			// 3. tail sampling 버퍼 시작 (tail-sampling 프로파일이 아니면 아무 일도 하지 않음) + 요청 시작 로그
+			TraceSampling.Trace sampling = TraceSampling.begin(traceId);
+			log.info("Request started - {} {}", context.method(), context.uri());
 
-		} finally {
-			// 5. 요청 종료 로그
-			long duration = System.currentTimeMillis() - startTime;
-			log.info("Request completed - status: {}, duration: {}ms",
-				response.getStatus(), duration);
+			try {
+				// 4. 다음 필터 체인 실행
+				// 이후 실행되는 모든 코드(Controller, Service, Repository)는
+				// 같은 스레드에서 실행되므로 동일한 RequestContext 를 공유한다
+				filterChain.doFilter(request, response);
 
-			// 6. MDC 정리 (요청당 딱 한 번)
+			} finally {
+				// 5. 지연 시간 기록 (라우트 템플릿 기준) + 요청 종료 로그
+				// 6. 이 요청의 로그를 남길지 결정 (실패, 느림, 샘플링)
+				// 비동기로 넘어간 요청(/export, /batch)은 응답이 끝났을 때 기록하고 결정한다
+				// → 그 사이 작업 스레드가 남긴 로그도 같은 버퍼에 들어가고, 최종 상태 코드로 판단한다
+				RequestCompletion.whenComplete(request, () -> complete(context, request, response, sampling));
+			}
+		} finally {
+			// 7. 컨텍스트 해제 + MDC 정리 (요청당 딱 한 번)
 			// 스레드 풀에서 재사용되는 스레드이므로 반드시 정리해야 함
+			scope.close();
 			MDC.clear();
 		}
 	}
+
+	// 비동기 완료는 다른 컨테이너 스레드에서 호출되므로 컨텍스트를 다시 바인딩해 종료 로그에 traceId 를 남긴다
+	private void complete(RequestContext context, HttpServletRequest request, HttpServletResponse response,
+		TraceSampling.Trace sampling) {
+		try (TraceContextHolder.Scope ignored = RequestContext.bind(context)) {
+			long durationNanos = context.elapsedNanos();
+			recordLatency(request, response, durationNanos);
+			log.info("Request completed - status: {}, duration: {}ms",
+				response.getStatus(), durationNanos / 1_000_000);
+			sampling.end(response.getStatus(), durationNanos);
+		}
+	}
+
+	// 실제 URI(/users/1) 대신 매칭된 템플릿(/users/{id})으로 집계해 라우트 수가 늘어나지 않게 한다
+	private void recordLatency(HttpServletRequest request, HttpServletResponse response, long durationNanos) {
+		Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		routeLatencyRegistry.record(request.getMethod(), route instanceof String pattern ? pattern : null,
+			response.getStatus(), durationNanos);
+	}
 }
@@ -0,0 +1,43 @@
+package io.github.zeromok.filter;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.http.HttpServletRequest;
+
+/// 요청이 실제로 끝난 시점에 한 번 실행한다
+/// OncePerRequestFilter 는 ASYNC 디스패치를 거르므로, 비동기로 넘어간 요청(StreamingResponseBody, ResponseBodyEmitter)은
+/// Filter 의 finally 가 핸들러가 반환한 시점에 실행된다 → 그때의 상태 코드와 지연 시간은 응답이 끝나기 전 값이다
+/// - 동기 요청: 바로 실행
+/// - 비동기 요청: AsyncListener.onComplete 에서 실행 (타임아웃, 오류도 마지막에는 onComplete 로 끝난다)
+final class RequestCompletion {
+
+	private RequestCompletion() {
+	}
+
+	static void whenComplete(HttpServletRequest request, Runnable action) {
+		if (!request.isAsyncStarted()) {
+			action.run();
+			return;
+		}
+		request.getAsyncContext().addListener(new AsyncListener() {
+			@Override
+			public void onComplete(AsyncEvent event) {
+				action.run();
+			}
+
+			@Override
+			public void onTimeout(AsyncEvent event) {
+			}
+
+			@Override
+			public void onError(AsyncEvent event) {
+			}
+
+			// 같은 요청에서 startAsync() 가 다시 호출되면 리스너가 빠지므로 다시 등록한다
+			@Override
+			public void onStartAsync(AsyncEvent event) {
+				event.getAsyncContext().addListener(this);
+			}
+		});
+	}
+}
@@ -0,0 +1,105 @@
+package io.github.zeromok.filter;
+
+import java.io.IOException;
+
+import org.slf4j.MDC;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.github.zeromok.context.TraceContext;
+import io.github.zeromok.context.TraceContextHolder;
+import io.github.zeromok.logging.mdc.TraceContextMdcAdapter;
+import io.github.zeromok.logging.sampling.TraceSampling;
+import io.github.zeromok.metrics.RouteLatencyRegistry;
+import io.github.zeromok.trace.TraceIdGenerator;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/// 가상 스레드 모드: 요청을 가상 스레드에서 처리하고 추적 정보는 TraceContext 하나로 전달한다
+/// MdcLoggingFilter와의 차이:
+/// 1. MDC.put() 3번 대신 불변 TraceContext 하나를 바인딩한다
+/// 2. TraceContextMdcAdapter가 로그 출력 시점에 TraceContext를 MDC처럼 보여준다
+/// 3. UserRepository의 Thread.sleep() 동안 가상 스레드는 캐리어 스레드를 반납하므로
+///    톰캣 스레드 풀 크기(기본 200)에 묶이지 않고 동시 요청을 처리할 수 있다
+@Slf4j
+@Profile("mdc-virtual")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TraceContextFilter extends OncePerRequestFilter {
+
+	private final TraceIdGenerator traceIdGenerator;
+	private final RouteLatencyRegistry routeLatencyRegistry;
+
+	public TraceContextFilter(TraceIdGenerator traceIdGenerator, RouteLatencyRegistry routeLatencyRegistry) {
+		this.traceIdGenerator = traceIdGenerator;
+		this.routeLatencyRegistry = routeLatencyRegistry;
+	}
+
+	@Override
+	protected void doFilterInternal(
+		HttpServletRequest request,
+		HttpServletResponse response,
+		FilterChain filterChain
+	) throws ServletException, IOException {
+
+		// 1. traceId 생성 (기존 헤더가 있으면 재사용)
+		String traceId = request.getHeader("X-Trace-Id");
+		if (traceId == null || traceId.isEmpty()) {
+			traceId = traceIdGenerator.generate();
+		}
+
+		// 2. 요청 컨텍스트를 한 번에 바인딩
+		TraceContext context = new TraceContext(traceId, request.getMethod(), request.getRequestURI());
+		boolean bridged = MDC.getMDCAdapter() instanceof TraceContextMdcAdapter;
+
+		try (TraceContextHolder.Scope ignored = TraceContextHolder.bind(context)) {
+			if (!bridged) {
+				// slf4j.provider 설정 없이 실행된 경우: 일반 MDC로 대체
+				MDC.put(TraceContext.TRACE_ID, context.traceId());
+				MDC.put(TraceContext.REQUEST_METHOD, context.method());
+				MDC.put(TraceContext.REQUEST_URI, context.uri());
+			}
+
+			TraceSampling.Trace sampling = TraceSampling.begin(traceId);
+			log.info("Request started - {} {} (virtual: {})",
+				request.getMethod(), request.getRequestURI(), Thread.currentThread().isVirtual());
+
+			long startTime = System.nanoTime();
+			try {
+				filterChain.doFilter(request, response);
+			} finally {
+				// 비동기로 넘어간 요청(/export, /batch)은 응답이 끝났을 때 기록하고 샘플링을 결정한다
+				RequestCompletion.whenComplete(request,
+					() -> complete(context, request, response, startTime, sampling));
+			}
+		} finally {
+			if (!bridged) {
+				MDC.clear();
+			}
+		}
+	}
+
+	// 비동기 완료는 다른 컨테이너 스레드에서 호출되므로 컨텍스트를 다시 바인딩해 종료 로그에 traceId 를 남긴다
+	private void complete(TraceContext context, HttpServletRequest request, HttpServletResponse response,
+		long startTime, TraceSampling.Trace sampling) {
+		try (TraceContextHolder.Scope ignored = TraceContextHolder.bind(context)) {
+			long durationNanos = System.nanoTime() - startTime;
+			recordLatency(request, response, durationNanos);
+			log.info("Request completed - status: {}, duration: {}ms",
+				response.getStatus(), durationNanos / 1_000_000);
+			sampling.end(response.getStatus(), durationNanos);
+		}
+	}
+
+	// 실제 URI(/users/1) 대신 매칭된 템플릿(/users/{id})으로 집계해 라우트 수가 늘어나지 않게 한다
+	private void recordLatency(HttpServletRequest request, HttpServletResponse response, long durationNanos) {
+		Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		routeLatencyRegistry.record(request.getMethod(), route instanceof String pattern ? pattern : null,
+			response.getStatus(), durationNanos);
+	}
+}
@@ -1,45 +1,58 @@
 package io.github.zeromok.interceptor;
 
-import java.util.UUID;
-
 import org.slf4j.MDC;
 import org.springframework.stereotype.Component;
-import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
 import org.springframework.web.servlet.ModelAndView;
 
+import io.github.zeromok.context.RequestContext;
+import io.github.zeromok.context.TraceContext;
+import io.github.zeromok.context.TraceContextHolder;
+import io.github.zeromok.logging.mdc.TraceContextMdcAdapter;
+import io.github.zeromok.trace.TraceIdGenerator;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 
 @Component
 @Slf4j
-public class MdcLoggingInterceptor implements HandlerInterceptor {
+public class MdcLoggingInterceptor implements AsyncHandlerInterceptor {
+
+	// preHandle 에서 바인딩한 RequestContext 를 afterCompletion 에서 해제하기 위한 속성
+	private static final String SCOPE = MdcLoggingInterceptor.class.getName() + ".scope";
+	// 비동기 처리(StreamingResponseBody, ResponseBodyEmitter) 후 ASYNC 디스패치에서 같은 컨텍스트를 다시 쓰기 위한 속성
+	private static final String CONTEXT = MdcLoggingInterceptor.class.getName() + ".context";
 
-	private static final String TRACE_ID = "traceId";
-	private static final String REQUEST_METHOD = "method";
-	private static final String REQUEST_URI = "uri";
-	private static final String START_TIME = "startTime";
+	private final TraceIdGenerator traceIdGenerator;
+
+	public MdcLoggingInterceptor(TraceIdGenerator traceIdGenerator) {
+		this.traceIdGenerator = traceIdGenerator;
+	}
 
 	// Controller 실행 전
 	@Override
 	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws
 		Exception {
 
+		// ASYNC 디스패치: 처음 요청에서 만든 컨텍스트를 다시 바인딩한다
+		if (request.getAttribute(CONTEXT) instanceof RequestContext started) {
+			bind(request, started);
+			return true;
+		}
+
 		// 1. traceId 생성
 		String traceId = request.getHeader("X-Trace-Id");
 		if (traceId == null || traceId.isEmpty()) {
-			traceId = UUID.randomUUID().toString().substring(0, 8);
+			traceId = traceIdGenerator.generate();
 		}
 
-		// 2. MDC 설정
-		MDC.put(TRACE_ID, traceId);
-		MDC.put(REQUEST_METHOD, request.getMethod());
-		MDC.put(REQUEST_URI, request.getRequestURI());
+		// 2. 요청 컨텍스트(traceId, method, uri, 시작 시각)를 한 번 만들어 바인딩
+		RequestContext context = new RequestContext(traceId, request.getMethod(), request.getRequestURI(),
+			System.nanoTime());
+		request.setAttribute(CONTEXT, context);
+		bind(request, context);
 
-		// 3. 요청 시작 시간 저장
-		request.setAttribute(START_TIME, System.currentTimeMillis());
-
-		log.info("Request started - {} {}", request.getMethod(), request.getRequestURI());
+		log.info("Request started - {} {}", context.method(), context.uri());
 
 		return true;
 	}
@@ -58,10 +71,10 @@ public class MdcLoggingInterceptor implements HandlerInterceptor {
 		Exception ex) throws Exception {
 		try {
 			// 요청 처리 시간 계산
-			Long startTime = (Long)request.getAttribute(START_TIME);
+			RequestContext context = RequestContext.current();
 
-			if (startTime != null) {
-				long duration = System.currentTimeMillis() - startTime;
+			if (context != null) {
+				long duration = context.elapsedNanos() / 1_000_000;
 				log.info("Request completed  - status: {}, duration: {}ms", response.getStatus(), duration);
 			}
 
@@ -70,8 +83,35 @@ public class MdcLoggingInterceptor implements HandlerInterceptor {
 				log.error("Request failed exception: ", ex);
 			}
 		} finally {
-			// MDC 정리
-			MDC.clear();
+			request.removeAttribute(CONTEXT);
+			unbind(request);
+		}
+	}
+
+	// 비동기 핸들러는 afterCompletion 대신 이 메서드가 요청 스레드에서 호출된다
+	// 여기서 해제하지 않으면 컨테이너 스레드에 RequestContext 가 남아 다음 요청이 이전 값을 복원한다
+	@Override
+	public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+		Object handler) {
+		unbind(request);
+	}
+
+	private static void bind(HttpServletRequest request, RequestContext context) {
+		request.setAttribute(SCOPE, RequestContext.bind(context));
+		if (!(MDC.getMDCAdapter() instanceof TraceContextMdcAdapter)) {
+			// slf4j.provider 설정 없이 실행된 경우: 일반 MDC로 대체
+			MDC.put(TraceContext.TRACE_ID, context.traceId());
+			MDC.put(TraceContext.REQUEST_METHOD, context.method());
+			MDC.put(TraceContext.REQUEST_URI, context.uri());
+		}
+	}
+
+	// 컨텍스트 해제 + MDC 정리
+	private static void unbind(HttpServletRequest request) {
+		if (request.getAttribute(SCOPE) instanceof TraceContextHolder.Scope scope) {
+			request.removeAttribute(SCOPE);
+			scope.close();
 		}
+		MDC.clear();
 	}
 }
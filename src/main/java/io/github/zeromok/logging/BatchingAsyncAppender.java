@@ -0,0 +1,318 @@
+package io.github.zeromok.logging;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+
+/// 요청 스레드와 로그 출력(I/O)을 분리하는 비동기 Appender
+/// 동작 방식:
+/// 1. 요청 스레드는 이벤트의 MDC(traceId, method, uri)를 캡처한 뒤 bounded 큐에 넣고 바로 돌아간다
+/// 2. 단일 소비자 스레드가 큐에서 batchSize 만큼 꺼내 하위 Appender(CONSOLE, FILE 등)에 전달한다
+/// 3. 배치가 끝날 때만 하위 Appender를 flush 하므로 이벤트마다 write/flush 하지 않는다
+/// MDC 캡처가 중요한 이유:
+/// - Filter의 finally 블록에서 MDC.clear()가 호출된 뒤에 소비자 스레드가 이벤트를 처리한다
+/// - 큐에 넣는 시점에 MDC를 복사해두지 않으면 traceId가 비어 있거나 다른 요청의 값이 찍힌다
+/// 메시지 포맷은 소비자 스레드에서 한다 (deferFormatting, DeferredFormatting 참고)
+/// 큐가 가득 찼을 때의 정책(OverflowPolicy):
+/// - BLOCK: 자리가 날 때까지 요청 스레드가 기다린다 (유실 없음, 기다리는 중에 stop() 되면 버리고 돌아간다)
+/// - DROP_DEBUG: 남은 공간이 discardingThreshold 이하가 되면 TRACE/DEBUG를 버리고, 가득 차면 INFO도 버린다
+///   (기본값, logback-spring.xml 의 logging.async.overflow-policy 기본값과 같다)
+/// - SAMPLE: 남은 공간이 discardingThreshold 이하가 되면 INFO 이하는 sampleRate 개 중 1개만 남긴다
+/// 어떤 정책이든 WARN/ERROR는 버리지 않는다
+public class BatchingAsyncAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+	implements AppenderAttachable<ILoggingEvent> {
+
+	public enum OverflowPolicy {
+		BLOCK, DROP_DEBUG, SAMPLE
+	}
+
+	private static final int UNDEFINED = -1;
+	private static final long POLL_INTERVAL_MILLIS = 100;
+
+	private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+	private final LongAdder droppedCount = new LongAdder();
+	private final AtomicLong sampleCounter = new AtomicLong();
+
+	private int queueSize = 8192;
+	private int batchSize = 256;
+	private int discardingThreshold = UNDEFINED;
+	private int sampleRate = 10;
+	private int maxFlushTime = 1000;
+	private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_DEBUG;
+	private boolean deferFormatting = true;
+
+	private BlockingQueue<ILoggingEvent> queue;
+	private Thread worker;
+
+	@Override
+	public void start() {
+		if (isStarted()) {
+			return;
+		}
+		if (queueSize < 1 || batchSize < 1) {
+			addError("queueSize, batchSize는 1 이상이어야 합니다. queueSize: " + queueSize + ", batchSize: " + batchSize);
+			return;
+		}
+		if (sampleRate < 1) {
+			addError("sampleRate는 1 이상이어야 합니다: " + sampleRate);
+			return;
+		}
+		if (discardingThreshold == UNDEFINED) {
+			discardingThreshold = queueSize / 5;
+		}
+
+		queue = new ArrayBlockingQueue<>(queueSize);
+		worker = new Thread(this::drainLoop, "log-batch-" + getName());
+		worker.setDaemon(true);
+
+		super.start();
+		worker.start();
+		addInfo("BatchingAsyncAppender 시작. queueSize: " + queueSize + ", batchSize: " + batchSize
+			+ ", overflowPolicy: " + overflowPolicy);
+	}
+
+	@Override
+	public void stop() {
+		if (!isStarted()) {
+			return;
+		}
+		super.stop();
+
+		// 소비자 스레드는 started=false 를 확인하면 남은 이벤트를 마저 흘려보내고 종료한다
+		// 인터럽트를 쓰지 않는 이유: 하위 Appender가 FileChannel 을 쓰면 인터럽트로 채널이 닫힌다
+		try {
+			worker.join(maxFlushTime);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if (worker.isAlive()) {
+			addWarn("maxFlushTime(" + maxFlushTime + "ms) 안에 큐를 비우지 못함. 남은 이벤트: " + queue.size());
+		}
+
+		appenders.detachAndStopAllAppenders();
+	}
+
+	@Override
+	protected void append(ILoggingEvent event) {
+		// MDC, 스레드 이름을 지금 캡처한다 (MDC.clear() 이후에 처리되므로)
+		// 버려질 수도 있는 이벤트의 메시지 포맷은 소비자 스레드로 미룬다
+		if (deferFormatting) {
+			DeferredFormatting.prepare(event);
+		} else {
+			event.prepareForDeferredProcessing();
+		}
+
+		if (shouldDiscard(event)) {
+			droppedCount.increment();
+			return;
+		}
+
+		if (overflowPolicy == OverflowPolicy.BLOCK || event.getLevel().isGreaterOrEqual(Level.WARN)) {
+			putUntilStopped(event);
+		} else if (!queue.offer(event)) {
+			droppedCount.increment();
+		}
+	}
+
+	private boolean shouldDiscard(ILoggingEvent event) {
+		if (overflowPolicy == OverflowPolicy.BLOCK || queue.remainingCapacity() > discardingThreshold) {
+			return false;
+		}
+		int level = event.getLevel().toInt();
+		return switch (overflowPolicy) {
+			case DROP_DEBUG -> level <= Level.DEBUG_INT;
+			case SAMPLE -> level <= Level.INFO_INT && sampleCounter.incrementAndGet() % sampleRate != 0;
+			case BLOCK -> false;
+		};
+	}
+
+	// 자리가 날 때까지 기다리되 POLL_INTERVAL_MILLIS 마다 started 를 다시 확인한다
+	// put() 으로 기다리면 stop() 후 소비자가 끝난 뒤에도 요청 스레드가 영원히 막힌다
+	private void putUntilStopped(ILoggingEvent event) {
+		boolean interrupted = false;
+		try {
+			while (isStarted()) {
+				try {
+					if (queue.offer(event, POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+						return;
+					}
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+			droppedCount.increment();
+		} finally {
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private void drainLoop() {
+		List<ILoggingEvent> batch = new ArrayList<>(batchSize);
+		while (isStarted()) {
+			ILoggingEvent first;
+			try {
+				first = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				break;
+			}
+			if (first == null) {
+				continue;
+			}
+			batch.add(first);
+			queue.drainTo(batch, batchSize - 1);
+			dispatch(batch);
+		}
+
+		// 종료 시 남아있는 이벤트 처리
+		while (queue.drainTo(batch, batchSize) > 0) {
+			dispatch(batch);
+		}
+	}
+
+	private void dispatch(List<ILoggingEvent> batch) {
+		for (ILoggingEvent event : batch) {
+			appenders.appendLoopOnAppenders(event);
+		}
+		batch.clear();
+		flushAppenders();
+	}
+
+	// immediateFlush=false 로 설정된 하위 Appender는 배치 단위로 flush 한다
+	private void flushAppenders() {
+		Iterator<Appender<ILoggingEvent>> iterator = appenders.iteratorForAppenders();
+		while (iterator.hasNext()) {
+			Appender<ILoggingEvent> appender = iterator.next();
+			if (appender instanceof OutputStreamAppender<ILoggingEvent> outputStreamAppender
+				&& !outputStreamAppender.isImmediateFlush()
+				&& outputStreamAppender.getOutputStream() != null) {
+				try {
+					outputStreamAppender.getOutputStream().flush();
+				} catch (IOException e) {
+					addError("Appender flush 실패: " + appender.getName(), e);
+				}
+			}
+		}
+	}
+
+	// 모니터링용 지표
+	public long getDroppedCount() {
+		return droppedCount.sum();
+	}
+
+	public int getQueueDepth() {
+		return queue == null ? 0 : queue.size();
+	}
+
+	public int getRemainingCapacity() {
+		return queue == null ? 0 : queue.remainingCapacity();
+	}
+
+	// logback 설정(XML)에서 주입되는 값들
+	public int getQueueSize() {
+		return queueSize;
+	}
+
+	public void setQueueSize(int queueSize) {
+		this.queueSize = queueSize;
+	}
+
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	public int getDiscardingThreshold() {
+		return discardingThreshold;
+	}
+
+	public void setDiscardingThreshold(int discardingThreshold) {
+		this.discardingThreshold = discardingThreshold;
+	}
+
+	public int getSampleRate() {
+		return sampleRate;
+	}
+
+	public void setSampleRate(int sampleRate) {
+		this.sampleRate = sampleRate;
+	}
+
+	public int getMaxFlushTime() {
+		return maxFlushTime;
+	}
+
+	public void setMaxFlushTime(int maxFlushTime) {
+		this.maxFlushTime = maxFlushTime;
+	}
+
+	public OverflowPolicy getOverflowPolicy() {
+		return overflowPolicy;
+	}
+
+	public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+		this.overflowPolicy = overflowPolicy;
+	}
+
+	public boolean isDeferFormatting() {
+		return deferFormatting;
+	}
+
+	public void setDeferFormatting(boolean deferFormatting) {
+		this.deferFormatting = deferFormatting;
+	}
+
+	// AppenderAttachable: <appender-ref> 로 하위 Appender를 연결한다
+	@Override
+	public void addAppender(Appender<ILoggingEvent> newAppender) {
+		appenders.addAppender(newAppender);
+	}
+
+	@Override
+	public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+		return appenders.iteratorForAppenders();
+	}
+
+	@Override
+	public Appender<ILoggingEvent> getAppender(String name) {
+		return appenders.getAppender(name);
+	}
+
+	@Override
+	public boolean isAttached(Appender<ILoggingEvent> appender) {
+		return appenders.isAttached(appender);
+	}
+
+	@Override
+	public void detachAndStopAllAppenders() {
+		appenders.detachAndStopAllAppenders();
+	}
+
+	@Override
+	public boolean detachAppender(Appender<ILoggingEvent> appender) {
+		return appenders.detachAppender(appender);
+	}
+
+	@Override
+	public boolean detachAppender(String name) {
+		return appenders.detachAppender(name);
+	}
+}
@@ -0,0 +1,58 @@
+package io.github.zeromok.logging;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+
+/// 비동기 Appender 에 넘기기 전에 요청 스레드에서 캡처할 것만 캡처한다
+/// logback 의 prepareForDeferredProcessing() 은 메시지 포맷까지 요청 스레드에서 하지만,
+/// 포맷은 "사용자 인증: {}" 와 인자로 언제든 다시 만들 수 있으므로 소비자 스레드로 미룬다
+/// - 지금 캡처: 스레드 이름, MDC (요청이 끝나면 바뀐다)
+/// - 미룸: 메시지 포맷 (인자가 모두 불변 타입일 때만, 아니면 나중에 바뀐 값이 찍히므로 지금 포맷)
+/// tail sampling 으로 버려지는 이벤트는 포맷 비용이 아예 들지 않는다
+public final class DeferredFormatting {
+
+	private static final Set<Class<?>> IMMUTABLE_TYPES = Set.of(
+		String.class, Integer.class, Long.class, Short.class, Byte.class, Double.class, Float.class,
+		Boolean.class, Character.class, BigDecimal.class, BigInteger.class, UUID.class,
+		Instant.class, Duration.class, LocalDate.class, LocalDateTime.class, OffsetDateTime.class, ZonedDateTime.class);
+
+	private DeferredFormatting() {
+	}
+
+	/// 이벤트를 다른 스레드에서 처리할 수 있게 준비한다 (여러 번 호출해도 된다)
+	public static void prepare(ILoggingEvent event) {
+		if (!(event instanceof LoggingEvent)) {
+			event.prepareForDeferredProcessing();
+			return;
+		}
+		event.getThreadName();
+		event.getMDCPropertyMap();
+		if (!isDeferrable(event.getArgumentArray())) {
+			event.getFormattedMessage();
+		}
+	}
+
+	/// 인자가 모두 불변이라 나중에 포맷해도 같은 메시지가 나오면 true
+	static boolean isDeferrable(Object[] arguments) {
+		if (arguments == null) {
+			return true;
+		}
+		for (Object argument : arguments) {
+			if (argument != null && !(argument instanceof Enum<?>) && !IMMUTABLE_TYPES.contains(argument.getClass())) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
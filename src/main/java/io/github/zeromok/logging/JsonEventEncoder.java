@@ -0,0 +1,260 @@
+package io.github.zeromok.logging;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.CoreConstants;
+import ch.qos.logback.core.encoder.EncoderBase;
+
+/// 로그 이벤트를 한 줄짜리 JSON 문서로 출력하는 Encoder
+/// 출력 예:
+/// {"ts":1735689600000,"level":"INFO","thread":"http-nio-8080-exec-1","logger":"io.github.zeromok.service.UserService",
+///  "traceId":"a1b2c3d4e5f60718","method":"POST","uri":"/mdc/api/users/login","msg":"사용자 인증: alice","args":["alice"]}
+/// - MDC 키(traceId, method, uri 등)는 최상위 필드로 출력되어 로그 파이프라인에서 정규식 파싱이 필요 없다
+/// - 스레드마다 재사용하는 byte 버퍼에 UTF-8 로 바로 기록한다 (중간 String/Map, 리플렉션 없음)
+/// - Encoder API 가 byte[] 를 반환해야 하므로 이벤트당 최종 결과 복사 1회만 발생한다
+public class JsonEventEncoder extends EncoderBase<ILoggingEvent> {
+
+	// MDC 키가 기본 필드 이름과 겹치면 MDC 쪽을 출력하지 않는다
+	private static final Set<String> RESERVED_FIELDS = Set.of("ts", "level", "thread", "logger", "msg", "args", "exception");
+
+	private static final int INITIAL_BUFFER_SIZE = 1024;
+	// 큰 예외 스택을 한 번 기록했다고 버퍼가 계속 커져 있지 않도록 제한
+	private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+
+	private static final byte[] HEX = "0123456789abcdef".getBytes();
+
+	private final ThreadLocal<Buffer> buffers = ThreadLocal.withInitial(() -> new Buffer(INITIAL_BUFFER_SIZE));
+
+	private boolean includeArguments = true;
+
+	@Override
+	public byte[] headerBytes() {
+		return null;
+	}
+
+	@Override
+	public byte[] encode(ILoggingEvent event) {
+		Buffer buffer = buffers.get();
+		buffer.reset();
+
+		buffer.writeAscii("{\"ts\":");
+		buffer.writeLong(event.getTimeStamp());
+		buffer.writeAscii(",\"level\":\"");
+		buffer.writeAscii(event.getLevel().toString());
+		buffer.writeAscii("\",\"thread\":");
+		buffer.writeString(event.getThreadName());
+		buffer.writeAscii(",\"logger\":");
+		buffer.writeString(event.getLoggerName());
+
+		Map<String, String> mdc = event.getMDCPropertyMap();
+		if (mdc != null && !mdc.isEmpty()) {
+			for (Map.Entry<String, String> entry : mdc.entrySet()) {
+				if (entry.getValue() == null || RESERVED_FIELDS.contains(entry.getKey())) {
+					continue;
+				}
+				buffer.writeByte(',');
+				buffer.writeString(entry.getKey());
+				buffer.writeByte(':');
+				buffer.writeString(entry.getValue());
+			}
+		}
+
+		buffer.writeAscii(",\"msg\":");
+		buffer.writeString(event.getFormattedMessage());
+
+		Object[] arguments = event.getArgumentArray();
+		if (includeArguments && arguments != null && arguments.length > 0) {
+			buffer.writeAscii(",\"args\":[");
+			for (int i = 0; i < arguments.length; i++) {
+				if (i > 0) {
+					buffer.writeByte(',');
+				}
+				buffer.writeValue(arguments[i]);
+			}
+			buffer.writeByte(']');
+		}
+
+		IThrowableProxy throwable = event.getThrowableProxy();
+		if (throwable != null) {
+			buffer.writeAscii(",\"exception\":");
+			buffer.writeString(ThrowableProxyUtil.asString(throwable));
+		}
+
+		buffer.writeByte('}');
+		buffer.writeAscii(CoreConstants.LINE_SEPARATOR);
+
+		byte[] encoded = buffer.toByteArray();
+		buffer.shrinkIfOversized();
+		return encoded;
+	}
+
+	@Override
+	public byte[] footerBytes() {
+		return null;
+	}
+
+	public boolean isIncludeArguments() {
+		return includeArguments;
+	}
+
+	public void setIncludeArguments(boolean includeArguments) {
+		this.includeArguments = includeArguments;
+	}
+
+	/// 스레드 전용 byte 버퍼 (UTF-8 직접 인코딩)
+	static final class Buffer {
+		private byte[] bytes;
+		private int position;
+
+		Buffer(int capacity) {
+			this.bytes = new byte[capacity];
+		}
+
+		void reset() {
+			position = 0;
+		}
+
+		byte[] toByteArray() {
+			return Arrays.copyOf(bytes, position);
+		}
+
+		void shrinkIfOversized() {
+			if (bytes.length > MAX_RETAINED_BUFFER_SIZE) {
+				bytes = new byte[INITIAL_BUFFER_SIZE];
+			}
+		}
+
+		void writeByte(int b) {
+			ensureCapacity(1);
+			bytes[position++] = (byte)b;
+		}
+
+		// 이스케이프가 필요 없는 ASCII 상수 전용
+		void writeAscii(String value) {
+			int length = value.length();
+			ensureCapacity(length);
+			for (int i = 0; i < length; i++) {
+				bytes[position++] = (byte)value.charAt(i);
+			}
+		}
+
+		void writeLong(long value) {
+			if (value == Long.MIN_VALUE) {
+				writeAscii("-9223372036854775808");
+				return;
+			}
+			ensureCapacity(20);
+			if (value < 0) {
+				bytes[position++] = '-';
+				value = -value;
+			}
+			int start = position;
+			do {
+				bytes[position++] = (byte)('0' + (value % 10));
+				value /= 10;
+			} while (value != 0);
+			// 역순으로 쓴 자릿수를 뒤집는다
+			for (int left = start, right = position - 1; left < right; left++, right--) {
+				byte tmp = bytes[left];
+				bytes[left] = bytes[right];
+				bytes[right] = tmp;
+			}
+		}
+
+		void writeValue(Object value) {
+			if (value == null) {
+				writeAscii("null");
+			} else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+				writeLong(((Number)value).longValue());
+			} else if (value instanceof Boolean bool) {
+				writeAscii(bool ? "true" : "false");
+			} else {
+				writeString(String.valueOf(value));
+			}
+		}
+
+		/// JSON 문자열 (따옴표 포함). UTF-16 → UTF-8 변환과 이스케이프를 한 번에 처리한다
+		void writeString(String value) {
+			if (value == null) {
+				writeAscii("null");
+				return;
+			}
+			int length = value.length();
+			// 최악의 경우: 모든 문자가 \\u00XX (6바이트) 또는 3바이트 UTF-8
+			ensureCapacity(length * 6 + 2);
+			bytes[position++] = '"';
+			for (int i = 0; i < length; i++) {
+				char c = value.charAt(i);
+				if (c < 0x80) {
+					writeAsciiChar(c);
+				} else if (c < 0x800) {
+					bytes[position++] = (byte)(0xC0 | (c >> 6));
+					bytes[position++] = (byte)(0x80 | (c & 0x3F));
+				} else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+					int codePoint = Character.toCodePoint(c, value.charAt(++i));
+					bytes[position++] = (byte)(0xF0 | (codePoint >> 18));
+					bytes[position++] = (byte)(0x80 | ((codePoint >> 12) & 0x3F));
+					bytes[position++] = (byte)(0x80 | ((codePoint >> 6) & 0x3F));
+					bytes[position++] = (byte)(0x80 | (codePoint & 0x3F));
+				} else if (Character.isSurrogate(c)) {
+					// 짝이 맞지 않는 surrogate 는 '?' 로 대체
+					bytes[position++] = '?';
+				} else {
+					bytes[position++] = (byte)(0xE0 | (c >> 12));
+					bytes[position++] = (byte)(0x80 | ((c >> 6) & 0x3F));
+					bytes[position++] = (byte)(0x80 | (c & 0x3F));
+				}
+			}
+			bytes[position++] = '"';
+		}
+
+		private void writeAsciiChar(char c) {
+			switch (c) {
+				case '"' -> {
+					bytes[position++] = '\\';
+					bytes[position++] = '"';
+				}
+				case '\\' -> {
+					bytes[position++] = '\\';
+					bytes[position++] = '\\';
+				}
+				case '\n' -> {
+					bytes[position++] = '\\';
+					bytes[position++] = 'n';
+				}
+				case '\r' -> {
+					bytes[position++] = '\\';
+					bytes[position++] = 'r';
+				}
+				case '\t' -> {
+					bytes[position++] = '\\';
+					bytes[position++] = 't';
+				}
+				default -> {
+					if (c < 0x20) {
+						bytes[position++] = '\\';
+						bytes[position++] = 'u';
+						bytes[position++] = '0';
+						bytes[position++] = '0';
+						bytes[position++] = HEX[c >> 4];
+						bytes[position++] = HEX[c & 0xF];
+					} else {
+						bytes[position++] = (byte)c;
+					}
+				}
+			}
+		}
+
+		private void ensureCapacity(int additional) {
+			int required = position + additional;
+			if (required > bytes.length) {
+				bytes = Arrays.copyOf(bytes, Math.max(required, bytes.length * 2));
+			}
+		}
+	}
+}
@@ -0,0 +1,204 @@
+package io.github.zeromok.logging;
+
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.spi.LocationAwareLogger;
+
+/// 인자를 Supplier 로 받는 SLF4J Logger 래퍼
+/// 문제: log.info("사용자 인증: {}", request.getUsername()) 는 INFO 가 꺼져 있어도 getUsername() 을 호출하고,
+///       if (log.isDebugEnabled()) 로 감싸면 코드가 길어진다
+/// 동작 방식:
+/// - Supplier 인자는 레벨이 켜져 있을 때만 get() 한다 (꺼져 있으면 레벨 비교 한 번으로 끝)
+///   인자가 셋 이상이라 Object... 로 받은 경우에도 Supplier 원소는 평가해서 넘긴다
+/// - 레벨 확인은 logback Logger 가 로거마다 들고 있는 유효 레벨(레벨 변경 시 갱신)을 그대로 쓴다
+/// - 메시지 포맷은 하지 않고 템플릿 + 인자로 넘긴다 → 비동기 Appender 가 소비자 스레드에서 포맷 (DeferredFormatting)
+/// - Supplier 는 요청 스레드에서 평가한다 (요청 객체를 다른 스레드에서 읽지 않도록)
+/// - 필드를 읽기만 하는 getter 는 Supplier 대신 값으로 넘긴다: 바운드 메서드 참조(request::getUsername)는
+///   레벨이 꺼져 있어도 호출마다 캡처 객체를 만들어 getter 호출보다 비싸다
+/// 호출 위치(%L 등)는 이 클래스가 아니라 호출한 코드로 찍힌다
+public final class LazyLogger {
+
+	private static final String FQCN = LazyLogger.class.getName();
+
+	private final Logger logger;
+	private final LocationAwareLogger locationAwareLogger;
+
+	private LazyLogger(Logger logger) {
+		this.logger = logger;
+		this.locationAwareLogger = logger instanceof LocationAwareLogger aware ? aware : null;
+	}
+
+	public static LazyLogger getLogger(Class<?> type) {
+		return new LazyLogger(LoggerFactory.getLogger(type));
+	}
+
+	public static LazyLogger wrap(Logger logger) {
+		return new LazyLogger(logger);
+	}
+
+	public String getName() {
+		return logger.getName();
+	}
+
+	public boolean isDebugEnabled() {
+		return logger.isDebugEnabled();
+	}
+
+	public boolean isInfoEnabled() {
+		return logger.isInfoEnabled();
+	}
+
+	public boolean isWarnEnabled() {
+		return logger.isWarnEnabled();
+	}
+
+	public boolean isErrorEnabled() {
+		return logger.isErrorEnabled();
+	}
+
+	// DEBUG
+	public void debug(String message) {
+		if (logger.isDebugEnabled()) {
+			log(LocationAwareLogger.DEBUG_INT, message, null);
+		}
+	}
+
+	public void debug(String format, Object argument) {
+		if (logger.isDebugEnabled()) {
+			log(LocationAwareLogger.DEBUG_INT, format, new Object[] {argument});
+		}
+	}
+
+	public void debug(String format, Object... arguments) {
+		if (logger.isDebugEnabled()) {
+			log(LocationAwareLogger.DEBUG_INT, format, arguments);
+		}
+	}
+
+	public void debug(String format, Supplier<?> argument) {
+		if (logger.isDebugEnabled()) {
+			log(LocationAwareLogger.DEBUG_INT, format, new Object[] {argument.get()});
+		}
+	}
+
+	public void debug(String format, Supplier<?> first, Supplier<?> second) {
+		if (logger.isDebugEnabled()) {
+			log(LocationAwareLogger.DEBUG_INT, format, new Object[] {first.get(), second.get()});
+		}
+	}
+
+	// INFO
+	public void info(String message) {
+		if (logger.isInfoEnabled()) {
+			log(LocationAwareLogger.INFO_INT, message, null);
+		}
+	}
+
+	public void info(String format, Object argument) {
+		if (logger.isInfoEnabled()) {
+			log(LocationAwareLogger.INFO_INT, format, new Object[] {argument});
+		}
+	}
+
+	public void info(String format, Object... arguments) {
+		if (logger.isInfoEnabled()) {
+			log(LocationAwareLogger.INFO_INT, format, arguments);
+		}
+	}
+
+	public void info(String format, Supplier<?> argument) {
+		if (logger.isInfoEnabled()) {
+			log(LocationAwareLogger.INFO_INT, format, new Object[] {argument.get()});
+		}
+	}
+
+	public void info(String format, Supplier<?> first, Supplier<?> second) {
+		if (logger.isInfoEnabled()) {
+			log(LocationAwareLogger.INFO_INT, format, new Object[] {first.get(), second.get()});
+		}
+	}
+
+	// WARN
+	public void warn(String message) {
+		if (logger.isWarnEnabled()) {
+			log(LocationAwareLogger.WARN_INT, message, null);
+		}
+	}
+
+	public void warn(String format, Object argument) {
+		if (logger.isWarnEnabled()) {
+			log(LocationAwareLogger.WARN_INT, format, new Object[] {argument});
+		}
+	}
+
+	public void warn(String format, Object... arguments) {
+		if (logger.isWarnEnabled()) {
+			log(LocationAwareLogger.WARN_INT, format, arguments);
+		}
+	}
+
+	public void warn(String format, Supplier<?> argument) {
+		if (logger.isWarnEnabled()) {
+			log(LocationAwareLogger.WARN_INT, format, new Object[] {argument.get()});
+		}
+	}
+
+	// ERROR (마지막 인자가 Throwable 이면 스택 트레이스로 기록된다)
+	public void error(String message) {
+		if (logger.isErrorEnabled()) {
+			log(LocationAwareLogger.ERROR_INT, message, null);
+		}
+	}
+
+	public void error(String format, Object argument) {
+		if (logger.isErrorEnabled()) {
+			log(LocationAwareLogger.ERROR_INT, format, new Object[] {argument});
+		}
+	}
+
+	public void error(String format, Object... arguments) {
+		if (logger.isErrorEnabled()) {
+			log(LocationAwareLogger.ERROR_INT, format, arguments);
+		}
+	}
+
+	public void error(String format, Supplier<?> argument) {
+		if (logger.isErrorEnabled()) {
+			log(LocationAwareLogger.ERROR_INT, format, new Object[] {argument.get()});
+		}
+	}
+
+	private void log(int level, String format, Object[] arguments) {
+		arguments = resolve(arguments);
+		if (locationAwareLogger != null) {
+			locationAwareLogger.log(null, FQCN, level, format, arguments, null);
+			return;
+		}
+		switch (level) {
+			case LocationAwareLogger.DEBUG_INT -> logger.debug(format, arguments);
+			case LocationAwareLogger.INFO_INT -> logger.info(format, arguments);
+			case LocationAwareLogger.WARN_INT -> logger.warn(format, arguments);
+			default -> logger.error(format, arguments);
+		}
+	}
+
+	// 인자가 셋 이상이면 Object... 오버로드로 들어오므로 Supplier 도 여기서 평가한다 (레벨은 이미 확인됨)
+	// 호출한 쪽 배열은 바꾸지 않는다
+	private static Object[] resolve(Object[] arguments) {
+		if (arguments == null) {
+			return null;
+		}
+		Object[] resolved = arguments;
+		for (int i = 0; i < arguments.length; i++) {
+			if (arguments[i] instanceof Supplier<?> supplier) {
+				if (resolved == arguments) {
+					resolved = arguments.clone();
+				}
+				resolved[i] = supplier.get();
+			}
+		}
+		return resolved;
+	}
+}
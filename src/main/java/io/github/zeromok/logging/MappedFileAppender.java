@@ -0,0 +1,512 @@
+package io.github.zeromok.logging;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.encoder.Encoder;
+import ch.qos.logback.core.util.FileSize;
+import io.github.zeromok.logging.binary.BinaryLogEncoder;
+
+/// 메모리 매핑 파일에 로그를 쓰는 롤링 Appender (RollingFileAppender 대체)
+/// RollingFileAppender 의 비용:
+/// - 이벤트마다 write 시스템 콜 (immediateFlush=false 여도 8KB 버퍼마다)
+/// - 롤오버 시 로그를 쓰던 스레드가 rename + gzip 을 끝낼 때까지 기다린다
+/// 동작 방식:
+/// - 인코딩한 바이트를 파일을 regionSize 단위로 매핑한 MappedByteBuffer 에 복사한다 (시스템 콜 없음)
+///   → 쓰는 즉시 페이지 캐시에 반영되므로 tail 등 다른 프로세스에서도 바로 보인다
+/// - fsync 는 flushIntervalMillis 마다 백그라운드 스레드가 한 번에 한다 (0 이면 OS 에 맡김)
+/// - maxFileSize 를 넘거나 rollingPeriod(일/시간)가 바뀌면 새 세그먼트 파일을 연다
+///   닫힌 세그먼트의 fsync, 크기 정리(truncate), gzip 은 백그라운드 스레드가 처리한다
+/// 파일 이름: {directory}/{fileNamePrefix}-{기간}.{번호}.{fileSuffix} (rename 하지 않으므로 매핑 중인 파일을 옮길 일이 없다)
+/// 파일마다 사전을 새로 쓰는 BinaryLogEncoder 는 잠금 안에서 롤오버 판단 뒤에 인코딩한다 (그 외 Encoder 는 잠금 밖)
+/// 주의:
+/// - 매핑은 region 단위로 파일을 늘리므로, 쓰는 중인 파일 끝에는 0 바이트가 붙어 있다 (닫을 때 잘라낸다)
+/// - 비정상 종료로 잘리지 않은 세그먼트는 다음 시작 시 끝의 0 바이트를 잘라내고 압축한다
+/// - 전원 장애 시 최대 flushIntervalMillis 만큼 유실될 수 있다 (프로세스 종료는 페이지 캐시가 남으므로 유실 없음)
+public class MappedFileAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+
+	public enum RollingPeriod {
+		DAILY("yyyy-MM-dd", ChronoUnit.DAYS),
+		HOURLY("yyyy-MM-dd-HH", ChronoUnit.HOURS);
+
+		private final DateTimeFormatter formatter;
+		private final ChronoUnit unit;
+
+		RollingPeriod(String pattern, ChronoUnit unit) {
+			this.formatter = DateTimeFormatter.ofPattern(pattern);
+			this.unit = unit;
+		}
+	}
+
+	private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final ZoneId zone = ZoneId.systemDefault();
+
+	private Encoder<ILoggingEvent> encoder;
+	private String directory = "logs";
+	private String fileNamePrefix = "app";
+	private String fileSuffix = "log";
+	private FileSize regionSize = FileSize.valueOf("32MB");
+	private FileSize maxFileSize = FileSize.valueOf("256MB");
+	private RollingPeriod rollingPeriod = RollingPeriod.DAILY;
+	private long flushIntervalMillis = 1000;
+	private boolean compress = true;
+	private int maxHistory;
+	private long maxShutdownMillis = 30_000;
+
+	private Path basePath;
+	private String logSuffix;
+	private String gzipSuffix;
+	private boolean encodeUnderLock;
+	private ScheduledExecutorService flusher;
+	private ExecutorService archiver;
+	private volatile Segment current;
+	private String currentPeriod;
+	private long nextRollAt;
+	private int nextIndex;
+
+	@Override
+	public void start() {
+		if (isStarted()) {
+			return;
+		}
+		if (encoder == null) {
+			addError("encoder 가 없습니다: " + getName());
+			return;
+		}
+		if (regionSize.getSize() < 4096 || regionSize.getSize() > Integer.MAX_VALUE || maxFileSize.getSize() < 1) {
+			addError("regionSize 는 4KB ~ 2GB, maxFileSize 는 0보다 커야 합니다");
+			return;
+		}
+
+		basePath = Path.of(directory);
+		logSuffix = "." + fileSuffix;
+		gzipSuffix = logSuffix + ".gz";
+		encodeUnderLock = encoder instanceof BinaryLogEncoder;
+		currentPeriod = null;
+		flusher = Executors.newSingleThreadScheduledExecutor(daemon("log-mapped-flush-" + getName()));
+		archiver = Executors.newSingleThreadExecutor(daemon("log-mapped-archive-" + getName()));
+		try {
+			Files.createDirectories(basePath);
+			List<Path> leftovers = listFiles(logSuffix);
+			openSegment(System.currentTimeMillis());
+			// 이전 실행에서 닫지 못한 세그먼트: 끝의 0 바이트를 잘라내고 압축
+			for (Path leftover : leftovers) {
+				archiver.execute(() -> recover(leftover));
+			}
+		} catch (IOException e) {
+			addError("로그 파일을 열 수 없습니다: " + basePath, e);
+			flusher.shutdownNow();
+			archiver.shutdownNow();
+			return;
+		}
+
+		if (flushIntervalMillis > 0) {
+			flusher.scheduleWithFixedDelay(this::forceCurrent, flushIntervalMillis, flushIntervalMillis,
+				TimeUnit.MILLISECONDS);
+		}
+		super.start();
+		addInfo("MappedFileAppender 시작. file: " + current.path + ", regionSize: " + regionSize
+			+ ", maxFileSize: " + maxFileSize + ", flushIntervalMillis: " + flushIntervalMillis);
+	}
+
+	@Override
+	public void stop() {
+		if (!isStarted()) {
+			return;
+		}
+		super.stop();
+
+		lock.lock();
+		try {
+			// footer 가 새 region 을 매핑하면 이전 region 의 force 를 flusher 에 넘기므로 footer 를 먼저 쓴다
+			if (current != null) {
+				Segment closing = current;
+				current = null;
+				writeFooter(closing);
+				archiver.execute(() -> archive(closing));
+			}
+			flusher.shutdownNow();
+		} finally {
+			lock.unlock();
+		}
+
+		archiver.shutdown();
+		try {
+			if (!archiver.awaitTermination(maxShutdownMillis, TimeUnit.MILLISECONDS)) {
+				addWarn("maxShutdownMillis(" + maxShutdownMillis + "ms) 안에 압축을 끝내지 못함. 다음 시작 시 처리됩니다");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	protected void append(ILoggingEvent event) {
+		byte[] bytes = encodeUnderLock ? null : encoder.encode(event);
+		lock.lock();
+		try {
+			if (current == null) {
+				return;
+			}
+			if (event.getTimeStamp() >= nextRollAt) {
+				roll(event.getTimeStamp());
+			}
+			if (bytes == null) {
+				bytes = encoder.encode(event);
+			}
+			if (current.size > 0 && current.size + bytes.length > maxFileSize.getSize()) {
+				roll(event.getTimeStamp());
+				if (encodeUnderLock) {
+					// 새 파일의 사전으로 다시 인코딩 (이전 파일에서 정의한 템플릿을 참조하지 않도록)
+					bytes = encoder.encode(event);
+				}
+			}
+			write(current, bytes);
+		} catch (IOException e) {
+			addError("로그 쓰기 실패: " + current.path, e);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// 경계에 걸친 이벤트는 앞 region 을 채우고 나머지를 다음 region 에 쓴다 (파일 중간에 빈 공간이 생기지 않게)
+	private void write(Segment segment, byte[] bytes) throws IOException {
+		int offset = 0;
+		while (offset < bytes.length) {
+			if (segment.region == null || !segment.region.hasRemaining()) {
+				mapNextRegion(segment);
+			}
+			int length = Math.min(segment.region.remaining(), bytes.length - offset);
+			segment.region.put(bytes, offset, length);
+			offset += length;
+		}
+		segment.size += bytes.length;
+	}
+
+	private void mapNextRegion(Segment segment) throws IOException {
+		MappedByteBuffer retired = segment.region;
+		segment.region = segment.channel.map(FileChannel.MapMode.READ_WRITE, segment.mappedEnd, regionSize.getSize());
+		segment.mappedEnd += regionSize.getSize();
+		if (retired != null && flushIntervalMillis > 0) {
+			if (flusher.isShutdown()) {
+				retired.force();
+			} else {
+				flusher.execute(retired::force);
+			}
+		}
+	}
+
+	private void roll(long timestamp) throws IOException {
+		Segment closing = current;
+		writeFooter(closing);
+		openSegment(timestamp);
+		archiver.execute(() -> archive(closing));
+	}
+
+	private void openSegment(long timestamp) throws IOException {
+		ZonedDateTime time = Instant.ofEpochMilli(timestamp).atZone(zone);
+		String period = rollingPeriod.formatter.format(time);
+		if (!period.equals(currentPeriod)) {
+			currentPeriod = period;
+			nextRollAt = time.truncatedTo(rollingPeriod.unit).plus(1, rollingPeriod.unit).toInstant().toEpochMilli();
+			nextIndex = nextIndexOf(period);
+		}
+
+		Path path = basePath.resolve(fileNamePrefix + "-" + period + "." + nextIndex++ + logSuffix);
+		FileChannel channel = FileChannel.open(path,
+			StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE,
+			StandardOpenOption.TRUNCATE_EXISTING);
+		current = new Segment(path, channel);
+		byte[] header = encoder.headerBytes();
+		if (header != null && header.length > 0) {
+			write(current, header);
+		}
+	}
+
+	private void writeFooter(Segment segment) {
+		byte[] footer = encoder.footerBytes();
+		if (footer == null || footer.length == 0) {
+			return;
+		}
+		try {
+			write(segment, footer);
+		} catch (IOException e) {
+			addError("footer 쓰기 실패: " + segment.path, e);
+		}
+	}
+
+	// 같은 기간에 이미 있는 세그먼트(.log, .log.gz) 다음 번호 (재시작 시 덮어쓰지 않도록)
+	private int nextIndexOf(String period) throws IOException {
+		String prefix = fileNamePrefix + "-" + period + ".";
+		int next = 0;
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(basePath, prefix + "*")) {
+			for (Path file : files) {
+				String name = file.getFileName().toString();
+				int end = name.indexOf('.', prefix.length());
+				if (end < 0) {
+					continue;
+				}
+				try {
+					next = Math.max(next, Integer.parseInt(name.substring(prefix.length(), end)) + 1);
+				} catch (NumberFormatException ignored) {
+					// 다른 이름 규칙의 파일
+				}
+			}
+		}
+		return next;
+	}
+
+	private void forceCurrent() {
+		// 잠금 없이 현재 region 만 fsync (쓰기와 동시에 해도 안전, 이미 교체된 region 은 교체 시 fsync)
+		Segment segment = current;
+		MappedByteBuffer region = segment == null ? null : segment.region;
+		try {
+			if (region != null) {
+				region.force();
+			}
+		} catch (RuntimeException e) {
+			// 예외가 나가면 주기 작업이 멈추므로 기록만 한다
+			addWarn("로그 fsync 실패: " + segment.path, e);
+		}
+	}
+
+	// 백그라운드: 닫힌 세그먼트를 fsync → 실제 크기로 자르고 → 압축
+	private void archive(Segment segment) {
+		try {
+			if (segment.region != null) {
+				segment.region.force();
+			}
+			segment.region = null;
+			segment.channel.truncate(segment.size);
+			segment.channel.close();
+		} catch (IOException e) {
+			addError("세그먼트 닫기 실패: " + segment.path, e);
+			return;
+		}
+		compressAndClean(segment.path);
+	}
+
+	// 비정상 종료로 남은 세그먼트: 끝의 0 바이트(매핑만 되고 쓰지 않은 부분)를 잘라낸다
+	private void recover(Path path) {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			channel.truncate(lastNonZeroOffset(channel) + 1);
+		} catch (IOException e) {
+			addError("세그먼트 복구 실패: " + path, e);
+			return;
+		}
+		compressAndClean(path);
+	}
+
+	private static long lastNonZeroOffset(FileChannel channel) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(COPY_BUFFER_SIZE);
+		long end = channel.size();
+		while (end > 0) {
+			long start = Math.max(0, end - COPY_BUFFER_SIZE);
+			buffer.clear().limit((int)(end - start));
+			channel.read(buffer, start);
+			for (int i = buffer.position() - 1; i >= 0; i--) {
+				if (buffer.get(i) != 0) {
+					return start + i;
+				}
+			}
+			end = start;
+		}
+		return -1;
+	}
+
+	private void compressAndClean(Path path) {
+		if (compress) {
+			Path gzip = path.resolveSibling(path.getFileName().toString().replace(logSuffix, gzipSuffix));
+			try (InputStream in = Files.newInputStream(path);
+				 OutputStream out = new GZIPOutputStream(Files.newOutputStream(gzip), COPY_BUFFER_SIZE)) {
+				in.transferTo(out);
+			} catch (IOException e) {
+				addError("로그 압축 실패: " + path, e);
+				return;
+			}
+			try {
+				Files.delete(path);
+			} catch (IOException e) {
+				addError("압축한 원본 삭제 실패: " + path, e);
+			}
+		}
+		if (maxHistory > 0) {
+			deleteOldArchives();
+		}
+	}
+
+	// 닫힌 세그먼트 중 최근 maxHistory 개만 남긴다
+	private void deleteOldArchives() {
+		try {
+			List<Path> archives = listFiles(compress ? gzipSuffix : logSuffix);
+			Segment active = current;
+			archives.removeIf(path -> active != null && path.equals(active.path));
+			archives.sort(Comparator.comparingLong(MappedFileAppender::lastModified).reversed());
+			for (int i = maxHistory; i < archives.size(); i++) {
+				Files.deleteIfExists(archives.get(i));
+			}
+		} catch (IOException e) {
+			addError("오래된 로그 삭제 실패: " + basePath, e);
+		}
+	}
+
+	private List<Path> listFiles(String suffix) throws IOException {
+		List<Path> files = new ArrayList<>();
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(basePath, fileNamePrefix + "-*" + suffix)) {
+			stream.forEach(files::add);
+		}
+		return files;
+	}
+
+	private static long lastModified(Path path) {
+		try {
+			return Files.getLastModifiedTime(path).toMillis();
+		} catch (IOException e) {
+			return 0;
+		}
+	}
+
+	private static ThreadFactory daemon(String name) {
+		return runnable -> {
+			Thread thread = new Thread(runnable, name);
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	// 모니터링/테스트용
+	public Path getCurrentFile() {
+		Segment segment = current;
+		return segment == null ? null : segment.path;
+	}
+
+	// logback 설정(XML)에서 주입되는 값들
+	public Encoder<ILoggingEvent> getEncoder() {
+		return encoder;
+	}
+
+	public void setEncoder(Encoder<ILoggingEvent> encoder) {
+		this.encoder = encoder;
+	}
+
+	public String getDirectory() {
+		return directory;
+	}
+
+	public void setDirectory(String directory) {
+		this.directory = directory;
+	}
+
+	public String getFileNamePrefix() {
+		return fileNamePrefix;
+	}
+
+	public void setFileNamePrefix(String fileNamePrefix) {
+		this.fileNamePrefix = fileNamePrefix;
+	}
+
+	public String getFileSuffix() {
+		return fileSuffix;
+	}
+
+	public void setFileSuffix(String fileSuffix) {
+		this.fileSuffix = fileSuffix;
+	}
+
+	public FileSize getRegionSize() {
+		return regionSize;
+	}
+
+	public void setRegionSize(FileSize regionSize) {
+		this.regionSize = regionSize;
+	}
+
+	public FileSize getMaxFileSize() {
+		return maxFileSize;
+	}
+
+	public void setMaxFileSize(FileSize maxFileSize) {
+		this.maxFileSize = maxFileSize;
+	}
+
+	public RollingPeriod getRollingPeriod() {
+		return rollingPeriod;
+	}
+
+	public void setRollingPeriod(RollingPeriod rollingPeriod) {
+		this.rollingPeriod = rollingPeriod;
+	}
+
+	public long getFlushIntervalMillis() {
+		return flushIntervalMillis;
+	}
+
+	public void setFlushIntervalMillis(long flushIntervalMillis) {
+		this.flushIntervalMillis = flushIntervalMillis;
+	}
+
+	public boolean isCompress() {
+		return compress;
+	}
+
+	public void setCompress(boolean compress) {
+		this.compress = compress;
+	}
+
+	public int getMaxHistory() {
+		return maxHistory;
+	}
+
+	public void setMaxHistory(int maxHistory) {
+		this.maxHistory = maxHistory;
+	}
+
+	public long getMaxShutdownMillis() {
+		return maxShutdownMillis;
+	}
+
+	public void setMaxShutdownMillis(long maxShutdownMillis) {
+		this.maxShutdownMillis = maxShutdownMillis;
+	}
+
+	/// 쓰는 중인 파일 하나: [0, size) 가 실제 로그, [size, mappedEnd) 는 매핑만 된 0 바이트
+	private static final class Segment {
+		private final Path path;
+		private final FileChannel channel;
+		private volatile MappedByteBuffer region;
+		private long mappedEnd;
+		private long size;
+
+		private Segment(Path path, FileChannel channel) {
+			this.path = path;
+			this.channel = channel;
+		}
+	}
+}
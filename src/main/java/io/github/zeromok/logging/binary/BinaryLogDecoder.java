@@ -0,0 +1,289 @@
+package io.github.zeromok.logging.binary;
+
+import static io.github.zeromok.logging.binary.BinaryLogFormat.*;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import org.slf4j.helpers.MessageFormatter;
+
+/// BinaryLogEncoder 가 쓴 파일(.blog, .blog.gz)을 사람이 읽는 텍스트 줄로 복원하는 도구
+/// 사용:
+///   ./gradlew decodeLogs --args="logs/app-2026-01-01.0.blog.gz"
+///   ./gradlew decodeLogs --args="--trace a1b2c3d4e5f60718 logs/app-*.blog*"
+///   java -cp app.jar io.github.zeromok.logging.binary.BinaryLogDecoder [--trace <traceId>] [--mdc] <파일>...
+/// 출력: [traceId] 2026-01-01T09:00:00.123+09:00  INFO --- [thread] logger : 포맷팅된 메시지
+/// - --trace 를 주면 해당 traceId 의 이벤트만 출력한다 (다른 이벤트는 메시지를 포맷팅하지 않고 건너뜀)
+/// - --mdc 를 주면 traceId 외 MDC 값(method, uri 등)을 메시지 앞에 {key=value} 로 붙인다
+public final class BinaryLogDecoder {
+
+	private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX")
+		.withZone(ZoneId.systemDefault());
+
+	private final String traceIdFilter;
+	private final boolean includeMdc;
+
+	public BinaryLogDecoder(String traceIdFilter, boolean includeMdc) {
+		this.traceIdFilter = traceIdFilter;
+		this.includeMdc = includeMdc;
+	}
+
+	public static void main(String[] args) {
+		String traceId = null;
+		boolean includeMdc = false;
+		List<Path> files = new ArrayList<>();
+		for (int i = 0; i < args.length; i++) {
+			switch (args[i]) {
+				case "--trace" -> {
+					if (i + 1 == args.length) {
+						usage();
+						return;
+					}
+					traceId = args[++i];
+				}
+				case "--mdc" -> includeMdc = true;
+				default -> files.add(Path.of(args[i]));
+			}
+		}
+		if (files.isEmpty()) {
+			usage();
+			return;
+		}
+
+		BinaryLogDecoder decoder = new BinaryLogDecoder(traceId, includeMdc);
+		Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 64 * 1024);
+		Consumer<String> sink = line -> {
+			try {
+				out.write(line);
+				out.write('\n');
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		};
+		int status = 0;
+		for (Path file : files) {
+			try {
+				Result result = decoder.decode(file, sink);
+				if (result.truncated()) {
+					System.err.println(file + ": 경고: 마지막 레코드가 잘려 있어 무시합니다");
+				}
+			} catch (IOException | UncheckedIOException e) {
+				System.err.println(file + ": " + e.getMessage());
+				status = 1;
+			}
+		}
+		try {
+			out.flush();
+		} catch (IOException e) {
+			status = 1;
+		}
+		if (status != 0) {
+			System.exit(status);
+		}
+	}
+
+	private static void usage() {
+		System.err.println("usage: BinaryLogDecoder [--trace <traceId>] [--mdc] <file.blog | file.blog.gz>...");
+	}
+
+	/// 파일 하나를 복원해 줄마다 sink 에 넘긴다 (.gz 는 압축을 풀면서 읽음)
+	public Result decode(Path file, Consumer<String> sink) throws IOException {
+		try (InputStream in = open(file)) {
+			return decode(in, sink);
+		}
+	}
+
+	/// 마지막 레코드가 잘린 파일(쓰는 중에 강제 종료)은 예외 없이 그 레코드만 버리고 Result.truncated() 로 알린다
+	public Result decode(InputStream in, Consumer<String> sink) throws IOException {
+		Input input = new Input(in instanceof BufferedInputStream ? in : new BufferedInputStream(in, 64 * 1024));
+		byte[] magic = input.readBytes(MAGIC.length);
+		if (!Arrays.equals(magic, MAGIC)) {
+			throw new IOException("바이너리 로그 파일이 아닙니다");
+		}
+		int version = input.readByte();
+		if (version != VERSION) {
+			throw new IOException("지원하지 않는 버전: " + version);
+		}
+
+		FileState state = new FileState(input.readVarLong());
+		long written = 0;
+		int type;
+		try {
+			while ((type = input.readByteOrEnd()) >= 0) {
+				if (type == 0) {
+					// 쓰는 중인 .blog 파일: 매핑만 되고 아직 쓰지 않은 0 바이트 영역
+					break;
+				}
+				switch (type) {
+					case DEFINE -> state.define(input.readVarInt(), input.readString());
+					case EVENT -> {
+						String line = readEvent(input, state);
+						if (line != null) {
+							sink.accept(line);
+							written++;
+						}
+					}
+					default -> throw new IOException("알 수 없는 레코드 종류: " + type);
+				}
+				if (input.readByte() != RECORD_END) {
+					throw new IOException("레코드 끝 표시가 없습니다 (손상된 파일)");
+				}
+			}
+		} catch (EOFException e) {
+			// 쓰는 중에 강제 종료된 파일: 마지막 불완전한 레코드만 버린다
+			return new Result(written, true);
+		}
+		return new Result(written, false);
+	}
+
+	/// 거르기에 걸리면 나머지 필드는 읽기만 하고 메시지는 포맷팅하지 않는다 (null 반환)
+	private String readEvent(Input input, FileState state) throws IOException {
+		long timestamp = state.advance(unzigzag(input.readVarLong()));
+		int level = input.readByte();
+		String logger = state.readRef(input);
+		String thread = state.readRef(input);
+		String template = state.readRef(input);
+		String traceId = readTraceId(input);
+
+		int mdcCount = input.readVarInt();
+		String[] mdc = new String[mdcCount * 2];
+		for (int i = 0; i < mdc.length; i++) {
+			mdc[i] = state.readRef(input);
+		}
+		if (traceId == null) {
+			// 길어서 MDC 항목으로 들어간 traceId
+			for (int i = 0; i < mdc.length; i += 2) {
+				if ("traceId".equals(mdc[i])) {
+					traceId = mdc[i + 1];
+				}
+			}
+		}
+
+		int argumentCount = input.readVarInt();
+		Object[] arguments = new Object[argumentCount];
+		for (int i = 0; i < argumentCount; i++) {
+			arguments[i] = readArgument(input);
+		}
+		String throwable = input.readByte() == 0 ? null : input.readString();
+
+		if (traceIdFilter != null && !traceIdFilter.equals(traceId)) {
+			return null;
+		}
+
+		StringBuilder line = new StringBuilder(128);
+		line.append('[').append(traceId == null ? "" : traceId).append("] ");
+		TIMESTAMP.formatTo(Instant.ofEpochMilli(timestamp), line);
+		String levelName = level < LEVELS.length ? LEVELS[level] : "?";
+		line.append(' ').append(" ".repeat(5 - levelName.length())).append(levelName)
+			.append(" --- [").append(thread).append("] ").append(logger).append(" : ");
+		if (includeMdc && mdc.length > 0) {
+			line.append('{');
+			for (int i = 0; i < mdc.length; i += 2) {
+				if (i > 0) {
+					line.append(", ");
+				}
+				line.append(mdc[i]).append('=').append(mdc[i + 1]);
+			}
+			line.append("} ");
+		}
+		line.append(argumentCount == 0 ? template : MessageFormatter.basicArrayFormat(template, arguments));
+		if (throwable != null) {
+			line.append('\n').append(throwable.stripTrailing());
+		}
+		return line.toString();
+	}
+
+	private static String readTraceId(Input input) throws IOException {
+		int header = input.readByte();
+		if (header == 0) {
+			return null;
+		}
+		byte[] bytes = input.readBytes(header & MAX_TRACE_LENGTH);
+		if ((header & TRACE_HEX_FLAG) == 0) {
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+		char[] hex = new char[bytes.length * 2];
+		for (int i = 0; i < bytes.length; i++) {
+			hex[i * 2] = Character.forDigit((bytes[i] >> 4) & 0xF, 16);
+			hex[i * 2 + 1] = Character.forDigit(bytes[i] & 0xF, 16);
+		}
+		return new String(hex);
+	}
+
+	private static Object readArgument(Input input) throws IOException {
+		int type = input.readByte();
+		return switch (type) {
+			case ARG_NULL -> null;
+			case ARG_LONG -> unzigzag(input.readVarLong());
+			case ARG_DOUBLE -> input.readDouble();
+			case ARG_TRUE -> Boolean.TRUE;
+			case ARG_FALSE -> Boolean.FALSE;
+			case ARG_STRING -> input.readString();
+			default -> throw new IOException("알 수 없는 인자 종류: " + type);
+		};
+	}
+
+	private static InputStream open(Path file) throws IOException {
+		InputStream in = Files.newInputStream(file);
+		if (file.getFileName().toString().endsWith(".gz")) {
+			return new BufferedInputStream(new GZIPInputStream(in, 64 * 1024), 64 * 1024);
+		}
+		return new BufferedInputStream(in, 64 * 1024);
+	}
+
+	/// @param events 출력한(거르기를 통과한) 이벤트 수
+	/// @param truncated 마지막 레코드가 잘려 있어 버렸으면 true
+	public record Result(long events, boolean truncated) {
+	}
+
+	/// 파일 하나의 사전과 직전 시각
+	private static final class FileState {
+		private final List<String> dictionary = new ArrayList<>();
+		private long timestamp;
+
+		private FileState(long baseTimestamp) {
+			this.timestamp = baseTimestamp;
+			dictionary.add(null);  // id 는 1부터
+		}
+
+		void define(int id, String value) throws IOException {
+			if (id != dictionary.size()) {
+				throw new IOException("사전 id 순서가 맞지 않습니다: " + id);
+			}
+			dictionary.add(value);
+		}
+
+		String readRef(Input input) throws IOException {
+			int id = input.readVarInt();
+			if (id == 0) {
+				return input.readString();
+			}
+			if (id >= dictionary.size()) {
+				throw new IOException("정의되지 않은 사전 id: " + id);
+			}
+			return dictionary.get(id);
+		}
+
+		long advance(long delta) {
+			timestamp += delta;
+			return timestamp;
+		}
+	}
+}
@@ -0,0 +1,209 @@
+package io.github.zeromok.logging.binary;
+
+import static io.github.zeromok.logging.binary.BinaryLogFormat.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.encoder.EncoderBase;
+
+/// 로그 이벤트를 사람이 읽는 문자열 대신 압축된 바이너리 레코드로 쓰는 Encoder (형식은 BinaryLogFormat)
+/// 텍스트 로그의 비용:
+/// - 이벤트마다 메시지 포맷팅, 날짜 포맷팅, 로거/스레드 이름 출력 (대부분 매번 같은 문자열)
+/// - 한 줄 150~250바이트 중 실제로 바뀌는 값은 시각, traceId, 인자 몇 개뿐
+/// 바이너리 로그:
+/// - 메시지는 포맷팅하지 않고 템플릿("사용자 찾음: {}") id 와 인자만 타입별로 쓴다 (long 은 varint)
+/// - 템플릿, 로거, 스레드, MDC 키/값은 파일마다 처음 한 번만 정의하고 이후에는 id 로 참조한다
+/// - 시각은 직전 이벤트와의 차이(보통 1~2바이트), 16진수 traceId 는 원래 길이의 절반 바이트로 쓴다
+/// 읽을 때는 BinaryLogDecoder 로 텍스트 줄을 복원한다 (traceId 로 거르기 지원)
+/// 주의:
+/// - 사전이 파일 단위이므로 headerBytes() 가 불린 뒤의 이벤트는 새 파일에 써야 한다
+///   (MappedFileAppender 는 롤오버 후 인코딩한다)
+/// - 레코드의 순서가 곧 정의 순서이므로 한 스레드가 인코딩과 쓰기를 함께 해야 한다
+///   → BatchingAsyncAppender(소비자 스레드 1개) 뒤에서 사용한다
+public class BinaryLogEncoder extends EncoderBase<ILoggingEvent> {
+
+	private final Map<String, Integer> dictionary = new HashMap<>();
+	private final Output definitions = new Output();
+	private final Output body = new Output();
+
+	private String traceIdKey = "traceId";
+	// 사전 크기 상한 (메시지를 문자열 연결로 만드는 코드가 있어도 메모리가 계속 늘지 않게), 넘으면 문자열을 그대로 쓴다
+	private int maxDictionarySize = 4096;
+	private long lastTimestamp;
+
+	/// 새 파일의 시작: 사전과 기준 시각을 초기화한다
+	@Override
+	public synchronized byte[] headerBytes() {
+		dictionary.clear();
+		lastTimestamp = System.currentTimeMillis();
+
+		Output header = new Output();
+		header.writeBytes(MAGIC);
+		header.writeByte(VERSION);
+		header.writeVarLong(lastTimestamp);
+		return header.toByteArray();
+	}
+
+	@Override
+	public synchronized byte[] encode(ILoggingEvent event) {
+		definitions.reset();
+		body.reset();
+
+		body.writeByte(EVENT);
+		body.writeVarLong(zigzag(event.getTimeStamp() - lastTimestamp));
+		lastTimestamp = event.getTimeStamp();
+		body.writeByte(levelCode(event.getLevel().toInt()));
+		writeRef(event.getLoggerName());
+		writeRef(event.getThreadName());
+		writeRef(event.getMessage() == null ? "null" : event.getMessage());
+
+		Map<String, String> mdc = event.getMDCPropertyMap();
+		boolean traceIdWritten = writeTraceId(mdc == null ? null : mdc.get(traceIdKey));
+		writeMdc(mdc, traceIdWritten);
+		writeArguments(event.getArgumentArray());
+
+		IThrowableProxy throwable = event.getThrowableProxy();
+		if (throwable == null) {
+			body.writeByte(0);
+		} else {
+			body.writeByte(1);
+			body.writeString(ThrowableProxyUtil.asString(throwable));
+		}
+		body.writeByte(RECORD_END);
+
+		if (definitions.position() == 0) {
+			return body.toByteArray();
+		}
+		// 새로 정의한 문자열이 있으면 이벤트 앞에 붙인다 (한 번의 쓰기로 함께 기록되도록)
+		definitions.writeBytes(body.toByteArray());
+		return definitions.toByteArray();
+	}
+
+	@Override
+	public byte[] footerBytes() {
+		return null;
+	}
+
+	private void writeRef(String value) {
+		Integer id = dictionary.get(value);
+		if (id == null) {
+			if (dictionary.size() >= maxDictionarySize) {
+				body.writeVarLong(0);
+				body.writeString(value);
+				return;
+			}
+			id = dictionary.size() + 1;
+			dictionary.put(value, id);
+			definitions.writeByte(DEFINE);
+			definitions.writeVarLong(id);
+			definitions.writeString(value);
+			definitions.writeByte(RECORD_END);
+		}
+		body.writeVarLong(id);
+	}
+
+	/// 16진수 소문자 traceId 는 2글자 → 1바이트, 그 외는 UTF-8 그대로 (127바이트를 넘으면 MDC 항목으로 쓴다)
+	private boolean writeTraceId(String traceId) {
+		if (traceId == null || traceId.isEmpty()) {
+			body.writeByte(0);
+			return false;
+		}
+		int length = traceId.length();
+		if (length % 2 == 0 && length / 2 <= MAX_TRACE_LENGTH && isLowerHex(traceId)) {
+			body.writeByte(TRACE_HEX_FLAG | (length / 2));
+			for (int i = 0; i < length; i += 2) {
+				body.writeByte((Character.digit(traceId.charAt(i), 16) << 4) | Character.digit(traceId.charAt(i + 1), 16));
+			}
+			return true;
+		}
+		byte[] utf8 = traceId.getBytes(StandardCharsets.UTF_8);
+		if (utf8.length > MAX_TRACE_LENGTH) {
+			body.writeByte(0);
+			return false;
+		}
+		body.writeByte(utf8.length);
+		body.writeBytes(utf8);
+		return true;
+	}
+
+	private void writeMdc(Map<String, String> mdc, boolean skipTraceId) {
+		if (mdc == null || mdc.isEmpty()) {
+			body.writeVarLong(0);
+			return;
+		}
+		int count = 0;
+		for (Map.Entry<String, String> entry : mdc.entrySet()) {
+			if (isWritten(entry, skipTraceId)) {
+				count++;
+			}
+		}
+		body.writeVarLong(count);
+		for (Map.Entry<String, String> entry : mdc.entrySet()) {
+			if (isWritten(entry, skipTraceId)) {
+				writeRef(entry.getKey());
+				writeRef(entry.getValue());
+			}
+		}
+	}
+
+	private boolean isWritten(Map.Entry<String, String> entry, boolean skipTraceId) {
+		return entry.getValue() != null && !(skipTraceId && traceIdKey.equals(entry.getKey()));
+	}
+
+	private void writeArguments(Object[] arguments) {
+		if (arguments == null) {
+			body.writeVarLong(0);
+			return;
+		}
+		body.writeVarLong(arguments.length);
+		for (Object argument : arguments) {
+			if (argument == null) {
+				body.writeByte(ARG_NULL);
+			} else if (argument instanceof Long || argument instanceof Integer || argument instanceof Short
+				|| argument instanceof Byte) {
+				body.writeByte(ARG_LONG);
+				body.writeVarLong(zigzag(((Number)argument).longValue()));
+			} else if (argument instanceof Double value) {
+				body.writeByte(ARG_DOUBLE);
+				body.writeDouble(value);
+			} else if (argument instanceof Boolean value) {
+				body.writeByte(value ? ARG_TRUE : ARG_FALSE);
+			} else {
+				// Float 등 나머지는 toString() 결과를 그대로 (포맷팅 결과와 같게)
+				body.writeByte(ARG_STRING);
+				body.writeString(String.valueOf(argument));
+			}
+		}
+	}
+
+	private static boolean isLowerHex(String value) {
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public String getTraceIdKey() {
+		return traceIdKey;
+	}
+
+	public void setTraceIdKey(String traceIdKey) {
+		this.traceIdKey = traceIdKey;
+	}
+
+	public int getMaxDictionarySize() {
+		return maxDictionarySize;
+	}
+
+	public void setMaxDictionarySize(int maxDictionarySize) {
+		this.maxDictionarySize = maxDictionarySize;
+	}
+}
@@ -0,0 +1,227 @@
+package io.github.zeromok.logging.binary;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/// 바이너리 로그 파일 형식 (BinaryLogEncoder 가 쓰고 BinaryLogDecoder 가 읽는다)
+/// 파일 헤더: MAGIC(4) VERSION(1) 기준시각(varlong, epoch ms)
+/// 레코드 (모두 RECORD_END 1바이트로 끝난다):
+/// - DEFINE: id(varint) 문자열 → 템플릿, 로거 이름, 스레드 이름, MDC 키/값을 파일마다 한 번만 기록
+/// - EVENT : 시각 차이(zigzag varlong, 직전 이벤트 기준) 레벨(1) 로거 스레드 템플릿
+///           traceId MDC개수 (키 값)* 인자개수 인자* 예외여부 [예외 문자열]
+///   로거/스레드/템플릿/MDC 는 참조: id(>0) 또는 0 + 문자열 (사전이 가득 찬 경우)
+///   traceId: 길이(0 = 없음) + 바이트. 16진수 문자열이면 2글자를 1바이트로 줄인다 (최상위 비트로 구분)
+/// 정수는 모두 7비트 varint (작은 값이 1바이트)
+/// RECORD_END 가 0 이 아니므로 MappedFileAppender 가 비정상 종료 후 끝의 0 바이트를 잘라내도 마지막 레코드가 보존된다
+final class BinaryLogFormat {
+
+	static final byte[] MAGIC = {'M', 'D', 'C', 'B'};
+	static final int VERSION = 1;
+
+	static final int DEFINE = 1;
+	static final int EVENT = 2;
+	static final int RECORD_END = '\n';
+
+	static final int ARG_NULL = 0;
+	static final int ARG_LONG = 1;
+	static final int ARG_DOUBLE = 2;
+	static final int ARG_TRUE = 3;
+	static final int ARG_FALSE = 4;
+	static final int ARG_STRING = 5;
+
+	// traceId 길이 바이트의 최상위 비트: 1 이면 16진수를 압축한 바이트
+	static final int TRACE_HEX_FLAG = 0x80;
+	static final int MAX_TRACE_LENGTH = 0x7F;
+
+	static final String[] LEVELS = {"TRACE", "DEBUG", "INFO", "WARN", "ERROR"};
+
+	private BinaryLogFormat() {
+	}
+
+	static int levelCode(int levelInt) {
+		// logback Level: TRACE 5000, DEBUG 10000, INFO 20000, WARN 30000, ERROR 40000
+		return switch (levelInt) {
+			case 5000 -> 0;
+			case 10000 -> 1;
+			case 30000 -> 3;
+			case 40000 -> 4;
+			default -> 2;
+		};
+	}
+
+	static long zigzag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	static long unzigzag(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	/// 재사용하는 쓰기 버퍼
+	static final class Output {
+		private static final int INITIAL_SIZE = 256;
+		// 큰 예외 스택을 한 번 기록했다고 버퍼가 계속 커져 있지 않도록 제한
+		private static final int MAX_RETAINED_SIZE = 64 * 1024;
+
+		private byte[] bytes = new byte[INITIAL_SIZE];
+		private int position;
+
+		void reset() {
+			position = 0;
+		}
+
+		int position() {
+			return position;
+		}
+
+		byte[] toByteArray() {
+			byte[] result = Arrays.copyOf(bytes, position);
+			if (bytes.length > MAX_RETAINED_SIZE) {
+				bytes = new byte[INITIAL_SIZE];
+			}
+			return result;
+		}
+
+		void writeByte(int b) {
+			ensureCapacity(1);
+			bytes[position++] = (byte)b;
+		}
+
+		void writeBytes(byte[] source) {
+			ensureCapacity(source.length);
+			System.arraycopy(source, 0, bytes, position, source.length);
+			position += source.length;
+		}
+
+		void writeVarLong(long value) {
+			ensureCapacity(10);
+			while ((value & ~0x7FL) != 0) {
+				bytes[position++] = (byte)((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+			bytes[position++] = (byte)value;
+		}
+
+		void writeDouble(double value) {
+			long bits = Double.doubleToRawLongBits(value);
+			ensureCapacity(8);
+			for (int shift = 56; shift >= 0; shift -= 8) {
+				bytes[position++] = (byte)(bits >>> shift);
+			}
+		}
+
+		/// 길이(varint, 바이트 수) + UTF-8
+		void writeString(String value) {
+			int length = value.length();
+			// ASCII 만 있으면 길이를 미리 알 수 있으므로 바로 쓴다 (로그 대부분)
+			int start = position;
+			ensureCapacity(5 + length);
+			int lengthBytes = varIntSize(length);
+			position += lengthBytes;
+			int i = 0;
+			for (; i < length; i++) {
+				char c = value.charAt(i);
+				if (c >= 0x80) {
+					break;
+				}
+				bytes[position++] = (byte)c;
+			}
+			if (i == length) {
+				writeVarIntAt(start, length);
+				return;
+			}
+			position = start;
+			byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+			writeVarLong(utf8.length);
+			writeBytes(utf8);
+		}
+
+		private void writeVarIntAt(int offset, int value) {
+			while ((value & ~0x7F) != 0) {
+				bytes[offset++] = (byte)((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+			bytes[offset] = (byte)value;
+		}
+
+		private static int varIntSize(int value) {
+			int size = 1;
+			while ((value & ~0x7F) != 0) {
+				value >>>= 7;
+				size++;
+			}
+			return size;
+		}
+
+		private void ensureCapacity(int additional) {
+			if (position + additional > bytes.length) {
+				bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, position + additional));
+			}
+		}
+	}
+
+	/// 스트림 읽기 (BufferedInputStream/GZIPInputStream 위에서 사용)
+	static final class Input {
+		private final InputStream in;
+
+		Input(InputStream in) {
+			this.in = in;
+		}
+
+		/// 스트림 끝이면 -1
+		int readByteOrEnd() throws IOException {
+			return in.read();
+		}
+
+		int readByte() throws IOException {
+			int b = in.read();
+			if (b < 0) {
+				throw new EOFException("레코드 중간에 파일이 끝났습니다");
+			}
+			return b;
+		}
+
+		byte[] readBytes(int length) throws IOException {
+			byte[] result = in.readNBytes(length);
+			if (result.length < length) {
+				throw new EOFException("레코드 중간에 파일이 끝났습니다");
+			}
+			return result;
+		}
+
+		long readVarLong() throws IOException {
+			long result = 0;
+			for (int shift = 0; shift < 64; shift += 7) {
+				int b = readByte();
+				result |= (long)(b & 0x7F) << shift;
+				if ((b & 0x80) == 0) {
+					return result;
+				}
+			}
+			throw new IOException("잘못된 varint");
+		}
+
+		int readVarInt() throws IOException {
+			long value = readVarLong();
+			if (value < 0 || value > Integer.MAX_VALUE) {
+				throw new IOException("잘못된 길이: " + value);
+			}
+			return (int)value;
+		}
+
+		double readDouble() throws IOException {
+			long bits = 0;
+			for (int i = 0; i < 8; i++) {
+				bits = (bits << 8) | readByte();
+			}
+			return Double.longBitsToDouble(bits);
+		}
+
+		String readString() throws IOException {
+			return new String(readBytes(readVarInt()), StandardCharsets.UTF_8);
+		}
+	}
+}
@@ -0,0 +1,217 @@
+package io.github.zeromok.logging.index;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/// 쓰는 중인 세그먼트: 프레임은 버퍼에 모아 파일 끝에 쓰고, 색인은 메모리 배열에 추가만 한다
+/// - 쓰기는 Appender 의 소비자 스레드 하나, 조회는 여러 요청 스레드 → 짧은 잠금으로 색인을 복사한 뒤 잠금 밖에서 읽는다
+/// - 조회 전에 버퍼를 파일로 내보내므로 방금 기록한 이벤트도 조회된다
+/// - seal() 은 색인을 정렬해 색인 파일로 쓰고 같은 채널을 쓰는 SealedSegment 를 돌려준다
+final class OpenSegment extends Segment {
+
+	private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+	private static final int INITIAL_ENTRIES = 4096;
+	private static final byte[] NO_TRACE_ID = new byte[0];
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+
+	private long[] entries = new long[INITIAL_ENTRIES];
+	private int entryCount;
+	private long[] sampleTimestamps = new long[64];
+	private int[] sampleOffsets = new int[64];
+	private int sampleCount;
+	private long frameCount;
+	private long minTimestamp = Long.MAX_VALUE;
+	private long maxTimestamp = Long.MIN_VALUE;
+	private long size;     // 버퍼에 있는 것까지 포함한 크기
+	private long flushed;  // 파일에 쓴 크기
+
+	private OpenSegment(long sequence, Path dataPath, FileChannel channel) {
+		super(sequence, dataPath, channel);
+	}
+
+	static OpenSegment create(long sequence, Path dataPath) throws IOException {
+		FileChannel channel = FileChannel.open(dataPath,
+			StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		return new OpenSegment(sequence, dataPath, channel);
+	}
+
+	/// 색인 파일 없이 남은 데이터 파일 (비정상 종료): 프레임을 다시 읽어 색인을 만들고, 잘린 마지막 프레임은 버린다
+	static OpenSegment recover(long sequence, Path dataPath) throws IOException {
+		FileChannel channel = FileChannel.open(dataPath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		OpenSegment segment = new OpenSegment(sequence, dataPath, channel);
+		long fileSize = channel.size();
+		long position = 0;
+		try (DataInputStream in = new DataInputStream(
+			new BufferedInputStream(new PositionalInputStream(channel, 0, fileSize), WRITE_BUFFER_SIZE))) {
+			while (position + FRAME_HEADER_SIZE <= fileSize) {
+				int frameLength = in.readInt();
+				long timestamp = in.readLong();
+				int idLength = in.readUnsignedShort();
+				if (frameLength < 10 + idLength || position + 4 + frameLength > fileSize) {
+					break;
+				}
+				String traceId = idLength == 0 ? null : new String(in.readNBytes(idLength), StandardCharsets.UTF_8);
+				in.skipNBytes(frameLength - 10 - idLength);
+				segment.index(timestamp, traceId, (int)position);
+				position += 4 + frameLength;
+			}
+		} catch (EOFException e) {
+			// 잘린 마지막 프레임
+		}
+		channel.truncate(position);
+		segment.size = position;
+		segment.flushed = position;
+		return segment;
+	}
+
+	void append(long timestamp, String traceId, byte[] payload) throws IOException {
+		byte[] id = traceId == null ? NO_TRACE_ID : traceId.getBytes(StandardCharsets.UTF_8);
+		if (id.length > MAX_TRACE_ID_LENGTH) {
+			id = NO_TRACE_ID;
+			traceId = null;
+		}
+		int frameSize = FRAME_HEADER_SIZE + id.length + payload.length;
+
+		lock.lock();
+		try {
+			int offset = (int)size;
+			if (buffer.remaining() < frameSize) {
+				flushBuffer();
+			}
+			if (frameSize > buffer.capacity()) {
+				// 큰 예외 스택 등: 버퍼를 거치지 않고 바로 쓴다
+				ByteBuffer frame = ByteBuffer.allocate(frameSize);
+				putFrame(frame, timestamp, id, payload);
+				frame.flip();
+				writeFully(frame);
+			} else {
+				putFrame(buffer, timestamp, id, payload);
+			}
+			size += frameSize;
+			index(timestamp, traceId, offset);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	long size() {
+		return size;
+	}
+
+	boolean isEmpty() {
+		return frameCount == 0;
+	}
+
+	@Override
+	void findByTraceId(String traceId, int key, int limit, List<TraceLogEntry> out) throws IOException {
+		int[] offsets;
+		int matched = 0;
+		lock.lock();
+		try {
+			flushBuffer();
+			offsets = new int[8];
+			for (int i = 0; i < entryCount; i++) {
+				if (keyOfEntry(entries[i]) == key) {
+					if (matched == offsets.length) {
+						offsets = Arrays.copyOf(offsets, matched * 2);
+					}
+					offsets[matched++] = offsetOfEntry(entries[i]);
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+		readFrames(offsets, matched, traceId, limit, out);
+	}
+
+	@Override
+	void findByTime(long from, long to, int limit, List<TraceLogEntry> out) throws IOException {
+		long start;
+		long end;
+		lock.lock();
+		try {
+			if (frameCount == 0 || to < minTimestamp - REORDER_SLACK_MILLIS || from > maxTimestamp) {
+				return;
+			}
+			flushBuffer();
+			start = startOffset(sampleTimestamps, sampleOffsets, sampleCount, from);
+			end = flushed;
+		} finally {
+			lock.unlock();
+		}
+		scanByTime(start, end, from, to, limit, out);
+	}
+
+	/// 색인을 (키, 오프셋) 순으로 정렬해 색인 파일로 쓴다. 이후 이 객체에는 쓰지 않는다
+	SealedSegment seal(Path indexPath) throws IOException {
+		long[] sorted;
+		lock.lock();
+		try {
+			flushBuffer();
+			channel.force(false);
+			sorted = Arrays.copyOf(entries, entryCount);
+		} finally {
+			lock.unlock();
+		}
+		Arrays.sort(sorted);
+		SealedSegment.writeIndex(indexPath, sorted, minTimestamp, maxTimestamp,
+			Arrays.copyOf(sampleTimestamps, sampleCount), Arrays.copyOf(sampleOffsets, sampleCount));
+		return SealedSegment.open(sequence, dataPath, indexPath, channel);
+	}
+
+	private void index(long timestamp, String traceId, int offset) {
+		if (traceId != null) {
+			if (entryCount == entries.length) {
+				entries = Arrays.copyOf(entries, entryCount * 2);
+			}
+			entries[entryCount++] = entry(keyOf(traceId), offset);
+		}
+		if (frameCount % TIME_SAMPLE_INTERVAL == 0) {
+			if (sampleCount == sampleTimestamps.length) {
+				sampleTimestamps = Arrays.copyOf(sampleTimestamps, sampleCount * 2);
+				sampleOffsets = Arrays.copyOf(sampleOffsets, sampleCount * 2);
+			}
+			sampleTimestamps[sampleCount] = timestamp;
+			sampleOffsets[sampleCount] = offset;
+			sampleCount++;
+		}
+		frameCount++;
+		minTimestamp = Math.min(minTimestamp, timestamp);
+		maxTimestamp = Math.max(maxTimestamp, timestamp);
+	}
+
+	private static void putFrame(ByteBuffer target, long timestamp, byte[] id, byte[] payload) {
+		target.putInt(8 + 2 + id.length + payload.length);
+		target.putLong(timestamp);
+		target.putShort((short)id.length);
+		target.put(id);
+		target.put(payload);
+	}
+
+	private void flushBuffer() throws IOException {
+		if (buffer.position() == 0) {
+			return;
+		}
+		buffer.flip();
+		writeFully(buffer);
+		buffer.clear();
+	}
+
+	private void writeFully(ByteBuffer source) throws IOException {
+		while (source.hasRemaining()) {
+			flushed += channel.write(source, flushed);
+		}
+	}
+}
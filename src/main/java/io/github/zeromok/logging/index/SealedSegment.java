@@ -0,0 +1,195 @@
+package io.github.zeromok.logging.index;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/// 닫힌 세그먼트: 색인 파일(trace-{번호}.idx)을 읽기 전용으로 매핑해 조회한다 (힙에 올리지 않음)
+/// 색인 파일:
+///   MAGIC(4) VERSION(4) 최소시각(8) 최대시각(8) 항목수(4) Bloom 워드수(4) 표본수(4) 예약(4)
+///   Bloom 필터 long[워드수]  → 이 세그먼트에 없는 traceId 는 페이지 1~2개만 보고 건너뜀
+///   항목 long[항목수]        → (키 << 32 | 오프셋) 정렬, 키로 이진 탐색
+///   표본 시각 long[표본수], 표본 오프셋 int[표본수] → 시간 범위 조회의 시작 위치
+/// 항목은 이벤트당 8바이트, Bloom 은 traceId 당 약 10비트 (오탐률 약 1%)
+/// 색인 파일은 임시 파일에 다 쓴 뒤 이름을 바꾸므로, 색인 파일이 있으면 완전한 것이다
+final class SealedSegment extends Segment {
+
+	private static final int MAGIC = 0x54524958;  // "TRIX"
+	private static final int VERSION = 1;
+	private static final int HEADER_SIZE = 40;
+	private static final int BLOOM_BITS_PER_KEY = 10;
+	private static final int BLOOM_HASHES = 7;
+
+	private final MappedByteBuffer index;
+	private final long minTimestamp;
+	private final long maxTimestamp;
+	private final int entryCount;
+	private final int bloomWords;
+	private final int sampleCount;
+	private final int entriesStart;
+	private final int samplesStart;
+
+	private SealedSegment(long sequence, Path dataPath, FileChannel channel, MappedByteBuffer index) throws IOException {
+		super(sequence, dataPath, channel);
+		this.index = index;
+		if (index.getInt(0) != MAGIC || index.getInt(4) != VERSION) {
+			throw new IOException("색인 파일 형식이 아닙니다: " + dataPath);
+		}
+		this.minTimestamp = index.getLong(8);
+		this.maxTimestamp = index.getLong(16);
+		this.entryCount = index.getInt(24);
+		this.bloomWords = index.getInt(28);
+		this.sampleCount = index.getInt(32);
+		this.entriesStart = HEADER_SIZE + bloomWords * 8;
+		this.samplesStart = entriesStart + entryCount * 8;
+	}
+
+	static SealedSegment open(long sequence, Path dataPath, Path indexPath) throws IOException {
+		FileChannel channel = FileChannel.open(dataPath, StandardOpenOption.READ);
+		try {
+			return open(sequence, dataPath, indexPath, channel);
+		} catch (IOException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	static SealedSegment open(long sequence, Path dataPath, Path indexPath, FileChannel channel) throws IOException {
+		try (FileChannel indexChannel = FileChannel.open(indexPath, StandardOpenOption.READ)) {
+			MappedByteBuffer index = indexChannel.map(FileChannel.MapMode.READ_ONLY, 0, indexChannel.size());
+			return new SealedSegment(sequence, dataPath, channel, index);
+		}
+	}
+
+	static void writeIndex(Path indexPath, long[] sortedEntries, long minTimestamp, long maxTimestamp,
+		long[] sampleTimestamps, int[] sampleOffsets) throws IOException {
+		long[] bloom = buildBloom(sortedEntries);
+		int size = HEADER_SIZE + bloom.length * 8 + sortedEntries.length * 8 + sampleTimestamps.length * 12;
+		ByteBuffer buffer = ByteBuffer.allocate(size);
+		buffer.putInt(MAGIC).putInt(VERSION).putLong(minTimestamp).putLong(maxTimestamp)
+			.putInt(sortedEntries.length).putInt(bloom.length).putInt(sampleTimestamps.length).putInt(0);
+		buffer.asLongBuffer().put(bloom);
+		buffer.position(HEADER_SIZE + bloom.length * 8);
+		buffer.asLongBuffer().put(sortedEntries);
+		buffer.position(buffer.position() + sortedEntries.length * 8);
+		buffer.asLongBuffer().put(sampleTimestamps);
+		buffer.position(buffer.position() + sampleTimestamps.length * 8);
+		buffer.asIntBuffer().put(sampleOffsets);
+		buffer.rewind();
+
+		Path temp = indexPath.resolveSibling(indexPath.getFileName() + ".tmp");
+		try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+			StandardOpenOption.TRUNCATE_EXISTING)) {
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+			channel.force(true);
+		}
+		Files.move(temp, indexPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	@Override
+	void findByTraceId(String traceId, int key, int limit, List<TraceLogEntry> out) throws IOException {
+		if (!mightContain(key)) {
+			return;
+		}
+		int first = lowerBound(entry(key, 0));
+		int end = first;
+		while (end < entryCount && keyOfEntry(entryAt(end)) == key) {
+			end++;
+		}
+		int[] offsets = new int[end - first];
+		for (int i = first; i < end; i++) {
+			offsets[i - first] = offsetOfEntry(entryAt(i));
+		}
+		readFrames(offsets, offsets.length, traceId, limit, out);
+	}
+
+	@Override
+	void findByTime(long from, long to, int limit, List<TraceLogEntry> out) throws IOException {
+		if (sampleCount == 0 || to < minTimestamp - REORDER_SLACK_MILLIS || from > maxTimestamp) {
+			return;
+		}
+		long[] timestamps = new long[sampleCount];
+		int[] offsets = new int[sampleCount];
+		for (int i = 0; i < sampleCount; i++) {
+			timestamps[i] = index.getLong(samplesStart + i * 8);
+			offsets[i] = index.getInt(samplesStart + sampleCount * 8 + i * 4);
+		}
+		scanByTime(startOffset(timestamps, offsets, sampleCount, from), channel.size(), from, to, limit, out);
+	}
+
+	private long entryAt(int i) {
+		return index.getLong(entriesStart + i * 8);
+	}
+
+	// 키의 첫 항목 위치 (entry(key, 0) 이상인 첫 항목)
+	private int lowerBound(long target) {
+		int low = 0;
+		int high = entryCount;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (entryAt(mid) < target) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	private boolean mightContain(int key) {
+		if (bloomWords == 0) {
+			return false;
+		}
+		long bits = bloomWords * 64L;
+		long hash = mix(key);
+		int h1 = (int)hash;
+		int h2 = (int)(hash >>> 32) | 1;
+		for (int i = 0; i < BLOOM_HASHES; i++) {
+			long bit = Integer.toUnsignedLong(h1 + i * h2) % bits;
+			if ((index.getLong(HEADER_SIZE + (int)(bit >>> 6) * 8) & (1L << bit)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static long[] buildBloom(long[] sortedEntries) {
+		int distinct = 0;
+		for (int i = 0; i < sortedEntries.length; i++) {
+			if (i == 0 || keyOfEntry(sortedEntries[i]) != keyOfEntry(sortedEntries[i - 1])) {
+				distinct++;
+			}
+		}
+		if (distinct == 0) {
+			return new long[0];
+		}
+		long[] words = new long[(int)((distinct * (long)BLOOM_BITS_PER_KEY + 63) / 64)];
+		long bits = words.length * 64L;
+		for (long entry : sortedEntries) {
+			long hash = mix(keyOfEntry(entry));
+			int h1 = (int)hash;
+			int h2 = (int)(hash >>> 32) | 1;
+			for (int i = 0; i < BLOOM_HASHES; i++) {
+				long bit = Integer.toUnsignedLong(h1 + i * h2) % bits;
+				words[(int)(bit >>> 6)] |= 1L << bit;
+			}
+		}
+		return words;
+	}
+
+	// 32비트 키 → 64비트 (splitmix64 마무리 단계)
+	private static long mix(int key) {
+		long z = key * 0x9E3779B97F4A7C15L;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+}
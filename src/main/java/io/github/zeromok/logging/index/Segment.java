@@ -0,0 +1,180 @@
+package io.github.zeromok.logging.index;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+/// 세그먼트 하나 (데이터 파일 trace-{번호}.dat)
+/// 데이터 파일의 프레임: 길이(int, 뒤따르는 바이트 수) 시각(long) traceId 길이(short) traceId 인코딩된 로그
+/// - 프레임에 traceId 원문이 있으므로 색인은 32비트 키만 갖고, 키가 같은 다른 traceId 는 읽을 때 걸러낸다
+/// - OpenSegment: 쓰는 중 (색인은 메모리), SealedSegment: 닫힘 (색인 파일 trace-{번호}.idx 를 매핑)
+abstract class Segment {
+
+	static final int FRAME_HEADER_SIZE = 4 + 8 + 2;
+	static final int MAX_TRACE_ID_LENGTH = 0xFFFF;
+	// 비동기 큐를 거치면서 시각이 조금 뒤섞이므로 시간 범위 조회는 앞뒤로 이만큼 더 읽는다
+	static final long REORDER_SLACK_MILLIS = 1000;
+	// 이벤트 N개마다 (시각, 오프셋) 을 기록해 시간 범위 조회의 시작 위치를 찾는다
+	static final int TIME_SAMPLE_INTERVAL = 256;
+
+	private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+	final long sequence;
+	final Path dataPath;
+	final FileChannel channel;
+
+	Segment(long sequence, Path dataPath, FileChannel channel) {
+		this.sequence = sequence;
+		this.dataPath = dataPath;
+		this.channel = channel;
+	}
+
+	/// traceId 의 이벤트를 기록 순서대로 out 에 더한다 (out 이 limit 개가 되면 중단)
+	abstract void findByTraceId(String traceId, int key, int limit, List<TraceLogEntry> out) throws IOException;
+
+	/// [from, to] 시각의 이벤트를 기록 순서대로 out 에 더한다 (out 이 limit 개가 되면 중단)
+	abstract void findByTime(long from, long to, int limit, List<TraceLogEntry> out) throws IOException;
+
+	/// traceId → 32비트 색인 키 (FNV-1a 64비트의 상위/하위를 섞음)
+	static int keyOf(String traceId) {
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < traceId.length(); i++) {
+			hash ^= traceId.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+		return (int)(hash ^ (hash >>> 32));
+	}
+
+	/// 정렬용 색인 항목: 상위 32비트 키, 하위 32비트 오프셋 (같은 키 안에서는 기록 순서)
+	static long entry(int key, int offset) {
+		return ((long)key << 32) | (offset & 0xFFFFFFFFL);
+	}
+
+	static int keyOfEntry(long entry) {
+		return (int)(entry >> 32);
+	}
+
+	static int offsetOfEntry(long entry) {
+		return (int)entry;
+	}
+
+	/// offsets 위치의 프레임 중 traceId 가 같은 것만 out 에 더한다
+	void readFrames(int[] offsets, int length, String traceId, int limit, List<TraceLogEntry> out) throws IOException {
+		ByteBuffer header = ByteBuffer.allocate(FRAME_HEADER_SIZE);
+		for (int i = 0; i < length && out.size() < limit; i++) {
+			header.clear();
+			readFully(header, offsets[i]);
+			int frameLength = header.getInt(0);
+			ByteBuffer body = ByteBuffer.allocate(frameLength - 8 - 2);
+			readFully(body, offsets[i] + FRAME_HEADER_SIZE);
+			int idLength = Short.toUnsignedInt(header.getShort(12));
+			String id = new String(body.array(), 0, idLength, StandardCharsets.UTF_8);
+			if (id.equals(traceId)) {
+				out.add(new TraceLogEntry(Instant.ofEpochMilli(header.getLong(4)), id,
+					new String(body.array(), idLength, body.capacity() - idLength, StandardCharsets.UTF_8)));
+			}
+		}
+	}
+
+	/// [start, end) 의 프레임을 차례로 읽으며 [from, to] 시각만 out 에 더한다
+	/// 시각이 to + REORDER_SLACK_MILLIS 를 넘는 프레임을 만나면 멈춘다
+	void scanByTime(long start, long end, long from, long to, int limit, List<TraceLogEntry> out) throws IOException {
+		try (DataInputStream in = new DataInputStream(
+			new BufferedInputStream(new PositionalInputStream(channel, start, end), READ_BUFFER_SIZE))) {
+			long position = start;
+			while (position < end && out.size() < limit) {
+				int frameLength = in.readInt();
+				long timestamp = in.readLong();
+				int idLength = in.readUnsignedShort();
+				if (timestamp > to + REORDER_SLACK_MILLIS) {
+					return;
+				}
+				if (timestamp < from || timestamp > to) {
+					in.skipNBytes(frameLength - 8 - 2);
+				} else {
+					byte[] body = in.readNBytes(frameLength - 8 - 2);
+					out.add(new TraceLogEntry(Instant.ofEpochMilli(timestamp),
+						idLength == 0 ? null : new String(body, 0, idLength, StandardCharsets.UTF_8),
+						new String(body, idLength, body.length - idLength, StandardCharsets.UTF_8)));
+				}
+				position += 4 + frameLength;
+			}
+		} catch (EOFException e) {
+			// 잘린 마지막 프레임
+		}
+	}
+
+	/// 시간 범위 조회를 시작할 오프셋: from - REORDER_SLACK_MILLIS 보다 이른 마지막 표본
+	static long startOffset(long[] sampleTimestamps, int[] sampleOffsets, int sampleCount, long from) {
+		long threshold = from - REORDER_SLACK_MILLIS;
+		int low = 0;
+		int high = sampleCount - 1;
+		int found = -1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			if (sampleTimestamps[mid] < threshold) {
+				found = mid;
+				low = mid + 1;
+			} else {
+				high = mid - 1;
+			}
+		}
+		return found < 0 ? 0 : sampleOffsets[found];
+	}
+
+	private void readFully(ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining()) {
+			int read = channel.read(buffer, position + buffer.position());
+			if (read < 0) {
+				throw new EOFException(dataPath.toString());
+			}
+		}
+	}
+
+	void close() {
+		try {
+			channel.close();
+		} catch (IOException ignored) {
+			// 이미 닫힘
+		}
+	}
+
+	/// FileChannel 의 위치를 바꾸지 않는 읽기 (여러 조회가 같은 채널을 동시에 읽는다)
+	static final class PositionalInputStream extends InputStream {
+		private final FileChannel channel;
+		private final long end;
+		private long position;
+
+		PositionalInputStream(FileChannel channel, long start, long end) {
+			this.channel = channel;
+			this.position = start;
+			this.end = end;
+		}
+
+		@Override
+		public int read() throws IOException {
+			byte[] one = new byte[1];
+			return read(one, 0, 1) < 0 ? -1 : one[0] & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] bytes, int offset, int length) throws IOException {
+			if (position >= end) {
+				return -1;
+			}
+			int read = channel.read(ByteBuffer.wrap(bytes, offset, (int)Math.min(length, end - position)), position);
+			if (read > 0) {
+				position += read;
+			}
+			return read;
+		}
+	}
+}
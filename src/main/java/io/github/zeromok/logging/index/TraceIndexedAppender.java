@@ -0,0 +1,379 @@
+package io.github.zeromok.logging.index;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Context;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.encoder.Encoder;
+import ch.qos.logback.core.util.FileSize;
+
+/// traceId 로 바로 찾을 수 있게 색인하며 로그를 세그먼트 파일에 쓰는 Appender (trace-index 프로파일)
+/// 문제: 요청 하나의 로그를 보려면 수 GB 텍스트 로그를 grep 해야 한다
+/// 동작 방식:
+/// - 이벤트를 encoder 로 인코딩해 trace-{번호}.dat 에 (시각, traceId, 로그) 프레임으로 추가한다
+/// - 세그먼트마다 traceId 키 → 오프셋 색인을 메모리에 쌓고, maxSegmentSize 를 넘으면
+///   백그라운드 스레드가 정렬된 배열 + Bloom 필터로 trace-{번호}.idx 를 쓴다 (SealedSegment)
+/// - 조회(findByTraceId)는 세그먼트마다 Bloom 필터 → 이진 탐색 → 해당 프레임만 읽는다 (세그먼트 전체를 읽지 않음)
+/// - 시간 범위 조회(findByTime)는 256개마다 남긴 (시각, 오프셋) 표본으로 시작 위치를 찾는다
+/// - 최근 maxSegments 개 세그먼트만 남기고 오래된 것은 지운다
+/// 시작하면 logback Context 에 CONTEXT_KEY 로 자신을 등록한다 (Spring 의 /mdc/logs 가 꺼내 쓴다)
+/// 색인 없이 남은 세그먼트(비정상 종료)는 다음 시작 시 프레임을 다시 읽어 색인을 만든다
+public class TraceIndexedAppender extends UnsynchronizedAppenderBase<ILoggingEvent> implements TraceLogIndex {
+
+	public static final String CONTEXT_KEY = TraceIndexedAppender.class.getName();
+
+	private static final String FILE_PREFIX = "trace-";
+	private static final String DATA_SUFFIX = ".dat";
+	private static final String INDEX_SUFFIX = ".idx";
+
+	private final ReentrantLock writeLock = new ReentrantLock();
+	private final Object segmentsLock = new Object();
+
+	private Encoder<ILoggingEvent> encoder;
+	private String directory = "logs/trace-index";
+	private FileSize maxSegmentSize = FileSize.valueOf("64MB");
+	private int maxSegments = 24;
+	private String traceIdKey = "traceId";
+	private long maxShutdownMillis = 10_000;
+
+	private Path basePath;
+	private ExecutorService sealer;
+	// 오래된 세그먼트부터, 마지막이 쓰는 중인 세그먼트 (교체할 때마다 새 리스트)
+	private volatile List<Segment> segments = List.of();
+	private OpenSegment open;
+	private long nextSequence;
+
+	/// 조회할 때마다 Context 에 등록된 현재 Appender 를 찾는 TraceLogIndex
+	/// (logback 설정을 다시 읽으면 Appender 가 새로 만들어지므로 인스턴스를 붙잡아 두지 않는다)
+	public static TraceLogIndex lookup(Context context) {
+		return new TraceLogIndex() {
+			@Override
+			public List<TraceLogEntry> findByTraceId(String traceId, int limit) {
+				TraceIndexedAppender appender = current();
+				return appender == null ? List.of() : appender.findByTraceId(traceId, limit);
+			}
+
+			@Override
+			public List<TraceLogEntry> findByTime(Instant from, Instant to, int limit) {
+				TraceIndexedAppender appender = current();
+				return appender == null ? List.of() : appender.findByTime(from, to, limit);
+			}
+
+			private TraceIndexedAppender current() {
+				return context.getObject(CONTEXT_KEY) instanceof TraceIndexedAppender appender && appender.isStarted()
+					? appender
+					: null;
+			}
+		};
+	}
+
+	@Override
+	public void start() {
+		if (isStarted()) {
+			return;
+		}
+		if (encoder == null) {
+			addError("encoder 가 없습니다: " + getName());
+			return;
+		}
+		if (maxSegmentSize.getSize() < 1024 || maxSegmentSize.getSize() > Integer.MAX_VALUE || maxSegments < 1) {
+			addError("maxSegmentSize 는 1KB ~ 2GB, maxSegments 는 0보다 커야 합니다");
+			return;
+		}
+
+		basePath = Path.of(directory);
+		try {
+			Files.createDirectories(basePath);
+			segments = List.copyOf(load());
+			open = OpenSegment.create(nextSequence, dataPath(nextSequence));
+			nextSequence++;
+			addSegment(open);
+		} catch (IOException e) {
+			addError("색인 로그 디렉터리를 열 수 없습니다: " + basePath, e);
+			return;
+		}
+		sealer = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "log-trace-index-" + getName());
+			thread.setDaemon(true);
+			return thread;
+		});
+		deleteExpired();
+
+		getContext().putObject(CONTEXT_KEY, this);
+		super.start();
+		addInfo("TraceIndexedAppender 시작. directory: " + basePath + ", 세그먼트: " + segments.size()
+			+ ", maxSegmentSize: " + maxSegmentSize + ", maxSegments: " + maxSegments);
+	}
+
+	@Override
+	public void stop() {
+		if (!isStarted()) {
+			return;
+		}
+		super.stop();
+
+		OpenSegment last;
+		writeLock.lock();
+		try {
+			last = open;
+			open = null;
+		} finally {
+			writeLock.unlock();
+		}
+		if (last != null) {
+			sealer.execute(() -> seal(last));
+		}
+		sealer.shutdown();
+		try {
+			if (!sealer.awaitTermination(maxShutdownMillis, TimeUnit.MILLISECONDS)) {
+				addWarn("maxShutdownMillis(" + maxShutdownMillis + "ms) 안에 색인을 쓰지 못함. 다음 시작 시 다시 만듭니다");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		synchronized (segmentsLock) {
+			segments.forEach(Segment::close);
+			segments = List.of();
+		}
+	}
+
+	@Override
+	protected void append(ILoggingEvent event) {
+		byte[] bytes = encoder.encode(event);
+		Map<String, String> mdc = event.getMDCPropertyMap();
+		String traceId = mdc == null ? null : mdc.get(traceIdKey);
+
+		writeLock.lock();
+		try {
+			if (open == null) {
+				return;
+			}
+			open.append(event.getTimeStamp(), traceId, bytes);
+			if (open.size() >= maxSegmentSize.getSize()) {
+				roll();
+			}
+		} catch (IOException e) {
+			addError("색인 로그 쓰기 실패: " + open.dataPath, e);
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public List<TraceLogEntry> findByTraceId(String traceId, int limit) {
+		List<TraceLogEntry> result = new ArrayList<>();
+		if (traceId == null || traceId.isEmpty() || limit < 1) {
+			return result;
+		}
+		int key = Segment.keyOf(traceId);
+		for (Segment segment : segments) {
+			try {
+				segment.findByTraceId(traceId, key, limit, result);
+			} catch (IOException e) {
+				// 조회 중 보존 기간이 지나 지워진 세그먼트 등
+				addWarn("세그먼트 조회 실패: " + segment.dataPath, e);
+			}
+			if (result.size() >= limit) {
+				break;
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public List<TraceLogEntry> findByTime(Instant from, Instant to, int limit) {
+		List<TraceLogEntry> result = new ArrayList<>();
+		if (from.isAfter(to) || limit < 1) {
+			return result;
+		}
+		for (Segment segment : segments) {
+			try {
+				segment.findByTime(from.toEpochMilli(), to.toEpochMilli(), limit, result);
+			} catch (IOException e) {
+				addWarn("세그먼트 조회 실패: " + segment.dataPath, e);
+			}
+			if (result.size() >= limit) {
+				break;
+			}
+		}
+		return result;
+	}
+
+	private void roll() throws IOException {
+		OpenSegment closing = open;
+		open = OpenSegment.create(nextSequence, dataPath(nextSequence));
+		nextSequence++;
+		addSegment(open);
+		sealer.execute(() -> seal(closing));
+	}
+
+	// 백그라운드: 색인 파일을 쓰고 목록의 OpenSegment 를 SealedSegment 로 바꾼다 (실패하면 OpenSegment 로 계속 조회)
+	private void seal(OpenSegment closing) {
+		if (closing.isEmpty()) {
+			removeSegment(closing);
+			closing.close();
+			try {
+				Files.deleteIfExists(closing.dataPath);
+			} catch (IOException e) {
+				addWarn("빈 세그먼트 삭제 실패: " + closing.dataPath, e);
+			}
+			return;
+		}
+		try {
+			SealedSegment sealed = closing.seal(indexPath(closing.sequence));
+			synchronized (segmentsLock) {
+				List<Segment> updated = new ArrayList<>(segments);
+				int index = updated.indexOf(closing);
+				if (index >= 0) {
+					updated.set(index, sealed);
+					segments = List.copyOf(updated);
+				}
+			}
+		} catch (IOException e) {
+			addError("색인 파일 쓰기 실패: " + closing.dataPath, e);
+		}
+		deleteExpired();
+	}
+
+	// 시작 시: 색인이 있는 세그먼트는 그대로 열고, 없는 세그먼트는 색인을 다시 만든다
+	private List<Segment> load() throws IOException {
+		List<Long> sequences = new ArrayList<>();
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(basePath, FILE_PREFIX + "*" + DATA_SUFFIX)) {
+			for (Path file : files) {
+				String name = file.getFileName().toString();
+				try {
+					sequences.add(Long.parseLong(name.substring(FILE_PREFIX.length(), name.length() - DATA_SUFFIX.length())));
+				} catch (NumberFormatException ignored) {
+					// 다른 이름 규칙의 파일
+				}
+			}
+		}
+		sequences.sort(Comparator.naturalOrder());
+
+		List<Segment> loaded = new ArrayList<>();
+		for (long sequence : sequences) {
+			Path data = dataPath(sequence);
+			Path index = indexPath(sequence);
+			try {
+				if (Files.exists(index)) {
+					loaded.add(SealedSegment.open(sequence, data, index));
+				} else {
+					OpenSegment recovered = OpenSegment.recover(sequence, data);
+					loaded.add(recovered.seal(index));
+					addInfo("색인 없는 세그먼트 복구: " + data);
+				}
+			} catch (IOException e) {
+				addError("세그먼트를 열 수 없습니다: " + data, e);
+			}
+			nextSequence = sequence + 1;
+		}
+		return loaded;
+	}
+
+	private void addSegment(Segment segment) {
+		synchronized (segmentsLock) {
+			List<Segment> updated = new ArrayList<>(segments);
+			updated.add(segment);
+			segments = List.copyOf(updated);
+		}
+	}
+
+	private void removeSegment(Segment segment) {
+		synchronized (segmentsLock) {
+			List<Segment> updated = new ArrayList<>(segments);
+			updated.remove(segment);
+			segments = List.copyOf(updated);
+		}
+	}
+
+	// 최근 maxSegments 개 (쓰는 중인 것 포함) 만 남긴다
+	private void deleteExpired() {
+		List<Segment> expired = new ArrayList<>();
+		synchronized (segmentsLock) {
+			List<Segment> updated = new ArrayList<>(segments);
+			while (updated.size() > maxSegments && updated.get(0) instanceof SealedSegment) {
+				expired.add(updated.remove(0));
+			}
+			segments = List.copyOf(updated);
+		}
+		for (Segment segment : expired) {
+			segment.close();
+			try {
+				Files.deleteIfExists(indexPath(segment.sequence));
+				Files.deleteIfExists(segment.dataPath);
+			} catch (IOException e) {
+				addWarn("오래된 세그먼트 삭제 실패: " + segment.dataPath, e);
+			}
+		}
+	}
+
+	private Path dataPath(long sequence) {
+		return basePath.resolve(FILE_PREFIX + String.format("%08d", sequence) + DATA_SUFFIX);
+	}
+
+	private Path indexPath(long sequence) {
+		return basePath.resolve(FILE_PREFIX + String.format("%08d", sequence) + INDEX_SUFFIX);
+	}
+
+	// logback 설정(XML)에서 주입되는 값들
+	public Encoder<ILoggingEvent> getEncoder() {
+		return encoder;
+	}
+
+	public void setEncoder(Encoder<ILoggingEvent> encoder) {
+		this.encoder = encoder;
+	}
+
+	public String getDirectory() {
+		return directory;
+	}
+
+	public void setDirectory(String directory) {
+		this.directory = directory;
+	}
+
+	public FileSize getMaxSegmentSize() {
+		return maxSegmentSize;
+	}
+
+	public void setMaxSegmentSize(FileSize maxSegmentSize) {
+		this.maxSegmentSize = maxSegmentSize;
+	}
+
+	public int getMaxSegments() {
+		return maxSegments;
+	}
+
+	public void setMaxSegments(int maxSegments) {
+		this.maxSegments = maxSegments;
+	}
+
+	public String getTraceIdKey() {
+		return traceIdKey;
+	}
+
+	public void setTraceIdKey(String traceIdKey) {
+		this.traceIdKey = traceIdKey;
+	}
+
+	public long getMaxShutdownMillis() {
+		return maxShutdownMillis;
+	}
+
+	public void setMaxShutdownMillis(long maxShutdownMillis) {
+		this.maxShutdownMillis = maxShutdownMillis;
+	}
+}
@@ -0,0 +1,7 @@
+package io.github.zeromok.logging.index;
+
+import java.time.Instant;
+
+/// 조회 결과 한 건: 기록 시각, traceId (요청 밖 로그면 null), Encoder 로 만든 로그 문자열
+public record TraceLogEntry(Instant timestamp, String traceId, String line) {
+}
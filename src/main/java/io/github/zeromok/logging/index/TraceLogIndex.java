@@ -0,0 +1,14 @@
+package io.github.zeromok.logging.index;
+
+import java.time.Instant;
+import java.util.List;
+
+/// traceId 색인 로그 조회 (TraceIndexedAppender 가 구현, /mdc/logs 에서 사용)
+public interface TraceLogIndex {
+
+	/// traceId 의 모든 이벤트 (오래된 세그먼트부터, 세그먼트 안에서는 기록 순서)
+	List<TraceLogEntry> findByTraceId(String traceId, int limit);
+
+	/// [from, to] 사이에 기록된 이벤트
+	List<TraceLogEntry> findByTime(Instant from, Instant to, int limit);
+}
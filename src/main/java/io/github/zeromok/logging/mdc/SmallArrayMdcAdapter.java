@@ -0,0 +1,302 @@
+package io.github.zeromok.logging.mdc;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+
+/// 키가 몇 개 안 되는 MDC 를 위한 배열 기반 MDCAdapter (LogbackMDCAdapter 대체)
+/// 문제:
+/// - logback 은 LogbackMDCAdapter 가 아닌 어댑터에서는 로그 이벤트마다 getCopyOfContextMap() 을 호출한다
+///   → 기본 구현은 이벤트마다 HashMap 을 새로 복사 (요청당 로그 N줄 = 맵 N개)
+/// - 이 프로젝트의 MDC 키는 traceId, method, uri, spanId 정도라 해시 테이블이 필요 없다
+/// 구조:
+/// - 스레드마다 재사용하는 키/값 배열 (put/remove/clear 는 배열만 고치고 할당하지 않음)
+/// - clear() 는 길이만 0 으로 되돌린다 (O(1), 배열은 다음 요청이 덮어쓴다)
+/// - getPropertyMap() 은 불변 스냅샷을 돌려주고, 다음 쓰기 전까지 모든 로그 이벤트가 같은 스냅샷을 공유한다
+///   → 요청 하나에서 스냅샷은 "쓰기 후 첫 조회" 때만 만들어진다
+/// - getCopyOfContextMap() 은 SLF4J 규약대로 호출자가 고쳐도 되는 새 맵을 돌려준다
+/// LogbackMDCAdapter 를 상속하는 이유: logback 은 LogbackMDCAdapter 면 이벤트마다 getCopyOfContextMap() 대신
+/// 읽기 전용 getPropertyMap() 을 부른다 (상위 클래스의 상태는 쓰지 않고 모든 메서드를 재정의한다)
+public class SmallArrayMdcAdapter extends LogbackMDCAdapter {
+
+	private static final int INITIAL_CAPACITY = 8;
+
+	private final ThreadLocal<Slots> slots = ThreadLocal.withInitial(Slots::new);
+
+	@Override
+	public void put(String key, String val) {
+		if (key == null) {
+			throw new IllegalArgumentException("key cannot be null");
+		}
+		slots.get().put(key, val);
+	}
+
+	@Override
+	public String get(String key) {
+		if (key == null) {
+			return null;
+		}
+		Slots current = slots.get();
+		int index = current.indexOf(key);
+		return index < 0 ? null : current.values[index];
+	}
+
+	@Override
+	public void remove(String key) {
+		if (key != null) {
+			slots.get().remove(key);
+		}
+	}
+
+	@Override
+	public void clear() {
+		slots.get().clear();
+	}
+
+	/// 비어 있으면 null (LogbackMDCAdapter 와 같음), 아니면 다음 쓰기 전까지 공유되는 불변 스냅샷
+	/// 다른 스레드로 넘겨 setContextMap() 하면 복사 없이 그대로 공유된다 (MdcContextSnapshot)
+	@Override
+	public Map<String, String> getPropertyMap() {
+		Slots current = slots.get();
+		return current.size == 0 ? null : current.snapshot();
+	}
+
+	/// 비어 있으면 null, 아니면 수정 가능한 새 맵
+	@Override
+	public Map<String, String> getCopyOfContextMap() {
+		Slots current = slots.get();
+		if (current.size == 0) {
+			return null;
+		}
+		Map<String, String> copy = new HashMap<>();
+		for (int i = 0; i < current.size; i++) {
+			copy.put(current.keys[i], current.values[i]);
+		}
+		return copy;
+	}
+
+	@Override
+	public Set<String> getKeys() {
+		Map<String, String> snapshot = getPropertyMap();
+		return snapshot == null ? null : snapshot.keySet();
+	}
+
+	@Override
+	public void setContextMap(Map<String, String> contextMap) {
+		Slots current = slots.get();
+		if (contextMap instanceof Snapshot snapshot) {
+			// 다른 스레드에서 캡처한 스냅샷 복원 (MdcContextSnapshot): 스냅샷을 그대로 공유
+			current.adopt(snapshot);
+			return;
+		}
+		current.clear();
+		if (contextMap != null) {
+			contextMap.forEach(current::put);
+		}
+	}
+
+	@Override
+	public void pushByKey(String key, String value) {
+		slots.get().stacks().computeIfAbsent(key, k -> new ArrayDeque<>()).push(value);
+	}
+
+	@Override
+	public String popByKey(String key) {
+		Deque<String> deque = slots.get().stacks().get(key);
+		return deque == null ? null : deque.poll();
+	}
+
+	@Override
+	public Deque<String> getCopyOfDequeByKey(String key) {
+		Deque<String> deque = slots.get().stacks().get(key);
+		return deque == null ? null : new ArrayDeque<>(deque);
+	}
+
+	@Override
+	public void clearDequeByKey(String key) {
+		Deque<String> deque = slots.get().stacks().get(key);
+		if (deque != null) {
+			deque.clear();
+		}
+	}
+
+	/// 스레드별 저장소: keys[0..size), values[0..size) 가 현재 MDC
+	private static final class Slots {
+		private String[] keys = new String[INITIAL_CAPACITY];
+		private String[] values = new String[INITIAL_CAPACITY];
+		private int size;
+		private Snapshot snapshot;  // 마지막 쓰기 이후 만든 스냅샷 (쓰기가 있으면 null)
+		private Map<String, Deque<String>> stacks;
+
+		// 키는 대부분 상수 문자열이라 참조 비교로 먼저 찾는다
+		int indexOf(String key) {
+			for (int i = 0; i < size; i++) {
+				if (keys[i] == key) {
+					return i;
+				}
+			}
+			for (int i = 0; i < size; i++) {
+				if (keys[i].equals(key)) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		void put(String key, String value) {
+			int index = indexOf(key);
+			if (index >= 0) {
+				if (values[index] == value) {
+					return;
+				}
+				values[index] = value;
+			} else {
+				if (size == keys.length) {
+					keys = Arrays.copyOf(keys, size * 2);
+					values = Arrays.copyOf(values, size * 2);
+				}
+				keys[size] = key;
+				values[size] = value;
+				size++;
+			}
+			snapshot = null;
+		}
+
+		void remove(String key) {
+			int index = indexOf(key);
+			if (index < 0) {
+				return;
+			}
+			// 출력 순서를 유지하기 위해 앞으로 당긴다 (키가 몇 개뿐)
+			int tail = size - index - 1;
+			System.arraycopy(keys, index + 1, keys, index, tail);
+			System.arraycopy(values, index + 1, values, index, tail);
+			size--;
+			keys[size] = null;
+			values[size] = null;
+			snapshot = null;
+		}
+
+		void clear() {
+			size = 0;
+			snapshot = null;
+		}
+
+		void adopt(Snapshot source) {
+			int length = source.size();
+			if (keys.length < length) {
+				keys = new String[length];
+				values = new String[length];
+			}
+			for (int i = 0; i < length; i++) {
+				keys[i] = source.entries[i * 2];
+				values[i] = source.entries[i * 2 + 1];
+			}
+			size = length;
+			snapshot = source;
+		}
+
+		Snapshot snapshot() {
+			if (snapshot == null) {
+				String[] entries = new String[size * 2];
+				for (int i = 0; i < size; i++) {
+					entries[i * 2] = keys[i];
+					entries[i * 2 + 1] = values[i];
+				}
+				snapshot = new Snapshot(entries);
+			}
+			return snapshot;
+		}
+
+		Map<String, Deque<String>> stacks() {
+			if (stacks == null) {
+				stacks = new HashMap<>();
+			}
+			return stacks;
+		}
+	}
+
+	/// 불변 스냅샷: [key0, value0, key1, value1, ...] 배열 하나
+	/// get/forEach 는 배열을 훑기만 하고, entrySet 순회만 Entry 를 만든다
+	static final class Snapshot extends AbstractMap<String, String> {
+		private final String[] entries;
+
+		private Snapshot(String[] entries) {
+			this.entries = entries;
+		}
+
+		@Override
+		public int size() {
+			return entries.length / 2;
+		}
+
+		@Override
+		public String get(Object key) {
+			int index = indexOf(key);
+			return index < 0 ? null : entries[index + 1];
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return indexOf(key) >= 0;
+		}
+
+		@Override
+		public void forEach(BiConsumer<? super String, ? super String> action) {
+			for (int i = 0; i < entries.length; i += 2) {
+				action.accept(entries[i], entries[i + 1]);
+			}
+		}
+
+		@Override
+		public Set<Entry<String, String>> entrySet() {
+			return new AbstractSet<>() {
+				@Override
+				public int size() {
+					return Snapshot.this.size();
+				}
+
+				@Override
+				public Iterator<Entry<String, String>> iterator() {
+					return new Iterator<>() {
+						private int next;
+
+						@Override
+						public boolean hasNext() {
+							return next < entries.length;
+						}
+
+						@Override
+						public Entry<String, String> next() {
+							if (!hasNext()) {
+								throw new NoSuchElementException();
+							}
+							Entry<String, String> entry = new SimpleImmutableEntry<>(entries[next], entries[next + 1]);
+							next += 2;
+							return entry;
+						}
+					};
+				}
+			};
+		}
+
+		private int indexOf(Object key) {
+			for (int i = 0; i < entries.length; i += 2) {
+				if (entries[i].equals(key)) {
+					return i;
+				}
+			}
+			return -1;
+		}
+	}
+}
@@ -0,0 +1,158 @@
+package io.github.zeromok.logging.mdc;
+
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.spi.MDCAdapter;
+
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+
+import io.github.zeromok.context.RequestContext;
+import io.github.zeromok.context.TraceContext;
+import io.github.zeromok.context.TraceContextHolder;
+
+/// TraceContext를 logback의 MDC로 보이게 해주는 MDCAdapter
+/// - %X{traceId}, MDC.get("traceId") 는 바인딩된 TraceContext에서 값을 읽는다
+/// - 그 외의 키와 MDC.put() 으로 직접 넣은 값은 delegate(일반 MDC)에 저장된다
+/// - 같은 키가 양쪽에 있으면 MDC.put() 으로 넣은 값이 우선한다
+/// TraceContext가 바인딩되지 않은 스레드에서는 delegate와 똑같이 동작하므로
+/// 다른 프로파일(mdc-filter 등)에서도 그대로 사용할 수 있다
+/// logback 은 LogbackMDCAdapter 면 로그 이벤트마다 getPropertyMap() 을 부르므로 이를 상속하고,
+/// TraceContext 와 delegate 스냅샷이 그대로면 직전에 합친 읽기 전용 맵을 재사용한다
+/// (delegate 기본값 SmallArrayMdcAdapter 는 쓰기 전까지 같은 스냅샷을 돌려준다)
+/// getCopyOfContextMap() 은 SLF4J 규약대로 수정 가능한 새 맵을 돌려준다
+/// RequestContext 가 바인딩되어 있으면 인증된 사용자 id 도 userId 키로 보여준다
+public class TraceContextMdcAdapter extends LogbackMDCAdapter {
+
+	private final MDCAdapter delegate;
+	private final ThreadLocal<MergedView> mergedView = ThreadLocal.withInitial(MergedView::new);
+
+	public TraceContextMdcAdapter() {
+		this(new SmallArrayMdcAdapter());
+	}
+
+	public TraceContextMdcAdapter(MDCAdapter delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public String get(String key) {
+		String value = delegate.get(key);
+		if (value != null) {
+			return value;
+		}
+		if (RequestContext.USER_ID.equals(key)) {
+			long userId = currentUserId();
+			return userId == RequestContext.NO_USER ? null : Long.toString(userId);
+		}
+		TraceContext context = TraceContextHolder.current();
+		return context == null ? null : context.get(key);
+	}
+
+	/// 읽기 전용 맵 (다음 쓰기나 바인딩 변경 전까지 같은 객체)
+	@Override
+	public Map<String, String> getPropertyMap() {
+		Map<String, String> explicit = delegate instanceof LogbackMDCAdapter readOnly
+			? readOnly.getPropertyMap()
+			: delegate.getCopyOfContextMap();
+		TraceContext context = TraceContextHolder.current();
+		if (context == null) {
+			return explicit;
+		}
+
+		long userId = currentUserId();
+		MergedView view = mergedView.get();
+		if (view.context != context || view.explicit != explicit || view.userId != userId) {
+			Map<String, String> merged = new HashMap<>();
+			putIfNotNull(merged, TraceContext.TRACE_ID, context.traceId());
+			putIfNotNull(merged, TraceContext.REQUEST_METHOD, context.method());
+			putIfNotNull(merged, TraceContext.REQUEST_URI, context.uri());
+			if (userId != RequestContext.NO_USER) {
+				merged.put(RequestContext.USER_ID, Long.toString(userId));
+			}
+			if (explicit != null) {
+				merged.putAll(explicit);
+			}
+			view.context = context;
+			view.explicit = explicit;
+			view.userId = userId;
+			view.merged = Collections.unmodifiableMap(merged);
+		}
+		return view.merged;
+	}
+
+	@Override
+	public Map<String, String> getCopyOfContextMap() {
+		Map<String, String> view = getPropertyMap();
+		return view == null ? null : new HashMap<>(view);
+	}
+
+	@Override
+	public Set<String> getKeys() {
+		Map<String, String> view = getPropertyMap();
+		return view == null ? null : view.keySet();
+	}
+
+	private static long currentUserId() {
+		RequestContext request = RequestContext.current();
+		return request == null ? RequestContext.NO_USER : request.userId();
+	}
+
+	private static void putIfNotNull(Map<String, String> map, String key, String value) {
+		if (value != null) {
+			map.put(key, value);
+		}
+	}
+
+	// 쓰기 연산은 모두 delegate로 보낸다 (TraceContext의 수명은 TraceContextHolder.bind()가 관리)
+	@Override
+	public void put(String key, String val) {
+		delegate.put(key, val);
+	}
+
+	@Override
+	public void remove(String key) {
+		delegate.remove(key);
+	}
+
+	@Override
+	public void clear() {
+		delegate.clear();
+	}
+
+	@Override
+	public void setContextMap(Map<String, String> contextMap) {
+		delegate.setContextMap(contextMap);
+	}
+
+	@Override
+	public void pushByKey(String key, String value) {
+		delegate.pushByKey(key, value);
+	}
+
+	@Override
+	public String popByKey(String key) {
+		return delegate.popByKey(key);
+	}
+
+	@Override
+	public Deque<String> getCopyOfDequeByKey(String key) {
+		return delegate.getCopyOfDequeByKey(key);
+	}
+
+	@Override
+	public void clearDequeByKey(String key) {
+		delegate.clearDequeByKey(key);
+	}
+
+	// 스레드별로 마지막에 합친 맵 (입력 두 개가 같은 객체면 재사용)
+	private static final class MergedView {
+		private TraceContext context;
+		private Map<String, String> explicit;
+		private long userId;
+		private Map<String, String> merged;
+	}
+}
@@ -0,0 +1,73 @@
+package io.github.zeromok.logging.mdc;
+
+import org.slf4j.ILoggerFactory;
+import org.slf4j.IMarkerFactory;
+import org.slf4j.helpers.BasicMarkerFactory;
+import org.slf4j.helpers.Util;
+import org.slf4j.spi.MDCAdapter;
+import org.slf4j.spi.SLF4JServiceProvider;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.util.ContextInitializer;
+import ch.qos.logback.core.CoreConstants;
+import ch.qos.logback.core.joran.spi.JoranException;
+import ch.qos.logback.core.util.StatusPrinter;
+
+/// logback 기본 Provider(LogbackServiceProvider)와 같지만 MDCAdapter만 TraceContextMdcAdapter로 바꾼다
+/// logback은 LoggerContext 초기화 시점에 MDCAdapter를 한 번만 설정할 수 있으므로
+/// SLF4J Provider 단계에서 교체해야 한다
+/// 사용법: -Dslf4j.provider=io.github.zeromok.logging.mdc.TraceContextServiceProvider
+/// (bootRun, test, jmh 태스크와 MdcLoggingExampleApplication.main()에서 설정됨)
+/// mdc-virtual 프로파일만이 아니라 모든 프로파일에 설정하는 이유:
+/// - Provider 는 SLF4J 초기화 때(Spring 이 프로파일을 읽기 전) 한 번 정해지므로 프로파일별로 바꿀 수 없다
+/// - mdc-filter, mdc-interceptor 도 RequestContext 를 바인딩하고, %X{traceId}/%X{userId} 는 이 어댑터가 보여준다
+///   (이 Provider 없이 실행되면 Filter/Interceptor 가 MDC.put() 으로 대체한다)
+/// - 바인딩된 컨텍스트가 없는 스레드에서는 delegate 와 똑같이 동작하므로 다른 프로파일의 동작은 바뀌지 않는다
+public class TraceContextServiceProvider implements SLF4JServiceProvider {
+
+	public static final String PROVIDER_PROPERTY = "slf4j.provider";
+
+	// SLF4J 2.0.x API 버전
+	private static final String REQUESTED_API_VERSION = "2.0.99";
+
+	private LoggerContext loggerContext;
+	private IMarkerFactory markerFactory;
+	private MDCAdapter mdcAdapter;
+
+	@Override
+	public void initialize() {
+		loggerContext = new LoggerContext();
+		loggerContext.setName(CoreConstants.DEFAULT_CONTEXT_NAME);
+		try {
+			new ContextInitializer(loggerContext).autoConfig();
+		} catch (JoranException e) {
+			Util.report("Failed to auto configure default logger context", e);
+		}
+		StatusPrinter.printInCaseOfErrorsOrWarnings(loggerContext);
+		loggerContext.start();
+
+		markerFactory = new BasicMarkerFactory();
+		mdcAdapter = new TraceContextMdcAdapter();
+		loggerContext.setMDCAdapter(mdcAdapter);
+	}
+
+	@Override
+	public ILoggerFactory getLoggerFactory() {
+		return loggerContext;
+	}
+
+	@Override
+	public IMarkerFactory getMarkerFactory() {
+		return markerFactory;
+	}
+
+	@Override
+	public MDCAdapter getMDCAdapter() {
+		return mdcAdapter;
+	}
+
+	@Override
+	public String getRequestedApiVersion() {
+		return REQUESTED_API_VERSION;
+	}
+}
@@ -0,0 +1,261 @@
+package io.github.zeromok.logging.sampling;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+
+/// traceId 기반 tail sampling Appender (tail-sampling 프로파일)
+/// 요청 안의 로그:
+/// 1. Filter 가 TraceSampling.begin(traceId) 로 버퍼를 연다
+/// 2. 같은 traceId 의 DEBUG/INFO 이벤트는 하위 Appender 로 보내지 않고 버퍼에 모은다
+/// 3. 요청이 끝나면 아래 중 하나라도 해당할 때만 모은 이벤트 전체를 내보내고, 아니면 버린다
+///    - 실패: 응답 상태 400 이상이거나 요청 중 WARN/ERROR 가 기록됨
+///    - 느림: 처리 시간이 slowThresholdMillis 이상
+///    - 샘플: hash(traceId) 가 samplePercent 안에 들어감 (같은 traceId 는 어느 인스턴스에서도 같은 결정)
+/// 요청 밖의 로그(traceId 없음): Logger 별 토큰 버킷으로 초당 permitsPerSecond 개까지만 내보낸다
+/// WARN/ERROR 는 어느 경우에도 버리지 않는다
+public class TailSamplingAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+	implements AppenderAttachable<ILoggingEvent> {
+
+	private static final String TRACE_ID = "traceId";
+
+	private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+	private final ConcurrentHashMap<String, TraceBuffer> traces = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+	private final LongAdder keptTraces = new LongAdder();
+	private final LongAdder droppedTraces = new LongAdder();
+	private final LongAdder droppedEvents = new LongAdder();
+	private final LongAdder rateLimitedEvents = new LongAdder();
+
+	private double samplePercent = 10;
+	private long slowThresholdMillis = 500;
+	private int maxEventsPerTrace = 512;
+	private int maxActiveTraces = 10_000;
+	private double permitsPerSecond = 100;
+	private int burst = 200;
+
+	private long sampleThreshold;
+	private long slowThresholdNanos;
+
+	@Override
+	public void start() {
+		if (isStarted()) {
+			return;
+		}
+		if (samplePercent < 0 || samplePercent > 100) {
+			addError("samplePercent는 0 ~ 100 이어야 합니다: " + samplePercent);
+			return;
+		}
+		if (maxEventsPerTrace < 1 || maxActiveTraces < 1 || permitsPerSecond <= 0 || burst < 1) {
+			addError("maxEventsPerTrace, maxActiveTraces, permitsPerSecond, burst는 0보다 커야 합니다");
+			return;
+		}
+		sampleThreshold = (long)(samplePercent / 100 * (1L << 32));
+		slowThresholdNanos = slowThresholdMillis * 1_000_000;
+
+		super.start();
+		TraceSampling.install(this);
+		addInfo("TailSamplingAppender 시작. samplePercent: " + samplePercent
+			+ ", slowThresholdMillis: " + slowThresholdMillis + ", permitsPerSecond: " + permitsPerSecond);
+	}
+
+	@Override
+	public void stop() {
+		if (!isStarted()) {
+			return;
+		}
+		TraceSampling.uninstall(this);
+		super.stop();
+
+		// 종료 시점에 끝나지 않은 요청의 로그는 유실하지 않고 내보낸다
+		for (TraceBuffer buffer : traces.values()) {
+			buffer.flushTo(appenders);
+		}
+		traces.clear();
+		appenders.detachAndStopAllAppenders();
+	}
+
+	TraceSampling.Trace begin(String traceId) {
+		// 끝나지 않은 요청이 쌓이면 버퍼링하지 않고 그대로 내보낸다 (메모리 보호)
+		if (traces.size() >= maxActiveTraces) {
+			return TraceSampling.noop();
+		}
+		TraceBuffer buffer = new TraceBuffer(maxEventsPerTrace);
+		if (traces.putIfAbsent(traceId, buffer) != null) {
+			// 같은 traceId 로 동시에 들어온 요청은 먼저 시작한 요청의 결정을 따른다
+			return TraceSampling.noop();
+		}
+		return (status, durationNanos) -> end(traceId, buffer, status, durationNanos);
+	}
+
+	private void end(String traceId, TraceBuffer buffer, int status, long durationNanos) {
+		if (!traces.remove(traceId, buffer)) {
+			return;
+		}
+		if (status >= 400 || durationNanos >= slowThresholdNanos || buffer.hasFailure() || isSampled(traceId)) {
+			buffer.flushTo(appenders);
+			keptTraces.increment();
+			if (buffer.overflowed() > 0) {
+				droppedEvents.add(buffer.overflowed());
+			}
+		} else {
+			droppedEvents.add(buffer.discard());
+			droppedTraces.increment();
+		}
+	}
+
+	// String.hashCode 는 JVM 에 관계없이 같으므로 서비스 간에도 같은 traceId 는 같은 결정을 내린다
+	boolean isSampled(String traceId) {
+		int h = traceId.hashCode();
+		h ^= h >>> 16;
+		h *= 0x85ebca6b;
+		h ^= h >>> 13;
+		h *= 0xc2b2ae35;
+		h ^= h >>> 16;
+		return (h & 0xFFFFFFFFL) < sampleThreshold;
+	}
+
+	@Override
+	protected void append(ILoggingEvent event) {
+		Map<String, String> mdc = event.getMDCPropertyMap();
+		String traceId = mdc == null ? null : mdc.get(TRACE_ID);
+		TraceBuffer buffer = traceId == null ? null : traces.get(traceId);
+
+		if (buffer != null) {
+			if (!buffer.offer(event, appenders)) {
+				appenders.appendLoopOnAppenders(event);
+			}
+			return;
+		}
+
+		if (event.getLevel().isGreaterOrEqual(Level.WARN) || tryAcquire(event.getLoggerName())) {
+			appenders.appendLoopOnAppenders(event);
+		} else {
+			rateLimitedEvents.increment();
+		}
+	}
+
+	private boolean tryAcquire(String loggerName) {
+		long now = System.nanoTime();
+		TokenBucket bucket = buckets.get(loggerName);
+		if (bucket == null) {
+			bucket = buckets.computeIfAbsent(loggerName, key -> new TokenBucket(permitsPerSecond, burst, now));
+		}
+		return bucket.tryAcquire(now);
+	}
+
+	// 모니터링용 지표
+	public long getKeptTraces() {
+		return keptTraces.sum();
+	}
+
+	public long getDroppedTraces() {
+		return droppedTraces.sum();
+	}
+
+	public long getDroppedEvents() {
+		return droppedEvents.sum();
+	}
+
+	public long getRateLimitedEvents() {
+		return rateLimitedEvents.sum();
+	}
+
+	public int getActiveTraces() {
+		return traces.size();
+	}
+
+	// logback 설정(XML)에서 주입되는 값들
+	public double getSamplePercent() {
+		return samplePercent;
+	}
+
+	public void setSamplePercent(double samplePercent) {
+		this.samplePercent = samplePercent;
+	}
+
+	public long getSlowThresholdMillis() {
+		return slowThresholdMillis;
+	}
+
+	public void setSlowThresholdMillis(long slowThresholdMillis) {
+		this.slowThresholdMillis = slowThresholdMillis;
+	}
+
+	public int getMaxEventsPerTrace() {
+		return maxEventsPerTrace;
+	}
+
+	public void setMaxEventsPerTrace(int maxEventsPerTrace) {
+		this.maxEventsPerTrace = maxEventsPerTrace;
+	}
+
+	public int getMaxActiveTraces() {
+		return maxActiveTraces;
+	}
+
+	public void setMaxActiveTraces(int maxActiveTraces) {
+		this.maxActiveTraces = maxActiveTraces;
+	}
+
+	public double getPermitsPerSecond() {
+		return permitsPerSecond;
+	}
+
+	public void setPermitsPerSecond(double permitsPerSecond) {
+		this.permitsPerSecond = permitsPerSecond;
+	}
+
+	public int getBurst() {
+		return burst;
+	}
+
+	public void setBurst(int burst) {
+		this.burst = burst;
+	}
+
+	// AppenderAttachable: <appender-ref> 로 하위 Appender를 연결한다
+	@Override
+	public void addAppender(Appender<ILoggingEvent> newAppender) {
+		appenders.addAppender(newAppender);
+	}
+
+	@Override
+	public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+		return appenders.iteratorForAppenders();
+	}
+
+	@Override
+	public Appender<ILoggingEvent> getAppender(String name) {
+		return appenders.getAppender(name);
+	}
+
+	@Override
+	public boolean isAttached(Appender<ILoggingEvent> appender) {
+		return appenders.isAttached(appender);
+	}
+
+	@Override
+	public void detachAndStopAllAppenders() {
+		appenders.detachAndStopAllAppenders();
+	}
+
+	@Override
+	public boolean detachAppender(Appender<ILoggingEvent> appender) {
+		return appenders.detachAppender(appender);
+	}
+
+	@Override
+	public boolean detachAppender(String name) {
+		return appenders.detachAppender(name);
+	}
+}
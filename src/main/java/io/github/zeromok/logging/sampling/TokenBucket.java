@@ -0,0 +1,32 @@
+package io.github.zeromok.logging.sampling;
+
+/// 초당 permitsPerSecond 개씩 채워지고 최대 burst 개까지 쌓이는 토큰 버킷
+/// 요청 밖(스케줄러, 배치 스레드 등) 로그를 Logger 별로 제한하는 데 사용한다
+final class TokenBucket {
+
+	private final double permitsPerNano;
+	private final double burst;
+
+	private double tokens;
+	private long lastRefill;
+
+	TokenBucket(double permitsPerSecond, int burst, long nowNanos) {
+		this.permitsPerNano = permitsPerSecond / 1_000_000_000.0;
+		this.burst = burst;
+		this.tokens = burst;
+		this.lastRefill = nowNanos;
+	}
+
+	synchronized boolean tryAcquire(long nowNanos) {
+		long elapsed = nowNanos - lastRefill;
+		if (elapsed > 0) {
+			tokens = Math.min(burst, tokens + elapsed * permitsPerNano);
+			lastRefill = nowNanos;
+		}
+		if (tokens >= 1) {
+			tokens -= 1;
+			return true;
+		}
+		return false;
+	}
+}
@@ -0,0 +1,70 @@
+package io.github.zeromok.logging.sampling;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+import io.github.zeromok.logging.DeferredFormatting;
+
+/// traceId 하나에 속한 DEBUG/INFO 이벤트를 요청이 끝날 때까지 모아두는 버퍼
+/// - WARN 이상이 들어오면 그 시점까지 모은 이벤트를 바로 내보내고 이후 이벤트는 버퍼링하지 않는다
+/// - MdcTaskDecorator 로 traceId 가 전파된 다른 스레드에서도 쓰일 수 있어 synchronized 로 보호한다
+final class TraceBuffer {
+
+	private final int maxEvents;
+	private final List<ILoggingEvent> events = new ArrayList<>();
+
+	private boolean passThrough;
+	private int overflowed;
+
+	TraceBuffer(int maxEvents) {
+		this.maxEvents = maxEvents;
+	}
+
+	/// @return 버퍼가 이벤트를 처리(보관 또는 초과로 폐기)했으면 true, 바로 내보내야 하면 false
+	synchronized boolean offer(ILoggingEvent event, AppenderAttachableImpl<ILoggingEvent> appenders) {
+		if (passThrough) {
+			return false;
+		}
+		if (event.getLevel().isGreaterOrEqual(Level.WARN)) {
+			// 실패한 요청: 앞선 DEBUG/INFO 까지 남긴다
+			flushTo(appenders);
+			return false;
+		}
+		if (events.size() >= maxEvents) {
+			overflowed++;
+			return true;
+		}
+		// MDC 를 지금 캡처한다 (요청 종료 후 MDC.clear() 된 뒤에 출력될 수 있으므로)
+		// 메시지 포맷은 미룬다: 샘플링에서 빠지는 요청의 이벤트는 포맷하지 않고 버린다
+		DeferredFormatting.prepare(event);
+		events.add(event);
+		return true;
+	}
+
+	synchronized void flushTo(AppenderAttachableImpl<ILoggingEvent> appenders) {
+		for (ILoggingEvent event : events) {
+			appenders.appendLoopOnAppenders(event);
+		}
+		events.clear();
+		passThrough = true;
+	}
+
+	/// @return 버린 이벤트 수 (버퍼 초과분 포함)
+	synchronized int discard() {
+		int discarded = events.size() + overflowed;
+		events.clear();
+		passThrough = true;
+		return discarded;
+	}
+
+	synchronized boolean hasFailure() {
+		return passThrough;
+	}
+
+	synchronized int overflowed() {
+		return overflowed;
+	}
+}
@@ -0,0 +1,41 @@
+package io.github.zeromok.logging.sampling;
+
+/// 요청 Filter 와 TailSamplingAppender 를 잇는 정적 진입점
+/// Appender 는 Spring 이 아닌 Logback 이 생성하므로 빈 주입 대신 시작 시 자신을 등록한다
+/// tail-sampling 프로파일이 꺼져 있으면 begin() 이 NOOP 을 돌려주므로 Filter 쪽 비용은 volatile 읽기 한 번이다
+public final class TraceSampling {
+
+	/// 요청 하나의 샘플링 범위. Filter 의 finally 에서 end() 를 호출한다
+	public interface Trace {
+		void end(int status, long durationNanos);
+	}
+
+	private static final Trace NOOP = (status, durationNanos) -> { };
+
+	private static volatile TailSamplingAppender appender;
+
+	private TraceSampling() {
+	}
+
+	public static Trace begin(String traceId) {
+		TailSamplingAppender current = appender;
+		if (current == null || traceId == null) {
+			return NOOP;
+		}
+		return current.begin(traceId);
+	}
+
+	static void install(TailSamplingAppender tailSamplingAppender) {
+		appender = tailSamplingAppender;
+	}
+
+	static void uninstall(TailSamplingAppender tailSamplingAppender) {
+		if (appender == tailSamplingAppender) {
+			appender = null;
+		}
+	}
+
+	static Trace noop() {
+		return NOOP;
+	}
+}
@@ -0,0 +1,121 @@
+package io.github.zeromok.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/// lock-free 나노초 지연 시간 히스토그램 (HdrHistogram 과 같은 log-linear 버킷)
+/// 버킷 구성:
+/// - 0 ~ 63ns 는 1ns 단위
+/// - 그 이상은 2의 거듭제곱 구간 [2^m, 2^(m+1)) 을 64개로 나눈다 → 상대 오차 최대 1/64 (약 1.6%)
+/// - 2^MAX_MAGNITUDE ns(약 18분) 이상은 마지막 버킷에 넣는다
+/// record() 는 배열 원소 하나의 원자적 증가뿐이라 할당과 락이 없어 운영 환경에서도 켜둘 수 있다
+public class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 6;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int MAX_MAGNITUDE = 40;
+	private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (MAX_MAGNITUDE - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+	private final LongAdder totalNanos = new LongAdder();
+	private final AtomicLong maxNanos = new AtomicLong();
+	private final long createdAt = System.nanoTime();
+
+	public void record(long nanos) {
+		if (nanos < 0) {
+			nanos = 0;
+		}
+		counts.incrementAndGet(bucketIndex(nanos));
+		totalNanos.add(nanos);
+
+		long currentMax;
+		while (nanos > (currentMax = maxNanos.get()) && !maxNanos.compareAndSet(currentMax, nanos)) {
+			// 다른 스레드가 먼저 갱신했으면 다시 비교
+		}
+	}
+
+	/// 현재까지의 분포를 복사한다 (조회 중에도 record()는 계속 가능)
+	public Snapshot snapshot() {
+		long[] copy = new long[BUCKET_COUNT];
+		long count = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			copy[i] = counts.get(i);
+			count += copy[i];
+		}
+		return new Snapshot(copy, count, totalNanos.sum(), maxNanos.get(), System.nanoTime() - createdAt);
+	}
+
+	static int bucketIndex(long nanos) {
+		if (nanos < SUB_BUCKET_COUNT) {
+			return (int)nanos;
+		}
+		int magnitude = 63 - Long.numberOfLeadingZeros(nanos);
+		if (magnitude > MAX_MAGNITUDE) {
+			return BUCKET_COUNT - 1;
+		}
+		int shift = magnitude - SUB_BUCKET_BITS;
+		int subBucket = (int)(nanos >>> shift) - SUB_BUCKET_COUNT;
+		return SUB_BUCKET_COUNT + shift * SUB_BUCKET_COUNT + subBucket;
+	}
+
+	// 버킷에 속하는 가장 큰 값 (HdrHistogram 의 highestEquivalentValue 와 같은 방식)
+	static long highestValueInBucket(int index) {
+		if (index < SUB_BUCKET_COUNT) {
+			return index;
+		}
+		int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT;
+		int subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT;
+		long lowest = (long)(SUB_BUCKET_COUNT + subBucket) << shift;
+		return lowest + (1L << shift) - 1;
+	}
+
+	public static final class Snapshot {
+		private final long[] counts;
+		private final long count;
+		private final long totalNanos;
+		private final long maxNanos;
+		private final long elapsedNanos;
+
+		private Snapshot(long[] counts, long count, long totalNanos, long maxNanos, long elapsedNanos) {
+			this.counts = counts;
+			this.count = count;
+			this.totalNanos = totalNanos;
+			this.maxNanos = maxNanos;
+			this.elapsedNanos = elapsedNanos;
+		}
+
+		public long count() {
+			return count;
+		}
+
+		public long maxNanos() {
+			return maxNanos;
+		}
+
+		public double meanNanos() {
+			return count == 0 ? 0 : (double)totalNanos / count;
+		}
+
+		/// 히스토그램 생성 이후 초당 처리 건수
+		public double throughputPerSecond() {
+			return elapsedNanos <= 0 ? 0 : count * 1_000_000_000.0 / elapsedNanos;
+		}
+
+		/// percentile: 0 ~ 100 (예: 99.9)
+		public long valueAtPercentile(double percentile) {
+			if (count == 0) {
+				return 0;
+			}
+			long target = Math.max(1, (long)Math.ceil(count * percentile / 100.0));
+			long seen = 0;
+			for (int i = 0; i < counts.length; i++) {
+				seen += counts[i];
+				if (seen >= target) {
+					return Math.min(highestValueInBucket(i), maxNanos);
+				}
+			}
+			return maxNanos;
+		}
+	}
+}
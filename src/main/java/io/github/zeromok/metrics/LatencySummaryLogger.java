@@ -0,0 +1,49 @@
+package io.github.zeromok.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import lombok.extern.slf4j.Slf4j;
+
+/// RouteLatencyRegistry 요약을 주기적으로 로그로 남긴다 (mdc.metrics.summary-log.enabled=true)
+/// 요청 스레드가 아닌 별도 스레드에서 실행되므로 traceId 없이 출력된다
+@Slf4j
+public class LatencySummaryLogger implements InitializingBean, DisposableBean {
+
+	private final RouteLatencyRegistry registry;
+	private final Duration interval;
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "latency-summary");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	public LatencySummaryLogger(RouteLatencyRegistry registry, Duration interval) {
+		this.registry = registry;
+		this.interval = interval;
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		long millis = interval.toMillis();
+		scheduler.scheduleAtFixedRate(this::logSummary, millis, millis, TimeUnit.MILLISECONDS);
+	}
+
+	void logSummary() {
+		for (RouteLatencySummary summary : registry.summaries()) {
+			log.info("Latency summary - {} {} [{}] count: {}, {}/s, p50: {}ms, p90: {}ms, p99: {}ms, p999: {}ms, max: {}ms",
+				summary.method(), summary.route(), summary.statusClass(), summary.count(), summary.throughputPerSecond(),
+				summary.p50Millis(), summary.p90Millis(), summary.p99Millis(), summary.p999Millis(), summary.maxMillis());
+		}
+	}
+
+	@Override
+	public void destroy() {
+		scheduler.shutdownNow();
+	}
+}
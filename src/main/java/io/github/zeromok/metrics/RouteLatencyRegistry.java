@@ -0,0 +1,72 @@
+package io.github.zeromok.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/// 라우트(HTTP 메서드 + URI 템플릿) × 상태 코드 구간(2xx, 4xx ...)별 LatencyHistogram 저장소
+/// - URI 템플릿(/mdc/api/users/{id})을 키로 써서 실제 id 값마다 히스토그램이 생기지 않게 한다
+/// - 메서드 → 템플릿 → 상태 구간 순으로 이미 있는 String 으로만 조회하므로
+///   처음 보는 라우트가 아니면 record() 에서 키 문자열을 새로 만들지 않는다
+public class RouteLatencyRegistry {
+
+	/// 매칭되는 핸들러가 없는 요청(404 등)은 모두 이 라우트로 모은다
+	public static final String UNMATCHED_ROUTE = "UNMATCHED";
+
+	private static final int STATUS_CLASS_COUNT = 5;
+
+	private final ConcurrentHashMap<String, ConcurrentHashMap<String, LatencyHistogram[]>> routes =
+		new ConcurrentHashMap<>();
+
+	public void record(String method, String route, int status, long nanos) {
+		histogramsFor(method, route == null ? UNMATCHED_ROUTE : route)[statusClassIndex(status)].record(nanos);
+	}
+
+	private LatencyHistogram[] histogramsFor(String method, String route) {
+		ConcurrentHashMap<String, LatencyHistogram[]> byRoute = routes.get(method);
+		if (byRoute == null) {
+			byRoute = routes.computeIfAbsent(method, key -> new ConcurrentHashMap<>());
+		}
+		LatencyHistogram[] histograms = byRoute.get(route);
+		if (histograms == null) {
+			histograms = byRoute.computeIfAbsent(route, key -> newHistograms());
+		}
+		return histograms;
+	}
+
+	private static LatencyHistogram[] newHistograms() {
+		LatencyHistogram[] histograms = new LatencyHistogram[STATUS_CLASS_COUNT];
+		for (int i = 0; i < STATUS_CLASS_COUNT; i++) {
+			histograms[i] = new LatencyHistogram();
+		}
+		return histograms;
+	}
+
+	// 1xx → 0, 2xx → 1, ... 5xx(및 범위 밖) → 4
+	private static int statusClassIndex(int status) {
+		int index = status / 100 - 1;
+		return index < 0 || index >= STATUS_CLASS_COUNT ? STATUS_CLASS_COUNT - 1 : index;
+	}
+
+	/// 기록이 있는 (라우트, 상태 구간) 조합의 요약
+	public List<RouteLatencySummary> summaries() {
+		List<RouteLatencySummary> summaries = new ArrayList<>();
+		for (Map.Entry<String, ConcurrentHashMap<String, LatencyHistogram[]>> byMethod : routes.entrySet()) {
+			for (Map.Entry<String, LatencyHistogram[]> byRoute : byMethod.getValue().entrySet()) {
+				LatencyHistogram[] histograms = byRoute.getValue();
+				for (int i = 0; i < histograms.length; i++) {
+					LatencyHistogram.Snapshot snapshot = histograms[i].snapshot();
+					if (snapshot.count() > 0) {
+						summaries.add(RouteLatencySummary.of(byMethod.getKey(), byRoute.getKey(), (i + 1) + "xx", snapshot));
+					}
+				}
+			}
+		}
+		summaries.sort(Comparator.comparing(RouteLatencySummary::route)
+			.thenComparing(RouteLatencySummary::method)
+			.thenComparing(RouteLatencySummary::statusClass));
+		return summaries;
+	}
+}
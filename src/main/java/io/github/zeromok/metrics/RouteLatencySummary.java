@@ -0,0 +1,41 @@
+package io.github.zeromok.metrics;
+
+/// 라우트 하나의 지연 시간 요약 (단위: ms)
+public record RouteLatencySummary(
+	String method,
+	String route,
+	String statusClass,
+	long count,
+	double throughputPerSecond,
+	double meanMillis,
+	double p50Millis,
+	double p90Millis,
+	double p99Millis,
+	double p999Millis,
+	double maxMillis
+) {
+
+	static RouteLatencySummary of(String method, String route, String statusClass, LatencyHistogram.Snapshot snapshot) {
+		return new RouteLatencySummary(
+			method,
+			route,
+			statusClass,
+			snapshot.count(),
+			round(snapshot.throughputPerSecond()),
+			toMillis(snapshot.meanNanos()),
+			toMillis(snapshot.valueAtPercentile(50)),
+			toMillis(snapshot.valueAtPercentile(90)),
+			toMillis(snapshot.valueAtPercentile(99)),
+			toMillis(snapshot.valueAtPercentile(99.9)),
+			toMillis(snapshot.maxNanos())
+		);
+	}
+
+	private static double toMillis(double nanos) {
+		return round(nanos / 1_000_000.0);
+	}
+
+	private static double round(double value) {
+		return Math.round(value * 1000) / 1000.0;
+	}
+}
@@ -0,0 +1,85 @@
+package io.github.zeromok.reactive;
+
+import java.util.function.Consumer;
+
+import org.slf4j.MDC;
+
+import io.github.zeromok.context.TraceContext;
+import io.github.zeromok.context.TraceContextHolder;
+import io.github.zeromok.logging.mdc.TraceContextMdcAdapter;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Signal;
+import reactor.util.context.ContextView;
+
+/// Reactor Context 에 담긴 TraceContext 를 로그를 남기는 순간에만 MDC 로 옮긴다
+/// 왜 자동 전파(Hooks.enableAutomaticContextPropagation)를 쓰지 않는가:
+/// - 자동 전파는 연산자마다 스레드가 바뀔 때마다 ThreadLocal 을 복원/정리한다
+/// - 로그는 요청당 몇 줄뿐인데 map/flatMap 마다 복사 비용을 낼 필요가 없다
+/// 사용법:
+/// - 체인 중간: .doOnEach(ReactiveMdc.onNext(user -> log.info(...)))
+/// - 체인 시작/분기: ReactiveMdc.log(() -> log.info(...)).then(...)
+/// TraceContextMdcAdapter 가 설치되어 있으면 MDC.put 3번 대신 TraceContext 하나만 바인딩한다
+public final class ReactiveMdc {
+
+	/// Reactor Context 의 키
+	public static final Class<TraceContext> CONTEXT_KEY = TraceContext.class;
+
+	private ReactiveMdc() {
+	}
+
+	/// 구독 시점의 Context 로 로그를 남기고 완료되는 Mono
+	public static Mono<Void> log(Runnable logStatement) {
+		return Mono.deferContextual(contextView -> {
+			run(contextView, logStatement);
+			return Mono.empty();
+		});
+	}
+
+	/// onNext 신호에서만 값과 함께 로그를 남긴다
+	public static <T> Consumer<Signal<T>> onNext(Consumer<T> logStatement) {
+		return signal -> {
+			if (signal.isOnNext()) {
+				run(signal.getContextView(), () -> logStatement.accept(signal.get()));
+			}
+		};
+	}
+
+	/// onError 신호에서만 예외와 함께 로그를 남긴다
+	public static <T> Consumer<Signal<T>> onError(Consumer<Throwable> logStatement) {
+		return signal -> {
+			if (signal.isOnError()) {
+				run(signal.getContextView(), () -> logStatement.accept(signal.getThrowable()));
+			}
+		};
+	}
+
+	public static void run(ContextView contextView, Runnable logStatement) {
+		run(contextView.getOrDefault(CONTEXT_KEY, null), logStatement);
+	}
+
+	public static void run(TraceContext context, Runnable logStatement) {
+		if (context == null) {
+			logStatement.run();
+			return;
+		}
+
+		if (MDC.getMDCAdapter() instanceof TraceContextMdcAdapter) {
+			try (TraceContextHolder.Scope ignored = TraceContextHolder.bind(context)) {
+				logStatement.run();
+			}
+			return;
+		}
+
+		// slf4j.provider 설정 없이 실행된 경우: 로그 한 줄 동안만 MDC 에 넣는다
+		MDC.put(TraceContext.TRACE_ID, context.traceId());
+		MDC.put(TraceContext.REQUEST_METHOD, context.method());
+		MDC.put(TraceContext.REQUEST_URI, context.uri());
+		try {
+			logStatement.run();
+		} finally {
+			MDC.remove(TraceContext.TRACE_ID);
+			MDC.remove(TraceContext.REQUEST_METHOD);
+			MDC.remove(TraceContext.REQUEST_URI);
+		}
+	}
+}
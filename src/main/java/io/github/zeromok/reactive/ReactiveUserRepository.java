@@ -0,0 +1,46 @@
+package io.github.zeromok.reactive;
+
+import java.time.Duration;
+
+import io.github.zeromok.domain.User;
+import io.github.zeromok.repository.UserStore;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/// UserRepository 의 논블로킹 버전
+/// Thread.sleep() 대신 Mono.delay() 로 DB 지연을 흉내 낸다
+/// → 대기하는 동안 이벤트 루프 스레드를 점유하지 않으므로 적은 스레드로 많은 동시 요청을 처리한다
+@Slf4j
+public class ReactiveUserRepository {
+
+	private static final Duration FIND_BY_ID_LATENCY = Duration.ofMillis(10);
+	private static final Duration FIND_BY_USERNAME_LATENCY = Duration.ofMillis(15);
+
+	private final UserStore userStore;
+
+	public ReactiveUserRepository(UserStore userStore) {
+		this.userStore = userStore;
+	}
+
+	public Mono<User> findById(Long id) {
+		return ReactiveMdc.log(() -> log.debug("ID로 사용자 찾기: {}", id))
+			.then(Mono.delay(FIND_BY_ID_LATENCY))
+			.then(Mono.defer(() -> Mono.justOrEmpty(userStore.findById(id))))
+			.doOnEach(ReactiveMdc.onNext(user -> log.debug("사용자 찾음: {}", user.getUsername())));
+	}
+
+	public Mono<User> findByUsername(String username) {
+		return ReactiveMdc.log(() -> log.debug("이름으로 사용자 찾기: {}", username))
+			.then(Mono.delay(FIND_BY_USERNAME_LATENCY))
+			.then(Mono.defer(() -> Mono.justOrEmpty(userStore.findByUsername(username))))
+			.doOnEach(ReactiveMdc.onNext(user -> log.debug("사용자 찾음: {}", user.getId())));
+	}
+
+	/// 저장은 블로킹이다 (쓰기 락, FileBackedUserStore 는 fsync 까지 기다림)
+	/// → 호출한 스레드(이벤트 루프, 검증 풀)가 아니라 boundedElastic 에서 실행한다
+	public Mono<Void> save(User user) {
+		return ReactiveMdc.log(() -> log.debug("사용자 저장: {}", user.getId()))
+			.then(Mono.<Void>fromRunnable(() -> userStore.save(user)).subscribeOn(Schedulers.boundedElastic()));
+	}
+}
@@ -0,0 +1,65 @@
+package io.github.zeromok.reactive;
+
+import io.github.zeromok.domain.LoginRequest;
+import io.github.zeromok.domain.LoginResponse;
+import io.github.zeromok.domain.User;
+import io.github.zeromok.security.CredentialVerifier;
+import io.github.zeromok.security.TokenSigner;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/// UserService 의 논블로킹 버전 (로그 메시지와 실패 조건은 동일)
+@Slf4j
+public class ReactiveUserService {
+
+	private final ReactiveUserRepository userRepository;
+	private final CredentialVerifier credentialVerifier;
+	private final TokenSigner tokenSigner;
+
+	public ReactiveUserService(
+		ReactiveUserRepository userRepository,
+		CredentialVerifier credentialVerifier,
+		TokenSigner tokenSigner
+	) {
+		this.userRepository = userRepository;
+		this.credentialVerifier = credentialVerifier;
+		this.tokenSigner = tokenSigner;
+	}
+
+	public Mono<LoginResponse> authenticate(LoginRequest request) {
+		return ReactiveMdc.log(() -> log.info("사용자 인증: {}", request.getUsername()))
+			.then(userRepository.findByUsername(request.getUsername()))
+			// 없는 사용자도 더미 해시와 비교해 있는 사용자와 응답 시간을 맞춘다
+			.switchIfEmpty(Mono.fromFuture(() -> credentialVerifier.verifyUnknownAsync(request.getPassword()))
+				.publishOn(Schedulers.parallel())
+				.then(ReactiveMdc.log(() -> log.error("사용자 없음: {}", request.getUsername())))
+				.then(Mono.<User>error(() -> new RuntimeException("사용자 없음"))))
+			// 해시 검증은 CredentialVerifier 의 전용 풀에서 실행 → 이벤트 루프를 막지 않는다
+			// 결과는 parallel 로 옮겨 받는다 → 토큰 서명, 응답 쓰기가 크기가 고정된 검증 풀을 차지하지 않게
+			.flatMap(user -> Mono.fromFuture(() ->
+					credentialVerifier.verifyAsync(user.getUsername(), request.getPassword(), user.getPassword()))
+				.publishOn(Schedulers.parallel())
+				.flatMap(verification -> {
+					if (!verification.matched()) {
+						return ReactiveMdc.log(() -> log.error("비밀번호를 확인해주세요. ID: {}", request.getUsername()))
+							.then(Mono.<LoginResponse>error(() -> new RuntimeException("비밀번호를 확인해주세요.")));
+					}
+					Mono<Void> upgrade = verification.needsUpgrade()
+						? userRepository.save(new User(user.getId(), user.getUsername(), user.getEmail(),
+							verification.upgradedHash()))
+						: Mono.empty();
+					return upgrade.then(Mono.fromSupplier(() ->
+						new LoginResponse(user.getId(), tokenSigner.issue(user.getId()))));
+				}))
+			.doOnEach(ReactiveMdc.onNext(response -> log.info("사용자 인증 완료. user: {}", request.getUsername())));
+	}
+
+	public Mono<User> getUserById(Long id) {
+		return ReactiveMdc.log(() -> log.info("사용자 찾기. ID: {}", id))
+			.then(userRepository.findById(id))
+			.switchIfEmpty(ReactiveMdc.log(() -> log.error("사용자를 찾을 수 없습니다. ID: {}", id))
+				.then(Mono.<User>error(() -> new RuntimeException("사용자를 찾을 수 없습니다."))))
+			.doOnEach(ReactiveMdc.onNext(user -> log.info("사용자 찾음. 이름: {}", user.getUsername())));
+	}
+}
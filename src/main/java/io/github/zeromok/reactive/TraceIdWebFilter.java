@@ -0,0 +1,67 @@
+package io.github.zeromok.reactive;
+
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+
+import io.github.zeromok.context.TraceContext;
+import io.github.zeromok.logging.sampling.TraceSampling;
+import io.github.zeromok.metrics.RouteLatencyRegistry;
+import io.github.zeromok.trace.TraceIdGenerator;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/// MdcLoggingFilter 의 WebFlux 버전 (mdc-reactive 프로파일)
+/// MdcLoggingFilter 와의 차이:
+/// 1. 요청 하나가 여러 스레드를 오가므로 MDC(ThreadLocal)에 넣지 않는다
+/// 2. 대신 TraceContext 를 Reactor Context 에 넣고, 로그를 남기는 지점에서만 ReactiveMdc 가 꺼내 쓴다
+/// 3. MDC.clear() 가 필요 없다 (Context 는 구독 단위라 요청이 끝나면 함께 사라진다)
+@Slf4j
+public class TraceIdWebFilter implements WebFilter {
+
+	private final TraceIdGenerator traceIdGenerator;
+	private final RouteLatencyRegistry routeLatencyRegistry;
+
+	public TraceIdWebFilter(TraceIdGenerator traceIdGenerator, RouteLatencyRegistry routeLatencyRegistry) {
+		this.traceIdGenerator = traceIdGenerator;
+		this.routeLatencyRegistry = routeLatencyRegistry;
+	}
+
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+		ServerHttpRequest request = exchange.getRequest();
+
+		// 1. traceId 생성 (기존 헤더가 있으면 재사용)
+		String traceId = request.getHeaders().getFirst("X-Trace-Id");
+		if (traceId == null || traceId.isEmpty()) {
+			traceId = traceIdGenerator.generate();
+		}
+
+		// 2. 요청 컨텍스트를 한 번 만들어 Reactor Context 로 전달
+		TraceContext context = new TraceContext(traceId, request.getMethod().name(), request.getPath().value());
+		TraceSampling.Trace sampling = TraceSampling.begin(traceId);
+		ReactiveMdc.run(context, () -> log.info("Request started - {} {}", context.method(), context.uri()));
+
+		long startTime = System.nanoTime();
+		return chain.filter(exchange)
+			.doFinally(signal -> {
+				long durationNanos = System.nanoTime() - startTime;
+				HttpStatusCode statusCode = exchange.getResponse().getStatusCode();
+				int status = statusCode == null ? 200 : statusCode.value();
+
+				Object pattern = exchange.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+				routeLatencyRegistry.record(context.method(),
+					pattern instanceof PathPattern pathPattern ? pathPattern.getPatternString() : null,
+					status, durationNanos);
+
+				ReactiveMdc.run(context, () -> log.info("Request completed - status: {}, duration: {}ms",
+					status, durationNanos / 1_000_000));
+				sampling.end(status, durationNanos);
+			})
+			.contextWrite(reactorContext -> reactorContext.put(ReactiveMdc.CONTEXT_KEY, context));
+	}
+}
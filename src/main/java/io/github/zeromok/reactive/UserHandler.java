@@ -0,0 +1,48 @@
+package io.github.zeromok.reactive;
+
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import io.github.zeromok.domain.LoginRequest;
+import io.github.zeromok.domain.UserResponse;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/// UserController 의 함수형(WebFlux) 버전
+@Slf4j
+public class UserHandler {
+
+	private final ReactiveUserService userService;
+
+	public UserHandler(ReactiveUserService userService) {
+		this.userService = userService;
+	}
+
+	public Mono<ServerResponse> login(ServerRequest request) {
+		return request.bodyToMono(LoginRequest.class)
+			.flatMap(loginRequest -> ReactiveMdc.log(() -> log.info("로그인 요청. for user: {}", loginRequest.getUsername()))
+				.then(userService.authenticate(loginRequest))
+				.doOnEach(ReactiveMdc.onNext(response -> log.info("로그인 성공. for user: {}", loginRequest.getUsername())))
+				.doOnEach(ReactiveMdc.onError(e -> log.error("로그인 실패. for user: {}", loginRequest.getUsername(), e))))
+			.flatMap(response -> ServerResponse.ok().bodyValue(response))
+			// 본문이 비어 있으면 flatMap 이 실행되지 않아 빈 응답(200)이 되므로 400 으로 바꾼다
+			.switchIfEmpty(ServerResponse.badRequest().build())
+			.onErrorResume(e -> ServerResponse.badRequest().build());
+	}
+
+	public Mono<ServerResponse> getUserById(ServerRequest request) {
+		Long id;
+		try {
+			id = Long.valueOf(request.pathVariable("id"));
+		} catch (NumberFormatException e) {
+			return ServerResponse.badRequest().build();
+		}
+
+		return ReactiveMdc.log(() -> log.info("유저 정보 요청. for id: {}", id))
+			.then(userService.getUserById(id))
+			.doOnEach(ReactiveMdc.onNext(user -> log.info("유저 정보 검색 완료. 이름: {}", user.getUsername())))
+			.doOnEach(ReactiveMdc.onError(e -> log.error("유저를 찾을 수 없습니다. with id: {}", id, e)))
+			.flatMap(user -> ServerResponse.ok().bodyValue(UserResponse.from(user)))
+			.onErrorResume(e -> ServerResponse.notFound().build());
+	}
+}
@@ -0,0 +1,664 @@
+package io.github.zeromok.repository;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+import io.github.zeromok.domain.User;
+import lombok.extern.slf4j.Slf4j;
+
+/// 메모리 매핑 append-only 로그 파일 기반 UserStore (재시작해도 데이터 유지)
+/// 파일:
+/// - users.log: 모든 변경(PUT/DELETE)을 순서대로 추가만 하는 로그 (MappedLog)
+/// - users.idx: id → 로그 오프셋 스냅샷 (종료 시, compaction 후 기록)
+/// 레코드: [int length][int crc32c][byte type][long id][username][email][password] (문자열은 [short 길이][UTF-8])
+/// 읽기:
+/// - 메모리에는 id → 오프셋(LongLongMap)과 username → id 인덱스만 둔다
+/// - 조회 시 매핑된 세그먼트의 slice 에서 바로 User 를 만든다 (파일 읽기 시스템 콜, 중간 버퍼 없음)
+/// 쓰기 (group commit):
+/// - 쓰기 락 안에서 매핑된 메모리에 레코드를 복사하고 인덱스를 갱신한다
+/// - 디스크 반영(force)은 락 밖에서 기다린다. 먼저 도착한 스레드가 그때까지 쌓인 모든 쓰기를 한 번에 force 하고,
+///   그동안 도착한 스레드들은 다음 force 에 묶인다 → 동시 쓰기가 많을수록 fsync 횟수가 줄어든다
+/// 시작:
+/// - 스냅샷이 있고 로그 generation 이 같으면 스냅샷을 읽고, 스냅샷 이후에 추가된 레코드만 재생한다
+/// - 없거나 맞지 않으면 로그 전체를 순서대로 재생한다 (CRC 가 맞지 않는 지점에서 멈추고 이후를 버림)
+/// compaction:
+/// - 죽은 레코드(덮어쓴 PUT, DELETE)가 살아있는 레코드보다 많아지면 살아있는 레코드만 새 파일로 복사해 교체한다
+/// - 교체하는 동안 쓰기 락을 잡으므로 그 사이 쓰기는 대기한다
+@Slf4j
+public class FileBackedUserStore implements UserStore, Closeable {
+
+	static final byte TYPE_PUT = 1;
+	static final byte TYPE_DELETE = 2;
+	static final byte TYPE_PADDING = 3;
+
+	static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+	private static final String LOG_FILE = "users.log";
+	private static final String SNAPSHOT_FILE = "users.idx";
+	private static final int SNAPSHOT_MAGIC = 0x4D444349;  // "MDCI"
+	private static final int RECORD_HEADER_SIZE = 17;     // length + crc + type + id
+	private static final long MIN_COMPACTION_BYTES = 1024 * 1024;
+
+	private final Path logPath;
+	private final Path snapshotPath;
+	private final int segmentSize;
+	private final boolean syncWrites;
+
+	private final StampedLock lock = new StampedLock();
+	private final ConcurrentHashMap<String, Long> usernameIndex = new ConcurrentHashMap<>();
+	private final Object syncMonitor = new Object();
+	private final ScheduledExecutorService compactionScheduler;
+
+	private volatile MappedLog logFile;
+	private volatile LongLongMap offsets = new LongLongMap();
+	private volatile long appendedPosition;
+	private long durablePosition;
+	// durablePosition 이 가리키는 로그의 generation (compaction 으로 로그가 바뀌면 증가)
+	private long durableGeneration;
+	private boolean syncing;
+	private long liveBytes;
+
+	public FileBackedUserStore(Path directory) {
+		this(directory, DEFAULT_SEGMENT_SIZE, true, Duration.ofMinutes(5));
+	}
+
+	/// @param syncWrites true 면 save/delete 가 디스크 반영(force)까지 기다린다
+	/// @param compactionInterval 0 이하면 자동 compaction 을 하지 않는다 (compact() 직접 호출)
+	public FileBackedUserStore(Path directory, int segmentSize, boolean syncWrites, Duration compactionInterval) {
+		this.logPath = directory.resolve(LOG_FILE);
+		this.snapshotPath = directory.resolve(SNAPSHOT_FILE);
+		this.segmentSize = segmentSize;
+		this.syncWrites = syncWrites;
+
+		long startTime = System.currentTimeMillis();
+		try {
+			Files.createDirectories(directory);
+			this.logFile = Files.exists(logPath) ? recover() : MappedLog.create(logPath, segmentSize, 0);
+		} catch (IOException e) {
+			throw new UncheckedIOException("사용자 저장소를 열 수 없습니다: " + logPath, e);
+		}
+		this.appendedPosition = logFile.end();
+		this.durablePosition = logFile.end();
+		this.durableGeneration = logFile.generation();
+		log.info("사용자 저장소 로드 완료. path: {}, users: {}, bytes: {}, {}ms",
+			logPath, offsets.size(), logFile.end(), System.currentTimeMillis() - startTime);
+
+		if (compactionInterval.isPositive()) {
+			compactionScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "user-store-compaction");
+				thread.setDaemon(true);
+				return thread;
+			});
+			long millis = compactionInterval.toMillis();
+			compactionScheduler.scheduleWithFixedDelay(this::compactIfNeeded, millis, millis, TimeUnit.MILLISECONDS);
+		} else {
+			compactionScheduler = null;
+		}
+	}
+
+	@Override
+	public Optional<User> findById(long id) {
+		long stamp = lock.tryOptimisticRead();
+		if (stamp != 0) {
+			try {
+				User user = read(logFile, offsets.get(id));
+				if (lock.validate(stamp)) {
+					return Optional.ofNullable(user);
+				}
+			} catch (RuntimeException e) {
+				// 쓰기/compaction 과 겹쳐 잘못된 오프셋을 읽은 경우: 아래에서 읽기 락으로 다시 조회
+			}
+		}
+
+		stamp = lock.readLock();
+		try {
+			return Optional.ofNullable(read(logFile, offsets.get(id)));
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	@Override
+	public Optional<User> findByUsername(String username) {
+		Long id = usernameIndex.get(username);
+		if (id == null) {
+			return Optional.empty();
+		}
+		return findById(id).filter(user -> username.equals(user.getUsername()));
+	}
+
+	@Override
+	public void save(User user) {
+		ByteBuffer record = encodePut(user);
+		long generation;
+		long end;
+		long stamp = lock.writeLock();
+		try {
+			checkUsername(user);
+			applyPut(logFile, user.getId(), user.getUsername(), logFile.append(record), record.limit());
+			generation = logFile.generation();
+			end = appended();
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+		awaitDurable(generation, end);
+	}
+
+	@Override
+	public void saveAll(Collection<User> users) {
+		List<ByteBuffer> records = new ArrayList<>(users.size());
+		for (User user : users) {
+			records.add(encodePut(user));
+		}
+
+		long generation;
+		long end;
+		long stamp = lock.writeLock();
+		try {
+			// 충돌이 있으면 로그에 일부만 추가되지 않도록 먼저 전체를 확인한다
+			UsernameConflicts.check(users, usernameIndex::get, id -> {
+				long offset = offsets.get(id);
+				return offset == LongLongMap.EMPTY ? null : readUsername(logFile, offset);
+			});
+			offsets.ensureCapacity(offsets.size() + users.size());
+			int i = 0;
+			for (User user : users) {
+				ByteBuffer record = records.get(i++);
+				applyPut(logFile, user.getId(), user.getUsername(), logFile.append(record), record.limit());
+			}
+			generation = logFile.generation();
+			end = appended();
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+		// 전체를 한 번만 force
+		awaitDurable(generation, end);
+	}
+
+	@Override
+	public boolean deleteById(long id) {
+		long generation;
+		long end;
+		long stamp = lock.writeLock();
+		try {
+			long offset = offsets.get(id);
+			if (offset == LongLongMap.EMPTY) {
+				return false;
+			}
+			String username = readUsername(logFile, offset);
+			liveBytes -= recordSize(logFile, offset);
+			logFile.append(encodeDelete(id));
+			offsets.remove(id);
+			usernameIndex.remove(username, id);
+			generation = logFile.generation();
+			end = appended();
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+		awaitDurable(generation, end);
+		return true;
+	}
+
+	@Override
+	public int size() {
+		long stamp = lock.readLock();
+		try {
+			return offsets.size();
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	@Override
+	public long scan(long cursor, int limit, Consumer<User> action) {
+		if (cursor < 0 || limit < 1) {
+			throw new IllegalArgumentException("cursor는 0 이상, limit는 1 이상이어야 합니다.");
+		}
+		if (cursor > Integer.MAX_VALUE) {
+			return -1;
+		}
+
+		List<User> page = new ArrayList<>(Math.min(limit, 1024));
+		int next;
+		long stamp = lock.readLock();
+		try {
+			MappedLog current = logFile;
+			next = offsets.scan((int)cursor, limit, (id, offset) -> page.add(read(current, offset)));
+		} finally {
+			lock.unlockRead(stamp);
+		}
+		page.forEach(action);
+		return next;
+	}
+
+	/// 죽은 레코드 비율이 절반을 넘으면 compaction
+	public void compactIfNeeded() {
+		long total = appendedPosition - MappedLog.HEADER_SIZE;
+		long live;
+		long stamp = lock.readLock();
+		try {
+			live = liveBytes;
+		} finally {
+			lock.unlockRead(stamp);
+		}
+		if (total >= MIN_COMPACTION_BYTES && total - live > live) {
+			compact();
+		}
+	}
+
+	/// 살아있는 레코드만 새 로그 파일로 복사하고 교체한다
+	public void compact() {
+		long compactedEnd = -1;
+		long compactedGeneration = -1;
+		long stamp = lock.writeLock();
+		try {
+			// 진행 중인 force 가 끝나길 기다리고, 교체가 끝날 때까지 새 force 를 막는다
+			beginExclusiveSync();
+			long startTime = System.currentTimeMillis();
+			MappedLog source = logFile;
+			long before = source.end();
+			Path compactPath = logPath.resolveSibling(LOG_FILE + ".compact");
+
+			LongLongMap compacted = new LongLongMap(offsets.size());
+			long[] copiedBytes = {0};
+			MappedLog target = MappedLog.create(compactPath, segmentSize, source.generation() + 1);
+			try {
+				// 디코딩 없이 레코드 바이트를 그대로 복사한다
+				offsets.forEach((id, offset) -> {
+					int size = recordSize(source, offset);
+					compacted.put(id, target.append(source.slice(offset, size)));
+					copiedBytes[0] += size;
+				});
+			} finally {
+				target.close();
+			}
+			long end = target.end();
+
+			source.close();
+			Files.move(compactPath, logPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+			MappedLog reopened = MappedLog.open(logPath, segmentSize);
+			reopened.mapAll();
+			reopened.end(end);
+			logFile = reopened;
+			offsets = compacted;
+			liveBytes = copiedBytes[0];
+			appendedPosition = end;
+			compactedEnd = end;
+			compactedGeneration = reopened.generation();
+			writeSnapshot();
+
+			log.info("사용자 저장소 compaction 완료. {} → {} bytes, {}ms",
+				before, end, System.currentTimeMillis() - startTime);
+		} catch (IOException e) {
+			throw new UncheckedIOException("compaction 실패: " + logPath, e);
+		} finally {
+			endExclusiveSync(compactedGeneration, compactedEnd);
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (compactionScheduler != null) {
+			compactionScheduler.shutdownNow();
+		}
+		long stamp = lock.writeLock();
+		try {
+			writeSnapshot();
+			logFile.close();
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	// ---------- 복구 ----------
+
+	private MappedLog recover() throws IOException {
+		MappedLog opened = MappedLog.open(logPath, segmentSize);
+		opened.mapAll();
+
+		long replayFrom = loadSnapshot(opened);
+		if (replayFrom < 0) {
+			offsets = new LongLongMap();
+			usernameIndex.clear();
+			liveBytes = 0;
+			replayFrom = MappedLog.HEADER_SIZE;
+		}
+		opened.end(replay(opened, replayFrom));
+		return opened;
+	}
+
+	/// 스냅샷을 읽어 인덱스를 채우고 재생을 시작할 오프셋을 반환한다 (사용할 수 없으면 -1)
+	private long loadSnapshot(MappedLog opened) throws IOException {
+		if (!Files.exists(snapshotPath)) {
+			return -1;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath)))) {
+			if (in.readInt() != SNAPSHOT_MAGIC || in.readLong() != opened.generation()) {
+				return -1;
+			}
+			long end = in.readLong();
+			int count = in.readInt();
+			if (end > opened.capacity()) {
+				return -1;
+			}
+
+			LongLongMap loaded = new LongLongMap(count);
+			for (int i = 0; i < count; i++) {
+				long id = in.readLong();
+				long offset = in.readLong();
+				loaded.put(id, offset);
+				usernameIndex.put(readUsername(opened, offset), id);
+				liveBytes += recordSize(opened, offset);
+			}
+			offsets = loaded;
+			return end;
+		} catch (IOException | RuntimeException e) {
+			log.warn("스냅샷을 사용할 수 없어 로그 전체를 재생합니다. error: {}", e.getMessage());
+			return -1;
+		}
+	}
+
+	/// from 부터 레코드를 순서대로 적용하고 마지막으로 유효한 레코드의 끝을 반환한다
+	private long replay(MappedLog opened, long from) throws IOException {
+		long capacity = opened.capacity();
+		long position = from;
+		CRC32C crc = new CRC32C();
+
+		while (position < capacity) {
+			int remaining = opened.remainingInSegment(position);
+			if (remaining < MappedLog.MIN_RECORD_SIZE) {
+				position += remaining;
+				continue;
+			}
+			int length = opened.readInt(position);
+			if (length == 0) {
+				break;
+			}
+			if (length < MappedLog.MIN_RECORD_SIZE - 4 || length + 4 > remaining) {
+				log.warn("손상된 레코드 길이. offset: {}, length: {}", position, length);
+				opened.zeroFrom(position);
+				break;
+			}
+
+			ByteBuffer record = opened.slice(position, length + 4);
+			byte type = record.get(8);
+			if (type == TYPE_PADDING) {
+				position += length + 4;
+				continue;
+			}
+			crc.reset();
+			crc.update(record.slice(8, length - 4));
+			if ((int)crc.getValue() != record.getInt(4)) {
+				// 마지막 쓰기 도중 중단된 레코드: 여기서 멈추고 이후는 버린다
+				log.warn("CRC 불일치, 이후 레코드를 버립니다. offset: {}", position);
+				opened.zeroFrom(position);
+				break;
+			}
+
+			long id = record.getLong(9);
+			if (type == TYPE_PUT) {
+				applyPut(opened, id, readUsername(opened, position), position, length + 4);
+			} else if (type == TYPE_DELETE) {
+				long previous = offsets.remove(id);
+				if (previous != LongLongMap.EMPTY) {
+					liveBytes -= recordSize(opened, previous);
+					usernameIndex.remove(readUsername(opened, previous), id);
+				}
+			}
+			position += length + 4;
+		}
+		return position;
+	}
+
+	private void writeSnapshot() throws IOException {
+		Path tmp = snapshotPath.resolveSibling(SNAPSHOT_FILE + ".tmp");
+		try (DataOutputStream out = new DataOutputStream(
+			new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+			out.writeInt(SNAPSHOT_MAGIC);
+			out.writeLong(logFile.generation());
+			out.writeLong(logFile.end());
+			out.writeInt(offsets.size());
+			IOException[] failure = new IOException[1];
+			offsets.forEach((id, offset) -> {
+				try {
+					out.writeLong(id);
+					out.writeLong(offset);
+				} catch (IOException e) {
+					failure[0] = e;
+				}
+			});
+			if (failure[0] != null) {
+				throw failure[0];
+			}
+		}
+		Files.move(tmp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	// ---------- group commit ----------
+
+	// 쓰기 락 안에서 호출
+	private long appended() {
+		appendedPosition = logFile.end();
+		return appendedPosition;
+	}
+
+	private void beginExclusiveSync() {
+		synchronized (syncMonitor) {
+			while (syncing) {
+				try {
+					syncMonitor.wait();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IllegalStateException("compaction 대기 중 인터럽트", e);
+				}
+			}
+			syncing = true;
+		}
+	}
+
+	// 교체에 성공했으면 새 로그 전체가 이미 force 되었으므로 그 끝을 durable 위치로 삼는다
+	// (compaction 후 로그가 짧아지므로 max 가 아니라 그대로 덮어써야 이후 쓰기가 force 된다)
+	// generation 도 함께 바꿔서, 이전 로그의 오프셋으로 기다리던 쓰기는 더 기다리지 않게 한다
+	private void endExclusiveSync(long compactedGeneration, long compactedEnd) {
+		synchronized (syncMonitor) {
+			if (compactedEnd >= 0) {
+				durableGeneration = compactedGeneration;
+				durablePosition = compactedEnd;
+			}
+			syncing = false;
+			syncMonitor.notifyAll();
+		}
+	}
+
+	// 테스트용: force 로 디스크에 반영된 위치와 지금까지 추가된 위치
+	long durablePosition() {
+		synchronized (syncMonitor) {
+			return durablePosition;
+		}
+	}
+
+	long appendedPosition() {
+		return appendedPosition;
+	}
+
+	// 테스트용: 쓰기 락을 푼 뒤 force 를 기다리기 직전에 실행 (compaction 과 겹치는 순서 재현)
+	volatile Runnable beforeAwaitDurable = () -> {
+	};
+
+	/// @param generation 쓰기를 추가한 로그의 generation
+	/// @param end 그 로그에서 쓰기가 끝난 위치
+	private void awaitDurable(long generation, long end) {
+		if (!syncWrites) {
+			return;
+		}
+		beforeAwaitDurable.run();
+		while (true) {
+			long from;
+			synchronized (syncMonitor) {
+				// 다른 스레드가 force 중이면 끝날 때까지 기다린다 (그 force 또는 다음 force 에 포함됨)
+				while (!isDurable(generation, end) && syncing) {
+					try {
+						syncMonitor.wait();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						return;
+					}
+				}
+				if (isDurable(generation, end)) {
+					return;
+				}
+				syncing = true;
+				from = durablePosition;
+			}
+
+			// 지금까지 추가된 모든 쓰기를 한 번에 force
+			long target = appendedPosition;
+			try {
+				logFile.force(from, target);
+			} finally {
+				synchronized (syncMonitor) {
+					durablePosition = Math.max(durablePosition, target);
+					syncing = false;
+					syncMonitor.notifyAll();
+				}
+			}
+		}
+	}
+
+	// syncMonitor 안에서 호출
+	// 그 사이 compaction 이 끝났으면 이전 로그의 살아있는 레코드는 새 로그에 복사되어 이미 force 되었다
+	// (오프셋은 더 이상 비교할 수 없으므로 generation 만 본다)
+	private boolean isDurable(long generation, long end) {
+		return generation != durableGeneration || durablePosition >= end;
+	}
+
+	// ---------- 레코드 인코딩/디코딩 ----------
+
+	// 쓰기 락(또는 복구 중 단일 스레드) 안에서 호출
+	private void checkUsername(User user) {
+		Long owner = usernameIndex.get(user.getUsername());
+		if (owner != null && owner.longValue() != user.getId()) {
+			throw new IllegalArgumentException("이미 사용 중인 사용자 이름입니다: " + user.getUsername());
+		}
+	}
+
+	private void applyPut(MappedLog source, long id, String username, long offset, int size) {
+		long previous = offsets.put(id, offset);
+		if (previous != LongLongMap.EMPTY) {
+			liveBytes -= recordSize(source, previous);
+			String previousUsername = readUsername(source, previous);
+			if (!previousUsername.equals(username)) {
+				usernameIndex.remove(previousUsername, id);
+			}
+		}
+		liveBytes += size;
+		usernameIndex.put(username, id);
+	}
+
+	private static ByteBuffer encodePut(User user) {
+		byte[] username = user.getUsername().getBytes(StandardCharsets.UTF_8);
+		byte[] email = bytes(user.getEmail());
+		byte[] password = bytes(user.getPassword());
+		int size = RECORD_HEADER_SIZE + 6 + username.length + length(email) + length(password);
+
+		ByteBuffer record = ByteBuffer.allocate(size);
+		record.putInt(size - 4);
+		record.putInt(0);
+		record.put(TYPE_PUT);
+		record.putLong(user.getId());
+		putString(record, username);
+		putString(record, email);
+		putString(record, password);
+		return withCrc(record);
+	}
+
+	private static ByteBuffer encodeDelete(long id) {
+		ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+		record.putInt(RECORD_HEADER_SIZE - 4);
+		record.putInt(0);
+		record.put(TYPE_DELETE);
+		record.putLong(id);
+		return withCrc(record);
+	}
+
+	private static ByteBuffer withCrc(ByteBuffer record) {
+		CRC32C crc = new CRC32C();
+		crc.update(record.array(), 8, record.capacity() - 8);
+		record.putInt(4, (int)crc.getValue());
+		return record.flip();
+	}
+
+	private static User read(MappedLog source, long offset) {
+		if (offset == LongLongMap.EMPTY) {
+			return null;
+		}
+		ByteBuffer record = source.slice(offset, recordSize(source, offset));
+		long id = record.getLong(9);
+		record.position(RECORD_HEADER_SIZE);
+		return new User(id, getString(record), getString(record), getString(record));
+	}
+
+	private static String readUsername(MappedLog source, long offset) {
+		ByteBuffer record = source.slice(offset, recordSize(source, offset));
+		record.position(RECORD_HEADER_SIZE);
+		return getString(record);
+	}
+
+	private static int recordSize(MappedLog source, long offset) {
+		return source.readInt(offset) + 4;
+	}
+
+	private static byte[] bytes(String value) {
+		return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static int length(byte[] value) {
+		return value == null ? 0 : value.length;
+	}
+
+	private static void putString(ByteBuffer buffer, byte[] value) {
+		if (value == null) {
+			buffer.putShort((short)-1);
+			return;
+		}
+		if (value.length > 0xFFFE) {
+			throw new IllegalArgumentException("문자열이 너무 깁니다: " + value.length);
+		}
+		buffer.putShort((short)value.length);
+		buffer.put(value);
+	}
+
+	private static String getString(ByteBuffer buffer) {
+		int length = Short.toUnsignedInt(buffer.getShort());
+		if (length == 0xFFFF) {
+			return null;
+		}
+		byte[] value = new byte[length];
+		buffer.get(value);
+		return new String(value, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,166 @@
+package io.github.zeromok.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+
+import io.github.zeromok.domain.User;
+
+/// 메모리 기반 UserStore
+/// 구성:
+/// - 기본 인덱스: LongUserMap (id → User, 박싱 없는 open addressing)
+/// - 보조 인덱스: ConcurrentHashMap (username → id)
+/// 동시성:
+/// - 쓰기는 StampedLock 쓰기 락 안에서 두 인덱스를 함께 갱신한다
+/// - findById 는 낙관적 읽기로 락 없이 조회하고, 도중에 쓰기가 있었으면 읽기 락으로 다시 조회한다
+/// - findByUsername 은 보조 인덱스로 id를 찾은 뒤 같은 방식으로 조회하고 username 일치 여부까지 확인한다
+/// 저장된 User 객체의 username 을 setter로 직접 바꾸면 보조 인덱스가 어긋나므로 반드시 save()를 거쳐야 한다
+public class InMemoryUserStore implements UserStore {
+
+	private final StampedLock lock = new StampedLock();
+	private final LongUserMap users;
+	private final ConcurrentHashMap<String, Long> usernameIndex;
+
+	public InMemoryUserStore() {
+		this(16);
+	}
+
+	public InMemoryUserStore(int expectedSize) {
+		this.users = new LongUserMap(expectedSize);
+		this.usernameIndex = new ConcurrentHashMap<>(expectedSize);
+	}
+
+	@Override
+	public Optional<User> findById(long id) {
+		long stamp = lock.tryOptimisticRead();
+		User user = users.get(id);
+		if (!lock.validate(stamp)) {
+			stamp = lock.readLock();
+			try {
+				user = users.get(id);
+			} finally {
+				lock.unlockRead(stamp);
+			}
+		}
+		return Optional.ofNullable(user);
+	}
+
+	@Override
+	public Optional<User> findByUsername(String username) {
+		Long id = usernameIndex.get(username);
+		if (id == null) {
+			return Optional.empty();
+		}
+
+		long stamp = lock.tryOptimisticRead();
+		User user = users.get(id);
+		if (lock.validate(stamp) && user != null && username.equals(user.getUsername())) {
+			return Optional.of(user);
+		}
+
+		// 쓰기와 겹친 경우: 읽기 락 안에서 두 인덱스를 다시 확인
+		stamp = lock.readLock();
+		try {
+			id = usernameIndex.get(username);
+			return Optional.ofNullable(id == null ? null : users.get(id));
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	@Override
+	public void save(User user) {
+		long stamp = lock.writeLock();
+		try {
+			put(user);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public void saveAll(Collection<User> batch) {
+		long stamp = lock.writeLock();
+		try {
+			// 충돌이 있으면 일부만 적재되지 않도록 먼저 전체를 확인한다
+			UsernameConflicts.check(batch, usernameIndex::get, id -> {
+				User current = users.get(id);
+				return current == null ? null : current.getUsername();
+			});
+			users.ensureCapacity(users.size() + batch.size());
+			for (User user : batch) {
+				put(user);
+			}
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public boolean deleteById(long id) {
+		long stamp = lock.writeLock();
+		try {
+			User removed = users.remove(id);
+			if (removed == null) {
+				return false;
+			}
+			usernameIndex.remove(removed.getUsername(), id);
+			return true;
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public long scan(long cursor, int limit, Consumer<User> action) {
+		if (cursor < 0 || limit < 1) {
+			throw new IllegalArgumentException("cursor는 0 이상, limit는 1 이상이어야 합니다.");
+		}
+		if (cursor > Integer.MAX_VALUE) {
+			return -1;
+		}
+
+		// 읽기 락 안에서는 페이지만 복사하고, action(네트워크 쓰기 등)은 락 밖에서 실행한다
+		List<User> page = new ArrayList<>(Math.min(limit, 1024));
+		int next;
+		long stamp = lock.readLock();
+		try {
+			next = users.scan((int)cursor, limit, page::add);
+		} finally {
+			lock.unlockRead(stamp);
+		}
+		page.forEach(action);
+		return next;
+	}
+
+	@Override
+	public int size() {
+		long stamp = lock.readLock();
+		try {
+			return users.size();
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	// 쓰기 락 안에서만 호출
+	private void put(User user) {
+		long id = user.getId();
+		String username = user.getUsername();
+
+		Long owner = usernameIndex.get(username);
+		if (owner != null && owner != id) {
+			throw new IllegalArgumentException("이미 사용 중인 사용자 이름입니다: " + username);
+		}
+
+		User previous = users.put(id, user);
+		if (previous != null && !previous.getUsername().equals(username)) {
+			usernameIndex.remove(previous.getUsername(), id);
+		}
+		usernameIndex.put(username, id);
+	}
+}
@@ -0,0 +1,200 @@
+package io.github.zeromok.repository;
+
+import java.util.Arrays;
+
+/// long 키 → long 값(0 이상) open addressing 해시 테이블
+/// FileBackedUserStore 의 id → 파일 오프셋 인덱스로 사용한다 (LongUserMap 과 같은 구조)
+/// 빈 슬롯은 values[i] == EMPTY(-1) 로 구분하므로 음수 값은 저장할 수 없다
+/// 스레드 안전하지 않다. 동기화는 FileBackedUserStore 가 담당한다
+final class LongLongMap {
+
+	static final long EMPTY = -1;
+
+	private static final int MIN_CAPACITY = 16;
+	private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+	private record Table(long[] keys, long[] values) {
+		Table(int capacity) {
+			this(new long[capacity], filled(capacity));
+		}
+
+		private static long[] filled(int capacity) {
+			long[] values = new long[capacity];
+			Arrays.fill(values, EMPTY);
+			return values;
+		}
+	}
+
+	/// 순회용 콜백 (박싱 없이 키와 값을 함께 받는다)
+	@FunctionalInterface
+	interface EntryConsumer {
+		void accept(long key, long value);
+	}
+
+	private volatile Table table;
+	private int size;
+
+	LongLongMap() {
+		this(MIN_CAPACITY);
+	}
+
+	LongLongMap(int expectedSize) {
+		this.table = new Table(capacityFor(expectedSize));
+	}
+
+	int size() {
+		return size;
+	}
+
+	long get(long key) {
+		Table current = table;
+		long[] keys = current.keys();
+		long[] values = current.values();
+		int mask = keys.length - 1;
+
+		int index = indexOf(key, mask);
+		for (int probe = 0; probe <= mask; probe++) {
+			long value = values[index];
+			if (value == EMPTY) {
+				return EMPTY;
+			}
+			if (keys[index] == key) {
+				return value;
+			}
+			index = (index + 1) & mask;
+		}
+		return EMPTY;
+	}
+
+	/// 저장 후 이전 값을 반환한다 (없었으면 EMPTY)
+	long put(long key, long value) {
+		if (value < 0) {
+			throw new IllegalArgumentException("value는 0 이상이어야 합니다: " + value);
+		}
+		long[] keys = table.keys();
+		long[] values = table.values();
+		int mask = keys.length - 1;
+
+		int index = indexOf(key, mask);
+		while (values[index] != EMPTY) {
+			if (keys[index] == key) {
+				long previous = values[index];
+				values[index] = value;
+				return previous;
+			}
+			index = (index + 1) & mask;
+		}
+
+		keys[index] = key;
+		values[index] = value;
+		size++;
+		if (size * 4 > keys.length * 3) {
+			resize(keys.length * 2);
+		}
+		return EMPTY;
+	}
+
+	/// 삭제 후 이전 값을 반환한다 (없었으면 EMPTY)
+	long remove(long key) {
+		long[] keys = table.keys();
+		long[] values = table.values();
+		int mask = keys.length - 1;
+
+		int index = indexOf(key, mask);
+		while (values[index] != EMPTY && keys[index] != key) {
+			index = (index + 1) & mask;
+		}
+		long previous = values[index];
+		if (previous == EMPTY) {
+			return EMPTY;
+		}
+
+		// backward shift (LongUserMap.remove 와 동일)
+		int gap = index;
+		int next = (gap + 1) & mask;
+		while (values[next] != EMPTY) {
+			int home = indexOf(keys[next], mask);
+			if (!isBetween(gap, next, home)) {
+				keys[gap] = keys[next];
+				values[gap] = values[next];
+				gap = next;
+			}
+			next = (next + 1) & mask;
+		}
+		keys[gap] = 0;
+		values[gap] = EMPTY;
+		size--;
+		return previous;
+	}
+
+	void ensureCapacity(int expectedSize) {
+		int capacity = capacityFor(expectedSize);
+		if (capacity > table.keys().length) {
+			resize(capacity);
+		}
+	}
+
+	void forEach(EntryConsumer action) {
+		Table current = table;
+		for (int i = 0; i < current.keys().length; i++) {
+			if (current.values()[i] != EMPTY) {
+				action.accept(current.keys()[i], current.values()[i]);
+			}
+		}
+	}
+
+	/// from 슬롯부터 최대 limit 건을 action 에 넘기고 다음 슬롯 번호를 반환한다 (끝이면 -1)
+	int scan(int from, int limit, EntryConsumer action) {
+		Table current = table;
+		long[] values = current.values();
+		int index = from;
+		int found = 0;
+		while (index < values.length && found < limit) {
+			if (values[index] != EMPTY) {
+				action.accept(current.keys()[index], values[index]);
+				found++;
+			}
+			index++;
+		}
+		return index < values.length ? index : -1;
+	}
+
+	private void resize(int newCapacity) {
+		Table old = table;
+		Table resized = new Table(newCapacity);
+		int mask = newCapacity - 1;
+		for (int i = 0; i < old.keys().length; i++) {
+			long value = old.values()[i];
+			if (value == EMPTY) {
+				continue;
+			}
+			int index = indexOf(old.keys()[i], mask);
+			while (resized.values()[index] != EMPTY) {
+				index = (index + 1) & mask;
+			}
+			resized.keys()[index] = old.keys()[i];
+			resized.values()[index] = value;
+		}
+		table = resized;
+	}
+
+	private static boolean isBetween(int from, int to, int target) {
+		if (from <= to) {
+			return from < target && target <= to;
+		}
+		return from < target || target <= to;
+	}
+
+	private static int indexOf(long key, int mask) {
+		long hash = key * GOLDEN_RATIO;
+		return (int)(hash ^ (hash >>> 32)) & mask;
+	}
+
+	private static int capacityFor(int expectedSize) {
+		long required = Math.max(MIN_CAPACITY, (long)expectedSize * 4 / 3 + 1);
+		if (required > (1 << 30)) {
+			throw new IllegalArgumentException("저장 가능한 최대 크기를 초과했습니다: " + expectedSize);
+		}
+		return Integer.highestOneBit((int)(required - 1)) << 1;
+	}
+}
@@ -0,0 +1,197 @@
+package io.github.zeromok.repository;
+
+import java.util.function.Consumer;
+
+import io.github.zeromok.domain.User;
+
+/// long 키 → User 를 저장하는 open addressing(linear probing) 해시 테이블
+/// HashMap<Long, User> 대비 장점:
+/// - 키를 long[] 에 그대로 저장하므로 Long 박싱과 Entry 객체가 없다
+/// - 메모리가 연속적이라 수백만 건에서도 캐시 효율이 좋다
+/// 삭제는 tombstone 없이 backward shift 로 처리하므로 삭제가 많아도 조회 성능이 떨어지지 않는다
+/// 스레드 안전하지 않다. 동기화는 InMemoryUserStore 가 담당한다
+/// 단, get()은 한 번 읽은 Table 안에서만 탐색하므로 쓰기와 겹쳐도 예외 없이 끝나며
+/// (결과는 틀릴 수 있음) StampedLock 의 낙관적 읽기와 함께 사용할 수 있다
+final class LongUserMap {
+
+	private static final int MIN_CAPACITY = 16;
+	private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+	// 빈 슬롯은 values[i] == null 로 구분한다 (키 0도 저장 가능)
+	private record Table(long[] keys, User[] values) {
+		Table(int capacity) {
+			this(new long[capacity], new User[capacity]);
+		}
+	}
+
+	private volatile Table table;
+	private int size;
+
+	LongUserMap() {
+		this(MIN_CAPACITY);
+	}
+
+	LongUserMap(int expectedSize) {
+		this.table = new Table(capacityFor(expectedSize));
+	}
+
+	int size() {
+		return size;
+	}
+
+	User get(long key) {
+		Table current = table;
+		long[] keys = current.keys();
+		User[] values = current.values();
+		int mask = keys.length - 1;
+
+		int index = indexOf(key, mask);
+		for (int probe = 0; probe <= mask; probe++) {
+			User value = values[index];
+			if (value == null) {
+				return null;
+			}
+			if (keys[index] == key) {
+				return value;
+			}
+			index = (index + 1) & mask;
+		}
+		return null;
+	}
+
+	/// 저장 후 이전 값을 반환한다
+	User put(long key, User value) {
+		if (value == null) {
+			throw new IllegalArgumentException("value는 null일 수 없습니다.");
+		}
+		long[] keys = table.keys();
+		User[] values = table.values();
+		int mask = keys.length - 1;
+
+		int index = indexOf(key, mask);
+		while (values[index] != null) {
+			if (keys[index] == key) {
+				User previous = values[index];
+				values[index] = value;
+				return previous;
+			}
+			index = (index + 1) & mask;
+		}
+
+		keys[index] = key;
+		values[index] = value;
+		size++;
+		if (size * 4 > keys.length * 3) {
+			resize(keys.length * 2);
+		}
+		return null;
+	}
+
+	/// 삭제 후 이전 값을 반환한다
+	User remove(long key) {
+		long[] keys = table.keys();
+		User[] values = table.values();
+		int mask = keys.length - 1;
+
+		int index = indexOf(key, mask);
+		while (values[index] != null && keys[index] != key) {
+			index = (index + 1) & mask;
+		}
+		User previous = values[index];
+		if (previous == null) {
+			return null;
+		}
+
+		// backward shift: 뒤따르는 원소 중 자기 자리(home)가 빈칸 이전인 원소를 당겨온다
+		int gap = index;
+		int next = (gap + 1) & mask;
+		while (values[next] != null) {
+			int home = indexOf(keys[next], mask);
+			if (!isBetween(gap, next, home)) {
+				keys[gap] = keys[next];
+				values[gap] = values[next];
+				gap = next;
+			}
+			next = (next + 1) & mask;
+		}
+		keys[gap] = 0;
+		values[gap] = null;
+		size--;
+		return previous;
+	}
+
+	/// 대량 적재 전에 미리 공간을 확보해 중간 resize 를 없앤다
+	void ensureCapacity(int expectedSize) {
+		int capacity = capacityFor(expectedSize);
+		if (capacity > table.keys().length) {
+			resize(capacity);
+		}
+	}
+
+	/// 슬롯 순서대로 순회 (순서는 보장하지 않음)
+	void forEach(Consumer<User> action) {
+		for (User value : table.values()) {
+			if (value != null) {
+				action.accept(value);
+			}
+		}
+	}
+
+	/// from 슬롯부터 최대 limit 건을 action 에 넘기고 다음 슬롯 번호를 반환한다 (끝이면 -1)
+	/// resize 가 일어나면 슬롯 위치가 바뀌므로 이어서 순회할 때 일부가 중복되거나 빠질 수 있다
+	int scan(int from, int limit, Consumer<User> action) {
+		User[] values = table.values();
+		int index = from;
+		int found = 0;
+		while (index < values.length && found < limit) {
+			User value = values[index++];
+			if (value != null) {
+				action.accept(value);
+				found++;
+			}
+		}
+		return index < values.length ? index : -1;
+	}
+
+	private void resize(int newCapacity) {
+		Table old = table;
+		Table resized = new Table(newCapacity);
+		int mask = newCapacity - 1;
+		for (int i = 0; i < old.keys().length; i++) {
+			User value = old.values()[i];
+			if (value == null) {
+				continue;
+			}
+			int index = indexOf(old.keys()[i], mask);
+			while (resized.values()[index] != null) {
+				index = (index + 1) & mask;
+			}
+			resized.keys()[index] = old.keys()[i];
+			resized.values()[index] = value;
+		}
+		// 완성된 테이블을 한 번에 교체 (읽기 쪽은 이전 테이블 또는 새 테이블 중 하나만 본다)
+		table = resized;
+	}
+
+	// (from, to] 구간(원형)에 target 이 포함되는지
+	private static boolean isBetween(int from, int to, int target) {
+		if (from <= to) {
+			return from < target && target <= to;
+		}
+		return from < target || target <= to;
+	}
+
+	private static int indexOf(long key, int mask) {
+		long hash = key * GOLDEN_RATIO;
+		return (int)(hash ^ (hash >>> 32)) & mask;
+	}
+
+	// 부하율 0.75 이하가 되도록 2의 거듭제곱 크기를 계산한다
+	private static int capacityFor(int expectedSize) {
+		long required = Math.max(MIN_CAPACITY, (long)expectedSize * 4 / 3 + 1);
+		if (required > (1 << 30)) {
+			throw new IllegalArgumentException("저장 가능한 최대 크기를 초과했습니다: " + expectedSize);
+		}
+		return Integer.highestOneBit((int)(required - 1)) << 1;
+	}
+}
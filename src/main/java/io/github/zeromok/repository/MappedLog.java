@@ -0,0 +1,204 @@
+package io.github.zeromok.repository;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/// 고정 크기 세그먼트 단위로 메모리 매핑한 append-only 로그 파일
+/// 구조:
+/// - 파일 앞 HEADER_SIZE 바이트: magic, version, generation(compaction 마다 증가)
+/// - 이후 [int length][length 바이트] 형태의 레코드가 이어진다
+/// - 레코드는 세그먼트 경계를 넘지 않는다. 남은 공간이 부족하면 패딩 레코드로 채우고 다음 세그먼트에 쓴다
+///   → 어떤 레코드든 세그먼트 하나의 slice 로 복사 없이 읽을 수 있다
+/// - 세그먼트는 필요할 때 READ_WRITE 로 매핑되며 이때 파일 크기도 함께 늘어난다 (끝부분은 0으로 채워짐)
+/// 쓰기(append)는 한 번에 하나의 스레드만 호출해야 한다 (FileBackedUserStore 의 쓰기 락)
+/// 읽기(slice, readInt)는 여러 스레드에서 동시에 호출할 수 있다
+final class MappedLog implements Closeable {
+
+	static final int MAGIC = 0x4D444355;  // "MDCU"
+	static final int VERSION = 1;
+	static final int HEADER_SIZE = 16;
+
+	/// 패딩 레코드를 쓸 수 있는 최소 크기 ([int length][int crc][byte type])
+	static final int MIN_RECORD_SIZE = 9;
+
+	private final FileChannel channel;
+	private final int segmentSize;
+	private final long generation;
+
+	private volatile MappedByteBuffer[] segments = new MappedByteBuffer[0];
+	private long end;
+
+	private MappedLog(FileChannel channel, int segmentSize, long generation) {
+		this.channel = channel;
+		this.segmentSize = segmentSize;
+		this.generation = generation;
+	}
+
+	/// 새 로그 파일을 만든다 (이미 있으면 덮어씀)
+	static MappedLog create(Path path, int segmentSize, long generation) throws IOException {
+		FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+			StandardOpenOption.READ, StandardOpenOption.WRITE);
+		MappedLog log = new MappedLog(channel, segmentSize, generation);
+		MappedByteBuffer first = log.segment(0);
+		first.putInt(0, MAGIC);
+		first.putInt(4, VERSION);
+		first.putLong(8, generation);
+		log.end = HEADER_SIZE;
+		return log;
+	}
+
+	/// 기존 로그 파일을 연다. 끝 위치는 복구 후 end(long) 로 지정한다
+	static MappedLog open(Path path, int segmentSize) throws IOException {
+		FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		if (channel.size() < HEADER_SIZE) {
+			channel.close();
+			throw new IOException("로그 파일 헤더가 없습니다: " + path);
+		}
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+		channel.read(header, 0);
+		if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+			channel.close();
+			throw new IOException("지원하지 않는 로그 파일입니다: " + path);
+		}
+		if (channel.size() % segmentSize != 0) {
+			channel.close();
+			throw new IOException("세그먼트 크기가 다릅니다. file: " + channel.size() + ", segmentSize: " + segmentSize);
+		}
+		MappedLog log = new MappedLog(channel, segmentSize, header.getLong(8));
+		log.end = HEADER_SIZE;
+		return log;
+	}
+
+	long generation() {
+		return generation;
+	}
+
+	int segmentSize() {
+		return segmentSize;
+	}
+
+	/// 다음 레코드를 쓸 위치
+	long end() {
+		return end;
+	}
+
+	void end(long end) {
+		this.end = end;
+	}
+
+	/// 매핑된 파일 크기 (복구 시 스캔 범위)
+	long capacity() throws IOException {
+		return channel.size();
+	}
+
+	/// 레코드를 끝에 추가하고 시작 오프셋을 반환한다
+	long append(ByteBuffer record) {
+		int size = record.remaining();
+		if (size > segmentSize) {
+			throw new IllegalArgumentException("레코드가 세그먼트보다 큽니다: " + size);
+		}
+		int remaining = segmentSize - offsetInSegment(end);
+		if (size > remaining) {
+			// 세그먼트 경계를 넘지 않도록 남은 공간을 패딩으로 채운다
+			if (remaining >= MIN_RECORD_SIZE) {
+				MappedByteBuffer current = segment(segmentIndex(end));
+				int position = offsetInSegment(end);
+				current.putInt(position, remaining - 4);
+				current.putInt(position + 4, 0);
+				current.put(position + 8, FileBackedUserStore.TYPE_PADDING);
+			}
+			end += remaining;
+		}
+
+		long offset = end;
+		segment(segmentIndex(offset)).put(offsetInSegment(offset), record, record.position(), size);
+		end += size;
+		return offset;
+	}
+
+	/// offset 부터 length 바이트를 복사 없이 읽는 view
+	ByteBuffer slice(long offset, int length) {
+		return segmentForRead(offset).slice(offsetInSegment(offset), length);
+	}
+
+	int readInt(long offset) {
+		return segmentForRead(offset).getInt(offsetInSegment(offset));
+	}
+
+	int remainingInSegment(long offset) {
+		return segmentSize - offsetInSegment(offset);
+	}
+
+	/// 복구 중 찢어진(torn) 레코드가 남긴 찌꺼기를 세그먼트 끝까지 0으로 지운다
+	void zeroFrom(long offset) {
+		MappedByteBuffer buffer = segment(segmentIndex(offset));
+		for (int i = offsetInSegment(offset); i < segmentSize; i++) {
+			buffer.put(i, (byte)0);
+		}
+	}
+
+	/// [from, to) 구간을 디스크에 기록한다 (group commit 의 fsync)
+	void force(long from, long to) {
+		MappedByteBuffer[] current = segments;
+		for (long position = from; position < to; ) {
+			int index = segmentIndex(position);
+			int start = offsetInSegment(position);
+			int length = (int)Math.min(segmentSize - start, to - position);
+			if (index < current.length) {
+				current[index].force(start, length);
+			}
+			position += length;
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		force(0, end);
+		channel.close();
+	}
+
+	private MappedByteBuffer segmentForRead(long offset) {
+		return segments[segmentIndex(offset)];
+	}
+
+	// 쓰기 스레드만 호출: 필요하면 세그먼트를 새로 매핑한다 (copy-on-write 로 배열 교체)
+	private MappedByteBuffer segment(int index) {
+		MappedByteBuffer[] current = segments;
+		if (index < current.length) {
+			return current[index];
+		}
+		MappedByteBuffer[] grown = Arrays.copyOf(current, index + 1);
+		try {
+			for (int i = current.length; i <= index; i++) {
+				grown[i] = channel.map(FileChannel.MapMode.READ_WRITE, (long)i * segmentSize, segmentSize);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("세그먼트 매핑 실패: " + index, e);
+		}
+		segments = grown;
+		return grown[index];
+	}
+
+	/// 복구 시작 전 파일 전체를 매핑한다
+	void mapAll() throws IOException {
+		long size = channel.size();
+		if (size > 0) {
+			segment((int)((size - 1) / segmentSize));
+		}
+	}
+
+	private int segmentIndex(long offset) {
+		return (int)(offset / segmentSize);
+	}
+
+	private int offsetInSegment(long offset) {
+		return (int)(offset % segmentSize);
+	}
+}
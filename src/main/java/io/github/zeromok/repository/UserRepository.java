@@ -1,28 +1,41 @@
 package io.github.zeromok.repository;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.springframework.stereotype.Repository;
 
+import io.github.zeromok.cache.UserCache;
 import io.github.zeromok.domain.User;
 import lombok.extern.slf4j.Slf4j;
 
 @Repository
 @Slf4j
 public class UserRepository {
-	// 실제 DB 대신 메모리 저장소 사용
-	private final Map<Long, User> users = new HashMap<>();
+	// 실제 DB 대신 메모리 저장소 사용 (동시 접근에 안전, id/username 모두 O(1) 조회)
+	private final UserStore userStore;
+	// 쓰기 경로가 여기 하나뿐이므로 캐시 무효화도 여기서 한다 (호출하는 쪽이 잊을 수 없게)
+	private final UserCache userCache;
+
+	public UserRepository(UserStore userStore, UserCache userCache) {
+		this.userStore = userStore;
+		this.userCache = userCache;
 
-	public UserRepository() {
 		// 테스트용 더미 데이터
-		users.put(1L, new User(1L, "alice", "alice@example.com", "password123"));
-		users.put(2L, new User(2L, "bob", "bob@example.com", "password456"));
-		users.put(3L, new User(3L, "charlie", "charlie@example.com", "password789"));
+		if (userStore.size() == 0) {
+			userStore.saveAll(List.of(
+				new User(1L, "alice", "alice@example.com", "password123"),
+				new User(2L, "bob", "bob@example.com", "password456"),
+				new User(3L, "charlie", "charlie@example.com", "password789")
+			));
+		}
 	}
 
 	public Optional<User> findById(Long id) {
+		if (id == null) {
+			return Optional.empty();
+		}
 		log.debug("ID로 사용자 찾기: {}", id);
 
 		// DB 조회 시뮬레이션 (약간의 지연)
@@ -32,7 +45,7 @@ public class UserRepository {
 			Thread.currentThread().interrupt();
 		}
 
-		User user = users.get(id);
+		User user = userStore.findById(id).orElse(null);
 		if (user != null) {
 			log.debug("사용자 찾음: {}", user.getUsername());
 		} else {
@@ -52,10 +65,8 @@ public class UserRepository {
 			Thread.currentThread().interrupt();
 		}
 
-		User user = users.values().stream()
-			.filter(u -> u.getUsername().equals(username))
-			.findFirst()
-			.orElse(null);
+		// 보조 인덱스(username → id)로 O(1) 조회
+		User user = userStore.findByUsername(username).orElse(null);
 
 		if (user != null) {
 			log.debug("사용자 찾음: {}", user.getId());
@@ -65,4 +76,31 @@ public class UserRepository {
 
 		return Optional.ofNullable(user);
 	}
+
+	/// 페이지 단위 순회 (UserStore.scan 참고)
+	public long scan(long cursor, int limit, Consumer<User> action) {
+		return userStore.scan(cursor, limit, action);
+	}
+
+	public int count() {
+		return userStore.size();
+	}
+
+	public void save(User user) {
+		log.debug("사용자 저장: {}", user.getId());
+		// username 이 바뀌면 이전 이름의 캐시도 지운다 (id 캐시에 없으면 UserCache 가 이전 이름을 모른다)
+		User previous = userStore.findById(user.getId()).orElse(null);
+		userStore.save(user);
+		userCache.invalidate(user);
+		if (previous != null && !previous.getUsername().equals(user.getUsername())) {
+			userCache.invalidate(previous);
+		}
+	}
+
+	public boolean deleteById(Long id) {
+		log.debug("사용자 삭제: {}", id);
+		boolean deleted = userStore.deleteById(id);
+		userCache.invalidate(id);
+		return deleted;
+	}
 }
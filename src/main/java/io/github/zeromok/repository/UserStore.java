@@ -0,0 +1,32 @@
+package io.github.zeromok.repository;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import io.github.zeromok.domain.User;
+
+/// 사용자 저장소 (UserRepository가 DB 대신 사용하는 저장 엔진)
+/// 구현체는 동시 읽기/쓰기에 안전해야 하며, id와 username 조회 모두 O(1) 이어야 한다
+public interface UserStore {
+
+	Optional<User> findById(long id);
+
+	Optional<User> findByUsername(String username);
+
+	/// id 기준으로 추가 또는 갱신한다. 다른 사용자가 쓰고 있는 username 이면 IllegalArgumentException
+	void save(User user);
+
+	/// 여러 사용자를 한 번에 적재한다 (락 획득과 테이블 확장을 한 번만 수행)
+	/// 배치 안에 username 충돌이 하나라도 있으면 아무것도 쓰지 않고 IllegalArgumentException
+	void saveAll(Collection<User> users);
+
+	boolean deleteById(long id);
+
+	/// cursor 위치부터 최대 limit 건을 action 에 넘기고 다음 cursor 를 반환한다 (더 없으면 -1, 처음은 0)
+	/// 전체를 한 번에 복사하지 않고 페이지 단위로 순회하기 위한 용도 (순서는 보장하지 않음)
+	/// 순회 도중 추가/삭제된 사용자는 포함될 수도, 빠질 수도 있다 (weakly consistent)
+	long scan(long cursor, int limit, Consumer<User> action);
+
+	int size();
+}
@@ -0,0 +1,44 @@
+package io.github.zeromok.repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+import io.github.zeromok.domain.User;
+
+/// saveAll 이 쓰기 전에 배치 전체의 username 충돌을 확인한다 (UserStore 구현체의 쓰기 락 안에서 호출)
+/// 배치를 순서대로 save 했을 때와 같은 결과를 낸다:
+/// - 앞 항목이 이름을 바꾸며 비운 username 은 뒤 항목이 쓸 수 있다
+/// - 배치 안에서 같은 username 을 서로 다른 id 가 쓰면 충돌이다
+final class UsernameConflicts {
+
+	private UsernameConflicts() {
+	}
+
+	/// @param indexOwner 저장소의 username → id (없으면 null)
+	/// @param currentUsername 저장소의 id → username (없으면 null)
+	/// @throws IllegalArgumentException 충돌하는 항목이 하나라도 있으면 (아무것도 쓰기 전에)
+	static void check(Collection<User> batch, Function<String, Long> indexOwner, LongFunction<String> currentUsername) {
+		// 배치 안에서 바뀐 소유자 (값이 null 이면 비워진 username)
+		Map<String, Long> owners = new HashMap<>();
+		Map<Long, String> usernames = new HashMap<>();
+		for (User user : batch) {
+			long id = user.getId();
+			String username = user.getUsername();
+
+			Long owner = owners.containsKey(username) ? owners.get(username) : indexOwner.apply(username);
+			if (owner != null && owner != id) {
+				throw new IllegalArgumentException("이미 사용 중인 사용자 이름입니다: " + username);
+			}
+
+			String previous = usernames.containsKey(id) ? usernames.get(id) : currentUsername.apply(id);
+			if (previous != null && !previous.equals(username)) {
+				owners.put(previous, null);
+			}
+			owners.put(username, id);
+			usernames.put(id, username);
+		}
+	}
+}
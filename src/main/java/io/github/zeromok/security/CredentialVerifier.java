@@ -0,0 +1,235 @@
+package io.github.zeromok.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.DisposableBean;
+
+import io.github.zeromok.cache.TtlLruCache;
+import io.github.zeromok.context.MdcPropagatingExecutorService;
+
+/// 비밀번호 검증 서비스
+/// 알고리즘:
+/// - 저장 값의 "{id}" 접두사로 PasswordHasher 를 고른다 (접두사가 없으면 legacy 로 간주)
+/// - 모르는 접두사는 불일치로 처리한다 (legacy 평문 비교로 넘기면 "{x}..." 저장 값 자체가 비밀번호가 된다)
+/// - 없는 사용자도 기본 hasher 로 만든 더미 해시와 한 번 비교한다 → 응답 시간으로 사용자 존재 여부를 알 수 없다
+/// - 새로 저장하는 값과 재해시는 항상 첫 번째(기본) hasher 로 만든다
+/// 전용 검증 풀:
+/// - 해시 계산은 CPU 를 오래 쓰므로 Tomcat/이벤트 루프 스레드가 아니라 크기가 고정된 풀에서 실행한다
+/// - 대기열이 가득 차면 즉시 거절한다 → 재배포 직후 로그인 폭주에도 CPU 사용량과 대기 시간의 상한이 정해진다
+/// 검증 캐시:
+/// - 최근에 성공한 (username, HMAC(username, 저장 값, 원문)) 을 TTL 동안 기억하고, 같은 입력이면 해시 계산을 건너뛴다
+/// - HMAC 키는 프로세스마다 무작위 → 캐시 내용만으로는 비밀번호를 대입해 볼 수 없다
+/// - 저장 값이 바뀌면(비밀번호 변경, 재해시) digest 가 달라져 자동으로 무효가 된다
+/// - 실패한 시도는 캐시하지 않는다 (틀린 비밀번호는 매번 해시 비용을 치른다)
+public class CredentialVerifier implements DisposableBean {
+
+	private static final String MAC_ALGORITHM = "HmacSHA256";
+
+	private final PasswordHasher encoder;
+	private final Map<String, PasswordHasher> hashers = new LinkedHashMap<>();
+	private final PasswordHasher legacy;
+	private final String dummyHash;
+	private final ThreadPoolExecutor pool;
+	private final ExecutorService executor;
+	private final TtlLruCache<String, byte[]> verified;
+	private final ThreadLocal<Mac> mac;
+
+	private final LongAdder cacheHits = new LongAdder();
+	private final LongAdder hashVerifications = new LongAdder();
+	private final LongAdder rejected = new LongAdder();
+
+	/// @param hashers 첫 번째가 기본 hasher (encode, 재해시에 사용)
+	/// @param legacy 접두사가 없는 저장 값을 검증할 hasher
+	public CredentialVerifier(
+		List<PasswordHasher> hashers,
+		PasswordHasher legacy,
+		int threads,
+		int queueCapacity,
+		int cacheSize,
+		Duration cacheTtl
+	) {
+		if (hashers.isEmpty()) {
+			throw new IllegalArgumentException("hasher가 하나 이상 필요합니다.");
+		}
+		this.encoder = hashers.get(0);
+		for (PasswordHasher hasher : hashers) {
+			this.hashers.put(hasher.id(), hasher);
+		}
+		this.legacy = legacy;
+		this.dummyHash = encoder.hash(Long.toHexString(new SecureRandom().nextLong()));
+
+		AtomicInteger sequence = new AtomicInteger();
+		this.pool = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueCapacity),
+			runnable -> {
+				Thread thread = new Thread(runnable, "credential-verify-" + sequence.getAndIncrement());
+				thread.setDaemon(true);
+				return thread;
+			},
+			new ThreadPoolExecutor.AbortPolicy());
+		this.executor = new MdcPropagatingExecutorService(pool);
+		this.verified = new TtlLruCache<>(cacheSize, cacheTtl);
+
+		byte[] key = new byte[32];
+		new SecureRandom().nextBytes(key);
+		SecretKeySpec secret = new SecretKeySpec(key, MAC_ALGORITHM);
+		this.mac = ThreadLocal.withInitial(() -> {
+			try {
+				Mac instance = Mac.getInstance(MAC_ALGORITHM);
+				instance.init(secret);
+				return instance;
+			} catch (GeneralSecurityException e) {
+				throw new IllegalStateException("HMAC 초기화 실패", e);
+			}
+		});
+	}
+
+	/// 새 비밀번호를 기본 hasher 로 해시한다
+	public String encode(String rawPassword) {
+		return encoder.hash(rawPassword);
+	}
+
+	/// 요청 스레드에서 호출: 검증 풀에서 실행하고 결과를 기다린다
+	/// @throws IllegalStateException 검증 대기열이 가득 찬 경우
+	public Verification verify(String username, String rawPassword, String encoded) {
+		try {
+			return verifyAsync(username, rawPassword, encoded).join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	/// 논블로킹 호출용 (WebFlux): 캐시에 있으면 바로 완료된 future 를 반환한다
+	public CompletableFuture<Verification> verifyAsync(String username, String rawPassword, String encoded) {
+		if (rawPassword == null || encoded == null) {
+			return CompletableFuture.completedFuture(Verification.MISMATCH);
+		}
+		byte[] digest = digest(username, rawPassword, encoded);
+		byte[] cached = verified.getIfPresent(username);
+		if (cached != null && MessageDigest.isEqual(cached, digest)) {
+			cacheHits.increment();
+			return CompletableFuture.completedFuture(Verification.MATCHED);
+		}
+
+		try {
+			return CompletableFuture.supplyAsync(() -> verifyHash(username, rawPassword, encoded, digest), executor);
+		} catch (RejectedExecutionException e) {
+			rejected.increment();
+			return CompletableFuture.failedFuture(
+				new IllegalStateException("인증 요청이 많아 잠시 후 다시 시도해주세요.", e));
+		}
+	}
+
+	/// 없는 사용자의 로그인 시도: 있는 사용자와 같은 해시 비용을 치르고 항상 불일치
+	/// @throws IllegalStateException 검증 대기열이 가득 찬 경우
+	public Verification verifyUnknown(String rawPassword) {
+		try {
+			return verifyUnknownAsync(rawPassword).join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	public CompletableFuture<Verification> verifyUnknownAsync(String rawPassword) {
+		String password = rawPassword == null ? "" : rawPassword;
+		try {
+			return CompletableFuture.supplyAsync(() -> {
+				hashVerifications.increment();
+				encoder.matches(password, dummyHash);
+				return Verification.MISMATCH;
+			}, executor);
+		} catch (RejectedExecutionException e) {
+			rejected.increment();
+			return CompletableFuture.failedFuture(
+				new IllegalStateException("인증 요청이 많아 잠시 후 다시 시도해주세요.", e));
+		}
+	}
+
+	public long cacheHits() {
+		return cacheHits.sum();
+	}
+
+	public long hashVerifications() {
+		return hashVerifications.sum();
+	}
+
+	public long rejected() {
+		return rejected.sum();
+	}
+
+	@Override
+	public void destroy() {
+		pool.shutdownNow();
+	}
+
+	// 검증 풀 스레드에서 실행
+	private Verification verifyHash(String username, String rawPassword, String encoded, byte[] digest) {
+		hashVerifications.increment();
+		PasswordHasher hasher = hasherFor(encoded);
+		if (hasher == null || !hasher.matches(rawPassword, encoded)) {
+			return Verification.MISMATCH;
+		}
+		if (hasher != encoder || encoder.needsRehash(encoded)) {
+			// 저장 값이 바뀌므로 이 digest 는 캐시하지 않는다 (교체 후 첫 로그인에서 새 값으로 캐시됨)
+			return new Verification(true, encoder.hash(rawPassword));
+		}
+		verified.put(username, digest);
+		return Verification.MATCHED;
+	}
+
+	/// @return 모르는 "{id}" 접두사면 null
+	private PasswordHasher hasherFor(String encoded) {
+		if (encoded.startsWith("{")) {
+			int end = encoded.indexOf('}');
+			if (end > 0) {
+				return hashers.get(encoded.substring(1, end));
+			}
+		}
+		return legacy;
+	}
+
+	private byte[] digest(String username, String rawPassword, String encoded) {
+		Mac instance = mac.get();
+		instance.update(username.getBytes(StandardCharsets.UTF_8));
+		instance.update((byte)0);
+		instance.update(encoded.getBytes(StandardCharsets.UTF_8));
+		instance.update((byte)0);
+		return instance.doFinal(rawPassword.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/// @param upgradedHash 로그인은 성공했지만 저장 값을 바꿔야 할 때 새 해시 (아니면 null)
+	public record Verification(boolean matched, String upgradedHash) {
+
+		static final Verification MATCHED = new Verification(true, null);
+		static final Verification MISMATCH = new Verification(false, null);
+
+		public boolean needsUpgrade() {
+			return upgradedHash != null;
+		}
+	}
+}
@@ -0,0 +1,18 @@
+package io.github.zeromok.security;
+
+/// 비밀번호 해시 알고리즘 (CredentialVerifier 에 여러 개를 등록해 쓴다)
+/// 저장 형식: "{id}알고리즘별 값" → 앞의 id 로 어떤 구현이 검증할지 고른다
+public interface PasswordHasher {
+
+	/// 저장 값 앞에 붙는 식별자 (예: "pbkdf2" → "{pbkdf2}...")
+	String id();
+
+	/// 원문 비밀번호를 "{id}..." 형식으로 해시한다
+	String hash(String rawPassword);
+
+	/// 원문이 저장 값과 일치하는지 확인한다 (비교는 상수 시간)
+	boolean matches(String rawPassword, String encoded);
+
+	/// 현재 설정보다 약한 값이면 true (로그인 성공 시 새 해시로 교체)
+	boolean needsRehash(String encoded);
+}
@@ -0,0 +1,93 @@
+package io.github.zeromok.security;
+
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+/// PBKDF2-HMAC-SHA256 (JDK 기본 제공, 추가 의존성 없음)
+/// 저장 형식: {pbkdf2}반복횟수$salt(base64)$해시(base64)
+/// - 반복 횟수를 값에 함께 저장하므로 설정을 올려도 기존 값은 그대로 검증되고, 로그인 시 needsRehash 로 교체된다
+/// - 한 번 검증에 수십~수백 ms 의 CPU 를 쓰는 것이 목적 (유출 시 대입 공격 비용을 높임)
+///   → 요청 스레드가 아니라 CredentialVerifier 의 전용 풀에서 실행한다
+public class Pbkdf2PasswordHasher implements PasswordHasher {
+
+	public static final String ID = "pbkdf2";
+
+	private static final String PREFIX = "{" + ID + "}";
+	private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+	private static final int SALT_LENGTH = 16;
+	private static final int KEY_LENGTH_BITS = 256;
+
+	private final int iterations;
+	private final SecureRandom random = new SecureRandom();
+
+	public Pbkdf2PasswordHasher(int iterations) {
+		if (iterations < 1) {
+			throw new IllegalArgumentException("iterations는 1 이상이어야 합니다: " + iterations);
+		}
+		this.iterations = iterations;
+	}
+
+	@Override
+	public String id() {
+		return ID;
+	}
+
+	@Override
+	public String hash(String rawPassword) {
+		byte[] salt = new byte[SALT_LENGTH];
+		random.nextBytes(salt);
+		byte[] hash = derive(rawPassword, salt, iterations);
+
+		Base64.Encoder encoder = Base64.getEncoder().withoutPadding();
+		return PREFIX + iterations + "$" + encoder.encodeToString(salt) + "$" + encoder.encodeToString(hash);
+	}
+
+	@Override
+	public boolean matches(String rawPassword, String encoded) {
+		String[] parts = parse(encoded);
+		if (parts == null) {
+			return false;
+		}
+		try {
+			Base64.Decoder decoder = Base64.getDecoder();
+			byte[] salt = decoder.decode(parts[1]);
+			byte[] expected = decoder.decode(parts[2]);
+			byte[] actual = derive(rawPassword, salt, Integer.parseInt(parts[0]));
+			return MessageDigest.isEqual(expected, actual);
+		} catch (IllegalArgumentException e) {
+			// 반복 횟수나 base64 가 깨진 값
+			return false;
+		}
+	}
+
+	@Override
+	public boolean needsRehash(String encoded) {
+		String[] parts = parse(encoded);
+		return parts == null || Integer.parseInt(parts[0]) < iterations;
+	}
+
+	// [반복횟수, salt, 해시], 형식이 맞지 않으면 null
+	private static String[] parse(String encoded) {
+		if (!encoded.startsWith(PREFIX)) {
+			return null;
+		}
+		String[] parts = encoded.substring(PREFIX.length()).split("\\$");
+		return parts.length == 3 ? parts : null;
+	}
+
+	private static byte[] derive(String rawPassword, byte[] salt, int iterations) {
+		PBEKeySpec spec = new PBEKeySpec(rawPassword.toCharArray(), salt, iterations, KEY_LENGTH_BITS);
+		try {
+			return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("PBKDF2 해시 생성 실패", e);
+		} finally {
+			spec.clearPassword();
+		}
+	}
+}
@@ -0,0 +1,38 @@
+package io.github.zeromok.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/// 기존 데이터(평문 비밀번호) 호환용
+/// - "{noop}" 접두사가 있거나 접두사가 없는 값을 평문으로 보고 비교한다
+/// - 기본 hasher 가 아닐 때(보통의 경우) 로그인에 성공하면 CredentialVerifier 가 기본 알고리즘으로 바꾼다
+public class PlainTextPasswordHasher implements PasswordHasher {
+
+	public static final String ID = "noop";
+
+	private static final String PREFIX = "{" + ID + "}";
+
+	@Override
+	public String id() {
+		return ID;
+	}
+
+	@Override
+	public String hash(String rawPassword) {
+		return PREFIX + rawPassword;
+	}
+
+	@Override
+	public boolean matches(String rawPassword, String encoded) {
+		String stored = encoded.startsWith(PREFIX) ? encoded.substring(PREFIX.length()) : encoded;
+		// String.equals 는 첫 번째로 다른 문자에서 멈추므로 응답 시간으로 일치한 길이가 드러난다
+		return MessageDigest.isEqual(
+			rawPassword.getBytes(StandardCharsets.UTF_8),
+			stored.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Override
+	public boolean needsRehash(String encoded) {
+		return false;
+	}
+}
@@ -0,0 +1,29 @@
+package io.github.zeromok.security;
+
+import java.nio.ByteBuffer;
+
+/// 토큰 바이너리 형식 (TokenSigner, TokenVerifier 공용)
+/// [byte version][long userId][int expiresAt(epoch 초, unsigned)][HMAC-SHA256 앞 16바이트]
+/// → 29바이트, base64url(패딩 없음) 39자
+final class TokenFormat {
+
+	static final byte VERSION = 1;
+	static final int USER_ID_OFFSET = 1;
+	static final int EXPIRES_AT_OFFSET = 9;
+	static final int PAYLOAD_LENGTH = 13;
+	static final int TAG_LENGTH = 16;
+	static final int RAW_LENGTH = PAYLOAD_LENGTH + TAG_LENGTH;
+	static final int TEXT_LENGTH = (RAW_LENGTH * 4 + 2) / 3;
+	static final int MAC_LENGTH = 32;
+
+	private TokenFormat() {
+	}
+
+	/// 스레드마다 재사용하는 버퍼 (토큰마다 배열을 새로 만들지 않는다)
+	static final class Buffers {
+		final byte[] raw = new byte[RAW_LENGTH];
+		final ByteBuffer payload = ByteBuffer.wrap(raw);
+		final byte[] mac = new byte[MAC_LENGTH];
+		final byte[] text = new byte[TEXT_LENGTH];
+	}
+}
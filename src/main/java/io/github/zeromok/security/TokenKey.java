@@ -0,0 +1,52 @@
+package io.github.zeromok.security;
+
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/// 토큰 서명 키 (TokenSigner, TokenVerifier 가 공유)
+/// Mac.getInstance() 는 provider 탐색 때문에 느리므로 스레드마다 초기화된 Mac 을 재사용한다
+/// (Mac 은 스레드 안전하지 않으므로 공유하지 않는다)
+public final class TokenKey {
+
+	static final String ALGORITHM = "HmacSHA256";
+	private static final int MIN_KEY_LENGTH = 32;
+
+	private final ThreadLocal<Mac> mac;
+
+	private TokenKey(byte[] secret) {
+		if (secret.length < MIN_KEY_LENGTH) {
+			throw new IllegalArgumentException("토큰 서명 키는 " + MIN_KEY_LENGTH + "바이트 이상이어야 합니다.");
+		}
+		SecretKeySpec key = new SecretKeySpec(secret, ALGORITHM);
+		this.mac = ThreadLocal.withInitial(() -> {
+			try {
+				Mac instance = Mac.getInstance(ALGORITHM);
+				instance.init(key);
+				return instance;
+			} catch (GeneralSecurityException e) {
+				throw new IllegalStateException("HMAC 초기화 실패", e);
+			}
+		});
+	}
+
+	/// 여러 인스턴스가 같은 토큰을 검증하려면 같은 키를 설정해야 한다
+	public static TokenKey fromBase64(String secret) {
+		return new TokenKey(Base64.getDecoder().decode(secret));
+	}
+
+	/// 프로세스마다 새 키: 재시작하면 이전 토큰은 모두 무효가 된다
+	public static TokenKey random() {
+		byte[] secret = new byte[MIN_KEY_LENGTH];
+		new SecureRandom().nextBytes(secret);
+		return new TokenKey(secret);
+	}
+
+	/// 현재 스레드의 Mac (doFinal 후 자동으로 초기 상태로 돌아가므로 그대로 다시 쓸 수 있다)
+	Mac mac() {
+		return mac.get();
+	}
+}
@@ -0,0 +1,56 @@
+package io.github.zeromok.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+
+/// 서버 조회 없이 검증할 수 있는 로그인 토큰 발급 (형식은 TokenFormat)
+/// 기존 "TOKEN-{id}-{UUID 8자}" 대비:
+/// - UUID.randomUUID() (SecureRandom) 와 문자열 연결 대신 스레드별 버퍼에 바이너리를 쓰고 HMAC 한 번
+/// - base64url 결과도 미리 할당한 버퍼에 쓰고 String 은 마지막에 한 번만 만든다 (ASCII → Latin1 복사)
+public class TokenSigner {
+
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+	private final TokenKey key;
+	private final long ttlSeconds;
+	private final Clock clock;
+	private final ThreadLocal<TokenFormat.Buffers> buffers = ThreadLocal.withInitial(TokenFormat.Buffers::new);
+
+	public TokenSigner(TokenKey key, Duration ttl) {
+		this(key, ttl, Clock.systemUTC());
+	}
+
+	TokenSigner(TokenKey key, Duration ttl, Clock clock) {
+		if (ttl.isNegative() || ttl.isZero()) {
+			throw new IllegalArgumentException("토큰 유효 시간은 0보다 커야 합니다: " + ttl);
+		}
+		this.key = key;
+		this.ttlSeconds = ttl.toSeconds();
+		this.clock = clock;
+	}
+
+	public String issue(long userId) {
+		TokenFormat.Buffers buffer = buffers.get();
+		long expiresAt = clock.millis() / 1000 + ttlSeconds;
+		buffer.payload.put(0, TokenFormat.VERSION);
+		buffer.payload.putLong(TokenFormat.USER_ID_OFFSET, userId);
+		buffer.payload.putInt(TokenFormat.EXPIRES_AT_OFFSET, (int)expiresAt);
+
+		Mac mac = key.mac();
+		mac.update(buffer.raw, 0, TokenFormat.PAYLOAD_LENGTH);
+		try {
+			mac.doFinal(buffer.mac, 0);
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("토큰 서명 실패", e);
+		}
+		System.arraycopy(buffer.mac, 0, buffer.raw, TokenFormat.PAYLOAD_LENGTH, TokenFormat.TAG_LENGTH);
+
+		ENCODER.encode(buffer.raw, buffer.text);
+		return new String(buffer.text, StandardCharsets.ISO_8859_1);
+	}
+}
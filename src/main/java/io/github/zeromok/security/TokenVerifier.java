@@ -0,0 +1,102 @@
+package io.github.zeromok.security;
+
+import java.security.GeneralSecurityException;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.OptionalLong;
+
+import javax.crypto.Mac;
+
+/// TokenSigner 가 발급한 토큰 검증 (저장소 조회 없음)
+/// 서명이 맞고 만료 전이면 userId 를 반환한다
+/// - 길이/문자 검사 → base64url 디코딩 → HMAC 재계산 → 상수 시간 비교 → 만료 확인 순서
+/// - 버퍼와 Mac 은 스레드마다 재사용
+public class TokenVerifier {
+
+	private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+	private final TokenKey key;
+	private final Clock clock;
+	private final ThreadLocal<TokenFormat.Buffers> buffers = ThreadLocal.withInitial(TokenFormat.Buffers::new);
+
+	public TokenVerifier(TokenKey key) {
+		this(key, Clock.systemUTC());
+	}
+
+	TokenVerifier(TokenKey key, Clock clock) {
+		this.key = key;
+		this.clock = clock;
+	}
+
+	/// @return 유효하면 userId, 형식이 틀리거나 서명이 맞지 않거나 만료되었으면 empty
+	public OptionalLong verify(String token) {
+		if (token == null || token.length() != TokenFormat.TEXT_LENGTH || !isCanonicalTail(token)) {
+			return OptionalLong.empty();
+		}
+		TokenFormat.Buffers buffer = buffers.get();
+		for (int i = 0; i < TokenFormat.TEXT_LENGTH; i++) {
+			char c = token.charAt(i);
+			if (c > 0x7F) {
+				return OptionalLong.empty();
+			}
+			buffer.text[i] = (byte)c;
+		}
+		try {
+			if (DECODER.decode(buffer.text, buffer.raw) != TokenFormat.RAW_LENGTH) {
+				return OptionalLong.empty();
+			}
+		} catch (IllegalArgumentException e) {
+			return OptionalLong.empty();
+		}
+		if (buffer.raw[0] != TokenFormat.VERSION) {
+			return OptionalLong.empty();
+		}
+
+		Mac mac = key.mac();
+		mac.update(buffer.raw, 0, TokenFormat.PAYLOAD_LENGTH);
+		try {
+			mac.doFinal(buffer.mac, 0);
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("토큰 서명 확인 실패", e);
+		}
+		if (!tagMatches(buffer)) {
+			return OptionalLong.empty();
+		}
+
+		long expiresAt = Integer.toUnsignedLong(buffer.payload.getInt(TokenFormat.EXPIRES_AT_OFFSET));
+		if (clock.millis() / 1000 >= expiresAt) {
+			return OptionalLong.empty();
+		}
+		return OptionalLong.of(buffer.payload.getLong(TokenFormat.USER_ID_OFFSET));
+	}
+
+	// 29바이트 = 232비트라 마지막 문자의 하위 2비트는 쓰이지 않는다
+	// Base64 디코더는 이 비트를 무시하므로, 0 이 아니면 같은 토큰의 다른 표기로 보고 거부한다
+	private static boolean isCanonicalTail(String token) {
+		char c = token.charAt(TokenFormat.TEXT_LENGTH - 1);
+		int value;
+		if (c >= 'A' && c <= 'Z') {
+			value = c - 'A';
+		} else if (c >= 'a' && c <= 'z') {
+			value = c - 'a' + 26;
+		} else if (c >= '0' && c <= '9') {
+			value = c - '0' + 52;
+		} else if (c == '-') {
+			value = 62;
+		} else if (c == '_') {
+			value = 63;
+		} else {
+			return false;
+		}
+		return (value & 0x3) == 0;
+	}
+
+	// MessageDigest.isEqual 과 같이 첫 불일치에서 멈추지 않는 비교 (잘라낸 배열을 만들지 않도록 직접 구현)
+	private static boolean tagMatches(TokenFormat.Buffers buffer) {
+		int diff = 0;
+		for (int i = 0; i < TokenFormat.TAG_LENGTH; i++) {
+			diff |= buffer.mac[i] ^ buffer.raw[TokenFormat.PAYLOAD_LENGTH + i];
+		}
+		return diff == 0;
+	}
+}
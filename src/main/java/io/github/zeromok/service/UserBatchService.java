@@ -0,0 +1,219 @@
+package io.github.zeromok.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.slf4j.MDC;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import io.github.zeromok.context.MdcContextSnapshot;
+import io.github.zeromok.domain.BatchItemResult;
+import io.github.zeromok.domain.LoginRequest;
+import io.github.zeromok.domain.LoginResponse;
+import io.github.zeromok.domain.UserResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/// 여러 건의 조회/인증을 병렬로 실행하는 서비스
+/// - 항목마다 UserRepository 지연(10~15ms)을 순서대로 기다리지 않고 전용 스레드 풀에 동시에 넘긴다
+///   → 100건도 풀 크기 안이면 지연 한 번 근처에서 끝난다
+/// - 각 항목은 부모 MDC 를 복원한 뒤 traceId 를 "부모.순번" 으로 바꾸고 parentTraceId 를 남긴다
+///   → 항목별 로그를 구분하면서도 부모 traceId 로 한 번에 검색할 수 있다
+/// - 결과는 완료되는 순서대로 onResult 로 전달한다 (Controller 가 바로 스트리밍)
+/// - 고정 풀의 대기열은 queue-capacity 로 제한한다 → 넘치는 항목은 실행하지 않고 실패 결과로 전달한다
+/// - 반환한 future 를 취소하면(응답 시간 초과, 연결 종료) 아직 끝나지 않은 항목도 취소한다
+///   → 대기 중인 항목은 실행되지 않고, 결과는 더 이상 onResult 로 전달되지 않는다
+/// - 일괄 로그인은 항목마다 비밀번호 해시(PBKDF2)를 계산하므로 조회보다 훨씬 작은 최대 크기를 두고,
+///   한 요청이 동시에 실행하는 항목 수를 login-concurrency 로 제한한다
+///   → 배치 하나가 CredentialVerifier 의 대기열과 모든 코어를 차지해 일반 /login 이 거절되지 않게 한다
+@Slf4j
+@Service
+public class UserBatchService implements DisposableBean {
+
+	public static final String TRACE_ID = "traceId";
+	public static final String PARENT_TRACE_ID = "parentTraceId";
+
+	private final UserService userService;
+	private final ExecutorService executor;
+	private final int maxBatchSize;
+	private final int maxLoginBatchSize;
+	private final int loginConcurrency;
+
+	public UserBatchService(
+		UserService userService,
+		@Value("${mdc.batch.parallelism:128}") int parallelism,
+		@Value("${mdc.batch.max-size:1000}") int maxBatchSize,
+		@Value("${mdc.batch.queue-capacity:1000}") int queueCapacity,
+		@Value("${mdc.batch.login-max-size:20}") int maxLoginBatchSize,
+		@Value("${mdc.batch.login-concurrency:2}") int loginConcurrency,
+		@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+	) {
+		if (loginConcurrency < 1) {
+			throw new IllegalArgumentException("login-concurrency는 1 이상이어야 합니다: " + loginConcurrency);
+		}
+		this.userService = userService;
+		this.maxBatchSize = maxBatchSize;
+		this.maxLoginBatchSize = maxLoginBatchSize;
+		this.loginConcurrency = loginConcurrency;
+		// 가상 스레드 모드(mdc-virtual)에서는 항목마다 가상 스레드, 그 외에는 크기가 고정된 풀
+		this.executor = virtualThreads
+			? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("user-batch-", 0).factory())
+			: new ThreadPoolExecutor(parallelism, parallelism, 0, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), namedDaemonThreads(), new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	public int getMaxBatchSize() {
+		return maxBatchSize;
+	}
+
+	public int getMaxLoginBatchSize() {
+		return maxLoginBatchSize;
+	}
+
+	public CompletableFuture<Void> findUsers(List<Long> ids, Consumer<BatchItemResult<UserResponse>> onResult) {
+		return fanOut(ids, ids.size(), id -> UserResponse.from(userService.getUserById(id)), onResult);
+	}
+
+	public CompletableFuture<Void> authenticateAll(
+		List<LoginRequest> requests,
+		Consumer<BatchItemResult<LoginResponse>> onResult
+	) {
+		return fanOut(requests, loginConcurrency, userService::authenticate, onResult);
+	}
+
+	/// @param window 한 번에 실행하는 최대 항목 수 (하나가 끝나면 다음 항목을 넘긴다)
+	private <I, T> CompletableFuture<Void> fanOut(
+		List<I> items,
+		int window,
+		Function<I, T> task,
+		Consumer<BatchItemResult<T>> onResult
+	) {
+		MdcContextSnapshot parent = MdcContextSnapshot.capture();
+		String parentTraceId = MDC.get(TRACE_ID);
+		log.info("배치 시작. items: {}", items.size());
+
+		List<CompletableFuture<BatchItemResult<T>>> tasks = new ArrayList<>(items.size());
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[items.size()];
+		for (int i = 0; i < items.size(); i++) {
+			CompletableFuture<BatchItemResult<T>> child = new CompletableFuture<>();
+			tasks.add(child);
+			futures[i] = child.thenAccept(onResult);
+		}
+
+		// 항목이 끝나면(취소 포함) 아직 넘기지 않은 다음 항목을 넘긴다
+		int initial = Math.min(window, items.size());
+		AtomicInteger next = new AtomicInteger(initial);
+		Runnable submitNext = () -> {
+			int index = next.getAndIncrement();
+			if (index < items.size()) {
+				submit(tasks.get(index), parent, parentTraceId, index, items.get(index), task);
+			}
+		};
+		for (CompletableFuture<BatchItemResult<T>> child : tasks) {
+			child.whenComplete((result, error) -> submitNext.run());
+		}
+		for (int i = 0; i < initial; i++) {
+			submit(tasks.get(i), parent, parentTraceId, i, items.get(i), task);
+		}
+
+		CompletableFuture<Void> completion = CompletableFuture.allOf(futures)
+			.whenComplete((ignored, error) -> {
+				try (MdcContextSnapshot.Scope scope = parent.restore()) {
+					log.info("배치 완료. items: {}", items.size());
+				}
+			});
+		completion.exceptionally(error -> {
+			if (error instanceof CancellationException) {
+				for (CompletableFuture<BatchItemResult<T>> child : tasks) {
+					child.cancel(false);
+				}
+				try (MdcContextSnapshot.Scope scope = parent.restore()) {
+					log.warn("배치 취소. items: {}", items.size());
+				}
+			}
+			return null;
+		});
+		return completion;
+	}
+
+	// child 가 이미 끝났으면(취소) 넘기지 않고, 풀에서 꺼낸 시점에 끝나 있어도 실행하지 않는다
+	private <I, T> void submit(
+		CompletableFuture<BatchItemResult<T>> child,
+		MdcContextSnapshot parent,
+		String parentTraceId,
+		int index,
+		I item,
+		Function<I, T> task
+	) {
+		if (child.isDone()) {
+			return;
+		}
+		String childTraceId = parentTraceId == null ? null : parentTraceId + "." + (index + 1);
+		try {
+			executor.execute(() -> {
+				if (child.isDone()) {
+					return;
+				}
+				try {
+					child.complete(runChild(parent, parentTraceId, childTraceId, index, item, task));
+				} catch (Throwable t) {
+					// runChild 는 RuntimeException 을 실패 결과로 바꾸므로 여기는 Error 뿐, 배치가 끝나지 않는 일은 막는다
+					child.completeExceptionally(t);
+					throw t;
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			log.warn("배치 항목 거절 (대기열 가득 참). index: {}", index);
+			child.complete(BatchItemResult.failure(index, childTraceId, "요청이 많아 잠시 후 다시 시도해주세요."));
+		}
+	}
+
+	private <I, T> BatchItemResult<T> runChild(
+		MdcContextSnapshot parent,
+		String parentTraceId,
+		String childTraceId,
+		int index,
+		I item,
+		Function<I, T> task
+	) {
+		try (MdcContextSnapshot.Scope scope = parent.restore()) {
+			if (childTraceId != null) {
+				MDC.put(TRACE_ID, childTraceId);
+				MDC.put(PARENT_TRACE_ID, parentTraceId);
+			}
+			try {
+				return BatchItemResult.success(index, childTraceId, task.apply(item));
+			} catch (RuntimeException e) {
+				log.warn("배치 항목 실패. index: {}, error: {}", index, e.getMessage());
+				return BatchItemResult.failure(index, childTraceId, e.getMessage());
+			}
+		}
+	}
+
+	private static ThreadFactory namedDaemonThreads() {
+		AtomicInteger sequence = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, "user-batch-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdownNow();
+	}
+}
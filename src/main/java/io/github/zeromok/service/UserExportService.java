@@ -0,0 +1,110 @@
+package io.github.zeromok.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.zeromok.domain.User;
+import io.github.zeromok.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/// 전체 사용자를 NDJSON(한 줄에 사용자 하나)으로 내보내는 서비스
+/// List<User> 를 만들어 한 번에 직렬화하지 않는 이유:
+/// - 1천만 건이면 리스트와 직렬화 결과가 모두 힙에 올라간다
+/// 대신:
+/// - Repository 를 pageSize 단위로 순회하고 JsonGenerator 로 바로 스트림에 쓴다
+/// - 힙 사용량은 페이지 하나 + 출력 버퍼로 고정된다 (사용자 수와 무관)
+/// - 클라이언트가 느리면 OutputStream.write() 가 블로킹되어 순회도 함께 멈춘다 (자연스러운 backpressure)
+/// 비밀번호는 내보내지 않는다
+@Slf4j
+@Service
+public class UserExportService {
+
+	private final UserRepository userRepository;
+	private final ObjectMapper objectMapper;
+	private final int pageSize;
+	private final int flushEvery;
+	private final long progressInterval;
+
+	public UserExportService(
+		UserRepository userRepository,
+		ObjectMapper objectMapper,
+		@Value("${mdc.export.page-size:500}") int pageSize,
+		@Value("${mdc.export.flush-every:1000}") int flushEvery,
+		@Value("${mdc.export.progress-interval:100000}") long progressInterval
+	) {
+		this.userRepository = userRepository;
+		this.objectMapper = objectMapper;
+		this.pageSize = pageSize;
+		this.flushEvery = flushEvery;
+		this.progressInterval = progressInterval;
+	}
+
+	/// @return 내보낸 사용자 수
+	public long export(OutputStream out) throws IOException {
+		int total = userRepository.count();
+		log.info("사용자 내보내기 시작. 예상 건수: {}", total);
+		long startTime = System.currentTimeMillis();
+
+		ExportWriter writer = new ExportWriter(objectMapper.getFactory().createGenerator(out), total, startTime);
+		try (JsonGenerator generator = writer.generator) {
+			// 루트 값 사이에 기본 구분자(공백) 대신 줄바꿈만 직접 쓴다
+			generator.setRootValueSeparator(null);
+			// 스트림은 호출한 쪽(StreamingResponseBody)이 닫는다
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+			long cursor = 0;
+			do {
+				cursor = userRepository.scan(cursor, pageSize, writer::write);
+			} while (cursor >= 0);
+			generator.flush();
+		} catch (UncheckedIOException e) {
+			// 클라이언트 연결 종료 등
+			log.warn("사용자 내보내기 중단. 전송: {}건, error: {}", writer.count, e.getCause().getMessage());
+			throw e.getCause();
+		}
+
+		log.info("사용자 내보내기 완료. {}건, {}ms", writer.count, System.currentTimeMillis() - startTime);
+		return writer.count;
+	}
+
+	private final class ExportWriter {
+		private final JsonGenerator generator;
+		private final int total;
+		private final long startTime;
+		private long count;
+
+		private ExportWriter(JsonGenerator generator, int total, long startTime) {
+			this.generator = generator;
+			this.total = total;
+			this.startTime = startTime;
+		}
+
+		void write(User user) {
+			try {
+				generator.writeStartObject();
+				generator.writeNumberField("id", user.getId());
+				generator.writeStringField("username", user.getUsername());
+				generator.writeStringField("email", user.getEmail());
+				generator.writeEndObject();
+				generator.writeRaw('\n');
+				count++;
+
+				if (count % flushEvery == 0) {
+					generator.flush();
+				}
+				if (count % progressInterval == 0) {
+					log.info("사용자 내보내기 진행 중. {}/{}건, {}ms", count, total, System.currentTimeMillis() - startTime);
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+}
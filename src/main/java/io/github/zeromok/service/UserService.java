@@ -1,46 +1,74 @@
 package io.github.zeromok.service;
 
-import java.util.UUID;
-
 import org.springframework.stereotype.Service;
 
+import io.github.zeromok.cache.UserCache;
+import io.github.zeromok.context.RequestContext;
 import io.github.zeromok.domain.LoginRequest;
 import io.github.zeromok.domain.LoginResponse;
 import io.github.zeromok.domain.User;
+import io.github.zeromok.logging.LazyLogger;
 import io.github.zeromok.repository.UserRepository;
-import lombok.extern.slf4j.Slf4j;
+import io.github.zeromok.security.CredentialVerifier;
+import io.github.zeromok.security.TokenSigner;
+import io.github.zeromok.security.TokenVerifier;
 
 @Service
-@Slf4j
 public class UserService {
-	private final UserRepository userRepository;
+	// 비용이 큰 인자만 Supplier 로 넘겨 레벨이 꺼져 있으면 평가하지 않는다 (LazyLogger)
+	// 필드 getter 는 값으로 넘긴다 (request::getUsername 은 호출마다 캡처 람다를 만든다)
+	private static final LazyLogger log = LazyLogger.getLogger(UserService.class);
 
-	public UserService(UserRepository userRepository) {
+	private final UserRepository userRepository;
+	private final UserCache userCache;
+	private final CredentialVerifier credentialVerifier;
+	private final TokenSigner tokenSigner;
+	private final TokenVerifier tokenVerifier;
+
+	public UserService(
+		UserRepository userRepository,
+		UserCache userCache,
+		CredentialVerifier credentialVerifier,
+		TokenSigner tokenSigner,
+		TokenVerifier tokenVerifier
+	) {
 		this.userRepository = userRepository;
+		this.userCache = userCache;
+		this.credentialVerifier = credentialVerifier;
+		this.tokenSigner = tokenSigner;
+		this.tokenVerifier = tokenVerifier;
 	}
 
 	public LoginResponse authenticate(LoginRequest request) {
 		log.info("사용자 인증: {}", request.getUsername());
 
 		// 사용자 조회
-		User user = userRepository.findByUsername(request.getUsername())
-			.orElseThrow(() -> {
-				log.error("사용자 없음: {}", request.getUsername());
-				return new RuntimeException("사용자 없음");
-			});
+		User user = userCache.findByUsername(request.getUsername(), userRepository::findByUsername).orElse(null);
+		if (user == null) {
+			// 더미 해시와 비교해 있는 사용자와 응답 시간을 맞춘다
+			credentialVerifier.verifyUnknown(request.getPassword());
+			log.error("사용자 없음: {}", request.getUsername());
+			throw new RuntimeException("사용자 없음");
+		}
 
 		log.debug("비밀번호가 맞지 않습니다.");
 
-		// 비밀번호 검증 (실제로는 암호화된 비밀번호 비교)
-		if (!user.getPassword().equals(request.getPassword())) {
+		// 비밀번호 검증 (전용 검증 풀에서 해시 비교, 최근 성공한 조합은 캐시)
+		CredentialVerifier.Verification verification =
+			credentialVerifier.verify(user.getUsername(), request.getPassword(), user.getPassword());
+		if (!verification.matched()) {
 			log.error("비밀번호를 확인해주세요. ID: {}", request.getUsername());
 			throw new RuntimeException("비밀번호를 확인해주세요.");
 		}
 
 		log.debug("비밀번호 일치");
+		if (verification.needsUpgrade()) {
+			upgradePassword(user, verification.upgradedHash());
+		}
 
 		// 토큰 생성
 		String token = generateToken(user);
+		bindUser(user.getId());
 		log.info("사용자 인증 완료. user: {}", user.getUsername());
 
 		return new LoginResponse(user.getId(), token);
@@ -49,7 +77,7 @@ public class UserService {
 	public User getUserById(Long id) {
 		log.info("사용자 찾기. ID: {}", id);
 
-		User user = userRepository.findById(id)
+		User user = userCache.findById(id, userRepository::findById)
 			.orElseThrow(() -> {
 				log.error("사용자를 찾을 수 없습니다. ID: {}", id);
 				return new RuntimeException("사용자를 찾을 수 없습니다.");
@@ -59,11 +87,38 @@ public class UserService {
 		return user;
 	}
 
+	/// 토큰은 서명과 만료만 확인한다 (저장소 조회 없음), 사용자 정보는 캐시를 거쳐 조회
+	public User getUserByToken(String token) {
+		long userId = tokenVerifier.verify(token)
+			.orElseThrow(() -> {
+				log.error("유효하지 않은 토큰입니다.");
+				return new RuntimeException("유효하지 않은 토큰입니다.");
+			});
+
+		log.debug("토큰 확인 완료. ID: {}", userId);
+		bindUser(userId);
+		return getUserById(userId);
+	}
+
+	// 이후 이 요청의 로그에 userId 가 찍히도록 RequestContext 에 기록 (요청 밖에서 호출되면 무시)
+	private static void bindUser(long userId) {
+		RequestContext context = RequestContext.current();
+		if (context != null) {
+			context.setUserId(userId);
+		}
+	}
+
+	// 평문/약한 해시로 저장된 비밀번호를 현재 기본 해시로 교체 (캐시 무효화는 UserRepository.save 가 한다)
+	private void upgradePassword(User user, String upgradedHash) {
+		userRepository.save(new User(user.getId(), user.getUsername(), user.getEmail(), upgradedHash));
+		log.info("비밀번호 해시 교체. user: {}", user.getUsername());
+	}
+
 	private String generateToken(User user) {
 		log.debug("사용자를 위한 토큰 생성: {}", user.getId());
 
-		// 실제로는 JWT 등을 사용
-		String token = "TOKEN-" + user.getId() + "-" + UUID.randomUUID().toString().substring(0, 8);
+		// 서명된 토큰: 이후 요청은 저장소 조회 없이 TokenVerifier 로 검증
+		String token = tokenSigner.issue(user.getId());
 
 		log.debug("토큰 생성 완료");
 		return token;
@@ -0,0 +1,19 @@
+package io.github.zeromok.trace;
+
+/// long 값을 미리 크기를 맞춘 char 버퍼에 16진수로 직접 기록한다
+/// Long.toHexString()은 앞자리 0을 생략하고 중간 버퍼를 만들기 때문에 사용하지 않는다
+final class HexEncoder {
+
+	private static final char[] DIGITS = "0123456789abcdef".toCharArray();
+
+	private HexEncoder() {
+	}
+
+	/// value의 16자리 16진수를 buffer[offset, offset + 16)에 기록한다
+	static void writeLong(long value, char[] buffer, int offset) {
+		for (int i = offset + 15; i >= offset; i--) {
+			buffer[i] = DIGITS[(int)(value & 0xF)];
+			value >>>= 4;
+		}
+	}
+}
@@ -0,0 +1,16 @@
+package io.github.zeromok.trace;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/// 64bit 난수 기반 traceId (16자리 16진수)
+/// ThreadLocalRandom은 스레드마다 독립된 시드를 가지므로 SecureRandom과 달리 경합이 없다
+/// 64bit 이므로 충돌 확률은 약 40억 건에서 50% 수준 (기존 8자리는 약 7만 건)
+public class RandomTraceIdGenerator implements TraceIdGenerator {
+
+	@Override
+	public String generate() {
+		char[] buffer = new char[16];
+		HexEncoder.writeLong(ThreadLocalRandom.current().nextLong(), buffer, 0);
+		return new String(buffer);
+	}
+}
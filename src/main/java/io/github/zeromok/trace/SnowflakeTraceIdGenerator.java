@@ -0,0 +1,63 @@
+package io.github.zeromok.trace;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/// 시간순으로 정렬되는 Snowflake 방식 traceId (16자리 16진수)
+/// 비트 구성: [timestamp 41bit][node 10bit][sequence 12bit]
+/// - timestamp: EPOCH 기준 밀리초 (약 69년)
+/// - node: 인스턴스 식별자 (0 ~ 1023), 여러 인스턴스 간 충돌 방지
+/// - sequence: 같은 밀리초 안에서 4096개까지 발급
+/// 마지막 발급 상태를 AtomicLong 하나에 담고 CAS로 갱신하므로 lock이 없다
+public class SnowflakeTraceIdGenerator implements TraceIdGenerator {
+
+	// 2025-01-01T00:00:00Z
+	private static final long EPOCH = 1735689600000L;
+
+	private static final int NODE_BITS = 10;
+	private static final int SEQUENCE_BITS = 12;
+	private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+	private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+	private static final int TIMESTAMP_SHIFT = NODE_BITS + SEQUENCE_BITS;
+
+	private final long nodeBits;
+
+	// 마지막으로 발급한 (timestamp << SEQUENCE_BITS | sequence)
+	private final AtomicLong lastState = new AtomicLong();
+
+	public SnowflakeTraceIdGenerator(long nodeId) {
+		if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+			throw new IllegalArgumentException("nodeId는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다: " + nodeId);
+		}
+		this.nodeBits = nodeId << SEQUENCE_BITS;
+	}
+
+	@Override
+	public String generate() {
+		char[] buffer = new char[16];
+		HexEncoder.writeLong(nextId(), buffer, 0);
+		return new String(buffer);
+	}
+
+	long nextId() {
+		while (true) {
+			long last = lastState.get();
+			long lastTimestamp = last >>> SEQUENCE_BITS;
+			long now = System.currentTimeMillis() - EPOCH;
+
+			long next;
+			if (now > lastTimestamp) {
+				next = now << SEQUENCE_BITS;
+			} else {
+				// 같은 밀리초이거나 시계가 뒤로 간 경우: 마지막 timestamp를 유지하고 sequence 증가
+				// sequence가 넘치면 timestamp를 1ms 앞당긴다 (순서와 유일성 보장)
+				next = last + 1;
+			}
+
+			if (lastState.compareAndSet(last, next)) {
+				long timestamp = next >>> SEQUENCE_BITS;
+				long sequence = next & SEQUENCE_MASK;
+				return (timestamp << TIMESTAMP_SHIFT) | nodeBits | sequence;
+			}
+		}
+	}
+}
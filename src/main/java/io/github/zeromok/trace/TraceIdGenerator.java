@@ -0,0 +1,22 @@
+package io.github.zeromok.trace;
+
+/// 요청마다 traceId를 만들어내는 전략
+/// 기존 방식(`UUID.randomUUID().toString().substring(0, 8)`)의 문제점:
+/// 1. SecureRandom을 거치므로 동시 요청이 많으면 경합이 생긴다
+/// 2. 36자 String + substring 으로 요청마다 불필요한 객체가 두 개 생긴다
+/// 3. 8자리(32bit)만 쓰므로 수만 건 수준에서 이미 충돌이 발생한다
+/// 구현체는 모두 lock-free 이며, 스레드 간 공유해도 안전해야 한다
+public interface TraceIdGenerator {
+
+	String generate();
+
+	/// 설정값(`mdc.trace-id.strategy`)으로 구현체를 선택한다
+	static TraceIdGenerator of(String strategy, long nodeId) {
+		return switch (strategy.toLowerCase()) {
+			case "random" -> new RandomTraceIdGenerator();
+			case "snowflake" -> new SnowflakeTraceIdGenerator(nodeId);
+			case "w3c" -> new W3cTraceIdGenerator();
+			default -> throw new IllegalArgumentException("지원하지 않는 traceId 전략: " + strategy);
+		};
+	}
+}
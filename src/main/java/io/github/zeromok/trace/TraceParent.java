@@ -0,0 +1,64 @@
+package io.github.zeromok.trace;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/// W3C Trace Context `traceparent` 헤더 값 (version 00)
+/// 형식: 00-{trace-id 32자리}-{parent-id 16자리}-{flags 2자리}
+/// - w3c 전략의 traceId(32자리)는 그대로, random/snowflake(16자리)는 앞을 0으로 채워 128bit 로 맞춘다
+///   (B3 의 64bit → 128bit 확장과 같은 방식이라 다른 서비스에서도 같은 trace 로 이어진다)
+/// - 16진수 소문자가 아니거나 32자리를 넘는 traceId (클라이언트가 보낸 임의 값 등)는 만들지 않는다
+public final class TraceParent {
+
+	public static final String HEADER = "traceparent";
+
+	private static final int TRACE_ID_LENGTH = 32;
+	private static final String SAMPLED = "01";
+
+	private TraceParent() {
+	}
+
+	/// 새 parent-id(이번 호출의 span)로 traceparent 를 만든다, 변환할 수 없는 traceId 면 null
+	public static String of(String traceId) {
+		long spanId;
+		do {
+			spanId = ThreadLocalRandom.current().nextLong();
+		} while (spanId == 0);  // all-zero parent-id 는 무효
+		return of(traceId, spanId);
+	}
+
+	static String of(String traceId, long spanId) {
+		if (!isConvertible(traceId)) {
+			return null;
+		}
+		char[] buffer = new char[55];
+		buffer[0] = '0';
+		buffer[1] = '0';
+		buffer[2] = '-';
+		int padding = TRACE_ID_LENGTH - traceId.length();
+		for (int i = 0; i < padding; i++) {
+			buffer[3 + i] = '0';
+		}
+		traceId.getChars(0, traceId.length(), buffer, 3 + padding);
+		buffer[35] = '-';
+		HexEncoder.writeLong(spanId, buffer, 36);
+		buffer[52] = '-';
+		buffer[53] = SAMPLED.charAt(0);
+		buffer[54] = SAMPLED.charAt(1);
+		return new String(buffer);
+	}
+
+	private static boolean isConvertible(String traceId) {
+		if (traceId == null || traceId.isEmpty() || traceId.length() > TRACE_ID_LENGTH) {
+			return false;
+		}
+		boolean allZero = true;
+		for (int i = 0; i < traceId.length(); i++) {
+			char c = traceId.charAt(i);
+			if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+				return false;
+			}
+			allZero &= c == '0';
+		}
+		return !allZero;
+	}
+}
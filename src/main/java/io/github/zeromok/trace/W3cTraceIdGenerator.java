@@ -0,0 +1,25 @@
+package io.github.zeromok.trace;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/// W3C Trace Context 호환 128bit traceId (32자리 16진수)
+/// `traceparent` 헤더의 trace-id 필드에 그대로 사용할 수 있다
+/// 스펙상 all-zero 값은 유효하지 않으므로 다시 뽑는다
+public class W3cTraceIdGenerator implements TraceIdGenerator {
+
+	@Override
+	public String generate() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		long high;
+		long low;
+		do {
+			high = random.nextLong();
+			low = random.nextLong();
+		} while (high == 0 && low == 0);
+
+		char[] buffer = new char[32];
+		HexEncoder.writeLong(high, buffer, 0);
+		HexEncoder.writeLong(low, buffer, 16);
+		return new String(buffer);
+	}
+}
@@ -0,0 +1,121 @@
+package io.github.zeromok.aspect;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+import io.github.zeromok.cache.UserCache;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({"mdc-filter", "mdc-span"})
+class SpanTimingAspectTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserCache userCache;
+
+	private final Logger aspectLogger = (Logger)LoggerFactory.getLogger(SpanTimingAspect.class);
+	private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+	@BeforeEach
+	void setUp() {
+		// 다른 테스트가 채운 캐시에 맞으면 Repository span 이 생기지 않는다
+		userCache.invalidateAll();
+		appender.start();
+		aspectLogger.addAppender(appender);
+	}
+
+	@AfterEach
+	void tearDown() {
+		aspectLogger.detachAppender(appender);
+	}
+
+	@Test
+	void testSpansAreEmittedOnceAtRequestEnd() throws Exception {
+		// W: Controller → Service → Repository 를 거치는 요청
+		mockMvc.perform(get("/mdc/api/users/1")
+				.header("X-Trace-Id", "span-trace-1"))
+			.andExpect(status().isOk());
+
+		// T: BEGIN/END 없이 요청당 한 줄, 세 계층이 모두 포함됨
+		List<ILoggingEvent> events = appender.list;
+		assertThat(events).hasSize(1);
+
+		ILoggingEvent event = events.get(0);
+		assertThat(event.getFormattedMessage())
+			.contains("#1 Controller UserController.getUserById")
+			.contains("#2<1 Service UserService.getUserById")
+			.contains("Repository UserRepository.findById");
+		// Filter 가 넣은 traceId 가 그대로 유지됨
+		assertThat(event.getMDCPropertyMap()).containsEntry("traceId", "span-trace-1");
+		assertThat(MDC.get("spanId")).isNull();
+	}
+
+	@Test
+	void testBatchChildrenEmitOwnSpansLinkedToParent() throws Exception {
+		// W: 요청 스레드는 fan-out 만 하고, 항목은 배치 스레드 풀에서 조회된다
+		MvcResult result = mockMvc.perform(post("/mdc/api/users/batch")
+				.header("X-Trace-Id", "span-batch")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"ids\":[1,2]}"))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+		result.getAsyncResult(5_000);
+
+		// T: 요청 한 줄 + 항목마다 자기 Spans 한 줄 (자식 traceId, parentTraceId 로 부모와 연결)
+		List<ILoggingEvent> events = List.copyOf(appender.list);
+		assertThat(events).hasSize(3);
+		assertThat(events)
+			.filteredOn(event -> "span-batch".equals(event.getMDCPropertyMap().get("traceId")))
+			.singleElement()
+			.satisfies(event -> assertThat(event.getFormattedMessage())
+				.contains("#1 Controller UserController.getUsers")
+				.contains("#2<1 Service UserBatchService.findUsers"));
+		assertThat(events)
+			.filteredOn(event -> "span-batch".equals(event.getMDCPropertyMap().get("parentTraceId")))
+			.hasSize(2)
+			.allSatisfy(event -> {
+				assertThat(event.getMDCPropertyMap().get("traceId")).startsWith("span-batch.");
+				assertThat(event.getFormattedMessage())
+					.contains("#1 Service UserService.getUserById")
+					.contains("Repository UserRepository.findById");
+			});
+	}
+
+	@Test
+	void testNestedSpanRestoresParent() {
+		// G: Controller span 안에서 Service span 이 열리고 닫힘
+		SpanStack stack = new SpanStack();
+		SpanStack.Span controller = stack.open("Controller", "C.m", 0);
+		SpanStack.Span service = stack.open("Service", "S.m", 10);
+
+		// W/T: Service 가 닫혀도 Controller span 은 유지됨 (MDC.clear() 문제와 대비)
+		assertThat(service.parentId).isEqualTo(controller.id);
+		assertThat(stack.close(service, 20, null)).isFalse();
+		assertThat(stack.isEmpty()).isFalse();
+		assertThat(stack.close(controller, 30, null)).isTrue();
+		assertThat(stack.render()).startsWith("total: 0.000ms | #1 Controller C.m");
+	}
+}
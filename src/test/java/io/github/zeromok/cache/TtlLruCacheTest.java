@@ -0,0 +1,166 @@
+package io.github.zeromok.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TtlLruCacheTest {
+
+	private final AtomicLong now = new AtomicLong();
+
+	@Test
+	@DisplayName("두 번째 조회부터는 loader를 호출하지 않음")
+	void testHitAfterFirstLoad() {
+		TtlLruCache<Long, String> cache = new TtlLruCache<>(100, Duration.ofSeconds(60), now::get);
+		AtomicInteger loads = new AtomicInteger();
+
+		cache.get(1L, key -> "alice-" + loads.incrementAndGet());
+		String second = cache.get(1L, key -> "alice-" + loads.incrementAndGet());
+
+		assertThat(second).isEqualTo("alice-1");
+		assertThat(cache.stats().hits()).isEqualTo(1);
+		assertThat(cache.stats().misses()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("TTL이 지나면 다시 로드함")
+	void testExpiresAfterTtl() {
+		TtlLruCache<Long, String> cache = new TtlLruCache<>(100, Duration.ofSeconds(60), now::get);
+		cache.get(1L, key -> "old");
+
+		now.addAndGet(Duration.ofSeconds(61).toNanos());
+
+		assertThat(cache.getIfPresent(1L)).isNull();
+		assertThat(cache.get(1L, key -> "new")).isEqualTo("new");
+	}
+
+	@Test
+	@DisplayName("크기를 넘으면 가장 오래 사용하지 않은 항목부터 내보냄")
+	void testEvictsLeastRecentlyUsed() {
+		// 크기 2 → 세그먼트 2개(각 1개), 1L 과 3L 은 같은 세그먼트
+		TtlLruCache<Long, String> cache = new TtlLruCache<>(2, Duration.ofSeconds(60), now::get);
+		cache.get(1L, key -> "a");
+		cache.get(2L, key -> "b");
+		cache.getIfPresent(1L);
+
+		cache.get(3L, key -> "c");
+
+		assertThat(cache.size()).isLessThanOrEqualTo(2);
+		assertThat(cache.stats().evictions()).isPositive();
+	}
+
+	@Test
+	@DisplayName("SLRU: 한 번씩만 조회되는 키가 몰려와도 두 번 이상 조회된 항목은 남음")
+	void testFrequentEntriesSurviveScan() {
+		// G: stripe 1개, 크기 10 (protected 8 + probation 2)
+		TtlLruCache<Long, String> cache = new TtlLruCache<>(10, Duration.ofSeconds(60), now::get, 1);
+		for (long hot = 1; hot <= 3; hot++) {
+			cache.get(hot, key -> "hot");
+			cache.get(hot, key -> "hot");
+		}
+
+		// W: 크기보다 훨씬 많은 키를 한 번씩 조회
+		for (long cold = 100; cold < 200; cold++) {
+			cache.get(cold, key -> "cold");
+		}
+
+		// T
+		assertThat(cache.getIfPresent(1L)).isEqualTo("hot");
+		assertThat(cache.getIfPresent(2L)).isEqualTo("hot");
+		assertThat(cache.getIfPresent(3L)).isEqualTo("hot");
+		assertThat(cache.getIfPresent(100L)).isNull();
+		assertThat(cache.size()).isEqualTo(10);
+		assertThat(cache.stats().evictions()).isEqualTo(100 + 3 - 10);
+	}
+
+	@Test
+	@DisplayName("로딩 중 invalidate 되면 로드 결과는 반환만 하고 캐시에 넣지 않음")
+	void testInvalidateDuringLoad() {
+		TtlLruCache<Long, String> cache = new TtlLruCache<>(100, Duration.ofSeconds(60), now::get);
+
+		String loaded = cache.get(1L, key -> {
+			cache.invalidate(key);
+			return "stale";
+		});
+
+		assertThat(loaded).isEqualTo("stale");
+		assertThat(cache.getIfPresent(1L)).isNull();
+		assertThat(cache.get(1L, key -> "fresh")).isEqualTo("fresh");
+		assertThat(cache.getIfPresent(1L)).isEqualTo("fresh");
+	}
+
+	@Test
+	@DisplayName("null 결과는 캐시하지 않음")
+	void testNullIsNotCached() {
+		TtlLruCache<Long, String> cache = new TtlLruCache<>(100, Duration.ofSeconds(60), now::get);
+
+		cache.get(99L, key -> null);
+
+		assertThat(cache.get(99L, key -> "found")).isEqualTo("found");
+	}
+
+	@Test
+	@DisplayName("invalidate 후에는 다시 로드함")
+	void testInvalidate() {
+		TtlLruCache<Long, String> cache = new TtlLruCache<>(100, Duration.ofSeconds(60), now::get);
+		cache.get(1L, key -> "old");
+
+		cache.invalidate(1L);
+
+		assertThat(cache.get(1L, key -> "new")).isEqualTo("new");
+	}
+
+	@Test
+	@DisplayName("single-flight: 같은 키의 동시 미스는 loader를 한 번만 호출")
+	void testConcurrentMissesLoadOnce() throws Exception {
+		TtlLruCache<Long, String> cache = new TtlLruCache<>(100, Duration.ofSeconds(60));
+		AtomicInteger loads = new AtomicInteger();
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		Future<String> first = executor.submit(() -> cache.get(1L, key -> {
+			loads.incrementAndGet();
+			loading.countDown();
+			await(release);
+			return "alice";
+		}));
+		assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+		Future<?>[] others = new Future<?>[7];
+		for (int i = 0; i < others.length; i++) {
+			others[i] = executor.submit(() -> cache.get(1L, key -> {
+				loads.incrementAndGet();
+				return "duplicate";
+			}));
+		}
+		// 나머지 요청이 in-flight 로드를 기다리도록 잠시 대기
+		Thread.sleep(100);
+		release.countDown();
+
+		assertThat(first.get()).isEqualTo("alice");
+		for (Future<?> other : others) {
+			assertThat(other.get()).isEqualTo("alice");
+		}
+		assertThat(loads.get()).isEqualTo(1);
+		executor.shutdown();
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package io.github.zeromok.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.github.zeromok.domain.User;
+
+class UserCacheTest {
+
+	private final UserCache cache = new UserCache(100, Duration.ofMinutes(1));
+
+	@Test
+	@DisplayName("id 로 읽는 도중 저장(무효화)되면 읽은 값을 username 캐시에 넣지 않음")
+	void testInvalidateDuringReadIsNotCrossFilled() {
+		// G: 이전 비밀번호를 읽는 사이 비밀번호 변경(save → invalidate)이 끝난 상황
+		User stale = new User(1L, "alice", "alice@example.com", "{noop}old");
+		User updated = new User(1L, "alice", "alice@example.com", "{pbkdf2}new");
+
+		// W
+		Optional<User> read = cache.findById(1L, id -> {
+			cache.invalidate(updated);
+			return Optional.of(stale);
+		});
+
+		// T: 읽은 값은 반환되지만 어느 캐시에도 남지 않고, 다음 조회는 새 값을 로드
+		assertThat(read).contains(stale);
+		assertThat(cache.findByUsername("alice", username -> Optional.of(updated))).contains(updated);
+		assertThat(cache.findById(1L, id -> Optional.of(updated))).contains(updated);
+	}
+
+	@Test
+	@DisplayName("로드한 값은 다른 쪽 캐시에도 채워 다시 로드하지 않음")
+	void testLoadedValueIsCrossFilled() {
+		// G
+		User alice = new User(1L, "alice", "alice@example.com", "{noop}password");
+		AtomicInteger loads = new AtomicInteger();
+
+		// W
+		cache.findByUsername("alice", username -> {
+			loads.incrementAndGet();
+			return Optional.of(alice);
+		});
+		Optional<User> byId = cache.findById(1L, id -> {
+			loads.incrementAndGet();
+			return Optional.of(alice);
+		});
+
+		// T
+		assertThat(byId).contains(alice);
+		assertThat(loads).hasValue(1);
+	}
+}
@@ -0,0 +1,149 @@
+package io.github.zeromok.client;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.http.client.ReactorClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpServer;
+
+import io.github.zeromok.context.TraceContext;
+import io.github.zeromok.reactive.ReactiveMdc;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+class TracePropagationTest {
+
+	private HttpServer stub;
+	private final List<Headers> received = new CopyOnWriteArrayList<>();
+	private final List<String> remotePorts = new CopyOnWriteArrayList<>();
+	private ConnectionProvider connectionProvider;
+	private HttpClient httpClient;
+	private String baseUrl;
+
+	// 받은 요청 헤더를 기록하고 200 을 돌려주는 로컬 서버
+	@BeforeEach
+	void setUp() throws IOException {
+		stub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		stub.createContext("/", exchange -> {
+			received.add(exchange.getRequestHeaders());
+			remotePorts.add(String.valueOf(exchange.getRemoteAddress().getPort()));
+			byte[] body = "ok".getBytes();
+			exchange.sendResponseHeaders(200, body.length);
+			exchange.getResponseBody().write(body);
+			exchange.close();
+		});
+		stub.start();
+		baseUrl = "http://localhost:" + stub.getAddress().getPort();
+
+		connectionProvider = ConnectionProvider.builder("test").maxConnections(1).build();
+		httpClient = HttpClient.create(connectionProvider);
+	}
+
+	@AfterEach
+	void tearDown() {
+		MDC.clear();
+		connectionProvider.dispose();
+		stub.stop(0);
+	}
+
+	@Test
+	@DisplayName("RestClient: MDC 의 traceId 를 X-Trace-Id 와 traceparent 로 전달하고 연결을 재사용")
+	void testRestClientPropagatesTraceId() {
+		// G
+		RestClient client = RestClient.builder()
+			.baseUrl(baseUrl)
+			.requestFactory(new ReactorClientHttpRequestFactory(httpClient))
+			.requestInterceptor(new TracePropagatingInterceptor())
+			.build();
+		MDC.put("traceId", "a1b2c3d4e5f60718");
+
+		// W
+		client.get().uri("/users/1").retrieve().toBodilessEntity();
+		client.get().uri("/users/2").retrieve().toBodilessEntity();
+
+		// T
+		assertThat(received).hasSize(2).allSatisfy(headers -> {
+			assertThat(headers.getFirst("X-Trace-Id")).isEqualTo("a1b2c3d4e5f60718");
+			assertThat(headers.getFirst("traceparent"))
+				.matches("00-0000000000000000a1b2c3d4e5f60718-[0-9a-f]{16}-01");
+		});
+		// 호스트당 연결 1개: 두 요청이 같은 keep-alive 연결로 나감
+		assertThat(remotePorts.get(1)).isEqualTo(remotePorts.get(0));
+	}
+
+	@Test
+	@DisplayName("RestClient: 호출하는 쪽이 넣은 헤더는 덮어쓰지 않고, 16진수가 아닌 traceId 는 traceparent 없이 전달")
+	void testRestClientKeepsExplicitHeader() {
+		// G
+		RestClient client = RestClient.builder()
+			.baseUrl(baseUrl)
+			.requestFactory(new ReactorClientHttpRequestFactory(httpClient))
+			.requestInterceptor(new TracePropagatingInterceptor())
+			.build();
+		MDC.put("traceId", "client-trace-1");
+
+		// W
+		client.get().uri("/a").retrieve().toBodilessEntity();
+		client.get().uri("/b").header("X-Trace-Id", "explicit").retrieve().toBodilessEntity();
+
+		// T
+		assertThat(received.get(0).getFirst("X-Trace-Id")).isEqualTo("client-trace-1");
+		assertThat(received.get(0).containsKey("traceparent")).isFalse();
+		assertThat(received.get(1).getFirst("X-Trace-Id")).isEqualTo("explicit");
+	}
+
+	@Test
+	@DisplayName("WebClient: Reactor Context 의 TraceContext 로 헤더를 붙임 (MDC 없이)")
+	void testWebClientPropagatesReactorContext() {
+		// G
+		WebClient client = WebClient.builder()
+			.baseUrl(baseUrl)
+			.clientConnector(new ReactorClientHttpConnector(httpClient))
+			.filter(new TracePropagatingExchangeFilter())
+			.build();
+		TraceContext context = new TraceContext("0af7651916cd43dd8448eb211c80319c", "GET", "/mdc/api/users/1");
+
+		// W
+		client.get().uri("/users/1")
+			.retrieve()
+			.toBodilessEntity()
+			.contextWrite(ctx -> ctx.put(ReactiveMdc.CONTEXT_KEY, context))
+			.block();
+
+		// T
+		assertThat(received).hasSize(1);
+		assertThat(received.get(0).getFirst("X-Trace-Id")).isEqualTo("0af7651916cd43dd8448eb211c80319c");
+		assertThat(received.get(0).getFirst("traceparent"))
+			.startsWith("00-0af7651916cd43dd8448eb211c80319c-")
+			.endsWith("-01");
+	}
+
+	@Test
+	@DisplayName("추적 중이 아니면 헤더를 붙이지 않음")
+	void testNoTraceNoHeaders() {
+		RestClient client = RestClient.builder()
+			.baseUrl(baseUrl)
+			.requestFactory(new ReactorClientHttpRequestFactory(httpClient))
+			.requestInterceptor(new TracePropagatingInterceptor())
+			.build();
+
+		client.get().uri("/health").retrieve().toBodilessEntity();
+
+		assertThat(received.get(0).containsKey("X-Trace-Id")).isFalse();
+		assertThat(received.get(0).containsKey("traceparent")).isFalse();
+	}
+}
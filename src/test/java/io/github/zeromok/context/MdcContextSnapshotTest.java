@@ -0,0 +1,126 @@
+package io.github.zeromok.context;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+
+class MdcContextSnapshotTest {
+
+	private final ExecutorService pool = Executors.newSingleThreadExecutor();
+
+	@AfterEach
+	void tearDown() {
+		pool.shutdownNow();
+		MDC.clear();
+	}
+
+	@Test
+	@DisplayName("문제: 스레드 풀로 넘어가면 traceId가 사라짐")
+	void testPlainExecutorLosesMdc() throws Exception {
+		MDC.put("traceId", "abc123");
+
+		String traceIdInPool = pool.submit(() -> MDC.get("traceId")).get();
+
+		assertThat(traceIdInPool).isNull();
+	}
+
+	@Test
+	@DisplayName("캡처한 스냅샷은 이후 MDC 변경에 영향받지 않음")
+	void testSnapshotIsImmutable() {
+		MDC.put("traceId", "abc123");
+		MdcContextSnapshot snapshot = MdcContextSnapshot.capture();
+
+		MDC.put("traceId", "changed");
+		MDC.clear();
+
+		assertThat(snapshot.getContext()).containsEntry("traceId", "abc123");
+		assertThatThrownBy(() -> snapshot.getContext().put("traceId", "x"))
+			.isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	@Test
+	@DisplayName("캡처한 읽기 전용 맵을 복사 없이 복원함 (작업 스레드가 같은 스냅샷을 공유)")
+	void testRestoreAdoptsCapturedMap() throws Exception {
+		// G
+		MDC.put("traceId", "abc123");
+		LogbackMDCAdapter adapter = (LogbackMDCAdapter)MDC.getMDCAdapter();
+		MdcContextSnapshot snapshot = MdcContextSnapshot.capture();
+
+		// W
+		Callable<Map<String, String>> readInPool = adapter::getPropertyMap;
+		Map<String, String> inPool = pool.submit(snapshot.wrap(readInPool)).get();
+
+		// T
+		assertThat(snapshot.getContext()).isSameAs(adapter.getPropertyMap());
+		assertThat(inPool).isSameAs(snapshot.getContext());
+		assertThat(MDC.getCopyOfContextMap()).isNotSameAs(snapshot.getContext()).containsEntry("traceId", "abc123");
+	}
+
+	@Test
+	@DisplayName("restore() 후 close() 하면 이전 MDC로 돌아감")
+	void testScopeRestoresPreviousContext() {
+		MDC.put("traceId", "request-1");
+		MdcContextSnapshot snapshot = MdcContextSnapshot.capture();
+
+		MDC.put("traceId", "request-2");
+		try (MdcContextSnapshot.Scope ignored = snapshot.restore()) {
+			assertThat(MDC.get("traceId")).isEqualTo("request-1");
+		}
+
+		assertThat(MDC.get("traceId")).isEqualTo("request-2");
+	}
+
+	@Test
+	@DisplayName("감싼 ExecutorService는 작업 스레드에 traceId를 전파하고 작업 후 정리함")
+	void testPropagatingExecutorService() throws Exception {
+		ExecutorService executor = new MdcPropagatingExecutorService(pool);
+		MDC.put("traceId", "abc123");
+
+		String traceIdInPool = executor.submit(() -> MDC.get("traceId")).get();
+		MDC.clear();
+		String traceIdAfterTask = pool.submit(() -> MDC.get("traceId")).get();
+
+		assertThat(traceIdInPool).isEqualTo("abc123");
+		assertThat(traceIdAfterTask).isNull();
+	}
+
+	@Test
+	@DisplayName("invokeAll로 여러 작업을 제출해도 모두 같은 traceId를 가짐")
+	void testInvokeAll() throws Exception {
+		ExecutorService executor = new MdcPropagatingExecutorService(pool);
+		MDC.put("traceId", "abc123");
+
+		Callable<String> task = () -> MDC.get("traceId");
+		List<Future<String>> futures = executor.invokeAll(List.of(task, task, task));
+
+		for (Future<String> future : futures) {
+			assertThat(future.get()).isEqualTo("abc123");
+		}
+	}
+
+	@Test
+	@DisplayName("CompletableFuture 헬퍼와 TaskDecorator도 traceId를 전파함")
+	void testCompletableFutureAndTaskDecorator() throws Exception {
+		MDC.put("traceId", "abc123");
+
+		String fromFuture = MdcCompletableFutures.supplyAsync(() -> MDC.get("traceId"), pool).get();
+
+		String[] fromDecorated = new String[1];
+		pool.submit(new MdcTaskDecorator().decorate(() -> fromDecorated[0] = MDC.get("traceId"))).get();
+
+		assertThat(fromFuture).isEqualTo("abc123");
+		assertThat(fromDecorated[0]).isEqualTo("abc123");
+	}
+}
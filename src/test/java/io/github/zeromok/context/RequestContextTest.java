@@ -0,0 +1,49 @@
+package io.github.zeromok.context;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RequestContextTest {
+
+	@Test
+	@DisplayName("바인딩하면 RequestContext 와 TraceContext 를 함께 조회하고, close() 시 둘 다 되돌림")
+	void testBindsTraceContextTogether() {
+		// G
+		RequestContext outer = new RequestContext("outer", "GET", "/mdc/api/users/1", System.nanoTime());
+		RequestContext inner = new RequestContext("inner", "POST", "/mdc/api/users/login", System.nanoTime());
+
+		// W & T
+		try (TraceContextHolder.Scope ignoredOuter = RequestContext.bind(outer)) {
+			try (TraceContextHolder.Scope ignoredInner = RequestContext.bind(inner)) {
+				assertThat(RequestContext.current()).isSameAs(inner);
+				assertThat(TraceContextHolder.current()).isSameAs(inner.trace());
+			}
+			assertThat(RequestContext.current()).isSameAs(outer);
+			assertThat(TraceContextHolder.current().traceId()).isEqualTo("outer");
+		}
+		assertThat(RequestContext.current()).isNull();
+		assertThat(TraceContextHolder.current()).isNull();
+	}
+
+	@Test
+	@DisplayName("요청 상태는 문자열 키 없이 타입이 있는 필드로 읽음")
+	void testTypedFields() {
+		// G
+		long startNanos = System.nanoTime();
+		RequestContext context = new RequestContext("abc123", "GET", "/mdc/api/users/me", startNanos);
+
+		// W
+		context.setUserId(42L);
+
+		// T
+		assertThat(context.traceId()).isEqualTo("abc123");
+		assertThat(context.method()).isEqualTo("GET");
+		assertThat(context.uri()).isEqualTo("/mdc/api/users/me");
+		assertThat(context.startNanos()).isEqualTo(startNanos);
+		assertThat(context.elapsedNanos()).isNotNegative();
+		assertThat(context.userId()).isEqualTo(42L);
+		assertThat(context.spanStack()).isNull();
+	}
+}
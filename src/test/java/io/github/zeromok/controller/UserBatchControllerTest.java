@@ -0,0 +1,120 @@
+package io.github.zeromok.controller;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("mdc-filter")
+class UserBatchControllerTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Test
+	void testBatchLookupRunsInParallel() throws Exception {
+		// G: 100개의 id (1~3 만 존재)
+		String ids = LongStream.rangeClosed(1, 100).mapToObj(Long::toString).collect(Collectors.joining(","));
+
+		// W
+		MvcResult result = mockMvc.perform(post("/mdc/api/users/batch")
+				.header("X-Trace-Id", "batch-parent")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"ids\":[" + ids + "]}"))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+		result.getAsyncResult(5_000);
+
+		// T: 항목마다 한 줄, 자식 traceId 는 부모 traceId 에 순번을 붙인 값
+		List<JsonNode> lines = parseLines(result.getResponse().getContentAsString());
+		assertThat(lines).hasSize(100);
+		assertThat(lines).allSatisfy(line -> {
+			int index = line.get("index").asInt();
+			assertThat(line.get("traceId").asText()).isEqualTo("batch-parent." + (index + 1));
+		});
+		assertThat(lines).filteredOn(line -> line.get("error").isNull()).hasSize(3)
+			.allSatisfy(line -> assertThat(line.get("result").has("password")).isFalse());
+	}
+
+	@Test
+	void testBatchLogin() throws Exception {
+		// W
+		MvcResult result = mockMvc.perform(post("/mdc/api/users/batch/login")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("""
+					{
+						"requests": [
+							{"username": "alice", "password": "password123"},
+							{"username": "bob", "password": "wrong"}
+						]
+					}
+					"""))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+		result.getAsyncResult(5_000);
+
+		// T: 성공/실패가 항목별로 구분됨
+		List<JsonNode> lines = parseLines(result.getResponse().getContentAsString());
+		assertThat(lines).hasSize(2);
+		assertThat(lines).filteredOn(line -> line.get("index").asInt() == 0)
+			.singleElement()
+			.satisfies(line -> assertThat(line.get("result").get("userId").asLong()).isEqualTo(1L));
+		assertThat(lines).filteredOn(line -> line.get("index").asInt() == 1)
+			.singleElement()
+			.satisfies(line -> assertThat(line.get("error").asText()).isNotEmpty());
+	}
+
+	@Test
+	void testEmptyBatchIsRejected() throws Exception {
+		mockMvc.perform(post("/mdc/api/users/batch")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"ids\":[]}"))
+			.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void testOversizedLoginBatchIsRejected() throws Exception {
+		// G: 조회 상한(1000)보다 훨씬 작은 일괄 로그인 상한(20)을 넘는 요청
+		String requests = IntStream.range(0, 21)
+			.mapToObj(i -> "{\"username\": \"alice\", \"password\": \"password123\"}")
+			.collect(Collectors.joining(","));
+
+		// W/T: 해시 계산 전에 거절
+		mockMvc.perform(post("/mdc/api/users/batch/login")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"requests\":[" + requests + "]}"))
+			.andExpect(status().isBadRequest());
+	}
+
+	private List<JsonNode> parseLines(String body) throws Exception {
+		List<JsonNode> lines = new ArrayList<>();
+		for (String line : body.split("\n")) {
+			if (!line.isBlank()) {
+				lines.add(objectMapper.readTree(line));
+			}
+		}
+		return lines;
+	}
+}
@@ -0,0 +1,70 @@
+package io.github.zeromok.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("mdc-filter")
+class UserControllerTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Test
+	@DisplayName("로그인 토큰으로 내 정보를 조회, 토큰이 없거나 틀리면 401")
+	void testMeWithToken() throws Exception {
+		// G: 로그인해서 토큰 발급
+		String body = mockMvc.perform(post("/mdc/api/users/login")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("""
+					{
+						"username": "bob",
+						"password": "password456"
+					}
+					"""))
+			.andExpect(status().isOk())
+			.andReturn().getResponse().getContentAsString();
+		String token = objectMapper.readTree(body).get("token").asText();
+
+		// W & T
+		mockMvc.perform(get("/mdc/api/users/me")
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.id").value(2))
+			.andExpect(jsonPath("$.username").value("bob"))
+			.andExpect(jsonPath("$.password").doesNotExist());
+
+		mockMvc.perform(get("/mdc/api/users/me"))
+			.andExpect(status().isUnauthorized());
+		mockMvc.perform(get("/mdc/api/users/me")
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + token.substring(1) + "A"))
+			.andExpect(status().isUnauthorized());
+	}
+
+	@Test
+	@DisplayName("id로 조회한 사용자 응답에는 비밀번호(해시)가 없음")
+	void testGetUserByIdHidesPassword() throws Exception {
+		mockMvc.perform(get("/mdc/api/users/1"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.id").value(1))
+			.andExpect(jsonPath("$.username").value("alice"))
+			.andExpect(jsonPath("$.email").exists())
+			.andExpect(jsonPath("$.password").doesNotExist());
+	}
+}
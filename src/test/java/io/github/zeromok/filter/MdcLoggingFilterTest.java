@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,6 +15,9 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
+import io.github.zeromok.metrics.RouteLatencyRegistry;
+import io.github.zeromok.metrics.RouteLatencySummary;
+
 @SpringBootTest
 @AutoConfigureMockMvc
 @ActiveProfiles("mdc-filter")
@@ -22,6 +26,9 @@ class MdcLoggingFilterTest {
 	@Autowired
 	private MockMvc mockMvc;
 
+	@Autowired
+	private RouteLatencyRegistry routeLatencyRegistry;
+
 	@Test
 	void testMdcIsApplied() throws Exception {
 		// G: 로그인 요청
@@ -85,4 +92,32 @@ class MdcLoggingFilterTest {
 		// 로그를 확인하면 5개의 다른 traceId가 출력됨
 		Thread.sleep(1000); // 모든 스레드가 완료될 때까지 대기
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("비동기 응답(StreamingResponseBody)은 핸들러 반환이 아니라 응답이 끝났을 때 지연 시간을 기록")
+	void testAsyncRequestIsRecordedOnCompletion() throws Exception {
+		// G
+		long before = exportCount();
+
+		// W: 핸들러는 반환했지만 응답은 아직 쓰는 중
+		MvcResult result = mockMvc.perform(get("/mdc/api/users/export"))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		// T: 아직 기록되지 않음
+		assertThat(exportCount()).isEqualTo(before);
+
+		// W: ASYNC 디스패치로 마무리
+		mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+
+		// T: 완료 시점에 2xx 로 한 번 기록됨
+		assertThat(exportCount()).isEqualTo(before + 1);
+	}
+
+	private long exportCount() {
+		return routeLatencyRegistry.summaries().stream()
+			.filter(summary -> summary.route().equals("/mdc/api/users/export") && summary.statusClass().equals("2xx"))
+			.mapToLong(RouteLatencySummary::count)
+			.sum();
+	}
+}
@@ -0,0 +1,56 @@
+package io.github.zeromok.filter;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import io.github.zeromok.context.TraceContextHolder;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("mdc-virtual")
+class TraceContextFilterTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	void testTraceContextIsApplied() throws Exception {
+		// G: 로그인 요청
+		String requestBody = """
+			{
+				"username": "alice",
+				"password": "password123"
+			}
+			""";
+
+		// W: API 호출
+		mockMvc.perform(post("/mdc/api/users/login")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(requestBody))
+			.andExpect(status().isOk());
+
+		// T: 요청이 끝나면 TraceContext와 MDC 모두 비어 있어야 함
+		assertThat(TraceContextHolder.current()).isNull();
+		assertThat(MDC.get("traceId")).isNull();
+	}
+
+	@Test
+	void testExistingTraceIdIsReused() throws Exception {
+		// W: 기존 traceId를 헤더로 전달
+		mockMvc.perform(get("/mdc/api/users/1")
+				.header("X-Trace-Id", "external-trace-123"))
+			.andExpect(status().isOk());
+
+		// 실제 로그를 확인하면 [external-trace-123]로 출력됨
+	}
+}
@@ -13,6 +13,10 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import io.github.zeromok.context.RequestContext;
+import io.github.zeromok.context.TraceContextHolder;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -95,6 +99,29 @@ class MdcLoggingInterceptorTest {
 		assertThat(MDC.get("traceId")).isNull();
 	}
 
+	@Test
+	@DisplayName("비동기 핸들러(StreamingResponseBody)도 요청 스레드의 RequestContext를 해제함")
+	void testAsyncHandlerReleasesRequestContext() throws Exception {
+		// W: 비동기 처리가 시작되면 afterCompletion 대신 afterConcurrentHandlingStarted 가 호출됨
+		MvcResult result = mockMvc.perform(get("/mdc/api/users/export")
+			.header("X-Trace-Id", "async-abc123")
+		).andExpect(request().asyncStarted()).andReturn();
+
+		// T: 요청 스레드에 컨텍스트가 남지 않음
+		assertThat(RequestContext.current()).isNull();
+		assertThat(TraceContextHolder.current()).isNull();
+		assertThat(MDC.get("traceId")).isNull();
+
+		// W: ASYNC 디스패치로 마무리
+		mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+
+		// T: 다음 요청은 이전 컨텍스트를 복원하지 않고 새로 만듦
+		assertThat(RequestContext.current()).isNull();
+		mockMvc.perform(get("/mdc/api/users/1")).andExpect(status().isOk());
+		assertThat(RequestContext.current()).isNull();
+		assertThat(MDC.get("traceId")).isNull();
+	}
+
 	@Test
 	@DisplayName("동시 요청에서도 각자 독립적인 traceId 유지")
 	void testConcurrentRequests() throws Exception {
@@ -0,0 +1,192 @@
+package io.github.zeromok.logging;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import ch.qos.logback.core.read.ListAppender;
+
+class BatchingAsyncAppenderTest {
+
+	private LoggerContext context;
+	private Logger logger;
+	private BatchingAsyncAppender asyncAppender;
+	private ListAppender<ILoggingEvent> listAppender;
+
+	@BeforeEach
+	void setUp() {
+		context = (LoggerContext)LoggerFactory.getILoggerFactory();
+		logger = context.getLogger("batching-async-test");
+		logger.setAdditive(false);
+		logger.setLevel(Level.DEBUG);
+
+		listAppender = new ListAppender<>();
+		listAppender.setContext(context);
+		listAppender.start();
+
+		asyncAppender = new BatchingAsyncAppender();
+		asyncAppender.setContext(context);
+		asyncAppender.setName("ASYNC-TEST");
+	}
+
+	@AfterEach
+	void tearDown() {
+		asyncAppender.stop();
+		logger.detachAndStopAllAppenders();
+		MDC.clear();
+	}
+
+	@Test
+	@DisplayName("MDC.clear() 이후에 처리되어도 큐에 넣을 때의 traceId가 유지됨")
+	void testMdcIsCapturedAtEnqueueTime() {
+		// G
+		asyncAppender.addAppender(listAppender);
+		asyncAppender.start();
+		logger.addAppender(asyncAppender);
+
+		// W: 로그를 남기고 바로 MDC 정리 (Filter의 finally 블록과 같은 상황)
+		MDC.put("traceId", "abc123");
+		logger.info("Request completed");
+		MDC.clear();
+		asyncAppender.stop();
+
+		// T
+		assertThat(listAppender.list).hasSize(1);
+		assertThat(listAppender.list.get(0).getMDCPropertyMap()).containsEntry("traceId", "abc123");
+	}
+
+	@Test
+	@DisplayName("DROP_DEBUG: 큐가 차오르면 DEBUG만 버리고 INFO는 유지")
+	void testDropDebugPolicy() throws Exception {
+		// G: 첫 이벤트에서 멈춰 있는 하위 Appender로 큐를 채운다
+		BlockingAppender blockingAppender = new BlockingAppender();
+		blockingAppender.setContext(context);
+		blockingAppender.start();
+
+		asyncAppender.setQueueSize(4);
+		asyncAppender.setDiscardingThreshold(2);
+		asyncAppender.setOverflowPolicy(BatchingAsyncAppender.OverflowPolicy.DROP_DEBUG);
+		asyncAppender.addAppender(blockingAppender);
+		asyncAppender.start();
+		logger.addAppender(asyncAppender);
+
+		logger.info("first");
+		assertThat(blockingAppender.entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+		// W: 큐에 2개가 쌓여 남은 공간이 discardingThreshold(2) 이하가 된 뒤 DEBUG 기록
+		logger.info("second");
+		logger.info("third");
+		logger.debug("dropped");
+
+		// T
+		assertThat(asyncAppender.getQueueDepth()).isEqualTo(2);
+		assertThat(asyncAppender.getDroppedCount()).isEqualTo(1);
+
+		blockingAppender.release.countDown();
+		asyncAppender.stop();
+		assertThat(blockingAppender.count).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("BLOCK: 큐가 가득 차 기다리던 요청 스레드는 stop() 후 이벤트를 버리고 돌아감")
+	void testBlockedProducerReturnsOnStop() throws Exception {
+		// G: 소비자는 첫 이벤트에서 멈추고, 크기 1 인 큐는 두 번째 이벤트로 가득 찬다
+		BlockingAppender blockingAppender = new BlockingAppender();
+		blockingAppender.setContext(context);
+		blockingAppender.start();
+
+		asyncAppender.setQueueSize(1);
+		asyncAppender.setMaxFlushTime(100);
+		asyncAppender.setOverflowPolicy(BatchingAsyncAppender.OverflowPolicy.BLOCK);
+		asyncAppender.addAppender(blockingAppender);
+		asyncAppender.start();
+		logger.addAppender(asyncAppender);
+
+		logger.info("first");
+		assertThat(blockingAppender.entered.await(5, TimeUnit.SECONDS)).isTrue();
+		logger.info("second");
+		Thread producer = new Thread(() -> logger.info("blocked"));
+		producer.start();
+
+		// W
+		Thread.sleep(100);
+		asyncAppender.stop();
+
+		// T: 소비자가 멈춰 있어도 요청 스레드는 빠져나오고, 넣지 못한 이벤트는 버린 것으로 집계
+		producer.join(2_000);
+		assertThat(producer.isAlive()).isFalse();
+		assertThat(asyncAppender.getDroppedCount()).isEqualTo(1);
+		blockingAppender.release.countDown();
+	}
+
+	@Test
+	@DisplayName("불변 인자의 메시지는 소비자 스레드에서 포맷하고, 변경 가능한 인자는 큐에 넣을 때 포맷")
+	void testDefersFormattingOfImmutableArguments() {
+		// G: 하위 Appender 는 인코더처럼 받은 이벤트를 바로 포맷한다
+		ListAppender<ILoggingEvent> formattingAppender = new ListAppender<>() {
+			@Override
+			protected void append(ILoggingEvent event) {
+				event.getFormattedMessage();
+				super.append(event);
+			}
+		};
+		formattingAppender.setContext(context);
+		formattingAppender.start();
+		asyncAppender.addAppender(formattingAppender);
+		asyncAppender.start();
+		logger.addAppender(asyncAppender);
+		StringBuilder mutable = new StringBuilder("before");
+
+		// W
+		logger.info("포맷 스레드: {}", FormattingThread.NAME);
+		logger.info("변경 가능한 인자: {}", mutable);
+		mutable.setLength(0);
+		mutable.append("after");
+		asyncAppender.stop();
+
+		// T
+		assertThat(formattingAppender.list).extracting(ILoggingEvent::getFormattedMessage)
+			.containsExactly("포맷 스레드: log-batch-ASYNC-TEST", "변경 가능한 인자: before");
+		assertThat(formattingAppender.list.get(0).getThreadName()).isEqualTo(Thread.currentThread().getName());
+	}
+
+	// toString() 이 호출된 스레드 이름을 돌려주는 불변 인자 (enum)
+	private enum FormattingThread {
+		NAME;
+
+		@Override
+		public String toString() {
+			return Thread.currentThread().getName();
+		}
+	}
+
+	private static class BlockingAppender extends AppenderBase<ILoggingEvent> {
+		private final CountDownLatch entered = new CountDownLatch(1);
+		private final CountDownLatch release = new CountDownLatch(1);
+		private volatile int count;
+
+		@Override
+		protected void append(ILoggingEvent event) {
+			entered.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			count++;
+		}
+	}
+}
@@ -0,0 +1,76 @@
+package io.github.zeromok.logging;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+
+class JsonEventEncoderTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final LoggerContext context = (LoggerContext)LoggerFactory.getILoggerFactory();
+	private final Logger logger = context.getLogger("io.github.zeromok.service.UserService");
+
+	@AfterEach
+	void tearDown() {
+		MDC.clear();
+	}
+
+	@Test
+	@DisplayName("MDC 키와 인자가 최상위 JSON 필드로 출력됨")
+	void testEncodesMdcAndArguments() throws Exception {
+		// G
+		MDC.put("traceId", "a1b2c3d4");
+		MDC.put("method", "POST");
+		MDC.put("uri", "/mdc/api/users/login");
+		LoggingEvent event = new LoggingEvent(Logger.FQCN, logger, Level.INFO,
+			"사용자 인증: {} ({})", null, new Object[] {"alice", 42L});
+
+		// W
+		JsonNode json = encode(event);
+
+		// T
+		assertThat(json.get("level").asText()).isEqualTo("INFO");
+		assertThat(json.get("logger").asText()).isEqualTo("io.github.zeromok.service.UserService");
+		assertThat(json.get("traceId").asText()).isEqualTo("a1b2c3d4");
+		assertThat(json.get("method").asText()).isEqualTo("POST");
+		assertThat(json.get("uri").asText()).isEqualTo("/mdc/api/users/login");
+		assertThat(json.get("msg").asText()).isEqualTo("사용자 인증: alice (42)");
+		assertThat(json.get("args").get(0).asText()).isEqualTo("alice");
+		assertThat(json.get("args").get(1).isNumber()).isTrue();
+		assertThat(json.get("ts").asLong()).isEqualTo(event.getTimeStamp());
+	}
+
+	@Test
+	@DisplayName("따옴표, 줄바꿈, 제어 문자가 이스케이프되어 한 줄로 출력됨")
+	void testEscapesSpecialCharacters() throws Exception {
+		LoggingEvent event = new LoggingEvent(Logger.FQCN, logger, Level.ERROR,
+			"line1\n\"quoted\"\t\\ \u0001", new IllegalStateException("boom"), null);
+
+		byte[] encoded = new JsonEventEncoder().encode(event);
+		String line = new String(encoded, StandardCharsets.UTF_8).stripTrailing();
+
+		assertThat(line).doesNotContain("\n");
+		JsonNode json = objectMapper.readTree(line);
+		assertThat(json.get("msg").asText()).isEqualTo("line1\n\"quoted\"\t\\ \u0001");
+		assertThat(json.get("exception").asText()).contains("IllegalStateException: boom");
+	}
+
+	private JsonNode encode(LoggingEvent event) throws Exception {
+		byte[] encoded = new JsonEventEncoder().encode(event);
+		return objectMapper.readTree(new String(encoded, StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,97 @@
+package io.github.zeromok.logging;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+class LazyLoggerTest {
+
+	private Logger logger;
+	private LazyLogger lazyLogger;
+	private ListAppender<ILoggingEvent> listAppender;
+
+	@BeforeEach
+	void setUp() {
+		LoggerContext context = (LoggerContext)LoggerFactory.getILoggerFactory();
+		logger = context.getLogger("lazy-logger-test");
+		logger.setAdditive(false);
+		logger.setLevel(Level.INFO);
+
+		listAppender = new ListAppender<>();
+		listAppender.setContext(context);
+		listAppender.start();
+		logger.addAppender(listAppender);
+		lazyLogger = LazyLogger.wrap(logger);
+	}
+
+	@AfterEach
+	void tearDown() {
+		logger.detachAndStopAllAppenders();
+	}
+
+	@Test
+	@DisplayName("레벨이 꺼져 있으면 Supplier 를 평가하지 않음")
+	void testSkipsSupplierWhenDisabled() {
+		// G
+		AtomicInteger evaluated = new AtomicInteger();
+
+		// W
+		lazyLogger.debug("토큰 확인 완료. ID: {}", evaluated::incrementAndGet);
+		lazyLogger.info("사용자 인증: {}", evaluated::incrementAndGet);
+
+		// T
+		assertThat(evaluated).hasValue(1);
+		assertThat(listAppender.list).hasSize(1);
+		assertThat(listAppender.list.get(0).getFormattedMessage()).isEqualTo("사용자 인증: 1");
+	}
+
+	@Test
+	@DisplayName("템플릿과 인자를 그대로 넘기고, 마지막 인자가 예외면 스택 트레이스로 기록")
+	void testPassesTemplateAndThrowable() {
+		// W
+		lazyLogger.info("사용자 찾음. 이름: {}, ID: {}", () -> "alice", () -> 1L);
+		lazyLogger.error("로그인 실패. for user: {}", "alice", new IllegalStateException("비밀번호 불일치"));
+
+		// T
+		assertThat(listAppender.list).hasSize(2);
+		ILoggingEvent info = listAppender.list.get(0);
+		assertThat(info.getMessage()).isEqualTo("사용자 찾음. 이름: {}, ID: {}");
+		assertThat(info.getArgumentArray()).containsExactly("alice", 1L);
+		ILoggingEvent error = listAppender.list.get(1);
+		assertThat(error.getFormattedMessage()).isEqualTo("로그인 실패. for user: alice");
+		assertThat(error.getThrowableProxy().getMessage()).isEqualTo("비밀번호 불일치");
+		assertThat(error.getLoggerName()).isEqualTo("lazy-logger-test");
+	}
+
+	@Test
+	@DisplayName("인자가 셋 이상이어도 Supplier 원소를 평가해서 넘김")
+	void testResolvesSuppliersInVarargs() {
+		// G
+		AtomicInteger evaluated = new AtomicInteger();
+		Supplier<String> name = () -> "alice";
+		Supplier<Integer> count = evaluated::incrementAndGet;
+
+		// W
+		lazyLogger.debug("배치 항목. 이름: {}, 순번: {}, 상태: {}", name, count, "OK");
+		lazyLogger.info("배치 항목. 이름: {}, 순번: {}, 상태: {}", name, count, "OK");
+
+		// T: 꺼진 레벨에서는 평가하지 않고, 켜진 레벨에서는 값으로 바뀜
+		assertThat(evaluated).hasValue(1);
+		assertThat(listAppender.list).hasSize(1);
+		assertThat(listAppender.list.get(0).getArgumentArray()).containsExactly("alice", 1, "OK");
+		assertThat(listAppender.list.get(0).getFormattedMessage()).isEqualTo("배치 항목. 이름: alice, 순번: 1, 상태: OK");
+	}
+}
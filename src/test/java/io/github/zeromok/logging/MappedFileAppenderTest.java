@@ -0,0 +1,220 @@
+package io.github.zeromok.logging;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.encoder.EncoderBase;
+import ch.qos.logback.core.util.FileSize;
+
+class MappedFileAppenderTest {
+
+	@TempDir
+	Path directory;
+
+	private LoggerContext context;
+	private Logger logger;
+	private MappedFileAppender appender;
+
+	@BeforeEach
+	void setUp() {
+		context = (LoggerContext)LoggerFactory.getILoggerFactory();
+		logger = context.getLogger("mapped-file-test");
+		logger.setAdditive(false);
+		logger.setLevel(Level.INFO);
+
+		PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+		encoder.setContext(context);
+		encoder.setPattern("%m%n");
+		encoder.start();
+
+		appender = new MappedFileAppender();
+		appender.setContext(context);
+		appender.setName("MAPPED-TEST");
+		appender.setEncoder(encoder);
+		appender.setDirectory(directory.toString());
+		// 작은 region 으로 경계에 걸치는 이벤트를 만든다
+		appender.setRegionSize(FileSize.valueOf("4KB"));
+	}
+
+	@AfterEach
+	void tearDown() {
+		appender.stop();
+		logger.detachAndStopAllAppenders();
+	}
+
+	@Test
+	@DisplayName("region 경계를 넘어도 모든 줄이 순서대로 남고, 종료 시 매핑한 나머지(0 바이트)는 잘라냄")
+	void testWritesAcrossRegions() throws IOException {
+		// G
+		appender.setCompress(false);
+		appender.start();
+		logger.addAppender(appender);
+
+		// W
+		for (int i = 0; i < 1000; i++) {
+			logger.info("event-{}", i);
+		}
+		appender.stop();
+
+		// T
+		List<String> lines = readAllLines();
+		assertThat(lines).hasSize(1000);
+		assertThat(lines.get(0)).isEqualTo("event-0");
+		assertThat(lines.get(999)).isEqualTo("event-999");
+		assertThat(Files.size(singleFile(".log"))).isEqualTo(lines.stream().mapToLong(line -> line.length() + 1).sum());
+	}
+
+	@Test
+	@DisplayName("maxFileSize 를 넘으면 새 세그먼트로 넘어가고, 닫힌 세그먼트는 백그라운드에서 gzip")
+	void testRollsBySizeAndCompresses() throws IOException {
+		// G
+		appender.setMaxFileSize(FileSize.valueOf("8KB"));
+		appender.start();
+		logger.addAppender(appender);
+
+		// W: 한 줄 약 100바이트 x 500 = 약 50KB → 세그먼트 6개 이상
+		String padding = "x".repeat(90);
+		for (int i = 0; i < 500; i++) {
+			logger.info("{} {}", i, padding);
+		}
+		appender.stop();
+
+		// T: 모두 압축되고, 내용은 빠짐없이 남아 있음
+		try (Stream<Path> files = Files.list(directory)) {
+			assertThat(files.toList())
+				.hasSizeGreaterThanOrEqualTo(6)
+				.allSatisfy(file -> assertThat(file.toString()).endsWith(".log.gz"));
+		}
+		assertThat(readAllLines()).hasSize(500);
+	}
+
+	@Test
+	@DisplayName("비정상 종료로 남은 세그먼트는 다음 시작 시 끝의 0 바이트를 잘라내고 압축")
+	void testRecoversLeftoverSegment() throws IOException {
+		// G: 매핑만 되고 쓰이지 않은 부분이 남은 파일
+		byte[] leftover = new byte[8192];
+		byte[] written = "before-crash\n".getBytes(StandardCharsets.UTF_8);
+		System.arraycopy(written, 0, leftover, 0, written.length);
+		Files.write(directory.resolve("app-2000-01-01.0.log"), leftover);
+
+		// W
+		appender.start();
+		logger.addAppender(appender);
+		logger.info("after-restart");
+		appender.stop();
+
+		// T
+		assertThat(read(directory.resolve("app-2000-01-01.0.log.gz"))).isEqualTo("before-crash\n");
+		assertThat(readAllLines()).containsExactlyInAnyOrder("before-crash", "after-restart");
+	}
+
+	@Test
+	@DisplayName("종료 시 쓰는 footer 가 새 region 을 매핑해도 예외 없이 끝까지 기록됨")
+	void testFooterSpanningRegionOnStop() throws IOException {
+		// G: region(4KB)보다 큰 footer
+		String footer = "#".repeat(5000) + "\n";
+		EncoderBase<ILoggingEvent> encoder = new EncoderBase<>() {
+			@Override
+			public byte[] headerBytes() {
+				return null;
+			}
+
+			@Override
+			public byte[] encode(ILoggingEvent event) {
+				return (event.getFormattedMessage() + "\n").getBytes(StandardCharsets.UTF_8);
+			}
+
+			@Override
+			public byte[] footerBytes() {
+				return footer.getBytes(StandardCharsets.UTF_8);
+			}
+		};
+		encoder.setContext(context);
+		encoder.start();
+		appender.setEncoder(encoder);
+		appender.setCompress(false);
+		appender.start();
+		logger.addAppender(appender);
+		for (int i = 0; i < 100; i++) {
+			logger.info("event-{}", i);
+		}
+
+		// W
+		assertThatCode(appender::stop).doesNotThrowAnyException();
+
+		// T
+		String content = read(singleFile(".log"));
+		assertThat(content).startsWith("event-0\n").endsWith(footer);
+		assertThat(content.lines().filter(line -> line.startsWith("event-"))).hasSize(100);
+	}
+
+	@Test
+	@DisplayName("재시작하면 같은 기간의 기존 세그먼트를 덮어쓰지 않고 다음 번호로 시작")
+	void testContinuesIndexAfterRestart() throws IOException {
+		// G
+		appender.setCompress(false);
+		appender.start();
+		Path first = appender.getCurrentFile();
+		appender.stop();
+
+		// W
+		appender.start();
+		Path second = appender.getCurrentFile();
+
+		// T
+		assertThat(first.getFileName().toString()).endsWith(".0.log");
+		assertThat(second.getFileName().toString()).endsWith(".1.log");
+	}
+
+	private Path singleFile(String suffix) throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.filter(file -> file.toString().endsWith(suffix)).findFirst().orElseThrow();
+		}
+	}
+
+	// 세그먼트 번호 순서로 모든 파일(.log, .log.gz)의 줄을 읽는다
+	private List<String> readAllLines() throws IOException {
+		List<String> lines = new ArrayList<>();
+		try (Stream<Path> files = Files.list(directory)) {
+			for (Path file : files.sorted((a, b) -> Integer.compare(indexOf(a), indexOf(b))).toList()) {
+				read(file).lines().forEach(lines::add);
+			}
+		}
+		return lines;
+	}
+
+	private static int indexOf(Path file) {
+		String name = file.getFileName().toString();
+		int start = name.indexOf('.') + 1;
+		return Integer.parseInt(name.substring(start, name.indexOf('.', start)));
+	}
+
+	private static String read(Path file) throws IOException {
+		try (InputStream in = file.toString().endsWith(".gz")
+			? new GZIPInputStream(Files.newInputStream(file))
+			: Files.newInputStream(file)) {
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+}
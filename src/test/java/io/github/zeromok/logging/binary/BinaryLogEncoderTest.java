@@ -0,0 +1,182 @@
+package io.github.zeromok.logging.binary;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.util.FileSize;
+import io.github.zeromok.logging.MappedFileAppender;
+
+class BinaryLogEncoderTest {
+
+	private final LoggerContext context = (LoggerContext)LoggerFactory.getILoggerFactory();
+	private final Logger logger = context.getLogger("io.github.zeromok.service.UserService");
+
+	@Test
+	@DisplayName("템플릿과 타입별 인자로 기록한 이벤트를 텍스트 줄로 복원")
+	void testRoundTrip() throws IOException {
+		// G
+		BinaryLogEncoder encoder = new BinaryLogEncoder();
+		ByteArrayOutputStream file = new ByteArrayOutputStream();
+		file.write(encoder.headerBytes());
+
+		// W
+		file.write(encoder.encode(event("a1b2c3d4e5f60718", "사용자 인증: {} ({}, {})", "alice", 42L, true)));
+		file.write(encoder.encode(event("load-7", "사용자 조회. id: {}", -3)));
+		file.write(encoder.encode(event(null, "스케줄러 실행", new Object[0])));
+		List<String> lines = decode(new BinaryLogDecoder(null, false), file.toByteArray());
+
+		// T
+		assertThat(lines).hasSize(3);
+		assertThat(lines.get(0))
+			.startsWith("[a1b2c3d4e5f60718] ")
+			.contains(" INFO --- [main] io.github.zeromok.service.UserService : ")
+			.endsWith("사용자 인증: alice (42, true)");
+		assertThat(lines.get(1)).startsWith("[load-7] ").endsWith("사용자 조회. id: -3");
+		assertThat(lines.get(2)).startsWith("[] ").endsWith("스케줄러 실행");
+	}
+
+	@Test
+	@DisplayName("같은 템플릿/로거는 처음 한 번만 정의하고, 이후 이벤트는 텍스트보다 훨씬 작음")
+	void testDefinesTemplateOncePerFile() {
+		// G
+		BinaryLogEncoder encoder = new BinaryLogEncoder();
+		encoder.headerBytes();
+		LoggingEvent event = event("a1b2c3d4e5f60718", "사용자 조회. id: {}", 1L);
+
+		// W
+		byte[] first = encoder.encode(event);
+		byte[] second = encoder.encode(event);
+		encoder.headerBytes();
+		byte[] afterNewFile = encoder.encode(event);
+
+		// T: 두 번째부터는 id 참조만 (새 파일에서는 다시 정의)
+		assertThat(second.length).isLessThan(first.length).isLessThan(30);
+		assertThat(afterNewFile).hasSameSizeAs(first);
+	}
+
+	@Test
+	@DisplayName("--trace 로 지정한 traceId 의 이벤트만 출력하고 MDC 를 함께 보여줌")
+	void testFiltersByTraceId() throws IOException {
+		// G
+		BinaryLogEncoder encoder = new BinaryLogEncoder();
+		ByteArrayOutputStream file = new ByteArrayOutputStream();
+		file.write(encoder.headerBytes());
+		for (int i = 0; i < 10; i++) {
+			file.write(encoder.encode(event(i % 2 == 0 ? "0000aaaa" : "0000bbbb", "요청 {}", i)));
+		}
+
+		// W
+		List<String> lines = decode(new BinaryLogDecoder("0000bbbb", true), file.toByteArray());
+
+		// T
+		assertThat(lines).hasSize(5)
+			.allSatisfy(line -> assertThat(line).startsWith("[0000bbbb] ").contains("{method=GET, uri=/mdc/api/users}"));
+		assertThat(lines.get(0)).endsWith("요청 1");
+	}
+
+	@Test
+	@DisplayName("마지막 레코드가 잘린 파일은 그 앞까지 복원하고 잘렸다는 사실을 결과로 알려줌")
+	void testReportsTruncatedTail() throws IOException {
+		// G: 마지막 이벤트를 쓰다 만 파일
+		BinaryLogEncoder encoder = new BinaryLogEncoder();
+		ByteArrayOutputStream file = new ByteArrayOutputStream();
+		file.write(encoder.headerBytes());
+		file.write(encoder.encode(event("0000aaaa", "요청 {}", 1)));
+		byte[] last = encoder.encode(event("0000aaaa", "요청 {}", 2));
+		file.write(last, 0, last.length / 2);
+		List<String> lines = new ArrayList<>();
+
+		// W
+		BinaryLogDecoder.Result result = new BinaryLogDecoder(null, false)
+			.decode(new ByteArrayInputStream(file.toByteArray()), lines::add);
+
+		// T
+		assertThat(result.truncated()).isTrue();
+		assertThat(result.events()).isEqualTo(1);
+		assertThat(lines).hasSize(1);
+		assertThat(lines.get(0)).endsWith("요청 1");
+	}
+
+	@Test
+	@DisplayName("MappedFileAppender 로 롤오버되어도 파일마다 사전이 있어 각각 복원 가능")
+	void testDecodesEveryRolledSegment(@TempDir Path directory) throws IOException {
+		// G
+		BinaryLogEncoder encoder = new BinaryLogEncoder();
+		encoder.setContext(context);
+		encoder.start();
+		MappedFileAppender appender = new MappedFileAppender();
+		appender.setContext(context);
+		appender.setName("BINARY-TEST");
+		appender.setEncoder(encoder);
+		appender.setFileSuffix("blog");
+		appender.setDirectory(directory.toString());
+		appender.setRegionSize(FileSize.valueOf("4KB"));
+		appender.setMaxFileSize(FileSize.valueOf("4KB"));
+		appender.start();
+
+		// W
+		for (int i = 0; i < 2000; i++) {
+			appender.doAppend(event("a1b2c3d4e5f60718", "사용자 조회. id: {} {}", i, "x".repeat(i % 50)));
+		}
+		appender.stop();
+
+		// T
+		BinaryLogDecoder decoder = new BinaryLogDecoder(null, false);
+		List<String> lines = new ArrayList<>();
+		List<Path> files;
+		try (Stream<Path> stream = Files.list(directory)) {
+			files = stream.sorted((a, b) -> Integer.compare(indexOf(a), indexOf(b))).toList();
+		}
+		for (Path file : files) {
+			decoder.decode(file, lines::add);
+		}
+		assertThat(files).hasSizeGreaterThan(1)
+			.allSatisfy(file -> assertThat(file.toString()).endsWith(".blog.gz"));
+		assertThat(lines).hasSize(2000);
+		assertThat(lines.get(1999)).endsWith("사용자 조회. id: 1999 " + "x".repeat(1999 % 50));
+	}
+
+	private LoggingEvent event(String traceId, String template, Object... arguments) {
+		LoggingEvent event = new LoggingEvent(Logger.FQCN, logger, Level.INFO, template, null, arguments);
+		event.setThreadName("main");
+		Map<String, String> mdc = new LinkedHashMap<>();
+		if (traceId != null) {
+			mdc.put("traceId", traceId);
+			mdc.put("method", "GET");
+			mdc.put("uri", "/mdc/api/users");
+		}
+		event.setMDCPropertyMap(mdc);
+		return event;
+	}
+
+	private static List<String> decode(BinaryLogDecoder decoder, byte[] file) throws IOException {
+		List<String> lines = new ArrayList<>();
+		assertThat(decoder.decode(new ByteArrayInputStream(file), lines::add).truncated()).isFalse();
+		return lines;
+	}
+
+	private static int indexOf(Path file) {
+		String name = file.getFileName().toString();
+		int start = name.indexOf('.') + 1;
+		return Integer.parseInt(name.substring(start, name.indexOf('.', start)));
+	}
+}
@@ -0,0 +1,153 @@
+package io.github.zeromok.logging.index;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.util.FileSize;
+
+class TraceIndexedAppenderTest {
+
+	private static final long BASE_TIME = 1_700_000_000_000L;
+
+	private final LoggerContext context = (LoggerContext)LoggerFactory.getILoggerFactory();
+	private final Logger logger = context.getLogger("io.github.zeromok.service.UserService");
+
+	@Test
+	@DisplayName("닫힌 세그먼트와 쓰는 중인 세그먼트에 흩어진 traceId 의 로그를 기록 순서대로 찾음")
+	void testFindsTraceAcrossSegments(@TempDir Path directory) throws IOException {
+		// G
+		TraceIndexedAppender appender = appender(directory);
+
+		// W
+		for (int i = 0; i < 3000; i++) {
+			appender.doAppend(event(BASE_TIME + i, "trace-" + (i % 100), "요청 " + i));
+		}
+		List<TraceLogEntry> found = appender.findByTraceId("trace-7", 1000);
+		List<TraceLogEntry> limited = appender.findByTraceId("trace-7", 5);
+		List<TraceLogEntry> missing = appender.findByTraceId("trace-none", 1000);
+		appender.stop();
+
+		// T
+		assertThat(indexFiles(directory)).isGreaterThan(1);
+		assertThat(found).hasSize(30)
+			.allSatisfy(entry -> assertThat(entry.traceId()).isEqualTo("trace-7"));
+		assertThat(found.get(0).line()).isEqualTo("요청 7\n");
+		assertThat(found.get(29).line()).isEqualTo("요청 2907\n");
+		assertThat(found.get(29).timestamp()).isEqualTo(Instant.ofEpochMilli(BASE_TIME + 2907));
+		assertThat(limited).hasSize(5);
+		assertThat(missing).isEmpty();
+	}
+
+	@Test
+	@DisplayName("시간 범위 조회는 [from, to] 사이의 이벤트만 돌려줌")
+	void testFindsByTimeRange(@TempDir Path directory) {
+		// G
+		TraceIndexedAppender appender = appender(directory);
+		for (int i = 0; i < 3000; i++) {
+			appender.doAppend(event(BASE_TIME + i * 10L, "trace-" + i, "요청 " + i));
+		}
+
+		// W
+		List<TraceLogEntry> range = appender.findByTime(
+			Instant.ofEpochMilli(BASE_TIME + 10_000), Instant.ofEpochMilli(BASE_TIME + 10_990), 1000);
+		List<TraceLogEntry> tail = appender.findByTime(
+			Instant.ofEpochMilli(BASE_TIME + 29_960), Instant.ofEpochMilli(BASE_TIME + 40_000), 1000);
+		appender.stop();
+
+		// T
+		assertThat(range).hasSize(100);
+		assertThat(range.get(0).line()).isEqualTo("요청 1000\n");
+		assertThat(range.get(99).line()).isEqualTo("요청 1099\n");
+		assertThat(tail).extracting(TraceLogEntry::traceId)
+			.containsExactly("trace-2996", "trace-2997", "trace-2998", "trace-2999");
+	}
+
+	@Test
+	@DisplayName("색인 파일 없이 남은 세그먼트는 다시 시작할 때 색인을 만들어 조회 가능")
+	void testRecoversSegmentWithoutIndex(@TempDir Path directory) throws IOException {
+		// G
+		TraceIndexedAppender first = appender(directory);
+		for (int i = 0; i < 3000; i++) {
+			first.doAppend(event(BASE_TIME + i, "trace-" + (i % 100), "요청 " + i));
+		}
+		first.stop();
+		try (Stream<Path> files = Files.list(directory)) {
+			for (Path index : files.filter(file -> file.toString().endsWith(".idx")).toList()) {
+				Files.delete(index);
+			}
+		}
+
+		// W
+		TraceIndexedAppender second = appender(directory);
+		List<TraceLogEntry> found = second.findByTraceId("trace-42", 1000);
+		second.stop();
+
+		// T
+		assertThat(found).hasSize(30);
+		assertThat(found.get(0).line()).isEqualTo("요청 42\n");
+	}
+
+	@Test
+	@DisplayName("Context 로 찾은 TraceLogIndex 는 시작된 Appender 가 없으면 빈 결과")
+	void testLookupFollowsCurrentAppender(@TempDir Path directory) {
+		// G
+		TraceLogIndex index = TraceIndexedAppender.lookup(context);
+		TraceIndexedAppender appender = appender(directory);
+		appender.doAppend(event(BASE_TIME, "a1b2c3d4e5f60718", "사용자 조회"));
+
+		// W
+		List<TraceLogEntry> whileStarted = index.findByTraceId("a1b2c3d4e5f60718", 10);
+		appender.stop();
+		List<TraceLogEntry> afterStop = index.findByTraceId("a1b2c3d4e5f60718", 10);
+
+		// T
+		assertThat(whileStarted).hasSize(1);
+		assertThat(afterStop).isEmpty();
+	}
+
+	private TraceIndexedAppender appender(Path directory) {
+		PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+		encoder.setContext(context);
+		encoder.setPattern("%m%n");
+		encoder.start();
+		TraceIndexedAppender appender = new TraceIndexedAppender();
+		appender.setContext(context);
+		appender.setName("TRACE-INDEX-TEST");
+		appender.setEncoder(encoder);
+		appender.setDirectory(directory.toString());
+		appender.setMaxSegmentSize(FileSize.valueOf("8KB"));
+		appender.setMaxSegments(1000);
+		appender.start();
+		return appender;
+	}
+
+	private LoggingEvent event(long timestamp, String traceId, String message) {
+		LoggingEvent event = new LoggingEvent(Logger.FQCN, logger, Level.INFO, message, null, null);
+		event.setTimeStamp(timestamp);
+		event.setMDCPropertyMap(Map.of("traceId", traceId));
+		return event;
+	}
+
+	private static long indexFiles(Path directory) throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.filter(file -> file.toString().endsWith(".idx")).count();
+		}
+	}
+}
@@ -0,0 +1,121 @@
+package io.github.zeromok.logging.mdc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SmallArrayMdcAdapterTest {
+
+	private final SmallArrayMdcAdapter adapter = new SmallArrayMdcAdapter();
+
+	@AfterEach
+	void tearDown() {
+		adapter.clear();
+	}
+
+	@Test
+	@DisplayName("쓰기 전까지 같은 스냅샷을 공유하고, 쓰기 후에도 이전 스냅샷은 바뀌지 않음")
+	void testSnapshotSharedUntilWrite() {
+		// G
+		adapter.put("traceId", "t1");
+		adapter.put("method", "GET");
+		Map<String, String> before = adapter.getPropertyMap();
+
+		// W
+		Map<String, String> again = adapter.getPropertyMap();
+		adapter.put("traceId", "t2");
+
+		// T
+		assertThat(again).isSameAs(before);
+		assertThat(before).isEqualTo(Map.of("traceId", "t1", "method", "GET"));
+		assertThat(adapter.getPropertyMap()).isEqualTo(Map.of("traceId", "t2", "method", "GET"));
+		assertThatThrownBy(() -> before.put("uri", "/x")).isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	@Test
+	@DisplayName("getCopyOfContextMap 은 호출할 때마다 수정 가능한 새 맵을 돌려줌")
+	void testCopyOfContextMapIsMutable() {
+		// G
+		adapter.put("traceId", "t1");
+
+		// W
+		Map<String, String> copy = adapter.getCopyOfContextMap();
+		copy.put("userId", "1");
+
+		// T: 복사본을 고쳐도 MDC 와 스냅샷은 그대로
+		assertThat(adapter.getCopyOfContextMap()).isNotSameAs(copy).isEqualTo(Map.of("traceId", "t1"));
+		assertThat(adapter.getPropertyMap()).isEqualTo(Map.of("traceId", "t1"));
+		assertThat(adapter.get("userId")).isNull();
+	}
+
+	@Test
+	@DisplayName("remove 는 나머지 순서를 유지하고, clear 후에는 비어 있음(null)")
+	void testRemoveAndClear() {
+		// G
+		adapter.put("traceId", "t1");
+		adapter.put("method", "GET");
+		adapter.put("uri", "/mdc/api/users/1");
+
+		// W
+		adapter.remove("method");
+
+		// T
+		assertThat(adapter.getPropertyMap()).containsExactly(
+			Map.entry("traceId", "t1"), Map.entry("uri", "/mdc/api/users/1"));
+
+		adapter.clear();
+		assertThat(adapter.get("traceId")).isNull();
+		assertThat(adapter.getPropertyMap()).isNull();
+		assertThat(adapter.getCopyOfContextMap()).isNull();
+	}
+
+	@Test
+	@DisplayName("키가 초기 용량보다 많아도 모두 보관")
+	void testGrowsBeyondInitialCapacity() {
+		for (int i = 0; i < 20; i++) {
+			adapter.put("key" + i, String.valueOf(i));
+		}
+
+		assertThat(adapter.getCopyOfContextMap()).hasSize(20).containsEntry("key19", "19");
+	}
+
+	@Test
+	@DisplayName("다른 스레드에서 스냅샷을 복원하면 값이 같고, 복원한 스레드의 쓰기는 원본에 영향 없음")
+	void testSetContextMapFromOtherThread() {
+		// G
+		adapter.put("traceId", "t1");
+		Map<String, String> snapshot = adapter.getPropertyMap();
+
+		// W
+		Map<String, String> restored = CompletableFuture.supplyAsync(() -> {
+			adapter.setContextMap(snapshot);
+			assertThat(adapter.getPropertyMap()).isSameAs(snapshot);
+			adapter.put("userId", "1");
+			Map<String, String> copy = adapter.getCopyOfContextMap();
+			adapter.clear();
+			return copy;
+		}).join();
+
+		// T
+		assertThat(restored).isEqualTo(Map.of("traceId", "t1", "userId", "1"));
+		assertThat(snapshot).isEqualTo(Map.of("traceId", "t1"));
+		assertThat(adapter.getPropertyMap()).isSameAs(snapshot);
+	}
+
+	@Test
+	@DisplayName("pushByKey/popByKey 는 키별 스택으로 동작")
+	void testDequeByKey() {
+		adapter.pushByKey("span", "outer");
+		adapter.pushByKey("span", "inner");
+
+		assertThat(adapter.getCopyOfDequeByKey("span")).containsExactly("inner", "outer");
+		assertThat(adapter.popByKey("span")).isEqualTo("inner");
+		adapter.clearDequeByKey("span");
+		assertThat(adapter.popByKey("span")).isNull();
+	}
+}
@@ -0,0 +1,111 @@
+package io.github.zeromok.logging.mdc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.github.zeromok.context.RequestContext;
+import io.github.zeromok.context.TraceContext;
+import io.github.zeromok.context.TraceContextHolder;
+
+class TraceContextMdcAdapterTest {
+
+	private final TraceContextMdcAdapter adapter = new TraceContextMdcAdapter();
+
+	@Test
+	@DisplayName("바인딩된 TraceContext의 값이 MDC 키로 조회됨")
+	void testReadsBoundContext() {
+		TraceContext context = new TraceContext("abc123", "GET", "/mdc/api/users/1");
+
+		try (TraceContextHolder.Scope ignored = TraceContextHolder.bind(context)) {
+			assertThat(adapter.get("traceId")).isEqualTo("abc123");
+			assertThat(adapter.getCopyOfContextMap())
+				.containsEntry("traceId", "abc123")
+				.containsEntry("method", "GET")
+				.containsEntry("uri", "/mdc/api/users/1");
+		}
+
+		// T: 범위를 벗어나면 사라짐
+		assertThat(adapter.get("traceId")).isNull();
+	}
+
+	@Test
+	@DisplayName("MDC.put()으로 넣은 값이 TraceContext보다 우선함")
+	void testExplicitPutWins() {
+		TraceContext context = new TraceContext("abc123", "GET", "/mdc/api/users/1");
+
+		try (TraceContextHolder.Scope ignored = TraceContextHolder.bind(context)) {
+			adapter.put("traceId", "override");
+			adapter.put("userId", "1");
+
+			assertThat(adapter.get("traceId")).isEqualTo("override");
+			assertThat(adapter.getCopyOfContextMap())
+				.containsEntry("traceId", "override")
+				.containsEntry("userId", "1")
+				.containsEntry("method", "GET");
+		} finally {
+			adapter.clear();
+		}
+	}
+
+	@Test
+	@DisplayName("TraceContext 와 MDC 가 그대로면 로그 이벤트마다 같은 읽기 전용 맵을 돌려줌")
+	void testMergedMapReusedUntilChange() {
+		TraceContext context = new TraceContext("abc123", "GET", "/mdc/api/users/1");
+
+		try (TraceContextHolder.Scope ignored = TraceContextHolder.bind(context)) {
+			adapter.put("userId", "1");
+			Map<String, String> first = adapter.getPropertyMap();
+
+			assertThat(adapter.getPropertyMap()).isSameAs(first);
+			assertThat(adapter.getCopyOfContextMap()).isNotSameAs(first).isEqualTo(first);
+
+			adapter.put("userId", "2");
+			assertThat(adapter.getPropertyMap())
+				.isNotSameAs(first)
+				.containsEntry("userId", "2")
+				.containsEntry("traceId", "abc123");
+			assertThat(first).containsEntry("userId", "1");
+		} finally {
+			adapter.clear();
+		}
+	}
+
+	@Test
+	@DisplayName("RequestContext 에 인증된 사용자가 기록되면 userId 키로 보임")
+	void testExposesRequestUserId() {
+		RequestContext context = new RequestContext("abc123", "GET", "/mdc/api/users/me", System.nanoTime());
+
+		try (TraceContextHolder.Scope ignored = RequestContext.bind(context)) {
+			Map<String, String> beforeLogin = adapter.getPropertyMap();
+			assertThat(beforeLogin).containsEntry("traceId", "abc123").doesNotContainKey("userId");
+			assertThat(adapter.get("userId")).isNull();
+
+			context.setUserId(7);
+
+			assertThat(adapter.get("userId")).isEqualTo("7");
+			assertThat(adapter.getPropertyMap())
+				.isNotSameAs(beforeLogin)
+				.containsEntry("userId", "7")
+				.containsEntry("traceId", "abc123");
+		}
+	}
+
+	@Test
+	@DisplayName("중첩 바인딩은 close() 시 바깥 컨텍스트로 복원됨")
+	void testNestedBinding() {
+		TraceContext outer = new TraceContext("outer", "GET", "/a");
+		TraceContext inner = new TraceContext("inner", "GET", "/b");
+
+		try (TraceContextHolder.Scope ignoredOuter = TraceContextHolder.bind(outer)) {
+			try (TraceContextHolder.Scope ignoredInner = TraceContextHolder.bind(inner)) {
+				assertThat(adapter.get("traceId")).isEqualTo("inner");
+			}
+			assertThat(adapter.get("traceId")).isEqualTo("outer");
+		}
+		assertThat(TraceContextHolder.current()).isNull();
+	}
+}
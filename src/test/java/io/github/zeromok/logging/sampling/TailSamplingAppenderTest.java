@@ -0,0 +1,157 @@
+package io.github.zeromok.logging.sampling;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+class TailSamplingAppenderTest {
+
+	private LoggerContext context;
+	private Logger logger;
+	private TailSamplingAppender samplingAppender;
+	private ListAppender<ILoggingEvent> listAppender;
+
+	@BeforeEach
+	void setUp() {
+		context = (LoggerContext)LoggerFactory.getILoggerFactory();
+		logger = context.getLogger("tail-sampling-test");
+		logger.setAdditive(false);
+		logger.setLevel(Level.DEBUG);
+
+		listAppender = new ListAppender<>();
+		listAppender.setContext(context);
+		listAppender.start();
+
+		samplingAppender = new TailSamplingAppender();
+		samplingAppender.setContext(context);
+		samplingAppender.setName("TAIL-SAMPLING-TEST");
+		samplingAppender.addAppender(listAppender);
+		samplingAppender.setSamplePercent(0);
+		samplingAppender.setSlowThresholdMillis(1_000);
+	}
+
+	@AfterEach
+	void tearDown() {
+		samplingAppender.stop();
+		logger.detachAndStopAllAppenders();
+		MDC.clear();
+	}
+
+	@Test
+	@DisplayName("정상 요청은 요청 종료 시 버퍼째 버려짐")
+	void testSuccessfulRequestIsDropped() {
+		// G
+		startAppender();
+
+		// W
+		simulateRequest("ok-trace", 200, 1_000_000, false);
+
+		// T
+		assertThat(listAppender.list).isEmpty();
+		assertThat(samplingAppender.getDroppedTraces()).isEqualTo(1);
+		assertThat(samplingAppender.getDroppedEvents()).isEqualTo(2);
+		assertThat(samplingAppender.getActiveTraces()).isZero();
+	}
+
+	@Test
+	@DisplayName("실패/느린 요청은 DEBUG 까지 순서대로 모두 남김")
+	void testFailedAndSlowRequestsAreKept() {
+		// G
+		startAppender();
+
+		// W
+		simulateRequest("failed-trace", 500, 1_000_000, false);
+		simulateRequest("slow-trace", 200, 2_000_000_000L, false);
+
+		// T
+		assertThat(listAppender.list)
+			.extracting(ILoggingEvent::getFormattedMessage)
+			.containsExactly("repository lookup", "request completed", "repository lookup", "request completed");
+		assertThat(listAppender.list.get(0).getMDCPropertyMap()).containsEntry("traceId", "failed-trace");
+		assertThat(samplingAppender.getKeptTraces()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("WARN 이 기록되면 앞선 DEBUG 와 함께 즉시 내보냄")
+	void testWarnFlushesBufferedEvents() {
+		// G
+		startAppender();
+
+		// W
+		simulateRequest("warn-trace", 200, 1_000_000, true);
+
+		// T
+		assertThat(listAppender.list)
+			.extracting(ILoggingEvent::getFormattedMessage)
+			.containsExactly("repository lookup", "cache miss", "request completed");
+	}
+
+	@Test
+	@DisplayName("같은 traceId 는 항상 같은 샘플링 결정")
+	void testSamplingIsDeterministic() {
+		// G
+		samplingAppender.setSamplePercent(50);
+		startAppender();
+
+		// W
+		int sampled = 0;
+		for (int i = 0; i < 10_000; i++) {
+			String traceId = Integer.toHexString(i * 7919);
+			boolean first = samplingAppender.isSampled(traceId);
+			assertThat(samplingAppender.isSampled(traceId)).isEqualTo(first);
+			if (first) {
+				sampled++;
+			}
+		}
+
+		// T: 대략 절반
+		assertThat(sampled).isBetween(4_500, 5_500);
+	}
+
+	@Test
+	@DisplayName("요청 밖의 로그는 Logger 별 토큰 버킷으로 제한, WARN 은 항상 통과")
+	void testRateLimitOutsideRequest() {
+		// G
+		samplingAppender.setPermitsPerSecond(1);
+		samplingAppender.setBurst(3);
+		startAppender();
+
+		// W
+		for (int i = 0; i < 10; i++) {
+			logger.info("scheduled job {}", i);
+		}
+		logger.warn("scheduled job failed");
+
+		// T
+		assertThat(listAppender.list).hasSize(4);
+		assertThat(samplingAppender.getRateLimitedEvents()).isEqualTo(7);
+	}
+
+	private void startAppender() {
+		samplingAppender.start();
+		logger.addAppender(samplingAppender);
+	}
+
+	private void simulateRequest(String traceId, int status, long durationNanos, boolean warn) {
+		MDC.put("traceId", traceId);
+		TraceSampling.Trace trace = TraceSampling.begin(traceId);
+		logger.debug("repository lookup");
+		if (warn) {
+			logger.warn("cache miss");
+		}
+		logger.info("request completed");
+		trace.end(status, durationNanos);
+		MDC.clear();
+	}
+}
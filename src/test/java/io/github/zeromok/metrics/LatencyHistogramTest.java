@@ -0,0 +1,60 @@
+package io.github.zeromok.metrics;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+	@Test
+	@DisplayName("백분위 값은 실제 값 대비 상대 오차 1/64 이내")
+	void testPercentilePrecision() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (long i = 1; i <= 10_000; i++) {
+			histogram.record(i * 1_000);   // 1µs ~ 10ms
+		}
+
+		LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+		assertThat(snapshot.count()).isEqualTo(10_000);
+		assertThat(snapshot.valueAtPercentile(50)).isCloseTo(5_000_000L, withinPercentage(1.6));
+		assertThat(snapshot.valueAtPercentile(99)).isCloseTo(9_900_000L, withinPercentage(1.6));
+		assertThat(snapshot.valueAtPercentile(99.9)).isCloseTo(9_990_000L, withinPercentage(1.6));
+		assertThat(snapshot.maxNanos()).isEqualTo(10_000_000L);
+	}
+
+	@Test
+	@DisplayName("버킷 인덱스는 값이 커질수록 단조 증가")
+	void testBucketIndexIsMonotonic() {
+		int previous = -1;
+		for (long value = 0; value < (1L << 30); value = value * 2 + 1) {
+			int index = LatencyHistogram.bucketIndex(value);
+			assertThat(index).isGreaterThan(previous);
+			assertThat(LatencyHistogram.highestValueInBucket(index)).isGreaterThanOrEqualTo(value);
+			previous = index;
+		}
+	}
+
+	@Test
+	@DisplayName("라우트 템플릿과 상태 구간별로 따로 집계")
+	void testRegistrySeparatesStatusClasses() {
+		RouteLatencyRegistry registry = new RouteLatencyRegistry();
+		registry.record("GET", "/mdc/api/users/{id}", 200, 1_000_000);
+		registry.record("GET", "/mdc/api/users/{id}", 200, 2_000_000);
+		registry.record("GET", "/mdc/api/users/{id}", 404, 500_000);
+		registry.record("GET", null, 404, 100_000);
+
+		List<RouteLatencySummary> summaries = registry.summaries();
+
+		assertThat(summaries)
+			.extracting(RouteLatencySummary::route, RouteLatencySummary::statusClass, RouteLatencySummary::count)
+			.containsExactlyInAnyOrder(
+				tuple("/mdc/api/users/{id}", "2xx", 2L),
+				tuple("/mdc/api/users/{id}", "4xx", 1L),
+				tuple(RouteLatencyRegistry.UNMATCHED_ROUTE, "4xx", 1L)
+			);
+	}
+}
@@ -0,0 +1,125 @@
+package io.github.zeromok.reactive;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.github.zeromok.context.TraceContext;
+import reactor.core.publisher.Flux;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureWebTestClient
+@ActiveProfiles("mdc-reactive")
+class ReactiveUserHandlerTest {
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Autowired
+	private ReactiveUserRepository reactiveUserRepository;
+
+	@Test
+	void testLogin() {
+		// W/T: 서블릿 방식과 같은 API, 같은 응답
+		webTestClient.post().uri("/mdc/api/users/login")
+			.contentType(MediaType.APPLICATION_JSON)
+			.bodyValue("""
+				{
+					"username": "alice",
+					"password": "password123"
+				}
+				""")
+			.exchange()
+			.expectStatus().isOk()
+			.expectBody()
+			.jsonPath("$.userId").isEqualTo(1);
+
+		webTestClient.post().uri("/mdc/api/users/login")
+			.contentType(MediaType.APPLICATION_JSON)
+			.bodyValue("""
+				{
+					"username": "alice",
+					"password": "wrong"
+				}
+				""")
+			.exchange()
+			.expectStatus().isBadRequest();
+	}
+
+	@Test
+	void testLoginWithoutBody() {
+		// W/T: 본문이 없으면 빈 200 이 아니라 400
+		webTestClient.post().uri("/mdc/api/users/login")
+			.contentType(MediaType.APPLICATION_JSON)
+			.exchange()
+			.expectStatus().isBadRequest();
+	}
+
+	@Test
+	void testGetUserById() {
+		webTestClient.get().uri("/mdc/api/users/1")
+			.header("X-Trace-Id", "reactive-trace-1")
+			.exchange()
+			.expectStatus().isOk()
+			.expectBody()
+			.jsonPath("$.username").isEqualTo("alice")
+			.jsonPath("$.password").doesNotExist();
+
+		webTestClient.get().uri("/mdc/api/users/999")
+			.exchange()
+			.expectStatus().isNotFound();
+	}
+
+	@Test
+	void testTraceIdIsAppliedOnlyAtLoggingPoint() {
+		// G: Repository 로그를 수집
+		Logger logger = (Logger)LoggerFactory.getLogger(ReactiveUserRepository.class);
+		ListAppender<ILoggingEvent> appender = new ListAppender<>();
+		appender.start();
+		logger.addAppender(appender);
+
+		try {
+			// W: Reactor Context 에만 TraceContext 를 넣고 실행 (delay 이후 다른 스레드에서 로그)
+			reactiveUserRepository.findById(1L)
+				.contextWrite(context -> context.put(ReactiveMdc.CONTEXT_KEY,
+					new TraceContext("ctx-trace-1", "GET", "/mdc/api/users/1")))
+				.block(Duration.ofSeconds(1));
+		} finally {
+			logger.detachAppender(appender);
+		}
+
+		// T: 로그에는 traceId 가 있고, 로그 후에는 MDC 에 남지 않음
+		assertThat(appender.list).isNotEmpty();
+		assertThat(appender.list)
+			.allSatisfy(event -> assertThat(event.getMDCPropertyMap()).containsEntry("traceId", "ctx-trace-1"));
+		assertThat(MDC.get("traceId")).isNull();
+	}
+
+	@Test
+	void testConcurrentLookupsDoNotHoldThreads() {
+		// W: 1000개의 동시 조회 (각 10ms 지연)
+		long start = System.nanoTime();
+		Long count = Flux.range(0, 1000)
+			.flatMap(i -> reactiveUserRepository.findById(1L), 1000)
+			.count()
+			.block(Duration.ofSeconds(5));
+		long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+		// T: 스레드를 점유하지 않으므로 순차 실행(10초)이 아닌 지연 한 번 근처에서 끝남
+		assertThat(count).isEqualTo(1000);
+		assertThat(elapsedMillis).isLessThan(2_000);
+	}
+}
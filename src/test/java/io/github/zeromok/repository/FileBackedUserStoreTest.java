@@ -0,0 +1,307 @@
+package io.github.zeromok.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.zeromok.domain.User;
+
+class FileBackedUserStoreTest {
+
+	// 세그먼트 경계를 자주 넘도록 작게 잡는다
+	private static final int SEGMENT_SIZE = 4096;
+
+	@TempDir
+	Path directory;
+
+	private final List<FileBackedUserStore> opened = new ArrayList<>();
+
+	@AfterEach
+	void tearDown() throws IOException {
+		for (FileBackedUserStore store : opened) {
+			store.close();
+		}
+	}
+
+	@Test
+	@DisplayName("id와 username 모두로 조회되고, username 변경/삭제가 인덱스에 반영됨")
+	void testFindRenameDelete() {
+		// given
+		FileBackedUserStore store = open();
+		store.save(user(1L, "alice"));
+		store.save(user(2L, "bob"));
+
+		// when
+		store.save(user(1L, "alicia"));
+		store.deleteById(2L);
+
+		// then
+		assertThat(store.findById(1L)).map(User::getUsername).contains("alicia");
+		assertThat(store.findByUsername("alicia")).map(User::getId).contains(1L);
+		assertThat(store.findByUsername("alice")).isEmpty();
+		assertThat(store.findById(2L)).isEmpty();
+		assertThat(store.deleteById(2L)).isFalse();
+		assertThat(store.size()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("다른 사용자가 쓰는 username으로는 저장할 수 없음")
+	void testDuplicateUsernameIsRejected() {
+		FileBackedUserStore store = open();
+		store.save(user(1000L, "alice"));
+
+		assertThatThrownBy(() -> store.save(user(2000L, "alice")))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThat(store.findByUsername("alice")).map(User::getId).contains(1000L);
+	}
+
+	@Test
+	@DisplayName("배치에 username 충돌이 있으면 로그에 아무것도 추가하지 않음")
+	void testSaveAllIsAllOrNothing() {
+		FileBackedUserStore store = open();
+		store.save(user(1000L, "alice"));
+		long appended = store.appendedPosition();
+
+		assertThatThrownBy(() -> store.saveAll(List.of(user(2000L, "bob"), user(3000L, "alice"))))
+			.isInstanceOf(IllegalArgumentException.class);
+
+		assertThat(store.appendedPosition()).isEqualTo(appended);
+		assertThat(store.findByUsername("bob")).isEmpty();
+		assertThat(store.size()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("close 없이 다시 열어도 로그 재생으로 모든 변경이 복구됨 (세그먼트 경계 포함)")
+	void testReplayWithoutSnapshot() {
+		// given: 4KB 세그먼트 여러 개에 걸쳐 기록
+		FileBackedUserStore store = open();
+		store.saveAll(users(1, 500));
+		store.save(user(5L, "renamed"));
+		store.deleteById(7L);
+
+		// when: 스냅샷 없이 다시 열기
+		FileBackedUserStore reopened = open();
+
+		// then
+		assertThat(reopened.size()).isEqualTo(499);
+		assertThat(reopened.findByUsername("renamed")).map(User::getId).contains(5L);
+		assertThat(reopened.findByUsername("user5")).isEmpty();
+		assertThat(reopened.findById(7L)).isEmpty();
+		assertThat(reopened.findById(500L)).map(User::getEmail).contains("user500@example.com");
+	}
+
+	@Test
+	@DisplayName("스냅샷 이후에 추가된 기록만 재생해도 최신 상태가 복구됨")
+	void testSnapshotPlusTail() throws IOException {
+		// given: close 로 스냅샷을 남긴 뒤 추가로 변경
+		FileBackedUserStore first = new FileBackedUserStore(directory, SEGMENT_SIZE, true, Duration.ZERO);
+		first.saveAll(users(1, 100));
+		first.close();
+
+		FileBackedUserStore second = open();
+		second.save(user(101L, "tail"));
+		second.deleteById(1L);
+
+		// when
+		FileBackedUserStore third = open();
+
+		// then
+		assertThat(third.size()).isEqualTo(100);
+		assertThat(third.findByUsername("tail")).map(User::getId).contains(101L);
+		assertThat(third.findById(1L)).isEmpty();
+		assertThat(third.findById(50L)).map(User::getUsername).contains("user50");
+	}
+
+	@Test
+	@DisplayName("compaction 후 파일이 줄어들고 데이터는 그대로, 재시작 후에도 유지됨")
+	void testCompaction() throws IOException {
+		// given: 같은 사용자를 여러 번 덮어써 죽은 레코드를 만든다
+		FileBackedUserStore store = open();
+		for (int round = 0; round < 5; round++) {
+			store.saveAll(users(1, 300));
+		}
+		store.deleteById(1L);
+		long before = Files.size(directory.resolve("users.log"));
+
+		// when
+		store.compact();
+		store.save(user(301L, "after"));
+
+		// then
+		assertThat(Files.size(directory.resolve("users.log"))).isLessThan(before);
+		assertThat(store.size()).isEqualTo(300);
+		assertThat(store.findById(150L)).map(User::getUsername).contains("user150");
+
+		FileBackedUserStore reopened = open();
+		assertThat(reopened.size()).isEqualTo(300);
+		assertThat(reopened.findByUsername("after")).map(User::getId).contains(301L);
+		assertThat(reopened.findById(1L)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("compaction 후의 쓰기도 force 되어 durable 위치가 새 로그 끝까지 옮겨감")
+	void testWritesAfterCompactionAreForced() {
+		// given: compaction 으로 로그가 이전보다 짧아진 상태
+		FileBackedUserStore store = open();
+		for (int round = 0; round < 5; round++) {
+			store.saveAll(users(1, 300));
+		}
+		long before = store.durablePosition();
+		store.compact();
+		assertThat(store.durablePosition()).isLessThan(before).isEqualTo(store.appendedPosition());
+
+		// when
+		store.save(user(301L, "after"));
+		store.deleteById(2L);
+
+		// then: 이전(더 긴) 로그의 durable 위치에 가려지지 않고 새 레코드까지 force 됨
+		assertThat(store.appendedPosition()).isLessThan(before);
+		assertThat(store.durablePosition()).isEqualTo(store.appendedPosition());
+	}
+
+	@Test
+	@DisplayName("쓰기 락을 푼 뒤 force 를 기다리기 전에 compaction 이 끝나도 쓰기가 멈추지 않음")
+	void testWriterParkedAcrossCompactionReturns() throws Exception {
+		// given: 덮어쓴 레코드가 많아 compaction 후 로그가 크게 줄어드는 상태
+		FileBackedUserStore store = open();
+		for (int round = 0; round < 5; round++) {
+			store.saveAll(users(1, 300));
+		}
+		CountDownLatch parked = new CountDownLatch(1);
+		CountDownLatch resume = new CountDownLatch(1);
+		AtomicBoolean first = new AtomicBoolean(true);
+		store.beforeAwaitDurable = () -> {
+			if (first.compareAndSet(true, false)) {
+				parked.countDown();
+				try {
+					resume.await(5, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		};
+
+		// when: 이전 로그의 끝 위치를 들고 멈춘 쓰기 사이에 compaction
+		Thread writer = new Thread(() -> store.save(user(301L, "parked")));
+		writer.start();
+		assertThat(parked.await(5, TimeUnit.SECONDS)).isTrue();
+		long oldEnd = store.appendedPosition();
+		store.compact();
+		assertThat(store.appendedPosition()).isLessThan(oldEnd);
+		resume.countDown();
+
+		// then: 이후 쓰기가 없어도 (idle) 반환되고 데이터는 유지됨
+		writer.join(5_000);
+		assertThat(writer.isAlive()).isFalse();
+		assertThat(store.findById(301L)).map(User::getUsername).contains("parked");
+	}
+
+	@Test
+	@DisplayName("마지막 레코드가 손상되면 그 레코드만 버리고 이후 쓰기는 정상 동작")
+	void testTornTailIsDiscarded() throws IOException {
+		// given
+		FileBackedUserStore store = new FileBackedUserStore(directory, SEGMENT_SIZE, true, Duration.ZERO);
+		store.saveAll(users(1, 3));
+		store.close();
+		long lastOffset = snapshotOffsetOf(3L);
+		Files.delete(directory.resolve("users.idx"));
+
+		// when: 마지막 레코드의 username 바이트를 망가뜨린다 (쓰기 도중 중단된 것과 같음)
+		try (RandomAccessFile file = new RandomAccessFile(directory.resolve("users.log").toFile(), "rw")) {
+			file.seek(lastOffset + 20);
+			file.write('X');
+		}
+		FileBackedUserStore recovered = open();
+		recovered.save(user(4L, "user4"));
+
+		// then
+		assertThat(recovered.findById(3L)).isEmpty();
+		assertThat(recovered.findById(4L)).isPresent();
+		assertThat(open().size()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("동시 쓰기(group commit) 중에도 모든 쓰기가 반영되고 즉시 조회됨")
+	void testConcurrentWrites() throws Exception {
+		// given
+		FileBackedUserStore store = open();
+		int threads = 16;
+		int perThread = 200;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+		// when
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				long base = t * 10_000L;
+				futures.add(executor.submit(() -> {
+					for (long id = base; id < base + perThread; id++) {
+						store.save(user(id, "user" + id));
+						assertThat(store.findById(id)).isPresent();
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		// then
+		assertThat(store.size()).isEqualTo(threads * perThread);
+		assertThat(open().size()).isEqualTo(threads * perThread);
+	}
+
+	private FileBackedUserStore open() {
+		FileBackedUserStore store = new FileBackedUserStore(directory, SEGMENT_SIZE, true, Duration.ZERO);
+		opened.add(store);
+		return store;
+	}
+
+	// users.idx: [magic][generation][end][count] 다음에 (id, offset) 쌍
+	private long snapshotOffsetOf(long id) throws IOException {
+		try (DataInputStream in = new DataInputStream(Files.newInputStream(directory.resolve("users.idx")))) {
+			in.skipNBytes(4 + 8 + 8);
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				long key = in.readLong();
+				long offset = in.readLong();
+				if (key == id) {
+					return offset;
+				}
+			}
+		}
+		throw new IllegalStateException("스냅샷에 없는 id: " + id);
+	}
+
+	private static List<User> users(long from, long to) {
+		List<User> users = new ArrayList<>();
+		for (long id = from; id <= to; id++) {
+			users.add(user(id, "user" + id));
+		}
+		return users;
+	}
+
+	private static User user(long id, String username) {
+		return new User(id, username, username + "@example.com", "password");
+	}
+}
@@ -0,0 +1,191 @@
+package io.github.zeromok.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.github.zeromok.domain.User;
+
+class InMemoryUserStoreTest {
+
+	private final InMemoryUserStore store = new InMemoryUserStore();
+
+	@Test
+	@DisplayName("id와 username 모두로 조회됨")
+	void testFindByIdAndUsername() {
+		store.save(user(1L, "alice"));
+
+		assertThat(store.findById(1L)).map(User::getUsername).contains("alice");
+		assertThat(store.findByUsername("alice")).map(User::getId).contains(1L);
+		assertThat(store.findByUsername("bob")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("username이 바뀌면 이전 이름으로는 조회되지 않음")
+	void testRenameUpdatesIndex() {
+		store.save(user(1L, "alice"));
+		store.save(user(1L, "alicia"));
+
+		assertThat(store.findByUsername("alice")).isEmpty();
+		assertThat(store.findByUsername("alicia")).map(User::getId).contains(1L);
+		assertThat(store.size()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("삭제하면 두 인덱스에서 모두 사라짐")
+	void testDeleteRemovesFromBothIndexes() {
+		store.save(user(1L, "alice"));
+
+		assertThat(store.deleteById(1L)).isTrue();
+		assertThat(store.deleteById(1L)).isFalse();
+		assertThat(store.findById(1L)).isEmpty();
+		assertThat(store.findByUsername("alice")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("다른 사용자가 쓰는 username으로는 저장할 수 없음")
+	void testDuplicateUsernameIsRejected() {
+		store.save(user(1L, "alice"));
+
+		assertThatThrownBy(() -> store.save(user(2L, "alice")))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThat(store.findById(2L)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("배치에 username 충돌이 있으면 아무것도 적재하지 않음")
+	void testSaveAllIsAllOrNothing() {
+		store.save(user(1L, "alice"));
+
+		// 앞 항목이 비운 이름은 뒤 항목이 쓸 수 있지만, 마지막 항목이 alicia 와 충돌
+		assertThatThrownBy(() -> store.saveAll(List.of(
+			user(1L, "alicia"), user(2L, "alice"), user(3L, "carol"), user(4L, "alicia"))))
+			.isInstanceOf(IllegalArgumentException.class);
+
+		assertThat(store.size()).isEqualTo(1);
+		assertThat(store.findByUsername("alice")).map(User::getId).contains(1L);
+		assertThat(store.findById(3L)).isEmpty();
+
+		// 충돌이 없으면 순서대로 save 한 것과 같음
+		store.saveAll(List.of(user(1L, "alicia"), user(2L, "alice")));
+		assertThat(store.findByUsername("alice")).map(User::getId).contains(2L);
+		assertThat(store.findByUsername("alicia")).map(User::getId).contains(1L);
+	}
+
+	@Test
+	@DisplayName("대량 적재 후 모든 사용자가 조회됨")
+	void testBulkLoad() {
+		List<User> batch = new ArrayList<>();
+		for (long id = 0; id < 100_000; id++) {
+			batch.add(user(id, "user" + id));
+		}
+
+		store.saveAll(batch);
+
+		assertThat(store.size()).isEqualTo(100_000);
+		assertThat(store.findById(99_999L)).map(User::getUsername).contains("user99999");
+		assertThat(store.findByUsername("user0")).map(User::getId).contains(0L);
+	}
+
+	@Test
+	@DisplayName("삽입/삭제를 반복해도 HashMap과 같은 결과 (backward shift 검증)")
+	void testMatchesHashMapUnderRandomOperations() {
+		LongUserMap map = new LongUserMap();
+		Map<Long, User> expected = new HashMap<>();
+		Random random = new Random(42);
+
+		for (int i = 0; i < 200_000; i++) {
+			// 1024 배수 키로 해시 충돌을 유도
+			long key = random.nextInt(2_000) * 1024L;
+			switch (random.nextInt(3)) {
+				case 0 -> {
+					User value = user(key, "user" + key);
+					assertThat(map.put(key, value)).isSameAs(expected.put(key, value));
+				}
+				case 1 -> assertThat(map.remove(key)).isSameAs(expected.remove(key));
+				default -> assertThat(map.get(key)).isSameAs(expected.get(key));
+			}
+		}
+		assertThat(map.size()).isEqualTo(expected.size());
+	}
+
+	@Test
+	@DisplayName("동시 쓰기 중에도 기존 사용자 조회가 항상 성공")
+	void testConcurrentReadsDuringWrites() throws Exception {
+		store.save(user(1L, "alice"));
+		AtomicBoolean running = new AtomicBoolean(true);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		// 쓰기 스레드: 테이블 확장과 삭제를 반복
+		Future<?> writer = executor.submit(() -> {
+			for (long id = 2; id < 200_000; id++) {
+				store.save(user(id, "user" + id));
+				if (id % 3 == 0) {
+					store.deleteById(id - 1);
+				}
+			}
+			running.set(false);
+		});
+
+		List<Future<Boolean>> readers = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			readers.add(executor.submit(() -> {
+				while (running.get()) {
+					if (store.findById(1L).isEmpty() || store.findByUsername("alice").isEmpty()) {
+						return false;
+					}
+				}
+				return true;
+			}));
+		}
+
+		writer.get();
+		for (Future<Boolean> reader : readers) {
+			assertThat(reader.get()).isTrue();
+		}
+		executor.shutdown();
+	}
+
+	@Test
+	@DisplayName("scan 은 페이지 단위로 모든 사용자를 한 번씩 순회")
+	void testScanVisitsEveryUserOnce() {
+		List<User> batch = new ArrayList<>();
+		for (long id = 0; id < 10_000; id++) {
+			batch.add(user(id, "user" + id));
+		}
+		store.saveAll(batch);
+
+		Set<Long> visited = new HashSet<>();
+		int pages = 0;
+		long cursor = 0;
+		do {
+			int[] pageSize = {0};
+			cursor = store.scan(cursor, 500, user -> {
+				assertThat(visited.add(user.getId())).isTrue();
+				pageSize[0]++;
+			});
+			assertThat(pageSize[0]).isLessThanOrEqualTo(500);
+			pages++;
+		} while (cursor >= 0);
+
+		assertThat(visited).hasSize(10_000);
+		assertThat(pages).isGreaterThanOrEqualTo(20);
+	}
+
+	private static User user(long id, String username) {
+		return new User(id, username, username + "@example.com", "password");
+	}
+}
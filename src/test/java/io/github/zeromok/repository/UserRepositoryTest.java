@@ -0,0 +1,42 @@
+package io.github.zeromok.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.github.zeromok.cache.UserCache;
+import io.github.zeromok.domain.User;
+
+class UserRepositoryTest {
+
+	private final UserRepository repository =
+		new UserRepository(new InMemoryUserStore(), new UserCache(100, Duration.ofMinutes(1)));
+
+	@Test
+	@DisplayName("id 가 null 이면 예외 없이 빈 결과")
+	void testFindByNullIdIsEmpty() {
+		assertThat(repository.findById(null)).isEmpty();
+		assertThat(repository.findById(1L)).map(User::getUsername).contains("alice");
+	}
+
+	@Test
+	@DisplayName("username 을 바꾸면 이전 이름으로 캐시된 사용자도 지움")
+	void testRenameInvalidatesPreviousUsername() {
+		// G: 이름으로만 캐시된 상태 (로드 중 다른 id 가 무효화되어 id 캐시에는 채워지지 않음)
+		UserCache cache = new UserCache(100, Duration.ofMinutes(1));
+		UserRepository cachedRepository = new UserRepository(new InMemoryUserStore(), cache);
+		cache.findByUsername("alice", username -> {
+			cache.invalidate(99L);
+			return cachedRepository.findByUsername(username);
+		});
+
+		// W
+		cachedRepository.save(new User(1L, "alicia", "alice@example.com", "password123"));
+
+		// T
+		assertThat(cache.findByUsername("alice", cachedRepository::findByUsername)).isEmpty();
+	}
+}
@@ -0,0 +1,180 @@
+package io.github.zeromok.security;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CredentialVerifierTest {
+
+	// 테스트 속도를 위해 반복 횟수를 낮춘다
+	private final Pbkdf2PasswordHasher pbkdf2 = new Pbkdf2PasswordHasher(1000);
+	private final PlainTextPasswordHasher plainText = new PlainTextPasswordHasher();
+	private CredentialVerifier verifier = verifier(pbkdf2, 2, 16);
+
+	@AfterEach
+	void tearDown() {
+		verifier.destroy();
+	}
+
+	@Test
+	@DisplayName("PBKDF2 로 저장한 비밀번호는 맞는 원문만 통과")
+	void testPbkdf2Verification() {
+		// given
+		String encoded = verifier.encode("password123");
+
+		// when & then
+		assertThat(encoded).startsWith("{pbkdf2}1000$");
+		assertThat(verifier.verify("alice", "password123", encoded).matched()).isTrue();
+		assertThat(verifier.verify("alice", "password124", encoded).matched()).isFalse();
+		assertThat(verifier.verify("alice", null, encoded).matched()).isFalse();
+	}
+
+	@Test
+	@DisplayName("같은 원문이어도 salt 가 달라 저장 값이 매번 다름")
+	void testSaltedHash() {
+		assertThat(verifier.encode("password123")).isNotEqualTo(verifier.encode("password123"));
+	}
+
+	@Test
+	@DisplayName("접두사 없는 기존 평문 값은 검증 후 PBKDF2 해시로 교체 대상이 됨")
+	void testLegacyPlainTextIsUpgraded() {
+		// when
+		CredentialVerifier.Verification verification = verifier.verify("alice", "password123", "password123");
+
+		// then
+		assertThat(verification.matched()).isTrue();
+		assertThat(verification.needsUpgrade()).isTrue();
+		assertThat(verifier.verify("alice", "password123", verification.upgradedHash()).needsUpgrade()).isFalse();
+		assertThat(verifier.verify("alice", "wrong", "password123").matched()).isFalse();
+	}
+
+	@Test
+	@DisplayName("모르는 접두사는 평문 비교로 넘기지 않고 불일치")
+	void testUnknownPrefixIsRejected() {
+		// when & then: 저장 값과 같은 원문을 넣어도 통과하지 않음
+		assertThat(verifier.verify("alice", "{md5}5f4dcc3b", "{md5}5f4dcc3b").matched()).isFalse();
+		// 닫는 괄호가 없으면 접두사가 아니므로 legacy 평문으로 비교
+		assertThat(verifier.verify("alice", "{pbkdf2", "{pbkdf2").matched()).isTrue();
+	}
+
+	@Test
+	@DisplayName("없는 사용자도 해시를 한 번 계산하고 항상 불일치")
+	void testUnknownUserPaysHashCost() {
+		// when
+		CredentialVerifier.Verification verification = verifier.verifyUnknown("password123");
+
+		// then
+		assertThat(verification.matched()).isFalse();
+		assertThat(verifier.verifyUnknown(null).matched()).isFalse();
+		assertThat(verifier.hashVerifications()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("반복 횟수를 올리면 기존 해시는 로그인 성공 시 교체 대상이 됨")
+	void testIterationIncreaseNeedsRehash() {
+		// given
+		String weak = pbkdf2.hash("password123");
+		verifier.destroy();
+		verifier = verifier(new Pbkdf2PasswordHasher(2000), 2, 16);
+
+		// when
+		CredentialVerifier.Verification verification = verifier.verify("alice", "password123", weak);
+
+		// then
+		assertThat(verification.matched()).isTrue();
+		assertThat(verification.upgradedHash()).startsWith("{pbkdf2}2000$");
+	}
+
+	@Test
+	@DisplayName("최근 성공한 조합은 해시 계산 없이 통과, 실패한 시도는 캐시하지 않음")
+	void testVerificationCache() {
+		// given
+		String encoded = verifier.encode("password123");
+		verifier.verify("alice", "password123", encoded);
+
+		// when
+		verifier.verify("alice", "password123", encoded);
+		verifier.verify("alice", "wrong", encoded);
+		verifier.verify("alice", "wrong", encoded);
+
+		// then: 첫 성공 1번 + 실패 2번만 해시 계산
+		assertThat(verifier.cacheHits()).isEqualTo(1);
+		assertThat(verifier.hashVerifications()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("저장 값이 바뀌면 캐시된 성공 기록을 쓰지 않음")
+	void testCacheIsBoundToStoredValue() {
+		// given
+		String before = verifier.encode("password123");
+		String after = verifier.encode("changed");
+		verifier.verify("alice", "password123", before);
+
+		// when & then
+		assertThat(verifier.verify("alice", "password123", after).matched()).isFalse();
+		assertThat(verifier.verify("alice", "changed", after).matched()).isTrue();
+	}
+
+	@Test
+	@DisplayName("검증 풀과 대기열이 가득 차면 기다리지 않고 거절")
+	void testRejectsWhenSaturated() throws Exception {
+		// given: 스레드 1개, 대기열 1개를 막아 둔다
+		CountDownLatch release = new CountDownLatch(1);
+		PasswordHasher blocking = new BlockingHasher(release);
+		verifier.destroy();
+		verifier = verifier(blocking, 1, 1);
+
+		CompletableFuture<CredentialVerifier.Verification> running = verifier.verifyAsync("a", "pw", "{blocking}");
+		CompletableFuture<CredentialVerifier.Verification> queued = verifier.verifyAsync("b", "pw", "{blocking}");
+
+		// when
+		CompletableFuture<CredentialVerifier.Verification> rejected = verifier.verifyAsync("c", "pw", "{blocking}");
+
+		// then
+		assertThat(rejected).isCompletedExceptionally();
+		assertThat(verifier.rejected()).isEqualTo(1);
+		release.countDown();
+		assertThat(running.get().matched()).isTrue();
+		assertThat(queued.get().matched()).isTrue();
+	}
+
+	private CredentialVerifier verifier(PasswordHasher encoder, int threads, int queueCapacity) {
+		return new CredentialVerifier(List.of(encoder, plainText), plainText, threads, queueCapacity,
+			100, Duration.ofMinutes(1));
+	}
+
+	private record BlockingHasher(CountDownLatch release) implements PasswordHasher {
+
+		@Override
+		public String id() {
+			return "blocking";
+		}
+
+		@Override
+		public String hash(String rawPassword) {
+			return "{blocking}";
+		}
+
+		@Override
+		public boolean matches(String rawPassword, String encoded) {
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return true;
+		}
+
+		@Override
+		public boolean needsRehash(String encoded) {
+			return false;
+		}
+	}
+}
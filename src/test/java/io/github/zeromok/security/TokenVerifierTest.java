@@ -0,0 +1,70 @@
+package io.github.zeromok.security;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenVerifierTest {
+
+	private static final Clock NOW = Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+	private final TokenKey key = TokenKey.random();
+	private final TokenSigner signer = new TokenSigner(key, Duration.ofHours(1), NOW);
+	private final TokenVerifier verifier = new TokenVerifier(key, NOW);
+
+	@Test
+	@DisplayName("발급한 토큰은 저장소 조회 없이 userId 로 검증됨")
+	void testRoundTrip() {
+		// when
+		String token = signer.issue(42L);
+
+		// then: 29바이트 → base64url 39자 (URL/헤더에 그대로 사용 가능)
+		assertThat(token).hasSize(39).matches("[A-Za-z0-9_-]+");
+		assertThat(verifier.verify(token)).hasValue(42L);
+		assertThat(verifier.verify(signer.issue(Long.MAX_VALUE))).hasValue(Long.MAX_VALUE);
+	}
+
+	@Test
+	@DisplayName("한 글자라도 바뀌면 서명이 맞지 않아 거부됨")
+	void testTamperedToken() {
+		// given
+		String token = signer.issue(1L);
+
+		// when & then: 모든 위치를 한 번씩 바꿔본다
+		for (int i = 0; i < token.length(); i++) {
+			char replacement = token.charAt(i) == 'A' ? 'B' : 'A';
+			String tampered = token.substring(0, i) + replacement + token.substring(i + 1);
+			assertThat(verifier.verify(tampered)).as("position %d", i).isEmpty();
+		}
+	}
+
+	@Test
+	@DisplayName("만료 시각이 지나면 거부됨")
+	void testExpiredToken() {
+		String token = signer.issue(1L);
+
+		assertThat(new TokenVerifier(key, Clock.offset(NOW, Duration.ofMinutes(59)))
+			.verify(token)).hasValue(1L);
+		assertThat(new TokenVerifier(key, Clock.offset(NOW, Duration.ofHours(1)))
+			.verify(token)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("다른 키로 서명한 토큰과 형식이 틀린 값은 거부됨")
+	void testForeignAndMalformedTokens() {
+		String foreign = new TokenSigner(TokenKey.random(), Duration.ofHours(1), NOW).issue(1L);
+
+		assertThat(verifier.verify(foreign)).isEmpty();
+		assertThat(verifier.verify(null)).isEmpty();
+		assertThat(verifier.verify("")).isEmpty();
+		assertThat(verifier.verify("TOKEN-1-1a2b3c4d")).isEmpty();
+		assertThat(verifier.verify("!".repeat(39))).isEmpty();
+		assertThat(verifier.verify("가".repeat(39))).isEmpty();
+	}
+}
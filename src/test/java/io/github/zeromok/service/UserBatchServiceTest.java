@@ -0,0 +1,58 @@
+package io.github.zeromok.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.github.zeromok.domain.BatchItemResult;
+import io.github.zeromok.domain.UserResponse;
+
+// 스레드 1개 + 대기열 1칸: 세 번째 항목부터 거절된다
+@SpringBootTest(properties = {"mdc.batch.parallelism=1", "mdc.batch.queue-capacity=1"})
+@ActiveProfiles("mdc-filter")
+class UserBatchServiceTest {
+
+	@Autowired
+	private UserBatchService userBatchService;
+
+	@Test
+	@DisplayName("대기열을 넘는 항목은 실행하지 않고 실패 결과로 전달")
+	void testOverflowItemsAreRejected() throws Exception {
+		// G: 없는 id 라 캐시에 맞지 않고 매번 Repository 지연을 기다린다
+		List<BatchItemResult<UserResponse>> results = new CopyOnWriteArrayList<>();
+
+		// W
+		userBatchService.findUsers(List.of(901L, 902L, 903L, 904L), results::add).get(5, TimeUnit.SECONDS);
+
+		// T: 실행 중 1개 + 대기 1개 외의 항목은 거절됨
+		assertThat(results).hasSize(4);
+		assertThat(results).filteredOn(result -> result.error().contains("잠시 후 다시 시도"))
+			.extracting(BatchItemResult::index)
+			.containsExactlyInAnyOrder(2, 3);
+	}
+
+	@Test
+	@DisplayName("배치를 취소하면 남은 항목의 결과는 전달하지 않음")
+	void testCancelStopsOutstandingItems() throws Exception {
+		// G
+		List<BatchItemResult<UserResponse>> results = new CopyOnWriteArrayList<>();
+		CompletableFuture<Void> completion = userBatchService.findUsers(List.of(911L, 912L), results::add);
+
+		// W: 첫 항목이 Repository 지연(10ms)을 기다리는 동안 취소 (응답 시간 초과와 같은 경로)
+		completion.cancel(false);
+
+		// T: 실행 중이던 항목이 끝난 뒤에도 결과가 없음
+		Thread.sleep(100);
+		assertThat(completion).isCancelled();
+		assertThat(results).isEmpty();
+	}
+}
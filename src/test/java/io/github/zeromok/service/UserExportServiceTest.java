@@ -0,0 +1,80 @@
+package io.github.zeromok.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.zeromok.cache.UserCache;
+import io.github.zeromok.domain.User;
+import io.github.zeromok.repository.InMemoryUserStore;
+import io.github.zeromok.repository.UserRepository;
+
+class UserExportServiceTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	@DisplayName("모든 사용자를 한 줄에 하나씩, 비밀번호 없이 내보냄")
+	void testExportWritesNdjson() throws Exception {
+		// G
+		UserExportService exportService = exportService(5_000);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		// W
+		long exported = exportService.export(out);
+
+		// T
+		String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+		assertThat(exported).isEqualTo(5_000);
+		assertThat(lines).hasSize(5_000);
+
+		JsonNode first = objectMapper.readTree(lines[0]);
+		assertThat(first.has("id")).isTrue();
+		assertThat(first.has("username")).isTrue();
+		assertThat(first.has("password")).isFalse();
+	}
+
+	@Test
+	@DisplayName("출력 중 연결이 끊기면 IOException 으로 중단")
+	void testExportStopsOnClientDisconnect() {
+		// G: 일정량을 쓰면 실패하는 스트림 (클라이언트 연결 종료)
+		UserExportService exportService = exportService(5_000);
+		OutputStream failing = new OutputStream() {
+			private int written;
+
+			@Override
+			public void write(int b) throws IOException {
+				if (++written > 10_000) {
+					throw new IOException("Broken pipe");
+				}
+			}
+		};
+
+		// W/T
+		assertThatThrownBy(() -> exportService.export(failing))
+			.isInstanceOf(IOException.class)
+			.hasMessage("Broken pipe");
+	}
+
+	private UserExportService exportService(int users) {
+		InMemoryUserStore store = new InMemoryUserStore();
+		List<User> batch = new ArrayList<>();
+		for (long id = 1; id <= users; id++) {
+			batch.add(new User(id, "user" + id, "user" + id + "@example.com", "secret"));
+		}
+		store.saveAll(batch);
+		return new UserExportService(new UserRepository(store, new UserCache(100, Duration.ofMinutes(1))), objectMapper, 500, 1_000, 1_000);
+	}
+}
@@ -0,0 +1,98 @@
+package io.github.zeromok.trace;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TraceIdGeneratorTest {
+
+	@Test
+	@DisplayName("random: 16자리 소문자 16진수")
+	void testRandomFormat() {
+		String traceId = new RandomTraceIdGenerator().generate();
+
+		assertThat(traceId).matches("[0-9a-f]{16}");
+	}
+
+	@Test
+	@DisplayName("w3c: 32자리 16진수이며 all-zero가 아님")
+	void testW3cFormat() {
+		String traceId = new W3cTraceIdGenerator().generate();
+
+		assertThat(traceId).matches("[0-9a-f]{32}");
+		assertThat(traceId).isNotEqualTo("0".repeat(32));
+	}
+
+	@Test
+	@DisplayName("snowflake: 같은 스레드에서 발급 순서대로 증가")
+	void testSnowflakeIsTimeOrdered() {
+		SnowflakeTraceIdGenerator generator = new SnowflakeTraceIdGenerator(7);
+
+		long previous = generator.nextId();
+		for (int i = 0; i < 100_000; i++) {
+			long next = generator.nextId();
+			assertThat(next).isGreaterThan(previous);
+			previous = next;
+		}
+	}
+
+	@Test
+	@DisplayName("snowflake: 범위를 벗어난 nodeId는 거부")
+	void testSnowflakeRejectsInvalidNodeId() {
+		assertThatThrownBy(() -> new SnowflakeTraceIdGenerator(1024))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	@DisplayName("snowflake: 동시 발급에서도 중복 없음")
+	void testSnowflakeConcurrentUniqueness() throws Exception {
+		TraceIdGenerator generator = new SnowflakeTraceIdGenerator(1);
+		Set<String> ids = ConcurrentHashMap.newKeySet();
+		int threads = 8;
+		int perThread = 20_000;
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		for (int t = 0; t < threads; t++) {
+			executor.submit(() -> {
+				for (int i = 0; i < perThread; i++) {
+					ids.add(generator.generate());
+				}
+			});
+		}
+		executor.shutdown();
+		assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+		assertThat(ids).hasSize(threads * perThread);
+	}
+
+	@Test
+	@DisplayName("설정값으로 전략 선택")
+	void testStrategySelection() {
+		assertThat(TraceIdGenerator.of("random", 0)).isInstanceOf(RandomTraceIdGenerator.class);
+		assertThat(TraceIdGenerator.of("SNOWFLAKE", 0)).isInstanceOf(SnowflakeTraceIdGenerator.class);
+		assertThat(TraceIdGenerator.of("w3c", 0)).isInstanceOf(W3cTraceIdGenerator.class);
+		assertThatThrownBy(() -> TraceIdGenerator.of("uuid", 0))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	@DisplayName("random: 대량 발급에서도 충돌 없음")
+	void testRandomUniqueness() {
+		TraceIdGenerator generator = new RandomTraceIdGenerator();
+		Set<String> ids = new HashSet<>();
+
+		for (int i = 0; i < 100_000; i++) {
+			ids.add(generator.generate());
+		}
+
+		assertThat(ids).hasSize(100_000);
+	}
+}